@@ -0,0 +1,71 @@
+package com.taskflow.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectStatus;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.entity.User;
+
+/**
+ * Entity graphs shaped like production data: an owner, a project, and tasks with assignees.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {}
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .firstName("User")
+                .lastName("Number " + id)
+                .email("user" + id + "@example.com")
+                .password("encodedPassword")
+                .createdAt(LocalDateTime.now().minusDays(30))
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * A project with the given number of tasks, every other one assigned to one of five users.
+     */
+    static Project project(long id, int taskCount) {
+        Project project = Project.builder()
+                .id(id)
+                .name("Project " + id)
+                .description("Quarterly roadmap for the platform team, including migrations and cleanup")
+                .status(ProjectStatus.ACTIVE)
+                .owner(user(1))
+                .createdAt(LocalDateTime.now().minusDays(20))
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        List<User> assignees = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            assignees.add(user(100 + i));
+        }
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        for (int i = 0; i < taskCount; i++) {
+            project.addTask(Task.builder()
+                    .id(id * 10_000 + i)
+                    .title("Task " + i + " of project " + id)
+                    .description("Investigate, implement and roll out change number " + i)
+                    .status(statuses[i % statuses.length])
+                    .priority(priorities[i % priorities.length])
+                    .dueDate(LocalDate.now().plusDays(i % 30 - 10))
+                    .assignee(i % 2 == 0 ? assignees.get(i % assignees.size()) : null)
+                    .ownerId(1L)
+                    .estimatedHours(i % 16)
+                    .createdAt(LocalDateTime.now().minusDays(10))
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        return project;
+    }
+}
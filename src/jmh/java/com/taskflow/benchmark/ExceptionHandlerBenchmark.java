@@ -0,0 +1,70 @@
+package com.taskflow.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.dto.common.ApiError;
+import com.taskflow.dto.task.CreateTaskRequest;
+import com.taskflow.exception.GlobalExceptionHandler;
+import com.taskflow.exception.ResourceNotFoundException;
+
+/**
+ * Error rendering: building the ApiError body and serializing it.
+ * Creating the exception is included, since its stack trace is part of the cost of every error response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private ObjectMapper objectMapper;
+    private MockHttpServletRequest request;
+    private MethodParameter parameter;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        request = new MockHttpServletRequest("GET", "/api/v1/tasks/42");
+        parameter = new MethodParameter(Object.class.getMethod("equals", Object.class), 0);
+    }
+
+    @Benchmark
+    public byte[] notFound() throws JsonProcessingException {
+        ResponseEntity<ApiError> response = handler.handleResourceNotFoundException(
+                new ResourceNotFoundException("Task", "id", 42L), request);
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    @Benchmark
+    public byte[] validationFailed() throws JsonProcessingException {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new CreateTaskRequest(), "request");
+        bindingResult.addError(new FieldError("request", "title", "Title is required"));
+        bindingResult.addError(new FieldError("request", "projectId", "Project ID is required"));
+        ResponseEntity<ApiError> response = handler.handleValidationException(
+                new MethodArgumentNotValidException(parameter, bindingResult), request);
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+}
@@ -0,0 +1,77 @@
+package com.taskflow.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.taskflow.dto.common.PageResponse;
+import com.taskflow.dto.project.ProjectResponse;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Task;
+import com.taskflow.mapper.PageMapper;
+import com.taskflow.mapper.ProjectMapper;
+import com.taskflow.mapper.ProjectMapperImpl;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.mapper.TaskMapperImpl;
+
+/**
+ * Entity-to-DTO mapping for single entities and full pages.
+ * {@code ProjectMapper.toResponse} walks the task collection, so its cost grows with the task count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "200"})
+    private int tasksPerProject;
+
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+    private final ProjectMapper projectMapper = new ProjectMapperImpl();
+    private final PageMapper pageMapper = new PageMapper();
+
+    private Project project;
+    private Task task;
+    private Page<Task> taskPage;
+
+    @Setup
+    public void setUp() {
+        project = BenchmarkData.project(1, tasksPerProject);
+        task = project.getTasks().get(0);
+        List<Task> content = project.getTasks().subList(0, Math.min(50, tasksPerProject));
+        taskPage = new PageImpl<>(content, PageRequest.of(0, 50), tasksPerProject);
+    }
+
+    @Benchmark
+    public TaskResponse taskToResponse() {
+        return taskMapper.toResponse(task);
+    }
+
+    @Benchmark
+    public ProjectResponse projectToResponse() {
+        return projectMapper.toResponse(project);
+    }
+
+    @Benchmark
+    public PageResponse<TaskResponse> taskPageToResponse() {
+        return pageMapper.toPageResponse(taskPage, taskMapper::toResponse);
+    }
+}
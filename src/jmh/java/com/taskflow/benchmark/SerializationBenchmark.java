@@ -0,0 +1,86 @@
+package com.taskflow.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.taskflow.config.IsoTemporalModule;
+import com.taskflow.config.ResponseFragmentCache;
+import com.taskflow.dto.common.PageResponse;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.Task;
+import com.taskflow.mapper.PageMapper;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.mapper.TaskMapperImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * JSON rendering of a task page, with an ObjectMapper configured the way Spring Boot configures it.
+ * <p>
+ * {@code default} is the stock mapper, {@code tuned} adds Blackbird and the ISO date serializers, and
+ * {@code fragments} also serves every task from the fragment cache (a warm cache, i.e. unchanged tasks).
+ * Run with {@code -prof gc} for bytes allocated per page ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"default", "tuned", "fragments"})
+    private String serializer;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<TaskResponse> page;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (serializer.equals("tuned")) {
+            builder.modulesToInstall(new IsoTemporalModule(), new BlackbirdModule());
+        } else if (serializer.equals("fragments")) {
+            ResponseFragmentCache cache = new ResponseFragmentCache(10_000, new SimpleMeterRegistry())
+                    .register(TaskResponse.class, TaskResponse::getId);
+            builder.modulesToInstall(new IsoTemporalModule(), new BlackbirdModule(), cache.module());
+        }
+        objectMapper = builder.build();
+        List<Task> tasks = BenchmarkData.project(1, pageSize).getTasks();
+        page = taskPage(tasks);
+        // Warm the cache from equal but distinct DTOs, as a later request for the same tasks would
+        objectMapper.writeValueAsBytes(taskPage(tasks));
+    }
+
+    @Benchmark
+    public byte[] serializeTaskPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    private PageResponse<TaskResponse> taskPage(List<Task> tasks) {
+        TaskMapper taskMapper = new TaskMapperImpl();
+        return new PageMapper().toPageResponse(
+                new PageImpl<>(tasks, PageRequest.of(0, pageSize), 10_000), taskMapper::toResponse);
+    }
+}
@@ -4,11 +4,15 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
+import com.taskflow.diagnostics.StartupTimelineReporter;
+
 @SpringBootApplication
 @ConfigurationPropertiesScan
 public class TaskFlowApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(TaskFlowApplication.class, args);
+        SpringApplication application = new SpringApplication(TaskFlowApplication.class);
+        application.setApplicationStartup(StartupTimelineReporter.applicationStartup());
+        application.run(args);
     }
 }
@@ -0,0 +1,139 @@
+package com.taskflow.batch;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.taskflow.dto.batch.BatchResponse;
+import com.taskflow.dto.common.ApiError;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs one batch operation through the {@link DispatcherServlet}, in process.
+ * <p>
+ * The servlet filter chain is not entered again: the operation runs with the security context the batch
+ * request was authenticated with, and reaches the same controllers, validation and exception handlers as
+ * a request of its own.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class BatchDispatcher {
+
+    private final DispatcherServlet dispatcherServlet;
+    private final ObjectMapper objectMapper;
+
+    BatchResponse.Result dispatch(String id, String method, String path, Map<String, String> headers, JsonNode body,
+                                  HttpServletRequest batchRequest, HttpServletResponse batchResponse) {
+        try {
+            BatchServletRequest request = new BatchServletRequest(batchRequest, method, path,
+                    requestHeaders(batchRequest, headers, body != null),
+                    body != null ? objectMapper.writeValueAsBytes(body) : null);
+            BatchServletResponse response = new BatchServletResponse(batchResponse);
+            dispatcherServlet.service(request, response);
+            return toResult(id, path, response);
+        } catch (ServletException | IOException | RuntimeException e) {
+            log.error("Batch operation {} {} failed", method, path, e);
+            return failure(id, HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred", path);
+        }
+    }
+
+    /**
+     * A result for an operation that was not dispatched, or that failed without writing a body.
+     */
+    BatchResponse.Result failure(String id, HttpStatus status, String message, String path) {
+        return failure(id, status.value(), status.getReasonPhrase(), message, path);
+    }
+
+    private BatchResponse.Result failure(String id, int status, String error, String message, String path) {
+        ApiError apiError = ApiError.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status)
+                .error(error)
+                .message(message)
+                .path(path)
+                .build();
+        return BatchResponse.Result.builder()
+                .id(id)
+                .status(status)
+                .body(objectMapper.valueToTree(apiError))
+                .build();
+    }
+
+    private static HttpHeaders requestHeaders(HttpServletRequest batchRequest, Map<String, String> headers,
+                                              boolean hasBody) {
+        HttpHeaders requestHeaders = new HttpHeaders();
+        copy(batchRequest, requestHeaders, HttpHeaders.AUTHORIZATION);
+        copy(batchRequest, requestHeaders, HttpHeaders.ACCEPT_LANGUAGE);
+        requestHeaders.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (hasBody) {
+            requestHeaders.setContentType(MediaType.APPLICATION_JSON);
+        }
+        if (headers != null) {
+            headers.forEach(requestHeaders::set);
+        }
+        return requestHeaders;
+    }
+
+    private static void copy(HttpServletRequest from, HttpHeaders to, String name) {
+        String value = from.getHeader(name);
+        if (value != null) {
+            to.set(name, value);
+        }
+    }
+
+    private BatchResponse.Result toResult(String id, String path, BatchServletResponse response) throws IOException {
+        byte[] bytes = response.getBody();
+        HttpHeaders headers = response.getCapturedHeaders();
+        MediaType contentType = headers.getContentType();
+
+        if (bytes.length == 0 && response.getStatus() >= 400) {
+            HttpStatus status = HttpStatus.resolve(response.getStatus());
+            return failure(id, response.getStatus(), status != null ? status.getReasonPhrase() : null,
+                    response.getErrorMessage(), path);
+        }
+
+        JsonNode body = null;
+        if (bytes.length > 0) {
+            boolean json = contentType != null && (MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                    || contentType.getSubtype().endsWith("+json"));
+            if (json) {
+                body = objectMapper.readTree(bytes);
+            } else {
+                Charset charset = Charset.forName(response.getCharacterEncoding());
+                body = JsonNodeFactory.instance.textNode(new String(bytes, charset));
+            }
+        }
+
+        // The body is already decoded; the remaining headers (Location, ETag, ...) are passed on
+        Map<String, String> resultHeaders = new LinkedHashMap<>();
+        headers.forEach((name, values) -> {
+            if (!HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) && !values.isEmpty()) {
+                resultHeaders.put(name, values.get(0));
+            }
+        });
+        return BatchResponse.Result.builder()
+                .id(id)
+                .status(response.getStatus())
+                .headers(resultHeaders.isEmpty() ? null : resultHeaders)
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.taskflow.batch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.web.util.UriUtils;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.taskflow.dto.batch.BatchRequest;
+import com.taskflow.dto.batch.BatchResponse;
+
+/**
+ * References from one batch operation to the response bodies of earlier ones, written
+ * {@code ${id.field.nested}}; array elements are addressed by index, e.g. {@code ${list.content.0.id}}.
+ */
+final class BatchReferences {
+
+    private static final Pattern REFERENCE = Pattern.compile("\\$\\{([A-Za-z0-9_-]+)((?:\\.[^.}]+)*)}");
+
+    private BatchReferences() {
+    }
+
+    /**
+     * IDs of the operations referenced anywhere in the path, headers or body.
+     */
+    static Set<String> targets(BatchRequest.Operation operation) {
+        Set<String> targets = new LinkedHashSet<>();
+        collect(operation.getPath(), targets);
+        if (operation.getHeaders() != null) {
+            operation.getHeaders().values().forEach(value -> collect(value, targets));
+        }
+        collect(operation.getBody(), targets);
+        return targets;
+    }
+
+    /**
+     * The path with references replaced by their URL-encoded values.
+     */
+    static String resolvePath(String path, Map<String, BatchResponse.Result> results) {
+        return interpolate(path, results, value -> UriUtils.encode(value, StandardCharsets.UTF_8));
+    }
+
+    static String resolveText(String text, Map<String, BatchResponse.Result> results) {
+        return interpolate(text, results, UnaryOperator.identity());
+    }
+
+    /**
+     * A copy of the body with references replaced. A string that is a single reference becomes the
+     * referenced value itself, so {@code "${create.id}"} yields a number.
+     */
+    static JsonNode resolveBody(JsonNode body, Map<String, BatchResponse.Result> results) {
+        if (body == null) {
+            return null;
+        }
+        if (body.isTextual()) {
+            Matcher matcher = REFERENCE.matcher(body.textValue());
+            if (matcher.matches()) {
+                return lookup(matcher, results).deepCopy();
+            }
+            return JsonNodeFactory.instance.textNode(resolveText(body.textValue(), results));
+        }
+        if (body.isObject()) {
+            ObjectNode resolved = JsonNodeFactory.instance.objectNode();
+            for (Iterator<Map.Entry<String, JsonNode>> fields = body.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                resolved.set(field.getKey(), resolveBody(field.getValue(), results));
+            }
+            return resolved;
+        }
+        if (body.isArray()) {
+            ArrayNode resolved = JsonNodeFactory.instance.arrayNode();
+            body.forEach(element -> resolved.add(resolveBody(element, results)));
+            return resolved;
+        }
+        return body;
+    }
+
+    private static void collect(String text, Set<String> targets) {
+        if (text != null) {
+            Matcher matcher = REFERENCE.matcher(text);
+            while (matcher.find()) {
+                targets.add(matcher.group(1));
+            }
+        }
+    }
+
+    private static void collect(JsonNode node, Set<String> targets) {
+        if (node == null) {
+            return;
+        }
+        if (node.isTextual()) {
+            collect(node.textValue(), targets);
+        } else {
+            node.forEach(child -> collect(child, targets));
+        }
+    }
+
+    private static String interpolate(String text, Map<String, BatchResponse.Result> results,
+                                      UnaryOperator<String> encoder) {
+        if (text == null) {
+            return null;
+        }
+        return REFERENCE.matcher(text).replaceAll(matcher -> {
+            JsonNode value = lookup(matcher, results);
+            return Matcher.quoteReplacement(encoder.apply(value.isValueNode() ? value.asText() : value.toString()));
+        });
+    }
+
+    private static JsonNode lookup(MatchResult matcher, Map<String, BatchResponse.Result> results) {
+        String id = matcher.group(1);
+        BatchResponse.Result result = results.get(id);
+        if (result == null || result.getStatus() >= 400) {
+            throw new UnresolvedReferenceException("Operation '" + id + "' did not succeed");
+        }
+        String fields = matcher.group(2);
+        JsonNode body = result.getBody();
+        JsonNode value = body == null ? null : fields.isEmpty() ? body : body.at(pointer(fields));
+        if (value == null || value.isMissingNode() || value.isNull()) {
+            throw new UnresolvedReferenceException("Operation '" + id + "' returned no value for '"
+                    + (fields.isEmpty() ? id : id + fields) + "'");
+        }
+        return value;
+    }
+
+    private static JsonPointer pointer(String fields) {
+        // ".a.b" becomes "/a/b", escaping the two characters JSON Pointer reserves
+        StringBuilder pointer = new StringBuilder();
+        for (String field : fields.substring(1).split("\\.")) {
+            pointer.append('/').append(field.replace("~", "~0").replace("/", "~1"));
+        }
+        return JsonPointer.compile(pointer.toString());
+    }
+
+    /**
+     * A reference to an operation that failed, or to a value its response does not contain.
+     */
+    static final class UnresolvedReferenceException extends RuntimeException {
+
+        UnresolvedReferenceException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.taskflow.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.taskflow.config.BatchProperties;
+import com.taskflow.dto.batch.BatchRequest;
+import com.taskflow.dto.batch.BatchResponse;
+import com.taskflow.exception.BadRequestException;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executes the operations of a batch request in order.
+ * <p>
+ * Consecutive GET operations that do not reference each other run in parallel on a shared, bounded pool,
+ * under the caller's security context; any other operation waits for everything before it. A
+ * transactional batch runs every operation on the request thread in one transaction, so the services'
+ * own transactions join it, and rolls back at the first failure. Operations referencing a failed one
+ * are not executed and report {@code 424 Failed Dependency}.
+ */
+@Slf4j
+@Service
+public class BatchService {
+
+    private static final Set<String> METHODS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE");
+    private static final String API_PREFIX = "/api/";
+    private static final String BATCH_PATH = "/api/v1/batch";
+
+    private final BatchDispatcher batchDispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchProperties batchProperties;
+    private final ExecutorService readExecutor;
+
+    public BatchService(BatchDispatcher batchDispatcher,
+                        TransactionTemplate transactionTemplate,
+                        BatchProperties batchProperties) {
+        this.batchDispatcher = batchDispatcher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchProperties = batchProperties;
+        // The security context is captured when an operation is submitted
+        this.readExecutor = new DelegatingSecurityContextExecutorService(Executors.newFixedThreadPool(
+                batchProperties.maxParallelism(), new CustomizableThreadFactory("batch-read-")));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        readExecutor.shutdown();
+    }
+
+    /**
+     * Execute a batch.
+     * @param request operations, in order
+     * @param httpRequest the batch request, for connection details and credentials
+     * @param httpResponse the batch response; operations never write to it
+     * @return one result per operation, in request order
+     */
+    public BatchResponse execute(BatchRequest request, HttpServletRequest httpRequest,
+                                 HttpServletResponse httpResponse) {
+        List<BatchRequest.Operation> operations = request.getOperations();
+        List<Set<String>> targets = validate(operations);
+        Execution execution = new Execution(operations, targets, httpRequest, httpResponse);
+
+        if (request.isTransactional()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!executeUntilFailure(execution)) {
+                    status.setRollbackOnly();
+                }
+            });
+        } else {
+            executeAll(execution);
+        }
+
+        return BatchResponse.builder()
+                .results(execution.results)
+                .rolledBack(execution.rolledBack)
+                .build();
+    }
+
+    private List<Set<String>> validate(List<BatchRequest.Operation> operations) {
+        if (operations.size() > batchProperties.maxRequests()) {
+            throw new BadRequestException("A batch may contain at most " + batchProperties.maxRequests()
+                    + " operations");
+        }
+
+        Set<String> earlierIds = new HashSet<>();
+        List<Set<String>> targets = new ArrayList<>(operations.size());
+        for (BatchRequest.Operation operation : operations) {
+            operation.setMethod(operation.getMethod().toUpperCase(Locale.ROOT));
+            if (!METHODS.contains(operation.getMethod())) {
+                throw new BadRequestException("Unsupported method in batch: " + operation.getMethod());
+            }
+            String path = UriComponentsBuilder.fromUriString(operation.getPath()).build().getPath();
+            if (path == null || !path.startsWith(API_PREFIX) || path.startsWith(BATCH_PATH)) {
+                throw new BadRequestException("Batch operations must target an API endpoint: " + operation.getPath());
+            }
+
+            Set<String> referenced = BatchReferences.targets(operation);
+            for (String target : referenced) {
+                if (!earlierIds.contains(target)) {
+                    throw new BadRequestException("Operation references '" + target
+                            + "', which is not the id of an earlier operation");
+                }
+            }
+            targets.add(referenced);
+
+            if (operation.getId() != null && !earlierIds.add(operation.getId())) {
+                throw new BadRequestException("Duplicate operation id: " + operation.getId());
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Execute operations in order until one fails; the rest are reported as not executed.
+     * @return whether every operation succeeded
+     */
+    private boolean executeUntilFailure(Execution execution) {
+        for (int i = 0; i < execution.size(); i++) {
+            BatchResponse.Result result = execution.run(i);
+            execution.record(i, result);
+            if (result.getStatus() >= 400) {
+                execution.rolledBack = true;
+                for (int j = i + 1; j < execution.size(); j++) {
+                    execution.record(j, execution.failure(j, HttpStatus.FAILED_DEPENDENCY,
+                            "Not executed: an earlier operation failed and the batch was rolled back"));
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void executeAll(Execution execution) {
+        int start = 0;
+        while (start < execution.size()) {
+            int end = parallelGroupEnd(execution, start);
+            if (end - start == 1) {
+                execution.record(start, execution.run(start));
+            } else {
+                runInParallel(execution, start, end);
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * The end (exclusive) of the run of reads starting at {@code start} that can execute together:
+     * consecutive GETs, none referencing another in the run.
+     */
+    private static int parallelGroupEnd(Execution execution, int start) {
+        int end = start + 1;
+        if (!execution.isRead(start)) {
+            return end;
+        }
+        Set<String> groupIds = new HashSet<>();
+        addId(execution.operations.get(start), groupIds);
+        while (end < execution.size() && execution.isRead(end)
+                && Collections.disjoint(execution.targets.get(end), groupIds)) {
+            addId(execution.operations.get(end), groupIds);
+            end++;
+        }
+        return end;
+    }
+
+    private static void addId(BatchRequest.Operation operation, Set<String> ids) {
+        if (operation.getId() != null) {
+            ids.add(operation.getId());
+        }
+    }
+
+    private void runInParallel(Execution execution, int start, int end) {
+        List<Future<BatchResponse.Result>> futures = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            int index = i;
+            futures.add(readExecutor.submit(() -> execution.run(index)));
+        }
+        for (int i = start; i < end; i++) {
+            BatchResponse.Result result;
+            try {
+                result = futures.get(i - start).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new IllegalStateException("Interrupted while executing batch", e);
+            } catch (ExecutionException e) {
+                log.error("Batch operation failed", e.getCause());
+                result = execution.failure(i, HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+            }
+            execution.record(i, result);
+        }
+    }
+
+    /**
+     * State of one batch execution. Results are recorded by the request thread only; parallel
+     * operations read results recorded before they were submitted.
+     */
+    private final class Execution {
+
+        private final List<BatchRequest.Operation> operations;
+        private final List<Set<String>> targets;
+        private final HttpServletRequest httpRequest;
+        private final HttpServletResponse httpResponse;
+        private final List<BatchResponse.Result> results;
+        private final Map<String, BatchResponse.Result> resultsById = new HashMap<>();
+        private boolean rolledBack;
+
+        Execution(List<BatchRequest.Operation> operations, List<Set<String>> targets,
+                  HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+            this.operations = operations;
+            this.targets = targets;
+            this.httpRequest = httpRequest;
+            this.httpResponse = httpResponse;
+            this.results = new ArrayList<>(Collections.nCopies(operations.size(), null));
+        }
+
+        int size() {
+            return operations.size();
+        }
+
+        boolean isRead(int index) {
+            return "GET".equals(operations.get(index).getMethod());
+        }
+
+        BatchResponse.Result run(int index) {
+            BatchRequest.Operation operation = operations.get(index);
+            String path;
+            Map<String, String> headers = null;
+            try {
+                path = BatchReferences.resolvePath(operation.getPath(), resultsById);
+                if (operation.getHeaders() != null) {
+                    headers = new HashMap<>();
+                    for (Map.Entry<String, String> header : operation.getHeaders().entrySet()) {
+                        headers.put(header.getKey(), BatchReferences.resolveText(header.getValue(), resultsById));
+                    }
+                }
+                return batchDispatcher.dispatch(operation.getId(), operation.getMethod(), path, headers,
+                        BatchReferences.resolveBody(operation.getBody(), resultsById), httpRequest, httpResponse);
+            } catch (BatchReferences.UnresolvedReferenceException e) {
+                return failure(index, HttpStatus.FAILED_DEPENDENCY, e.getMessage());
+            }
+        }
+
+        BatchResponse.Result failure(int index, HttpStatus status, String message) {
+            BatchRequest.Operation operation = operations.get(index);
+            return batchDispatcher.failure(operation.getId(), status, message, operation.getPath());
+        }
+
+        void record(int index, BatchResponse.Result result) {
+            results.set(index, result);
+            if (result.getId() != null) {
+                resultsById.put(result.getId(), result);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.taskflow.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for the asynchronous activity log.
+ * Maps to 'taskflow.activity.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.activity")
+@Validated
+public record ActivityLogProperties(
+
+    // Rounded up to a power of two
+    @Positive
+    int bufferCapacity,
+
+    @Positive
+    int batchSize,
+
+    @NotNull
+    Duration flushInterval,
+
+    @Positive
+    int maxPageSize
+) {
+}
@@ -0,0 +1,22 @@
+package com.taskflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for batch requests.
+ * Maps to 'taskflow.batch.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.batch")
+@Validated
+public record BatchProperties(
+
+    @Positive
+    int maxRequests,
+
+    @Positive
+    int maxParallelism
+) {
+}
@@ -0,0 +1,87 @@
+package com.taskflow.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Database bulkhead configuration.
+ * Wraps the pooled DataSource in a {@link BulkheadDataSource}; enabled with virtual threads, where request
+ * concurrency is no longer capped by the Tomcat thread pool.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "taskflow.db-bulkhead", name = "enabled", havingValue = "true")
+public class DbBulkheadConfig {
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor dbBulkheadDataSourceWrapper(DbBulkheadProperties properties) {
+        return new BulkheadPostProcessor(properties);
+    }
+
+    @Bean
+    public MeterBinder dbBulkheadMetrics(DataSource dataSource) {
+        return registry -> {
+            BulkheadDataSource bulkhead = DataSourceUnwrapper.unwrap(dataSource, BulkheadDataSource.class);
+            if (bulkhead == null) {
+                return;
+            }
+            Gauge.builder("taskflow.db.bulkhead.waiting", bulkhead, BulkheadDataSource::getWaiting)
+                    .description("Callers queued for a database connection permit")
+                    .register(registry);
+            Gauge.builder("taskflow.db.bulkhead.available", bulkhead, BulkheadDataSource::getAvailablePermits)
+                    .description("Unused database connection permits")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Runs before unordered post-processors, so the query diagnostics proxy wraps the bulkhead and
+     * statement timings exclude the wait for a permit.
+     */
+    private static final class BulkheadPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final DbBulkheadProperties properties;
+
+        BulkheadPostProcessor(DbBulkheadProperties properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof BulkheadDataSource) {
+                return bean;
+            }
+            int maxConcurrent = properties.maxConcurrent();
+            if (maxConcurrent == 0) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    log.warn("DataSource '{}' is not a Hikari pool and no taskflow.db-bulkhead.max-concurrent is set; "
+                            + "leaving it unbounded", beanName);
+                    return bean;
+                }
+                // Unset until the pool starts; fall back to Hikari's own default
+                maxConcurrent = hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+            }
+            log.info("Limiting DataSource '{}' to {} concurrent connections", beanName, maxConcurrent);
+            return new BulkheadDataSource(dataSource, maxConcurrent, properties.acquireTimeout());
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 1;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskflow.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Configuration properties for the database connection bulkhead.
+ * Maps to 'taskflow.db-bulkhead.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.db-bulkhead")
+@Validated
+public record DbBulkheadProperties(
+
+    boolean enabled,
+
+    // Connections that may be checked out at once; 0 uses the Hikari maximum pool size
+    @PositiveOrZero
+    int maxConcurrent,
+
+    @NotNull
+    Duration acquireTimeout
+) {
+}
@@ -0,0 +1,40 @@
+package com.taskflow.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for the project change stream.
+ * Maps to 'taskflow.events.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.events")
+@Validated
+public record EventStreamProperties(
+
+    @Positive
+    int maxSubscribers,
+
+    @Positive
+    int subscriberBufferSize,
+
+    @Positive
+    int dispatcherThreads,
+
+    @Positive
+    int replayWindowSize,
+
+    @NotNull
+    Duration replayWindowTtl,
+
+    @NotNull
+    Duration heartbeatInterval,
+
+    @NotNull
+    Duration subscriptionTimeout
+) {
+}
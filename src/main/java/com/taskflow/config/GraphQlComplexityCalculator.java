@@ -0,0 +1,41 @@
+package com.taskflow.config;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.schema.GraphQLTypeUtil;
+
+/**
+ * Scores a GraphQL field by the number of values it can resolve: one for the field itself, plus its
+ * selection once per element for a list. The content of a page holds at most the requested {@code size},
+ * capped at the maximum page size; a project's tasks at most the configured cap.
+ */
+final class GraphQlComplexityCalculator implements FieldComplexityCalculator {
+
+    private final GraphQlProperties properties;
+
+    GraphQlComplexityCalculator(GraphQlProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public int calculate(FieldComplexityEnvironment environment, int childComplexity) {
+        long complexity = 1 + (long) childComplexity * cardinality(environment);
+        // A field over the limit fails the query on its own; clamping keeps the sum from overflowing
+        return (int) Math.min(complexity, properties.maxComplexity() + 1L);
+    }
+
+    private int cardinality(FieldComplexityEnvironment environment) {
+        if (!GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(environment.getFieldDefinition().getType()))) {
+            return 1;
+        }
+        if ("Project".equals(environment.getParentType().getName())
+                && "tasks".equals(environment.getField().getName())) {
+            return properties.maxProjectTasks();
+        }
+        FieldComplexityEnvironment parent = environment.getParentEnvironment();
+        if (parent != null && parent.getArguments().get("size") instanceof Integer size) {
+            return Math.min(Math.max(1, size), properties.maxPageSize());
+        }
+        return properties.maxPageSize();
+    }
+}
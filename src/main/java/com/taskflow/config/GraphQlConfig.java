@@ -0,0 +1,28 @@
+package com.taskflow.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
+
+/**
+ * Limits on GraphQL queries, checked against the parsed document before any data is fetched, so a deep
+ * or wide query is rejected without touching the database. Complexity counts list fields by the number
+ * of elements they can return, so a large page of nested lists costs what it would read.
+ */
+@Configuration
+public class GraphQlConfig {
+
+    @Bean
+    public Instrumentation maxQueryDepthInstrumentation(GraphQlProperties properties) {
+        return new MaxQueryDepthInstrumentation(properties.maxDepth());
+    }
+
+    @Bean
+    public Instrumentation maxQueryComplexityInstrumentation(GraphQlProperties properties) {
+        return new MaxQueryComplexityInstrumentation(properties.maxComplexity(),
+                new GraphQlComplexityCalculator(properties));
+    }
+}
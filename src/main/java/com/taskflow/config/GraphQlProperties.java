@@ -0,0 +1,32 @@
+package com.taskflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for the GraphQL API.
+ * Maps to 'taskflow.graphql.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.graphql")
+@Validated
+public record GraphQlProperties(
+
+    // Deepest field nesting a query may have
+    @Positive
+    int maxDepth,
+
+    // Number of field values a query may resolve: list fields count their selection once per element
+    // they can return, the page size for page content and the cap for project tasks
+    @Positive
+    int maxComplexity,
+
+    @Positive
+    int maxPageSize,
+
+    // Most tasks returned by a project's tasks field; the projectTasks query pages through the rest
+    @Positive
+    int maxProjectTasks
+) {
+}
@@ -0,0 +1,35 @@
+package com.taskflow.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for the gRPC server.
+ * Maps to 'taskflow.grpc.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.grpc")
+@Validated
+public record GrpcProperties(
+
+    boolean enabled,
+
+    // 0 picks a free port
+    @Min(0)
+    @Max(65535)
+    int port,
+
+    @Positive
+    int maxPageSize,
+
+    // In-flight calls get this long to finish on shutdown before they are cancelled
+    @NotNull
+    Duration shutdownGracePeriod
+) {
+}
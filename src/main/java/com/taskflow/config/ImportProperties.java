@@ -0,0 +1,34 @@
+package com.taskflow.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for streaming bulk imports.
+ * Maps to 'taskflow.import.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.import")
+@Validated
+public record ImportProperties(
+
+    @Positive
+    int batchSize,
+
+    @Positive
+    int maxInFlightBatches,
+
+    @Positive
+    int maxConcurrentImports,
+
+    @Positive
+    int maxReportedErrors,
+
+    @NotNull
+    Duration staleAfter
+) {
+}
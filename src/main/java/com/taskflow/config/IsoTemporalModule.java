@@ -0,0 +1,147 @@
+package com.taskflow.config;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+/**
+ * Writes {@link LocalDateTime} and {@link LocalDate} as ISO-8601 strings straight from their fields.
+ * <p>
+ * The output is identical to {@code DateTimeFormatter.ISO_LOCAL_DATE_TIME} / {@code ISO_LOCAL_DATE}, which
+ * the JSR-310 module formats through a {@code StringBuilder} and an intermediate {@code String} per value.
+ * Timestamps, {@code @JsonFormat} overrides and years outside 0..9999 are left to the JSR-310 serializers.
+ * Register after the JSR-310 module so these take precedence.
+ */
+public class IsoTemporalModule extends SimpleModule {
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    private static final int MAX_LENGTH = 29;
+
+    public IsoTemporalModule() {
+        super("taskflow-iso-temporal");
+        addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer());
+        addSerializer(LocalDate.class, new IsoLocalDateSerializer());
+    }
+
+    static int writeDateTime(LocalDateTime value, char[] buffer) {
+        int position = writeDate(value.getYear(), value.getMonthValue(), value.getDayOfMonth(), buffer);
+        buffer[position++] = 'T';
+        position = writeTwoDigits(value.getHour(), buffer, position);
+        buffer[position++] = ':';
+        position = writeTwoDigits(value.getMinute(), buffer, position);
+        buffer[position++] = ':';
+        position = writeTwoDigits(value.getSecond(), buffer, position);
+
+        int nano = value.getNano();
+        if (nano == 0) {
+            return position;
+        }
+        // As many fraction digits as needed, trailing zeros dropped
+        int digits = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            digits--;
+        }
+        buffer[position++] = '.';
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + nano % 10);
+            nano /= 10;
+        }
+        return position + digits;
+    }
+
+    static int writeDate(int year, int month, int day, char[] buffer) {
+        buffer[0] = (char) ('0' + year / 1000);
+        buffer[1] = (char) ('0' + year / 100 % 10);
+        buffer[2] = (char) ('0' + year / 10 % 10);
+        buffer[3] = (char) ('0' + year % 10);
+        buffer[4] = '-';
+        writeTwoDigits(month, buffer, 5);
+        buffer[7] = '-';
+        writeTwoDigits(day, buffer, 8);
+        return 10;
+    }
+
+    private static int writeTwoDigits(int value, char[] buffer, int position) {
+        buffer[position] = (char) ('0' + value / 10);
+        buffer[position + 1] = (char) ('0' + value % 10);
+        return position + 2;
+    }
+
+    private static boolean isFourDigitYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    private static boolean hasFormatOverride(JsonFormat.Value format) {
+        return format.hasPattern() || format.hasLocale() || format.hasTimeZone()
+                || format.getShape() != JsonFormat.Shape.ANY;
+    }
+
+    static final class IsoLocalDateTimeSerializer extends StdSerializer<LocalDateTime> implements ContextualSerializer {
+
+        IsoLocalDateTimeSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS) || !isFourDigitYear(value.getYear())) {
+                LocalDateTimeSerializer.INSTANCE.serialize(value, generator, provider);
+                return;
+            }
+            char[] buffer = new char[MAX_LENGTH];
+            generator.writeString(buffer, 0, writeDateTime(value, buffer));
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+            if (hasFormatOverride(findFormatOverrides(provider, property, handledType()))) {
+                return LocalDateTimeSerializer.INSTANCE.createContextual(provider, property);
+            }
+            return this;
+        }
+    }
+
+    static final class IsoLocalDateSerializer extends StdSerializer<LocalDate> implements ContextualSerializer {
+
+        IsoLocalDateSerializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS) || !isFourDigitYear(value.getYear())) {
+                LocalDateSerializer.INSTANCE.serialize(value, generator, provider);
+                return;
+            }
+            char[] buffer = new char[10];
+            generator.writeString(buffer, 0,
+                    writeDate(value.getYear(), value.getMonthValue(), value.getDayOfMonth(), buffer));
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+            if (hasFormatOverride(findFormatOverrides(provider, property, handledType()))) {
+                return LocalDateSerializer.INSTANCE.createContextual(provider, property);
+            }
+            return this;
+        }
+    }
+}
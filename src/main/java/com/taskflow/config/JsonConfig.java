@@ -0,0 +1,46 @@
+package com.taskflow.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.taskflow.dto.project.ProjectResponse;
+import com.taskflow.dto.task.TaskResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * JSON serialization configuration.
+ * Spring Boot registers every {@link Module} bean with the application ObjectMapper, after its own
+ * well-known modules.
+ */
+@Configuration
+public class JsonConfig {
+
+    @Bean
+    public Module isoTemporalModule() {
+        return new IsoTemporalModule();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "taskflow.json", name = "blackbird-enabled", havingValue = "true", matchIfMissing = true)
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "taskflow.json", name = "fragment-cache-enabled", havingValue = "true")
+    public ResponseFragmentCache responseFragmentCache(JsonProperties properties, MeterRegistry meterRegistry) {
+        return new ResponseFragmentCache(properties.fragmentCacheSize(), meterRegistry)
+                .register(TaskResponse.class, TaskResponse::getId)
+                .register(ProjectResponse.class, ProjectResponse::getId);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "taskflow.json", name = "fragment-cache-enabled", havingValue = "true")
+    public Module responseFragmentModule(ResponseFragmentCache responseFragmentCache) {
+        return responseFragmentCache.module();
+    }
+}
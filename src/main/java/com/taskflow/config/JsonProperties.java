@@ -0,0 +1,24 @@
+package com.taskflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for JSON serialization.
+ * Maps to 'taskflow.json.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.json")
+@Validated
+public record JsonProperties(
+
+    // Generated property accessors instead of reflection
+    boolean blackbirdEnabled,
+
+    boolean fragmentCacheEnabled,
+
+    @Positive
+    int fragmentCacheSize
+) {
+}
@@ -0,0 +1,19 @@
+package com.taskflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for fetching tasks, projects and users by ID set.
+ * Maps to 'taskflow.multi-get.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.multi-get")
+@Validated
+public record MultiGetProperties(
+
+    @Positive
+    int maxIds
+) {
+}
@@ -0,0 +1,106 @@
+package com.taskflow.config;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.taskflow.dto.activity.ActivityResponse;
+import com.taskflow.dto.task.CreateTaskRequest;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.event.OutboxMessage;
+import com.taskflow.event.ProjectChangedEvent;
+import com.taskflow.event.TaskChangedEvent;
+
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+
+/**
+ * Hints for the native image build (mvn -Pnative).
+ * <p>
+ * Spring AOT already covers beans, including the MapStruct mappers, configuration property binding and
+ * request/response bodies of controllers. Registered here is what it cannot see: JSON written or read
+ * through the ObjectMapper directly, JJWT's reflectively loaded implementation, validation of the
+ * configuration records, JDK proxies around JDBC objects, and migration scripts.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeConfig.TaskFlowRuntimeHints.class)
+@RegisterReflectionForBinding({
+        TaskChangedEvent.class,
+        ProjectChangedEvent.class,
+        OutboxMessage.class,
+        ActivityResponse.FieldChange.class,
+        TaskResponse.class,
+        CreateTaskRequest.class
+})
+public class NativeConfig {
+
+    static class TaskFlowRuntimeHints implements RuntimeHintsRegistrar {
+
+        // Instantiated by name from jjwt-api; jjwt-impl and jjwt-jackson are runtime-only dependencies
+        private static final List<String> JJWT_TYPES = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+                "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+                "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyOperations",
+                "io.jsonwebtoken.impl.security.StandardCurves",
+                "io.jsonwebtoken.impl.security.KeysBridge",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+        // Constraint annotations are read reflectively when @Validated properties are bound at startup
+        private static final List<Class<?>> PROPERTIES = List.of(
+                JwtProperties.class,
+                ActivityLogProperties.class,
+                BatchProperties.class,
+                DbBulkheadProperties.class,
+                EventStreamProperties.class,
+                GraphQlProperties.class,
+                GrpcProperties.class,
+                ImportProperties.class,
+                JsonProperties.class,
+                MultiGetProperties.class,
+                OutboxProperties.class,
+                OverdueProperties.class,
+                ProjectAccessProperties.class,
+                QueryDiagnosticsProperties.class,
+                StartupProperties.class,
+                SyncProperties.class,
+                WarmupProperties.class);
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            JJWT_TYPES.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+            PROPERTIES.forEach(type -> hints.reflection().registerType(type,
+                    MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS));
+
+            // datasource-proxy (query diagnostics) and BulkheadDataSource wrap JDBC objects in JDK proxies
+            for (Class<?> jdbcType : List.of(Connection.class, Statement.class, PreparedStatement.class,
+                    CallableStatement.class, ResultSet.class)) {
+                hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType);
+                hints.proxies().registerJdkProxy(jdbcType, ProxyJdbcObject.class);
+            }
+            hints.proxies().registerJdkProxy(Connection.class);
+
+            hints.resources().registerPattern("db/migration/*.sql");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.taskflow.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
@@ -10,7 +11,11 @@ import io.swagger.v3.oas.annotations.info.License;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import io.swagger.v3.oas.annotations.servers.Server;
 
+/**
+ * OpenAPI metadata. Lazy, like the springdoc beans that read it (see {@link StartupConfig}).
+ */
 @Configuration
+@Lazy
 @OpenAPIDefinition(
         info = @Info(
                 title = "TaskFlow API",
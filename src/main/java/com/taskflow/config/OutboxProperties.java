@@ -0,0 +1,43 @@
+package com.taskflow.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for the transactional outbox relay and its sinks.
+ * Maps to 'taskflow.outbox.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.outbox")
+@Validated
+public record OutboxProperties(
+
+    boolean relayEnabled,
+
+    @Positive
+    int relayThreads,
+
+    @Positive
+    int batchSize,
+
+    @NotNull
+    Duration pollInterval,
+
+    @Positive
+    int maxAttempts,
+
+    @NotNull
+    Duration retryBackoff,
+
+    @NotNull
+    Duration maxRetryBackoff,
+
+    boolean fileLogEnabled,
+
+    String fileLogPath
+) {
+}
@@ -0,0 +1,25 @@
+package com.taskflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for the overdue task sweep.
+ * Maps to 'taskflow.overdue.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.overdue")
+@Validated
+public record OverdueProperties(
+
+    boolean sweepEnabled,
+
+    @NotBlank
+    String sweepCron,
+
+    @Positive
+    int sweepBatchSize
+) {
+}
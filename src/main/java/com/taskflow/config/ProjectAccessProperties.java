@@ -0,0 +1,26 @@
+package com.taskflow.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for the per-user project access index.
+ * Maps to 'taskflow.project-access.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.project-access")
+@Validated
+public record ProjectAccessProperties(
+
+    @Positive
+    int maxUsers,
+
+    // Bounds staleness on other instances, which never see this one's membership changes
+    @NotNull
+    Duration ttl
+) {
+}
@@ -0,0 +1,53 @@
+package com.taskflow.config;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.taskflow.diagnostics.OriginAttributingStatistics;
+import com.taskflow.diagnostics.QueryDiagnostics;
+import com.taskflow.diagnostics.QueryDiagnosticsListener;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Query diagnostics configuration.
+ * Wraps the DataSource to time statements and turns on Hibernate statistics.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "taskflow.query-diagnostics", name = "enabled", havingValue = "true")
+public class QueryDiagnosticsConfig {
+
+    @Bean
+    public static BeanPostProcessor queryDiagnosticsDataSourceProxy(ObjectProvider<QueryDiagnostics> queryDiagnostics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new QueryDiagnosticsListener(queryDiagnostics))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatisticsCustomizer(QueryDiagnostics queryDiagnostics) {
+        StatisticsFactory statisticsFactory = sessionFactory -> new OriginAttributingStatistics(sessionFactory, queryDiagnostics);
+        return properties -> {
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.STATS_BUILDER, statisticsFactory);
+        };
+    }
+}
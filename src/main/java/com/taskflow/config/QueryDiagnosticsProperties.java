@@ -0,0 +1,37 @@
+package com.taskflow.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for Hibernate statistics and the slow-query log.
+ * Maps to 'taskflow.query-diagnostics.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.query-diagnostics")
+@Validated
+public record QueryDiagnosticsProperties(
+
+    boolean enabled,
+
+    // Fraction of service calls whose statements are attributed; slow queries are always logged
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    double sampleRate,
+
+    @NotNull
+    Duration slowQueryThreshold,
+
+    @Positive
+    int slowQueryLogSize,
+
+    @Positive
+    int maxTrackedStatements
+) {
+}
@@ -0,0 +1,207 @@
+package com.taskflow.config;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Caches the serialized JSON of response DTOs, so repeated reads of an unchanged task or project are
+ * spliced into the response as raw bytes instead of being serialized again.
+ * <p>
+ * A fragment is keyed by DTO type and ID, and reused only while the DTO being written equals the one it
+ * was rendered from. Equality covers every field, including denormalized ones such as a task's project
+ * name, so a fragment can never outlive a change that {@code updatedAt} alone would miss. Fragments are
+ * shared by single-resource responses, pages and event payloads alike.
+ * <p>
+ * The cache is bounded approximately: once full, arbitrary entries are evicted to make room. Serialization
+ * with an active view bypasses it.
+ */
+public class ResponseFragmentCache {
+
+    private final int maxEntries;
+    private final Map<Class<?>, Function<Object, Object>> idFunctions = new HashMap<>();
+    private final Map<Class<?>, ConcurrentMap<Object, Fragment>> fragments = new HashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseFragmentCache(int maxEntries, MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder("taskflow.json.fragments")
+                .description("Response DTOs written from a cached JSON fragment")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("taskflow.json.fragments")
+                .description("Response DTOs written from a cached JSON fragment")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.json.fragments.size", size, AtomicInteger::get)
+                .description("Cached JSON fragments")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cache fragments of a DTO type. Register every type before the module is added to an ObjectMapper.
+     * @param type DTO type; must implement value equality over all serialized fields
+     * @param idOf the DTO's identity; a null ID is never cached
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResponseFragmentCache register(Class<T> type, Function<? super T, ?> idOf) {
+        idFunctions.put(type, (Function<Object, Object>) idOf);
+        fragments.put(type, new ConcurrentHashMap<>());
+        return this;
+    }
+
+    /**
+     * The Jackson module that serves registered DTO types from this cache.
+     */
+    public Module module() {
+        return new SimpleModule("taskflow-response-fragments") {
+            @Override
+            public void setupModule(SetupContext context) {
+                super.setupModule(context);
+                JsonFactory factory = ((ObjectCodec) context.getOwner()).getFactory();
+                context.addBeanSerializerModifier(new BeanSerializerModifier() {
+                    @Override
+                    public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription description,
+                                                              JsonSerializer<?> serializer) {
+                        Class<?> type = description.getBeanClass();
+                        return idFunctions.containsKey(type)
+                                ? new FragmentSerializer(type, serializer, factory)
+                                : serializer;
+                    }
+                });
+            }
+        };
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public void clear() {
+        fragments.values().forEach(Map::clear);
+        size.set(0);
+    }
+
+    SerializableString get(Class<?> type, Object id, Object value) {
+        Fragment fragment = fragments.get(type).get(id);
+        if (fragment != null && fragment.value().equals(value)) {
+            hits.increment();
+            return fragment.json();
+        }
+        misses.increment();
+        return null;
+    }
+
+    void put(Class<?> type, Object id, Object value, SerializableString json) {
+        if (size.get() >= maxEntries) {
+            evict(type);
+        }
+        if (fragments.get(type).put(id, new Fragment(value, json)) == null) {
+            size.incrementAndGet();
+        }
+    }
+
+    // Drops about a tenth of the type's entries; cheaper than tracking recency on every read
+    private void evict(Class<?> type) {
+        ConcurrentMap<Object, Fragment> typeFragments = fragments.get(type);
+        int toEvict = Math.max(1, typeFragments.size() / 10);
+        Iterator<Object> ids = typeFragments.keySet().iterator();
+        while (toEvict-- > 0 && ids.hasNext()) {
+            ids.next();
+            ids.remove();
+            size.decrementAndGet();
+        }
+    }
+
+    private record Fragment(Object value, SerializableString json) {
+    }
+
+    /**
+     * Wraps the bean serializer of a registered type; the wrapped serializer renders misses.
+     */
+    private final class FragmentSerializer extends StdSerializer<Object>
+            implements ResolvableSerializer, ContextualSerializer {
+
+        private final Class<?> type;
+        private final JsonSerializer<Object> delegate;
+        private final JsonFactory factory;
+
+        @SuppressWarnings("unchecked")
+        FragmentSerializer(Class<?> type, JsonSerializer<?> delegate, JsonFactory factory) {
+            super(Object.class);
+            this.type = type;
+            this.delegate = (JsonSerializer<Object>) delegate;
+            this.factory = factory;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            Object id = provider.getActiveView() == null ? idFunctions.get(type).apply(value) : null;
+            if (id == null) {
+                delegate.serialize(value, generator, provider);
+                return;
+            }
+            SerializableString json = get(type, id, value);
+            if (json == null) {
+                json = new SerializedString(render(value, provider));
+                put(type, id, value, json);
+            }
+            generator.writeRawValue(json);
+        }
+
+        private String render(Object value, SerializerProvider provider) throws IOException {
+            StringWriter writer = new StringWriter(512);
+            try (JsonGenerator fragment = factory.createGenerator(writer)) {
+                delegate.serialize(value, fragment, provider);
+            }
+            return writer.toString();
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvable) {
+                resolvable.resolve(provider);
+            }
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+            if (!(delegate instanceof ContextualSerializer contextual)) {
+                return this;
+            }
+            JsonSerializer<?> contextualized = contextual.createContextual(provider, property);
+            return contextualized == delegate ? this : new FragmentSerializer(type, contextualized, factory);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskflow.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling configuration for background jobs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
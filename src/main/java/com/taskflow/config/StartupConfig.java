@@ -0,0 +1,85 @@
+package com.taskflow.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Startup configuration.
+ * Defers non-critical infrastructure, springdoc by default, until it is first used: the API docs are
+ * built on the first request to {@code /v3/api-docs} either way, so creating their beans up front only
+ * delays readiness.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyPackagesPostProcessor() {
+        return new LazyPackagesPostProcessor();
+    }
+
+    /**
+     * Reads the packages straight from the environment: bean factory post-processors run before
+     * configuration properties are bound.
+     */
+    @Slf4j
+    static final class LazyPackagesPostProcessor implements BeanFactoryPostProcessor, EnvironmentAware {
+
+        private List<String> lazyPackages = List.of();
+
+        @Override
+        public void setEnvironment(Environment environment) {
+            lazyPackages = Binder.get(environment)
+                    .bind("taskflow.startup.lazy-packages", String[].class)
+                    .map(List::of)
+                    .orElse(List.of());
+        }
+
+        @Override
+        public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+            if (lazyPackages.isEmpty()) {
+                return;
+            }
+            int deferred = 0;
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                if (!definition.isLazyInit() && isInLazyPackage(declaringClassName(definition))) {
+                    definition.setLazyInit(true);
+                    deferred++;
+                }
+            }
+            log.debug("Deferred {} beans in {} until first use", deferred, lazyPackages);
+        }
+
+        private boolean isInLazyPackage(String className) {
+            return className != null && lazyPackages.stream().anyMatch(pkg -> className.startsWith(pkg + "."));
+        }
+
+        /**
+         * The bean class, or for a {@code @Bean} method the configuration class declaring it.
+         */
+        private static String declaringClassName(BeanDefinition definition) {
+            if (definition.getBeanClassName() != null) {
+                return definition.getBeanClassName();
+            }
+            if (definition instanceof AnnotatedBeanDefinition annotated) {
+                MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+                if (factoryMethod != null) {
+                    return factoryMethod.getDeclaringClassName();
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskflow.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for application startup.
+ * Maps to 'taskflow.startup.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.startup")
+@Validated
+public record StartupProperties(
+
+    // Beans declared in these packages are created on first use instead of during startup
+    @NotNull
+    List<String> lazyPackages,
+
+    // Slowest startup steps logged when the startup timeline is recorded
+    @Positive
+    int reportSteps
+) {
+}
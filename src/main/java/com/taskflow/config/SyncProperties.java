@@ -0,0 +1,33 @@
+package com.taskflow.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for task delta sync.
+ * Maps to 'taskflow.sync.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.sync")
+@Validated
+public record SyncProperties(
+
+    @Positive
+    int maxPageSize,
+
+    // Changes newer than this are held back so in-flight transactions cannot commit behind a cursor
+    @NotNull
+    Duration settleLag,
+
+    @NotNull
+    Duration tombstoneRetention,
+
+    @NotBlank
+    String tombstonePurgeCron
+) {
+}
@@ -0,0 +1,31 @@
+package com.taskflow.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for the startup warm-up.
+ * Maps to 'taskflow.warmup.*' properties in application.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.warmup")
+@Validated
+public record WarmupProperties(
+
+    boolean enabled,
+
+    // Passes over the hot paths; warm-up stops at this count or at maxDuration, whichever comes first
+    @Positive
+    int iterations,
+
+    @NotNull
+    Duration maxDuration,
+
+    // Open every pooled connection up front instead of on the first burst of traffic
+    boolean fillPool
+) {
+}
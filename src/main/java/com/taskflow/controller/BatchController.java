@@ -0,0 +1,40 @@
+package com.taskflow.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskflow.batch.BatchService;
+import com.taskflow.dto.batch.BatchRequest;
+import com.taskflow.dto.batch.BatchResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/batch")
+@RequiredArgsConstructor
+@Tag(name = "Batch", description = "Several API calls in one round trip")
+@SecurityRequirement(name = "bearerAuth")
+public class BatchController {
+
+    private final BatchService batchService;
+
+    @PostMapping
+    @Operation(summary = "Execute batch",
+            description = "Executes API calls in order and returns one result per call. Calls may reference "
+                    + "earlier results as ${id.field}; a transactional batch rolls back at the first failure")
+    public ResponseEntity<BatchResponse> executeBatch(
+            @Valid @RequestBody BatchRequest request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
+        return ResponseEntity.ok(batchService.execute(request, httpRequest, httpResponse));
+    }
+}
@@ -1,9 +1,13 @@
 package com.taskflow.controller;
 
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,15 +16,25 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.taskflow.dto.activity.ActivityResponse;
+import com.taskflow.dto.common.CursorPageResponse;
+import com.taskflow.dto.common.MultiGetResponse;
 import com.taskflow.dto.common.PageResponse;
 import com.taskflow.dto.project.CreateProjectRequest;
+import com.taskflow.dto.project.ProjectMemberRequest;
+import com.taskflow.dto.project.ProjectMemberResponse;
 import com.taskflow.dto.project.ProjectResponse;
 import com.taskflow.dto.project.UpdateProjectRequest;
 import com.taskflow.entity.User;
+import com.taskflow.service.ActivityLogService;
+import com.taskflow.service.ProjectEventBroadcaster;
+import com.taskflow.service.ProjectMemberService;
 import com.taskflow.service.ProjectService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,6 +52,9 @@ import lombok.RequiredArgsConstructor;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectMemberService projectMemberService;
+    private final ProjectEventBroadcaster projectEventBroadcaster;
+    private final ActivityLogService activityLogService;
 
     @PostMapping
     @Operation(summary = "Create project", description = "Creates a new project for the authenticated user")
@@ -57,8 +74,73 @@ public class ProjectController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    @Operation(summary = "Get project fields", description = "Returns only the requested fields of a project")
+    public ResponseEntity<Map<String, Object>> getProjectFields(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long id,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,name,taskCount") @RequestParam String fields) {
+        Map<String, Object> response = projectService.getProject(id, user.getId(), fields);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/activity")
+    @Operation(summary = "Get project activity", description = "Returns the change history of a project and its tasks, newest first")
+    public ResponseEntity<CursorPageResponse<ActivityResponse>> getProjectActivity(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long id,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) Long before,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int limit) {
+        CursorPageResponse<ActivityResponse> response = activityLogService.getProjectActivity(id, user.getId(), before, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/members")
+    @Operation(summary = "Get project members", description = "Returns the owner and the members of a project with their roles")
+    public ResponseEntity<List<ProjectMemberResponse>> getProjectMembers(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long id) {
+        List<ProjectMemberResponse> response = projectMemberService.getMembers(id, user.getId());
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/{id}/members/{userId}")
+    @Operation(summary = "Set project member", description = "Shares a project with a user, or changes their role (VIEWER, EDITOR, ADMIN)")
+    public ResponseEntity<ProjectMemberResponse> setProjectMember(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long id,
+            @PathVariable Long userId,
+            @Valid @RequestBody ProjectMemberRequest request) {
+        ProjectMemberResponse response = projectMemberService.setMember(id, userId, request.getRole(), user.getId());
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{id}/members/{userId}")
+    @Operation(summary = "Remove project member", description = "Removes a member from a project; members may remove themselves")
+    public ResponseEntity<Void> removeProjectMember(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long id,
+            @PathVariable Long userId) {
+        projectMemberService.removeMember(id, userId, user.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream project events",
+            description = "Server-Sent Events stream of task changes in a project. Reconnect with Last-Event-ID " +
+                    "to replay recent events; a 'resync' event means the client must reload the project's tasks")
+    public ResponseEntity<SseEmitter> streamProjectEvents(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long id,
+            @Parameter(description = "Last event ID received") @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter = projectEventBroadcaster.subscribe(id, user.getId(), lastEventId);
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
     @GetMapping
-    @Operation(summary = "Get all projects", description = "Returns all projects for the authenticated user")
+    @Operation(summary = "Get all projects", description = "Returns all projects the authenticated user owns or is a member of")
     public ResponseEntity<PageResponse<ProjectResponse>> getUserProjects(
             @AuthenticationPrincipal User user,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
@@ -66,6 +148,25 @@ public class ProjectController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get projects by IDs", description = "Returns the listed projects in request order, with the IDs that are missing or not accessible")
+    public ResponseEntity<MultiGetResponse<ProjectResponse>> getProjectsByIds(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Comma-separated project IDs, e.g. 4,8,15") @RequestParam List<Long> ids) {
+        MultiGetResponse<ProjectResponse> response = projectService.getProjectsByIds(ids, user.getId());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    @Operation(summary = "Get all project fields", description = "Returns only the requested fields of all projects for the authenticated user")
+    public ResponseEntity<PageResponse<Map<String, Object>>> getUserProjectFields(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,name,taskCount") @RequestParam String fields,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        PageResponse<Map<String, Object>> response = projectService.getUserProjects(user.getId(), fields, pageable);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/search")
     @Operation(summary = "Search projects", description = "Searches projects by name or description")
     public ResponseEntity<PageResponse<ProjectResponse>> searchProjects(
@@ -76,6 +177,17 @@ public class ProjectController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/search", params = "fields")
+    @Operation(summary = "Search project fields", description = "Searches projects by name or description, returning only the requested fields")
+    public ResponseEntity<PageResponse<Map<String, Object>>> searchProjectFields(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Search term") @RequestParam String q,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,name,taskCount") @RequestParam String fields,
+            @PageableDefault(size = 10) Pageable pageable) {
+        PageResponse<Map<String, Object>> response = projectService.searchProjects(user.getId(), q, fields, pageable);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update project", description = "Updates a project's details")
     public ResponseEntity<ProjectResponse> updateProject(
@@ -87,7 +199,7 @@ public class ProjectController {
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Delete project", description = "Deletes a project and all its tasks")
+    @Operation(summary = "Delete project", description = "Deletes a project and all its tasks; owner only")
     public ResponseEntity<Void> deleteProject(
             @AuthenticationPrincipal User user,
             @PathVariable Long id) {
@@ -1,11 +1,16 @@
 package com.taskflow.controller;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,18 +20,30 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.taskflow.dto.activity.ActivityResponse;
+import com.taskflow.dto.common.CursorPageResponse;
+import com.taskflow.dto.common.MultiGetResponse;
 import com.taskflow.dto.common.PageResponse;
 import com.taskflow.dto.task.CreateTaskRequest;
+import com.taskflow.dto.task.TaskChangesResponse;
+import com.taskflow.dto.task.TaskFileFormat;
+import com.taskflow.dto.task.TaskImportResponse;
 import com.taskflow.dto.task.TaskResponse;
 import com.taskflow.dto.task.UpdateTaskRequest;
 import com.taskflow.entity.TaskPriority;
 import com.taskflow.entity.TaskStatus;
 import com.taskflow.entity.User;
+import com.taskflow.service.ActivityLogService;
+import com.taskflow.service.TaskExportService;
+import com.taskflow.service.TaskImportService;
 import com.taskflow.service.TaskService;
+import com.taskflow.service.TaskSyncService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -43,6 +60,10 @@ import lombok.RequiredArgsConstructor;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskSyncService taskSyncService;
+    private final ActivityLogService activityLogService;
 
     @PostMapping
     @Operation(summary = "Create task", description = "Creates a new task in a project")
@@ -62,6 +83,16 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    @Operation(summary = "Get task fields", description = "Returns only the requested fields of a task")
+    public ResponseEntity<Map<String, Object>> getTaskFields(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long id,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,title,status,dueDate") @RequestParam String fields) {
+        Map<String, Object> response = taskService.getTask(id, user.getId(), fields);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
     @Operation(summary = "Get all tasks", description = "Returns all tasks for the authenticated user")
     public ResponseEntity<PageResponse<TaskResponse>> getUserTasks(
@@ -71,6 +102,25 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get tasks by IDs", description = "Returns the listed tasks in request order, with the IDs that are missing or not accessible")
+    public ResponseEntity<MultiGetResponse<TaskResponse>> getTasksByIds(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Comma-separated task IDs, e.g. 4,8,15") @RequestParam List<Long> ids) {
+        MultiGetResponse<TaskResponse> response = taskService.getTasks(ids, user.getId());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    @Operation(summary = "Get all task fields", description = "Returns only the requested fields of all tasks for the authenticated user")
+    public ResponseEntity<PageResponse<Map<String, Object>>> getUserTaskFields(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,title,status,dueDate") @RequestParam String fields,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        PageResponse<Map<String, Object>> response = taskService.getUserTasks(user.getId(), fields, pageable);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/project/{projectId}")
     @Operation(summary = "Get project tasks", description = "Returns all tasks in a specific project")
     public ResponseEntity<PageResponse<TaskResponse>> getProjectTasks(
@@ -81,6 +131,17 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/project/{projectId}", params = "fields")
+    @Operation(summary = "Get project task fields", description = "Returns only the requested fields of all tasks in a specific project")
+    public ResponseEntity<PageResponse<Map<String, Object>>> getProjectTaskFields(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long projectId,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,title,status,dueDate") @RequestParam String fields,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        PageResponse<Map<String, Object>> response = taskService.getProjectTasks(projectId, user.getId(), fields, pageable);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/project/{projectId}/search")
     @Operation(summary = "Search tasks in project", description = "Searches tasks by title or description within a project")
     public ResponseEntity<PageResponse<TaskResponse>> searchTasks(
@@ -92,6 +153,18 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/project/{projectId}/search", params = "fields")
+    @Operation(summary = "Search task fields in project", description = "Searches tasks by title or description within a project, returning only the requested fields")
+    public ResponseEntity<PageResponse<Map<String, Object>>> searchTaskFields(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long projectId,
+            @Parameter(description = "Search term") @RequestParam String q,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,title,status,dueDate") @RequestParam String fields,
+            @PageableDefault(size = 10) Pageable pageable) {
+        PageResponse<Map<String, Object>> response = taskService.searchTasks(projectId, q, user.getId(), fields, pageable);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/assigned")
     @Operation(summary = "Get assigned tasks", description = "Returns tasks assigned to the authenticated user")
     public ResponseEntity<PageResponse<TaskResponse>> getAssignedTasks(
@@ -103,10 +176,90 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/assigned", params = "fields")
+    @Operation(summary = "Get assigned task fields", description = "Returns only the requested fields of tasks assigned to the authenticated user")
+    public ResponseEntity<PageResponse<Map<String, Object>>> getAssignedTaskFields(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filter by priority") @RequestParam(required = false) TaskPriority priority,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,title,status,dueDate") @RequestParam String fields,
+            @PageableDefault(size = 10, sort = "dueDate", direction = Sort.Direction.ASC) Pageable pageable) {
+        PageResponse<Map<String, Object>> response =
+                taskService.getAssignedTasks(user.getId(), status, priority, fields, pageable);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/overdue")
-    @Operation(summary = "Get overdue tasks", description = "Returns all overdue tasks for the authenticated user")
-    public ResponseEntity<List<TaskResponse>> getOverdueTasks(@AuthenticationPrincipal User user) {
-        List<TaskResponse> response = taskService.getOverdueTasks(user.getId());
+    @Operation(summary = "Get overdue tasks", description = "Returns overdue tasks assigned to the authenticated user")
+    public ResponseEntity<PageResponse<TaskResponse>> getOverdueTasks(
+            @AuthenticationPrincipal User user,
+            @PageableDefault(size = 20, sort = "dueDate", direction = Sort.Direction.ASC) Pageable pageable) {
+        PageResponse<TaskResponse> response = taskService.getOverdueTasks(user.getId(), pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/overdue", params = "fields")
+    @Operation(summary = "Get overdue task fields", description = "Returns only the requested fields of overdue tasks assigned to the authenticated user")
+    public ResponseEntity<PageResponse<Map<String, Object>>> getOverdueTaskFields(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,title,status,dueDate") @RequestParam String fields,
+            @PageableDefault(size = 20, sort = "dueDate", direction = Sort.Direction.ASC) Pageable pageable) {
+        PageResponse<Map<String, Object>> response = taskService.getOverdueTasks(user.getId(), fields, pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get task changes", description = "Returns tasks created, updated or deleted since a sync cursor")
+    public ResponseEntity<TaskChangesResponse> getTaskChanges(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Cursor from the previous sync; full sync when omitted") @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes") @RequestParam(defaultValue = "500") int limit) {
+        TaskChangesResponse response = taskSyncService.getChanges(user.getId(), since, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export tasks", description = "Streams all tasks of a project, or of all the user's projects, as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Project to export; all own projects when omitted") @RequestParam(required = false) Long projectId,
+            @Parameter(description = "Output format") @RequestParam(defaultValue = "NDJSON") TaskFileFormat format,
+            @Parameter(description = "Gzip the response body") @RequestParam(defaultValue = "false") boolean gzip) {
+        Long userId = user.getId();
+        taskExportService.validateExportAccess(projectId, userId);
+
+        StreamingResponseBody body = out -> taskExportService.export(projectId, userId, format, gzip, out);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + format.getExtension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @Operation(summary = "Import tasks", description = "Imports NDJSON or CSV rows in batches; pass importId to resume an interrupted import")
+    public ResponseEntity<TaskImportResponse> importTasks(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Import to resume") @RequestParam(required = false) Long importId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        TaskFileFormat format = TaskFileFormat.fromContentType(contentType);
+        TaskImportResponse response = taskImportService.importTasks(importId, format, body, user);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/import/{importId}")
+    @Operation(summary = "Get import progress", description = "Returns the progress of a bulk import")
+    public ResponseEntity<TaskImportResponse> getImport(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long importId) {
+        TaskImportResponse response = taskImportService.getImport(importId, user.getId());
         return ResponseEntity.ok(response);
     }
 
@@ -130,6 +283,17 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{id}/activity")
+    @Operation(summary = "Get task activity", description = "Returns the change history of a task, newest first")
+    public ResponseEntity<CursorPageResponse<ActivityResponse>> getTaskActivity(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long id,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) Long before,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int limit) {
+        CursorPageResponse<ActivityResponse> response = activityLogService.getTaskActivity(id, user.getId(), before, limit);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete task", description = "Deletes a task")
     public ResponseEntity<Void> deleteTask(
@@ -1,5 +1,7 @@
 package com.taskflow.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -9,8 +11,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.taskflow.dto.common.MultiGetResponse;
 import com.taskflow.dto.user.ChangePasswordRequest;
 import com.taskflow.dto.user.UpdateUserRequest;
 import com.taskflow.dto.user.UserResponse;
@@ -18,6 +22,7 @@ import com.taskflow.entity.User;
 import com.taskflow.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -42,6 +47,14 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get users by IDs", description = "Returns the listed users' profiles in request order, with the IDs that do not exist")
+    public ResponseEntity<MultiGetResponse<UserResponse>> getUsersByIds(
+            @Parameter(description = "Comma-separated user IDs, e.g. 4,8,15") @RequestParam List<Long> ids) {
+        MultiGetResponse<UserResponse> response = userService.getUsersByIds(ids);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID", description = "Returns a user's profile by their ID")
     public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
@@ -0,0 +1,126 @@
+package com.taskflow.diagnostics;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Actuator endpoint exposing Hibernate statistics, per-origin query attribution and slow queries.
+ * <p>
+ * GET /actuator/hibernate reads the current figures; DELETE /actuator/hibernate resets them.
+ */
+@Component
+@Endpoint(id = "hibernate")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "taskflow.query-diagnostics", name = "enabled", havingValue = "true")
+public class HibernateStatisticsEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final QueryDiagnostics queryDiagnostics;
+
+    @ReadOperation
+    public Report report() {
+        Statistics statistics = statistics();
+
+        List<QueryStats> queries = Arrays.stream(statistics.getQueries())
+                .map(query -> {
+                    QueryStatistics stats = statistics.getQueryStatistics(query);
+                    return new QueryStats(query, stats.getExecutionCount(), stats.getExecutionAvgTime(),
+                            stats.getExecutionMaxTime(), stats.getExecutionRowCount());
+                })
+                .sorted(Comparator.comparingLong((QueryStats stats) -> stats.executionCount() * stats.meanMillis())
+                        .reversed())
+                .toList();
+
+        List<EntityStats> entities = Arrays.stream(statistics.getEntityNames())
+                .map(name -> {
+                    EntityStatistics stats = statistics.getEntityStatistics(name);
+                    return new EntityStats(name, stats.getLoadCount(), stats.getFetchCount(),
+                            stats.getInsertCount(), stats.getUpdateCount(), stats.getDeleteCount());
+                })
+                .toList();
+
+        List<CollectionStats> collections = Arrays.stream(statistics.getCollectionRoleNames())
+                .map(role -> {
+                    CollectionStatistics stats = statistics.getCollectionStatistics(role);
+                    return new CollectionStats(role, stats.getLoadCount(), stats.getFetchCount());
+                })
+                .toList();
+
+        Summary summary = new Summary(
+                statistics.getSessionOpenCount(),
+                statistics.getTransactionCount(),
+                statistics.getPrepareStatementCount(),
+                statistics.getQueryExecutionCount(),
+                statistics.getQueryExecutionMaxTime(),
+                statistics.getQueryExecutionMaxTimeQueryString(),
+                statistics.getEntityLoadCount(),
+                statistics.getEntityFetchCount(),
+                statistics.getCollectionLoadCount(),
+                statistics.getCollectionFetchCount());
+
+        return new Report(statistics.getStart(), queryDiagnostics.getSince(), queryDiagnostics.getSampleRate(),
+                summary, queries, entities, collections, queryDiagnostics.getOrigins(),
+                queryDiagnostics.getUntrackedExecutions(), queryDiagnostics.getSlowQueries());
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics().clear();
+        queryDiagnostics.reset();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public record Report(
+            Instant statisticsSince,
+            Instant originsSince,
+            double sampleRate,
+            Summary summary,
+            List<QueryStats> queries,
+            List<EntityStats> entities,
+            List<CollectionStats> collections,
+            List<QueryDiagnostics.OriginSnapshot> origins,
+            long untrackedExecutions,
+            List<QueryDiagnostics.SlowQuery> slowQueries) {
+    }
+
+    public record Summary(
+            long sessionsOpened,
+            long transactions,
+            long statementsPrepared,
+            long queryExecutions,
+            long queryExecutionMaxMillis,
+            String slowestQuery,
+            long entityLoads,
+            long entityFetches,
+            long collectionLoads,
+            long collectionFetches) {
+    }
+
+    public record QueryStats(String query, long executionCount, long meanMillis, long maxMillis, long rows) {
+    }
+
+    public record EntityStats(String entity, long loads, long fetches, long inserts, long updates, long deletes) {
+    }
+
+    public record CollectionStats(String role, long loads, long fetches) {
+    }
+}
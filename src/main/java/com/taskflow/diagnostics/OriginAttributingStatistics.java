@@ -0,0 +1,42 @@
+package com.taskflow.diagnostics;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * Hibernate statistics that also attribute entity and collection loads to the current service call.
+ * Installed through the 'hibernate.stats.factory' setting.
+ */
+public class OriginAttributingStatistics extends StatisticsImpl {
+
+    private final QueryDiagnostics queryDiagnostics;
+
+    public OriginAttributingStatistics(SessionFactoryImplementor sessionFactory, QueryDiagnostics queryDiagnostics) {
+        super(sessionFactory);
+        this.queryDiagnostics = queryDiagnostics;
+    }
+
+    @Override
+    public void loadEntity(String entityName) {
+        super.loadEntity(entityName);
+        queryDiagnostics.recordEntityLoad(entityName);
+    }
+
+    @Override
+    public void fetchEntity(String entityName) {
+        super.fetchEntity(entityName);
+        queryDiagnostics.recordEntityFetch(entityName);
+    }
+
+    @Override
+    public void loadCollection(String role) {
+        super.loadCollection(role);
+        queryDiagnostics.recordCollectionLoad(role);
+    }
+
+    @Override
+    public void fetchCollection(String role) {
+        super.fetchCollection(role);
+        queryDiagnostics.recordCollectionFetch(role);
+    }
+}
@@ -0,0 +1,336 @@
+package com.taskflow.diagnostics;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.taskflow.config.QueryDiagnosticsProperties;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Attributes SQL statements and entity/collection loads to the service method that caused them,
+ * and keeps a bounded log of slow queries.
+ * <p>
+ * The outermost service call on a thread sets the origin (see {@link QueryOriginAspect}) and decides
+ * once whether the call is sampled, so a sampled call is recorded completely. Statements issued
+ * outside a service call are attributed to the HTTP endpoint, if any. Slow queries are recorded
+ * whether or not the call was sampled.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "taskflow.query-diagnostics", name = "enabled", havingValue = "true")
+public class QueryDiagnostics {
+
+    static final String UNATTRIBUTED = "(unattributed)";
+
+    private final QueryDiagnosticsProperties properties;
+    private final long slowQueryThresholdNanos;
+    private final ThreadLocal<Origin> currentOrigin = new ThreadLocal<>();
+    private final ConcurrentMap<String, OriginStats> origins = new ConcurrentHashMap<>();
+    private final AtomicInteger trackedStatements = new AtomicInteger();
+    private final LongAdder untrackedExecutions = new LongAdder();
+    private final Deque<SlowQuery> slowQueries = new ArrayDeque<>();
+    // A lock rather than a monitor, so virtual threads recording statements never pin their carrier
+    private final ReentrantLock slowQueriesLock = new ReentrantLock();
+    private volatile Instant since = Instant.now();
+
+    public QueryDiagnostics(QueryDiagnosticsProperties properties) {
+        this.properties = properties;
+        this.slowQueryThresholdNanos = properties.slowQueryThreshold().toNanos();
+    }
+
+    /**
+     * Mark the start of a service call on this thread.
+     * @param method origin name, e.g. "TaskService.getTask"
+     * @return the origin to pass to {@link #exit(Origin)}, or null if an outer call already owns the thread
+     */
+    Origin enter(String method) {
+        if (currentOrigin.get() != null) {
+            return null;
+        }
+        Origin origin = new Origin(method, sample());
+        currentOrigin.set(origin);
+        return origin;
+    }
+
+    void exit(Origin origin) {
+        if (origin != null) {
+            currentOrigin.remove();
+        }
+    }
+
+    /**
+     * Record an executed JDBC statement.
+     * @param sql statement text
+     * @param parameterShapes JDBC types of the first parameter set, without values
+     * @param batchSize number of parameter sets executed
+     * @param elapsedNanos execution time
+     */
+    public void recordStatement(String sql, List<String> parameterShapes, int batchSize, long elapsedNanos) {
+        Origin origin = currentOrigin.get();
+        String originName = origin != null ? origin.method() : null;
+
+        if (origin != null ? origin.sampled() : sample()) {
+            if (originName == null) {
+                originName = fallbackOrigin();
+            }
+            StatementStats stats = statementStats(originName, sql);
+            if (stats != null) {
+                stats.record(elapsedNanos);
+            } else {
+                untrackedExecutions.increment();
+            }
+        }
+
+        if (elapsedNanos >= slowQueryThresholdNanos) {
+            SlowQuery slowQuery = new SlowQuery(Instant.now(), originName != null ? originName : fallbackOrigin(),
+                    currentEndpoint(), toMillis(elapsedNanos), sql, parameterShapes, batchSize);
+            log.warn("Slow query ({} ms) from {} [{}]: {} {}", slowQuery.elapsedMillis(), slowQuery.origin(),
+                    slowQuery.endpoint(), sql, parameterShapes);
+            slowQueriesLock.lock();
+            try {
+                if (slowQueries.size() >= properties.slowQueryLogSize()) {
+                    slowQueries.removeFirst();
+                }
+                slowQueries.addLast(slowQuery);
+            } finally {
+                slowQueriesLock.unlock();
+            }
+        }
+    }
+
+    void recordEntityLoad(String entityName) {
+        OriginStats stats = sampledOriginStats();
+        if (stats != null) {
+            increment(stats.entityLoads, entityName);
+        }
+    }
+
+    void recordEntityFetch(String entityName) {
+        OriginStats stats = sampledOriginStats();
+        if (stats != null) {
+            increment(stats.entityFetches, entityName);
+        }
+    }
+
+    void recordCollectionLoad(String role) {
+        OriginStats stats = sampledOriginStats();
+        if (stats != null) {
+            increment(stats.collectionLoads, role);
+        }
+    }
+
+    void recordCollectionFetch(String role) {
+        OriginStats stats = sampledOriginStats();
+        if (stats != null) {
+            increment(stats.collectionFetches, role);
+        }
+    }
+
+    /**
+     * Per-origin statistics, most expensive origin first.
+     */
+    public List<OriginSnapshot> getOrigins() {
+        return origins.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingDouble(OriginSnapshot::totalMillis).reversed())
+                .toList();
+    }
+
+    /**
+     * Slow queries, newest first.
+     */
+    public List<SlowQuery> getSlowQueries() {
+        slowQueriesLock.lock();
+        try {
+            List<SlowQuery> copy = new ArrayList<>(slowQueries);
+            Collections.reverse(copy);
+            return copy;
+        } finally {
+            slowQueriesLock.unlock();
+        }
+    }
+
+    public long getUntrackedExecutions() {
+        return untrackedExecutions.sum();
+    }
+
+    public double getSampleRate() {
+        return properties.sampleRate();
+    }
+
+    public Instant getSince() {
+        return since;
+    }
+
+    /**
+     * Discard all recorded statistics and slow queries.
+     */
+    public void reset() {
+        origins.clear();
+        trackedStatements.set(0);
+        untrackedExecutions.reset();
+        slowQueriesLock.lock();
+        try {
+            slowQueries.clear();
+        } finally {
+            slowQueriesLock.unlock();
+        }
+        since = Instant.now();
+    }
+
+    private boolean sample() {
+        double rate = properties.sampleRate();
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private OriginStats sampledOriginStats() {
+        Origin origin = currentOrigin.get();
+        if (origin == null || !origin.sampled()) {
+            return null;
+        }
+        return origins.computeIfAbsent(origin.method(), key -> new OriginStats());
+    }
+
+    private StatementStats statementStats(String originName, String sql) {
+        OriginStats originStats = origins.computeIfAbsent(originName, key -> new OriginStats());
+        StatementStats stats = originStats.statements.get(sql);
+        if (stats != null) {
+            return stats;
+        }
+        // Bound memory when statements vary, e.g. IN lists of different lengths
+        if (trackedStatements.incrementAndGet() > properties.maxTrackedStatements()) {
+            trackedStatements.decrementAndGet();
+            return null;
+        }
+        StatementStats created = new StatementStats();
+        StatementStats existing = originStats.statements.putIfAbsent(sql, created);
+        if (existing != null) {
+            trackedStatements.decrementAndGet();
+            return existing;
+        }
+        return created;
+    }
+
+    private static String fallbackOrigin() {
+        String endpoint = currentEndpoint();
+        return endpoint != null ? endpoint : UNATTRIBUTED;
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        // The matched pattern keeps path variables out of the key
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    private static void increment(ConcurrentMap<String, LongAdder> counters, String key) {
+        counters.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static Map<String, Long> sums(ConcurrentMap<String, LongAdder> counters) {
+        Map<String, Long> sums = new TreeMap<>();
+        counters.forEach((key, adder) -> sums.put(key, adder.sum()));
+        return sums;
+    }
+
+    record Origin(String method, boolean sampled) {
+    }
+
+    private static final class StatementStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+    }
+
+    private static final class OriginStats {
+
+        private final ConcurrentMap<String, StatementStats> statements = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, LongAdder> entityLoads = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, LongAdder> entityFetches = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, LongAdder> collectionLoads = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, LongAdder> collectionFetches = new ConcurrentHashMap<>();
+
+        OriginSnapshot snapshot(String origin) {
+            List<StatementSnapshot> statementSnapshots = statements.entrySet().stream()
+                    .map(entry -> {
+                        StatementStats stats = entry.getValue();
+                        long count = stats.count.sum();
+                        long total = stats.totalNanos.sum();
+                        return new StatementSnapshot(entry.getKey(), count, toMillis(total),
+                                count > 0 ? toMillis(total / count) : 0, toMillis(stats.maxNanos.get()));
+                    })
+                    .sorted(Comparator.comparingDouble(StatementSnapshot::totalMillis).reversed())
+                    .toList();
+            long count = statementSnapshots.stream().mapToLong(StatementSnapshot::count).sum();
+            double total = statementSnapshots.stream().mapToDouble(StatementSnapshot::totalMillis).sum();
+            double max = statementSnapshots.stream().mapToDouble(StatementSnapshot::maxMillis).max().orElse(0);
+            return new OriginSnapshot(origin, count, total, count > 0 ? total / count : 0, max, statementSnapshots,
+                    sums(entityLoads), sums(entityFetches), sums(collectionLoads), sums(collectionFetches));
+        }
+    }
+
+    public record OriginSnapshot(
+            String origin,
+            long statementCount,
+            double totalMillis,
+            double meanMillis,
+            double maxMillis,
+            List<StatementSnapshot> statements,
+            Map<String, Long> entityLoads,
+            Map<String, Long> entityFetches,
+            Map<String, Long> collectionLoads,
+            Map<String, Long> collectionFetches) {
+    }
+
+    public record StatementSnapshot(String sql, long count, double totalMillis, double meanMillis, double maxMillis) {
+    }
+
+    public record SlowQuery(
+            Instant at,
+            String origin,
+            String endpoint,
+            double elapsedMillis,
+            String sql,
+            List<String> parameterShapes,
+            int batchSize) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskflow.diagnostics;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * datasource-proxy listener that times every JDBC execution and hands it to {@link QueryDiagnostics}.
+ * <p>
+ * Only the JDBC setter names of the first parameter set are kept (e.g. "Long", "String", "Null"),
+ * never the bound values.
+ */
+public class QueryDiagnosticsListener implements QueryExecutionListener {
+
+    private static final String START_KEY = QueryDiagnosticsListener.class.getName() + ".start";
+
+    private final ObjectProvider<QueryDiagnostics> queryDiagnostics;
+
+    public QueryDiagnosticsListener(ObjectProvider<QueryDiagnostics> queryDiagnostics) {
+        this.queryDiagnostics = queryDiagnostics;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_KEY, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_KEY, Long.class);
+        QueryDiagnostics diagnostics = queryDiagnostics.getIfAvailable();
+        if (start == null || diagnostics == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<List<ParameterSetOperation>> parameters = queryInfo.getParametersList();
+            diagnostics.recordStatement(queryInfo.getQuery(),
+                    parameters.isEmpty() ? List.of() : shapes(parameters.get(0)),
+                    Math.max(1, parameters.size()),
+                    elapsed);
+        }
+    }
+
+    private static List<String> shapes(List<ParameterSetOperation> operations) {
+        return operations.stream()
+                .map(operation -> operation.getMethod().getName().replaceFirst("^set", ""))
+                .toList();
+    }
+}
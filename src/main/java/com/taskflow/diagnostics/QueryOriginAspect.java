@@ -0,0 +1,36 @@
+package com.taskflow.diagnostics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Marks service calls as the origin of the statements they issue.
+ * Runs outside the transaction advice so that flush-time statements are attributed too.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "taskflow.query-diagnostics", name = "enabled", havingValue = "true")
+public class QueryOriginAspect {
+
+    private final QueryDiagnostics queryDiagnostics;
+
+    @Around("within(com.taskflow.service..*) && @within(org.springframework.stereotype.Service)")
+    public Object trackOrigin(ProceedingJoinPoint joinPoint) throws Throwable {
+        QueryDiagnostics.Origin origin = queryDiagnostics.enter(
+                joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            queryDiagnostics.exit(origin);
+        }
+    }
+}
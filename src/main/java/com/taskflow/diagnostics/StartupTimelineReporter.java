@@ -0,0 +1,110 @@
+package com.taskflow.diagnostics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.core.metrics.jfr.FlightRecorderApplicationStartup;
+import org.springframework.stereotype.Component;
+
+import com.taskflow.config.StartupProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Logs where startup time went, when the startup timeline is recorded.
+ * <p>
+ * Recording is chosen before the context exists, with the {@code STARTUP_TIMELINE} environment variable
+ * (or the {@code taskflow.startup.timeline} system property): {@code buffer} keeps the steps in memory for
+ * this report and {@code /actuator/startup}; {@code jfr} emits them as Flight Recorder events for a recording
+ * started with {@code -XX:StartFlightRecording}.
+ * <p>
+ * Steps are ranked by self time, excluding nested steps, so a bean that waits on its dependencies is not
+ * blamed for their cost.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupTimelineReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+    static final int BUFFER_CAPACITY = 10_000;
+
+    private final StartupProperties properties;
+
+    /**
+     * The startup recorder selected by {@code STARTUP_TIMELINE} / {@code taskflow.startup.timeline}.
+     */
+    public static ApplicationStartup applicationStartup() {
+        String mode = System.getProperty("taskflow.startup.timeline", System.getenv("STARTUP_TIMELINE"));
+        return applicationStartup(mode);
+    }
+
+    static ApplicationStartup applicationStartup(String mode) {
+        if (mode == null || mode.isBlank()) {
+            return ApplicationStartup.DEFAULT;
+        }
+        return switch (mode.trim().toLowerCase(Locale.ROOT)) {
+            case "buffer" -> new BufferingApplicationStartup(BUFFER_CAPACITY);
+            case "jfr" -> new FlightRecorderApplicationStartup();
+            default -> throw new IllegalArgumentException(
+                    "Unknown startup timeline '" + mode + "'; expected 'buffer' or 'jfr'");
+        };
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        List<String> lines = report(startup.getBufferedTimeline(), properties.reportSteps());
+        log.info("Started in {} ms; slowest steps by self time:\n{}",
+                event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : "?", String.join("\n", lines));
+    }
+
+    static List<String> report(StartupTimeline timeline, int limit) {
+        Map<Long, Duration> nested = new HashMap<>();
+        for (TimelineEvent event : timeline.getEvents()) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                nested.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+
+        List<StepTime> steps = new ArrayList<>();
+        for (TimelineEvent event : timeline.getEvents()) {
+            StartupStep step = event.getStartupStep();
+            Duration self = event.getDuration().minus(nested.getOrDefault(step.getId(), Duration.ZERO));
+            steps.add(new StepTime(describe(step), self, event.getDuration()));
+        }
+
+        return steps.stream()
+                .sorted(Comparator.comparing(StepTime::self).reversed())
+                .limit(limit)
+                .map(step -> String.format(Locale.ROOT, "%7d ms self %7d ms total  %s",
+                        step.self().toMillis(), step.total().toMillis(), step.name()))
+                .toList();
+    }
+
+    private static String describe(StartupStep step) {
+        StringBuilder description = new StringBuilder(step.getName());
+        for (StartupStep.Tag tag : step.getTags()) {
+            description.append(' ').append(tag.getKey()).append('=').append(tag.getValue());
+        }
+        return description.toString();
+    }
+
+    private record StepTime(String name, Duration self, Duration total) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskflow.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.taskflow.service.WarmupService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Actuator endpoint reporting startup warm-up progress.
+ * <p>
+ * GET /actuator/warmup shows the state, iterations done, time per phase and connections opened.
+ */
+@Component
+@Endpoint(id = "warmup")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "taskflow.warmup", name = "enabled", havingValue = "true")
+public class WarmupEndpoint {
+
+    private final WarmupService warmupService;
+
+    @ReadOperation
+    public WarmupService.Progress progress() {
+        return warmupService.getProgress();
+    }
+}
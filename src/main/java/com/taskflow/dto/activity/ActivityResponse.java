@@ -0,0 +1,37 @@
+package com.taskflow.dto.activity;
+
+import com.taskflow.entity.ActivityAction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Response DTO for an activity log entry.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityResponse {
+
+    private Long id;
+    private Long projectId;
+    private Long taskId;
+    private Long actorId;
+    private ActivityAction action;
+    private Map<String, FieldChange> changes;
+    private LocalDateTime occurredAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FieldChange {
+        private String from;
+        private String to;
+    }
+}
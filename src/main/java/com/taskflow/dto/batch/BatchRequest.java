@@ -0,0 +1,56 @@
+package com.taskflow.dto.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request DTO for several API calls executed in one round trip.
+ * <p>
+ * Paths, header values and body strings may reference the response body of an earlier operation as
+ * {@code ${id.field.nested}}, e.g. {@code /api/v1/tasks/${create.id}}. A body string that is only a
+ * reference is replaced by the referenced JSON value, keeping its type.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequest {
+
+    /**
+     * Run all operations in one transaction, rolling back and stopping at the first failure.
+     */
+    private boolean transactional;
+
+    @NotEmpty(message = "At least one operation is required")
+    private List<@Valid Operation> operations;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Operation {
+
+        @Pattern(regexp = "[A-Za-z0-9_-]+", message = "Operation id may only contain letters, digits, '_' and '-'")
+        private String id;
+
+        @NotBlank(message = "Method is required")
+        private String method;
+
+        @NotBlank(message = "Path is required")
+        private String path;
+
+        private Map<String, String> headers;
+
+        private JsonNode body;
+    }
+}
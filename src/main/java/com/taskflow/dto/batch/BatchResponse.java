@@ -0,0 +1,40 @@
+package com.taskflow.dto.batch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for a batch request: one result per operation, in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse {
+
+    private List<Result> results;
+
+    /**
+     * Set for a transactional batch whose changes were rolled back.
+     */
+    private boolean rolledBack;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+        private String id;
+        private int status;
+        private Map<String, String> headers;
+        private JsonNode body;
+    }
+}
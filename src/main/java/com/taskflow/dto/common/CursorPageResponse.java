@@ -0,0 +1,28 @@
+package com.taskflow.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Generic keyset-paginated response wrapper.
+ * @param <T> the type of content in the page
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+
+    /**
+     * Cursor to pass for the next page, or null on the last page.
+     */
+    private Long nextCursor;
+
+    private boolean hasMore;
+}
@@ -0,0 +1,25 @@
+package com.taskflow.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response wrapper for a fetch by ID set.
+ * Content follows the order of the requested IDs; IDs that were not returned are listed as missing
+ * (no such resource) or forbidden (in a project the user has no access to).
+ * @param <T> the type of content
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiGetResponse<T> {
+
+    private List<T> content;
+    private List<Long> missing;
+    private List<Long> forbidden;
+}
@@ -0,0 +1,21 @@
+package com.taskflow.dto.project;
+
+import com.taskflow.entity.ProjectRole;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for adding a project member or changing their role.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectMemberRequest {
+
+    @NotNull(message = "Role is required")
+    private ProjectRole role;
+}
@@ -0,0 +1,26 @@
+package com.taskflow.dto.project;
+
+import com.taskflow.entity.ProjectRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for a project member. The owner is listed as an admin.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectMemberResponse {
+
+    private Long userId;
+    private String name;
+    private String email;
+    private ProjectRole role;
+    private boolean owner;
+    private LocalDateTime addedAt;
+}
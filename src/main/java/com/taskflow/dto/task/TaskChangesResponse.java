@@ -0,0 +1,45 @@
+package com.taskflow.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response DTO for delta sync: tasks changed and deleted since a cursor.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesResponse {
+
+    private List<TaskResponse> changed;
+    private List<DeletedTask> deleted;
+
+    /**
+     * Opaque cursor to pass as {@code since} on the next call.
+     */
+    private String cursor;
+
+    private boolean hasMore;
+
+    /**
+     * True when the given cursor is too old to catch up from, or projects were shared with the user
+     * or unshared since it was issued; the client must drop its copy and sync again without a cursor.
+     */
+    private boolean resetRequired;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DeletedTask {
+        private Long taskId;
+        private Long projectId;
+        private LocalDateTime deletedAt;
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskflow.dto.task;
+
+import org.springframework.http.MediaType;
+
+import com.taskflow.exception.BadRequestException;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * File formats supported by task export and import.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskFileFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static TaskFileFormat fromContentType(String contentType) {
+        MediaType requested = MediaType.parseMediaType(contentType);
+        for (TaskFileFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(requested)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Unsupported content type: " + contentType);
+    }
+}
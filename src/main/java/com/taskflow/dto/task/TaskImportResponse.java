@@ -0,0 +1,38 @@
+package com.taskflow.dto.task;
+
+import com.taskflow.entity.ImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response DTO for bulk import progress and results.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResponse {
+
+    private Long importId;
+    private ImportStatus status;
+    private long committedRows;
+    private long importedRows;
+    private long failedRows;
+    private List<RowError> errors;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long row;
+        private String message;
+    }
+}
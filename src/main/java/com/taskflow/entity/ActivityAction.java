@@ -0,0 +1,13 @@
+package com.taskflow.entity;
+
+/**
+ * Kind of change recorded in the activity log.
+ */
+public enum ActivityAction {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_STATUS_CHANGED,
+    TASK_DELETED,
+    PROJECT_UPDATED,
+    PROJECT_DELETED
+}
@@ -0,0 +1,11 @@
+package com.taskflow.entity;
+
+/**
+ * Bulk import job status.
+ */
+public enum ImportStatus {
+    RUNNING,
+    INTERRUPTED,
+    FAILED,
+    COMPLETED
+}
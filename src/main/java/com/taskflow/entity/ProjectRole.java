@@ -0,0 +1,18 @@
+package com.taskflow.entity;
+
+/**
+ * Role of a project member. Each role includes the rights of the ones before it;
+ * the project owner holds every right without a membership.
+ */
+public enum ProjectRole {
+    /** Read the project, its tasks and its history. */
+    VIEWER,
+    /** Also create, change and delete tasks. */
+    EDITOR,
+    /** Also change the project and manage its members. */
+    ADMIN;
+
+    public boolean includes(ProjectRole role) {
+        return compareTo(role) >= 0;
+    }
+}
@@ -12,6 +12,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -56,6 +58,13 @@ public class Task extends BaseEntity {
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
 
+    /**
+     * Owner of the task's project, denormalized for the delta sync index (owner_id, updated_at, id).
+     * Filled in from the project before every write.
+     */
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assignee_id")
     private User assignee;
@@ -66,10 +75,26 @@ public class Task extends BaseEntity {
     @Column(name = "actual_hours")
     private Integer actualHours;
 
-    public boolean isOverdue() {
-        return dueDate != null && 
-               LocalDate.now().isAfter(dueDate) && 
-               status != TaskStatus.DONE;
+    /**
+     * Persisted overdue flag. Kept current on writes via {@link #refreshOverdue(LocalDate)}
+     * and by the daily overdue sweep, so reads never have to derive it.
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean overdue = false;
+
+    public void refreshOverdue(LocalDate today) {
+        this.overdue = dueDate != null &&
+                today.isAfter(dueDate) &&
+                status != TaskStatus.DONE;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void syncOwner() {
+        if (project != null) {
+            this.ownerId = project.getOwner().getId();
+        }
     }
 
     public boolean isCompleted() {
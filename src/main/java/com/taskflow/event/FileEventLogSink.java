@@ -0,0 +1,73 @@
+package com.taskflow.event;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.config.OutboxProperties;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sink that appends relayed events to a local NDJSON file, one event per line.
+ * Redelivered events appear again; readers deduplicate by id.
+ * Writes are serialized with a lock rather than a monitor, so a relay running on virtual threads does not
+ * pin its carrier while blocked on file I/O.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "taskflow.outbox", name = "file-log-enabled", havingValue = "true")
+public class FileEventLogSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final BufferedWriter writer;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileEventLogSink(ObjectMapper objectMapper, OutboxProperties outboxProperties) throws IOException {
+        this.objectMapper = objectMapper;
+        Path path = Path.of(outboxProperties.fileLogPath());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        log.info("Writing outbox events to {}", path.toAbsolutePath());
+    }
+
+    @Override
+    public String getName() {
+        return "file-log";
+    }
+
+    @Override
+    public void deliver(OutboxMessage message) throws IOException {
+        String line = objectMapper.writeValueAsString(message);
+        lock.lock();
+        try {
+            writer.write(line);
+            writer.newLine();
+            writer.flush();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        lock.lock();
+        try {
+            writer.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
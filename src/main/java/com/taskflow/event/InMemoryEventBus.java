@@ -0,0 +1,46 @@
+package com.taskflow.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process sink that hands relayed events to registered listeners on the relay thread.
+ * Listeners attach side effects to task and project changes without touching the write path.
+ */
+@Component
+public class InMemoryEventBus implements OutboxSink {
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Register a listener for events whose type starts with a prefix.
+     * @param eventTypePrefix event type prefix, e.g. "task." or "" for all events
+     * @param listener listener; throwing makes the relay retry the event
+     * @return handle that removes the listener when run
+     */
+    public Runnable subscribe(String eventTypePrefix, Consumer<OutboxMessage> listener) {
+        Subscription subscription = new Subscription(eventTypePrefix, listener);
+        subscriptions.add(subscription);
+        return () -> subscriptions.remove(subscription);
+    }
+
+    @Override
+    public String getName() {
+        return "in-memory-bus";
+    }
+
+    @Override
+    public void deliver(OutboxMessage message) {
+        for (Subscription subscription : subscriptions) {
+            if (message.eventType().startsWith(subscription.eventTypePrefix())) {
+                subscription.listener().accept(message);
+            }
+        }
+    }
+
+    private record Subscription(String eventTypePrefix, Consumer<OutboxMessage> listener) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskflow.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * A domain event as delivered by the outbox relay.
+ * Delivery is at least once, so sinks must tolerate seeing the same id twice.
+ *
+ * @param id outbox row ID, increasing per aggregate
+ * @param aggregateType aggregate kind, e.g. "task" or "project"
+ * @param aggregateId aggregate ID
+ * @param eventType event name, e.g. "task.created"
+ * @param payload event as JSON
+ * @param createdAt time the event was written
+ */
+public record OutboxMessage(
+    Long id,
+    String aggregateType,
+    Long aggregateId,
+    String eventType,
+    String payload,
+    LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,22 @@
+package com.taskflow.event;
+
+/**
+ * Destination for relayed outbox events. Every sink bean receives every event.
+ * <p>
+ * Throwing makes the relay retry the event later for all sinks, and holds back later events of the
+ * same aggregate until it succeeds.
+ */
+public interface OutboxSink {
+
+    /**
+     * Name used in logs.
+     */
+    String getName();
+
+    /**
+     * Deliver one event.
+     * @param message event to deliver
+     * @throws Exception when delivery failed and should be retried
+     */
+    void deliver(OutboxMessage message) throws Exception;
+}
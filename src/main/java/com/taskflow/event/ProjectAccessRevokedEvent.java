@@ -0,0 +1,24 @@
+package com.taskflow.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by the project member service when a member is removed from a project or given a lower role.
+ * <p>
+ * Open event streams of the member in the project are ended, so a client reconnects under its current
+ * access, or is refused.
+ *
+ * @param projectId project ID
+ * @param userId member whose access was removed or reduced
+ * @param occurredAt time of the change
+ */
+public record ProjectAccessRevokedEvent(
+    Long projectId,
+    Long userId,
+    LocalDateTime occurredAt
+) {
+
+    public static ProjectAccessRevokedEvent of(Long projectId, Long userId) {
+        return new ProjectAccessRevokedEvent(projectId, userId, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,10 @@
+package com.taskflow.event;
+
+/**
+ * Kind of change carried by a {@link ProjectChangedEvent}.
+ */
+public enum ProjectChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,30 @@
+package com.taskflow.event;
+
+import java.time.LocalDateTime;
+
+import com.taskflow.dto.project.ProjectResponse;
+
+/**
+ * Published by the project service whenever a project is written.
+ * <p>
+ * Deleting a project deletes its tasks without a {@link TaskChangedEvent} each: consumers must treat
+ * {@code DELETED} as the deletion of every task of the project. Sync clients see the tasks as tombstones.
+ *
+ * @param type kind of change
+ * @param projectId changed project ID
+ * @param ownerId project owner ID
+ * @param project project state after the change, or null when the project was deleted
+ * @param occurredAt time of the change
+ */
+public record ProjectChangedEvent(
+    ProjectChangeType type,
+    Long projectId,
+    Long ownerId,
+    ProjectResponse project,
+    LocalDateTime occurredAt
+) {
+
+    public static ProjectChangedEvent of(ProjectChangeType type, Long projectId, Long ownerId, ProjectResponse project) {
+        return new ProjectChangedEvent(type, projectId, ownerId, project, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskflow.event;
+
+/**
+ * Kind of change carried by a {@link TaskChangedEvent}.
+ */
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED
+}
@@ -0,0 +1,32 @@
+package com.taskflow.event;
+
+import java.time.LocalDateTime;
+
+import com.taskflow.dto.task.TaskResponse;
+
+/**
+ * Published by the task service whenever a task is written.
+ * Listeners that push changes to clients should only react after the transaction commits.
+ *
+ * @param type kind of change
+ * @param taskId changed task ID
+ * @param projectId project the task belongs to
+ * @param task task state after the change, or null when the task was deleted
+ * @param occurredAt time of the change
+ */
+public record TaskChangedEvent(
+    TaskChangeType type,
+    Long taskId,
+    Long projectId,
+    TaskResponse task,
+    LocalDateTime occurredAt
+) {
+
+    public static TaskChangedEvent of(TaskChangeType type, TaskResponse task) {
+        return new TaskChangedEvent(type, task.getId(), task.getProjectId(), task, LocalDateTime.now());
+    }
+
+    public static TaskChangedEvent deleted(Long taskId, Long projectId) {
+        return new TaskChangedEvent(TaskChangeType.DELETED, taskId, projectId, null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,62 @@
+package com.taskflow.graphql;
+
+import java.time.DateTimeException;
+
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.exception.DuplicateResourceException;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.exception.UnauthorizedException;
+
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Turns service exceptions into GraphQL errors with a classification, the way
+ * {@link com.taskflow.exception.GlobalExceptionHandler} does for REST. A failing field resolves to null
+ * while the rest of the response is still returned.
+ */
+@Slf4j
+@Component
+public class GraphQlExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        ErrorType type = classify(ex);
+        if (type == null) {
+            // Unexpected errors are left to the default handler, which hides the message
+            log.error("Unexpected error resolving {}", env.getExecutionStepInfo().getPath(), ex);
+            return null;
+        }
+        return GraphqlErrorBuilder.newError(env)
+                .errorType(type)
+                .message(ex.getMessage())
+                .build();
+    }
+
+    private static ErrorType classify(Throwable ex) {
+        if (ex instanceof ResourceNotFoundException) {
+            return ErrorType.NOT_FOUND;
+        }
+        if (ex instanceof UnauthorizedException) {
+            return ErrorType.FORBIDDEN;
+        }
+        if (ex instanceof AuthenticationException) {
+            return ErrorType.UNAUTHORIZED;
+        }
+        if (ex instanceof BadRequestException || ex instanceof DuplicateResourceException
+                || ex instanceof ConstraintViolationException || ex instanceof PropertyReferenceException
+                || ex instanceof DateTimeException) {
+            return ErrorType.BAD_REQUEST;
+        }
+        return null;
+    }
+}
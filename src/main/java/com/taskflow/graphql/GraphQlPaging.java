@@ -0,0 +1,45 @@
+package com.taskflow.graphql;
+
+import java.security.Principal;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import com.taskflow.config.GraphQlProperties;
+import com.taskflow.entity.User;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Argument handling shared by the GraphQL controllers.
+ */
+@Component
+@RequiredArgsConstructor
+class GraphQlPaging {
+
+    private final GraphQlProperties graphQlProperties;
+
+    /**
+     * The page to read, with the size capped at the configured maximum.
+     */
+    Pageable pageable(int page, int size, Sort sort) {
+        return PageRequest.of(Math.max(0, page), Math.min(Math.max(1, size), graphQlProperties.maxPageSize()), sort);
+    }
+
+    /**
+     * Most tasks a project's {@code tasks} field returns.
+     */
+    int maxProjectTasks() {
+        return graphQlProperties.maxProjectTasks();
+    }
+
+    /**
+     * The authenticated user, for batch loaders, which receive the principal rather than the user.
+     */
+    static Long userId(Principal principal) {
+        return ((User) ((Authentication) principal).getPrincipal()).getId();
+    }
+}
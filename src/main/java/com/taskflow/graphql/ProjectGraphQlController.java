@@ -0,0 +1,64 @@
+package com.taskflow.graphql;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+
+import com.taskflow.dto.common.PageResponse;
+import com.taskflow.dto.project.ProjectResponse;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.User;
+import com.taskflow.service.ProjectService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * GraphQL queries for projects, and the project of a task.
+ */
+@Controller
+@RequiredArgsConstructor
+public class ProjectGraphQlController {
+
+    private final ProjectService projectService;
+    private final GraphQlPaging paging;
+
+    @QueryMapping
+    public ProjectResponse project(@AuthenticationPrincipal User user, @Argument Long id) {
+        return projectService.getProject(id, user.getId());
+    }
+
+    @QueryMapping
+    public PageResponse<ProjectResponse> projects(@AuthenticationPrincipal User user, @Argument String search,
+                                                  @Argument int page, @Argument int size) {
+        if (search != null) {
+            return projectService.searchProjects(user.getId(), search, paging.pageable(page, size, Sort.unsorted()));
+        }
+        Pageable pageable = paging.pageable(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return projectService.getUserProjects(user.getId(), pageable);
+    }
+
+    /**
+     * The projects of all tasks in a response level, read with one query; the user must be able to view all of them.
+     */
+    @BatchMapping(typeName = "Task", field = "project")
+    public Map<TaskResponse, ProjectResponse> project(List<TaskResponse> tasks, Principal principal) {
+        Set<Long> ids = tasks.stream().map(TaskResponse::getProjectId).collect(Collectors.toSet());
+        Map<Long, ProjectResponse> projects = projectService.getProjects(ids, GraphQlPaging.userId(principal)).stream()
+                .collect(Collectors.toMap(ProjectResponse::getId, project -> project));
+
+        Map<TaskResponse, ProjectResponse> result = new HashMap<>();
+        tasks.forEach(task -> result.put(task, projects.get(task.getProjectId())));
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+package com.taskflow.graphql;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+
+import com.taskflow.dto.common.PageResponse;
+import com.taskflow.dto.project.ProjectResponse;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.entity.User;
+import com.taskflow.service.TaskService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * GraphQL queries for tasks, and the tasks of a project. Default sorting follows the REST endpoints.
+ */
+@Controller
+@RequiredArgsConstructor
+public class TaskGraphQlController {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+    private static final Sort DUE_FIRST = Sort.by(Sort.Direction.ASC, "dueDate");
+
+    private final TaskService taskService;
+    private final GraphQlPaging paging;
+
+    @QueryMapping
+    public TaskResponse task(@AuthenticationPrincipal User user, @Argument Long id) {
+        return taskService.getTask(id, user.getId());
+    }
+
+    @QueryMapping
+    public PageResponse<TaskResponse> tasks(@AuthenticationPrincipal User user, @Argument int page, @Argument int size) {
+        return taskService.getUserTasks(user.getId(), paging.pageable(page, size, NEWEST_FIRST));
+    }
+
+    @QueryMapping
+    public PageResponse<TaskResponse> projectTasks(@AuthenticationPrincipal User user, @Argument Long projectId,
+                                                   @Argument int page, @Argument int size) {
+        return taskService.getProjectTasks(projectId, user.getId(), paging.pageable(page, size, NEWEST_FIRST));
+    }
+
+    @QueryMapping
+    public PageResponse<TaskResponse> assignedTasks(@AuthenticationPrincipal User user,
+                                                    @Argument TaskStatus status, @Argument TaskPriority priority,
+                                                    @Argument int page, @Argument int size) {
+        return taskService.getAssignedTasks(user.getId(), status, priority, paging.pageable(page, size, DUE_FIRST));
+    }
+
+    @QueryMapping
+    public PageResponse<TaskResponse> overdueTasks(@AuthenticationPrincipal User user,
+                                                   @Argument int page, @Argument int size) {
+        return taskService.getOverdueTasks(user.getId(), paging.pageable(page, size, DUE_FIRST));
+    }
+
+    /**
+     * The oldest tasks of all projects in a response level, up to the configured cap each, read with one
+     * query; the user must be able to view all of the projects.
+     */
+    @BatchMapping(typeName = "Project", field = "tasks")
+    public Map<ProjectResponse, List<TaskResponse>> tasks(List<ProjectResponse> projects, Principal principal) {
+        Set<Long> ids = projects.stream().map(ProjectResponse::getId).collect(Collectors.toSet());
+        Map<Long, List<TaskResponse>> tasksByProject = taskService
+                .getTasksByProjectIds(ids, GraphQlPaging.userId(principal), paging.maxProjectTasks())
+                .stream()
+                .collect(Collectors.groupingBy(TaskResponse::getProjectId));
+
+        Map<ProjectResponse, List<TaskResponse>> result = new HashMap<>();
+        projects.forEach(project -> result.put(project, tasksByProject.getOrDefault(project.getId(), List.of())));
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskflow.graphql;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+
+import com.taskflow.dto.project.ProjectResponse;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.dto.user.UserResponse;
+import com.taskflow.entity.User;
+import com.taskflow.service.UserService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * GraphQL queries for users, and the user associations of projects and tasks.
+ * <p>
+ * Owners and assignees are loaded in batches: the users referenced anywhere in a response level are
+ * collected, deduplicated and read with one {@code IN} query.
+ */
+@Controller
+@RequiredArgsConstructor
+public class UserGraphQlController {
+
+    private final UserService userService;
+
+    @QueryMapping
+    public UserResponse me(@AuthenticationPrincipal User user) {
+        return userService.getUserById(user.getId());
+    }
+
+    @QueryMapping
+    public UserResponse user(@Argument Long id) {
+        return userService.getUserById(id);
+    }
+
+    @BatchMapping(typeName = "Project", field = "owner")
+    public Map<ProjectResponse, UserResponse> owner(List<ProjectResponse> projects) {
+        return usersOf(projects, ProjectResponse::getOwnerId);
+    }
+
+    @BatchMapping(typeName = "Task", field = "assignee")
+    public Map<TaskResponse, UserResponse> assignee(List<TaskResponse> tasks) {
+        return usersOf(tasks, TaskResponse::getAssigneeId);
+    }
+
+    private <S> Map<S, UserResponse> usersOf(List<S> sources, Function<S, Long> userIdOf) {
+        Set<Long> ids = sources.stream()
+                .map(userIdOf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, UserResponse> users = ids.isEmpty()
+                ? Map.of()
+                : userService.getUsers(ids).stream().collect(Collectors.toMap(UserResponse::getId, user -> user));
+
+        // Sources without a user are left out and resolve to null
+        Map<S, UserResponse> result = new HashMap<>();
+        for (S source : sources) {
+            Long id = userIdOf.apply(source);
+            if (id != null && users.containsKey(id)) {
+                result.put(source, users.get(id));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+package com.taskflow.grpc;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import com.taskflow.entity.User;
+import com.taskflow.security.JwtService;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Authenticates gRPC calls with the same JWTs as the REST API, sent as "authorization: Bearer ..." metadata.
+ * <p>
+ * The authenticated user is bound to the call's {@link Context}; handlers read it with {@link #currentUser()}.
+ * Calls without a valid token are closed with UNAUTHENTICATED before reaching a handler.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GrpcAuthInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final Context.Key<User> USER = Context.key("taskflow-user");
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+
+    /**
+     * The user that made the current call.
+     */
+    public static User currentUser() {
+        User user = USER.get();
+        if (user == null) {
+            throw Status.UNAUTHENTICATED.withDescription("No authenticated user").asRuntimeException();
+        }
+        return user;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        User user = authenticate(headers.get(AUTHORIZATION));
+        if (user == null) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Missing or invalid bearer token"), new Metadata());
+            return new ServerCall.Listener<>() { };
+        }
+        return Contexts.interceptCall(Context.current().withValue(USER, user), call, headers, next);
+    }
+
+    private User authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        try {
+            Claims claims = jwtService.extractAllClaims(authorization.substring(BEARER_PREFIX.length()));
+            if (claims.getSubject() == null) {
+                return null;
+            }
+            UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+            return jwtService.isTokenValid(claims, userDetails) && userDetails instanceof User user ? user : null;
+        } catch (Exception e) {
+            log.debug("Rejected gRPC credentials: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskflow.grpc;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+
+/**
+ * Helpers shared by the gRPC handlers.
+ */
+final class GrpcCalls {
+
+    private static final long READY_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private GrpcCalls() {}
+
+    static <T> void reply(StreamObserver<T> responseObserver, T response) {
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Apply the Bean Validation constraints of a request DTO, as {@code @Valid} does for REST.
+     */
+    static <T> T validate(Validator validator, T request) {
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return request;
+    }
+
+    /**
+     * Block until the client can take another message, so a slow consumer throttles the database cursor
+     * instead of messages piling up in memory.
+     * <p>
+     * Polls rather than waiting for the on-ready callback: callbacks for a call are serialized, so none is
+     * delivered while its handler is still running.
+     */
+    static void awaitReady(ServerCallStreamObserver<?> call) {
+        while (!call.isReady()) {
+            if (call.isCancelled()) {
+                throw Status.CANCELLED.withDescription("Client cancelled the stream").asRuntimeException();
+            }
+            LockSupport.parkNanos(READY_POLL_NANOS);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskflow.grpc;
+
+import java.time.DateTimeException;
+
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.exception.DuplicateResourceException;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.exception.TooManyRequestsException;
+import com.taskflow.exception.UnauthorizedException;
+
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Translates exceptions thrown by gRPC handlers into call statuses, the way
+ * {@link com.taskflow.exception.GlobalExceptionHandler} does for REST.
+ */
+@Slf4j
+@Component
+public class GrpcExceptionInterceptor implements ServerInterceptor {
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        ServerCall.Listener<ReqT> listener = next.startCall(call, headers);
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onMessage(ReqT message) {
+                handle(call, () -> super.onMessage(message));
+            }
+
+            @Override
+            public void onHalfClose() {
+                handle(call, super::onHalfClose);
+            }
+
+            @Override
+            public void onReady() {
+                handle(call, super::onReady);
+            }
+        };
+    }
+
+    static Status toStatus(Throwable e) {
+        if (e instanceof StatusRuntimeException statusException) {
+            return statusException.getStatus();
+        }
+        if (e instanceof ResourceNotFoundException) {
+            return Status.NOT_FOUND.withDescription(e.getMessage());
+        }
+        if (e instanceof DuplicateResourceException) {
+            return Status.ALREADY_EXISTS.withDescription(e.getMessage());
+        }
+        if (e instanceof UnauthorizedException) {
+            return Status.PERMISSION_DENIED.withDescription(e.getMessage());
+        }
+        if (e instanceof TooManyRequestsException) {
+            return Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage());
+        }
+        if (e instanceof AuthenticationException) {
+            return Status.UNAUTHENTICATED.withDescription(e.getMessage());
+        }
+        if (e instanceof BadRequestException || e instanceof ConstraintViolationException
+                || e instanceof PropertyReferenceException || e instanceof DateTimeException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+        }
+        log.error("Unexpected error in gRPC call", e);
+        return Status.INTERNAL.withDescription("An unexpected error occurred");
+    }
+
+    private static void handle(ServerCall<?, ?> call, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            // A cancelled call is already closed; the exception only unwinds the handler
+            if (!call.isCancelled()) {
+                call.close(toStatus(e), new Metadata());
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.taskflow.grpc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.taskflow.config.GrpcProperties;
+
+import io.grpc.BindableService;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the gRPC API on its own port next to the servlet container.
+ * <p>
+ * Every service is wrapped in the authentication and exception interceptors. Started after the context
+ * refreshes and stopped before the DataSource closes, giving in-flight calls the configured grace period.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "taskflow.grpc", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServer implements SmartLifecycle {
+
+    private final GrpcProperties grpcProperties;
+    private final List<BindableService> services;
+    private final GrpcAuthInterceptor authInterceptor;
+    private final GrpcExceptionInterceptor exceptionInterceptor;
+
+    private volatile Server server;
+
+    /**
+     * Register the services on a server builder; also used by tests to run them in-process.
+     * @param builder server builder
+     * @return the same builder
+     */
+    public ServerBuilder<?> configure(ServerBuilder<?> builder) {
+        for (BindableService service : services) {
+            // The last interceptor given runs first: authentication, then exception translation
+            builder.addService(ServerInterceptors.intercept(service, exceptionInterceptor, authInterceptor));
+        }
+        return builder;
+    }
+
+    @Override
+    public void start() {
+        try {
+            server = configure(Grpc.newServerBuilderForPort(grpcProperties.port(), InsecureServerCredentials.create()))
+                    .build()
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start gRPC server on port " + grpcProperties.port(), e);
+        }
+        log.info("gRPC server started on port {} with {} services", server.getPort(), services.size());
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(grpcProperties.shutdownGracePeriod().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("gRPC calls still running after {}; cancelling them", grpcProperties.shutdownGracePeriod());
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+        log.info("gRPC server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * The port the server listens on, or -1 when it is not running.
+     */
+    public int getPort() {
+        Server running = server;
+        return running != null ? running.getPort() : -1;
+    }
+}
@@ -0,0 +1,79 @@
+package com.taskflow.grpc;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.google.protobuf.Empty;
+import com.taskflow.dto.common.PageResponse;
+import com.taskflow.dto.project.ProjectResponse;
+import com.taskflow.entity.User;
+import com.taskflow.grpc.proto.ProjectServiceGrpc;
+import com.taskflow.grpc.proto.TaskFlowProto;
+import com.taskflow.service.ProjectService;
+
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * gRPC counterpart of {@link com.taskflow.controller.ProjectController}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectGrpcService extends ProjectServiceGrpc.ProjectServiceImplBase {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private final ProjectService projectService;
+    private final ProtoMapper protoMapper;
+    private final Validator validator;
+
+    @Override
+    public void createProject(TaskFlowProto.CreateProjectRequest request,
+                              StreamObserver<TaskFlowProto.Project> responseObserver) {
+        ProjectResponse project = projectService.createProject(
+                GrpcCalls.validate(validator, protoMapper.toDto(request)), GrpcAuthInterceptor.currentUser());
+        GrpcCalls.reply(responseObserver, protoMapper.toProto(project));
+    }
+
+    @Override
+    public void getProject(TaskFlowProto.GetProjectRequest request,
+                           StreamObserver<TaskFlowProto.Project> responseObserver) {
+        ProjectResponse project = projectService.getProject(request.getId(), currentUserId());
+        GrpcCalls.reply(responseObserver, protoMapper.toProto(project));
+    }
+
+    @Override
+    public void listProjects(TaskFlowProto.ListProjectsRequest request,
+                             StreamObserver<TaskFlowProto.ProjectPage> responseObserver) {
+        User user = GrpcAuthInterceptor.currentUser();
+        PageResponse<ProjectResponse> page;
+        if (request.hasSearch()) {
+            Pageable pageable = protoMapper.toPageable(request.getPage(), 10, Sort.unsorted());
+            page = projectService.searchProjects(user.getId(), request.getSearch(), pageable);
+        } else {
+            Pageable pageable = protoMapper.toPageable(request.getPage(), 10, NEWEST_FIRST);
+            page = projectService.getUserProjects(user.getId(), pageable);
+        }
+        GrpcCalls.reply(responseObserver, protoMapper.toProjectPage(page));
+    }
+
+    @Override
+    public void updateProject(TaskFlowProto.UpdateProjectRequest request,
+                              StreamObserver<TaskFlowProto.Project> responseObserver) {
+        ProjectResponse project = projectService.updateProject(request.getId(),
+                GrpcCalls.validate(validator, protoMapper.toDto(request)), currentUserId());
+        GrpcCalls.reply(responseObserver, protoMapper.toProto(project));
+    }
+
+    @Override
+    public void deleteProject(TaskFlowProto.DeleteProjectRequest request, StreamObserver<Empty> responseObserver) {
+        projectService.deleteProject(request.getId(), currentUserId());
+        GrpcCalls.reply(responseObserver, Empty.getDefaultInstance());
+    }
+
+    private static Long currentUserId() {
+        return GrpcAuthInterceptor.currentUser().getId();
+    }
+}
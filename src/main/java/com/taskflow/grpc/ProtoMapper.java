@@ -0,0 +1,251 @@
+package com.taskflow.grpc;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.taskflow.config.GrpcProperties;
+import com.taskflow.dto.common.PageResponse;
+import com.taskflow.dto.project.CreateProjectRequest;
+import com.taskflow.dto.project.ProjectResponse;
+import com.taskflow.dto.project.UpdateProjectRequest;
+import com.taskflow.dto.task.CreateTaskRequest;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.dto.task.UpdateTaskRequest;
+import com.taskflow.dto.user.ChangePasswordRequest;
+import com.taskflow.dto.user.UpdateUserRequest;
+import com.taskflow.dto.user.UserResponse;
+import com.taskflow.entity.ProjectStatus;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.grpc.proto.TaskFlowProto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Converts between the protobuf messages of the gRPC API and the DTOs the services work with.
+ * <p>
+ * Unset optional fields and UNSPECIFIED enum values map to null, so the services see exactly what a
+ * REST request without those fields would give them.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProtoMapper {
+
+    private final GrpcProperties grpcProperties;
+
+    // ---------------------------------------------------------------------------------------------
+    // Tasks
+    // ---------------------------------------------------------------------------------------------
+
+    public TaskFlowProto.Task toProto(TaskResponse task) {
+        TaskFlowProto.Task.Builder builder = TaskFlowProto.Task.newBuilder()
+                .setId(task.getId())
+                .setOverdue(task.isOverdue());
+        setIfPresent(task.getTitle(), builder::setTitle);
+        setIfPresent(task.getDescription(), builder::setDescription);
+        if (task.getStatus() != null) {
+            builder.setStatus(TaskFlowProto.TaskStatus.valueOf(task.getStatus().name()));
+        }
+        if (task.getPriority() != null) {
+            builder.setPriority(TaskFlowProto.TaskPriority.valueOf(task.getPriority().name()));
+        }
+        setIfPresent(task.getDueDate(), dueDate -> builder.setDueDate(dueDate.toString()));
+        setIfPresent(task.getProjectId(), builder::setProjectId);
+        setIfPresent(task.getProjectName(), builder::setProjectName);
+        setIfPresent(task.getAssigneeId(), builder::setAssigneeId);
+        setIfPresent(task.getAssigneeName(), builder::setAssigneeName);
+        setIfPresent(task.getEstimatedHours(), builder::setEstimatedHours);
+        setIfPresent(task.getActualHours(), builder::setActualHours);
+        setIfPresent(task.getCreatedAt(), createdAt -> builder.setCreatedAt(createdAt.toString()));
+        setIfPresent(task.getUpdatedAt(), updatedAt -> builder.setUpdatedAt(updatedAt.toString()));
+        return builder.build();
+    }
+
+    public TaskFlowProto.TaskPage toTaskPage(PageResponse<TaskResponse> page) {
+        TaskFlowProto.TaskPage.Builder builder = TaskFlowProto.TaskPage.newBuilder()
+                .setPage(toPageInfo(page));
+        page.getContent().forEach(task -> builder.addContent(toProto(task)));
+        return builder.build();
+    }
+
+    public CreateTaskRequest toDto(TaskFlowProto.CreateTaskRequest request) {
+        return CreateTaskRequest.builder()
+                .title(request.getTitle())
+                .description(request.hasDescription() ? request.getDescription() : null)
+                .projectId(request.getProjectId() != 0 ? request.getProjectId() : null)
+                .status(toEntity(request.getStatus()))
+                .priority(toEntity(request.getPriority()))
+                .dueDate(request.hasDueDate() ? LocalDate.parse(request.getDueDate()) : null)
+                .assigneeId(request.hasAssigneeId() ? request.getAssigneeId() : null)
+                .estimatedHours(request.hasEstimatedHours() ? request.getEstimatedHours() : null)
+                .build();
+    }
+
+    public UpdateTaskRequest toDto(TaskFlowProto.UpdateTaskRequest request) {
+        return UpdateTaskRequest.builder()
+                .title(request.hasTitle() ? request.getTitle() : null)
+                .description(request.hasDescription() ? request.getDescription() : null)
+                .status(toEntity(request.getStatus()))
+                .priority(toEntity(request.getPriority()))
+                .dueDate(request.hasDueDate() ? LocalDate.parse(request.getDueDate()) : null)
+                .assigneeId(request.hasAssigneeId() ? request.getAssigneeId() : null)
+                .estimatedHours(request.hasEstimatedHours() ? request.getEstimatedHours() : null)
+                .actualHours(request.hasActualHours() ? request.getActualHours() : null)
+                .build();
+    }
+
+    public TaskStatus toEntity(TaskFlowProto.TaskStatus status) {
+        return switch (status) {
+            case TASK_STATUS_UNSPECIFIED, UNRECOGNIZED -> null;
+            default -> TaskStatus.valueOf(status.name());
+        };
+    }
+
+    public TaskPriority toEntity(TaskFlowProto.TaskPriority priority) {
+        return switch (priority) {
+            case TASK_PRIORITY_UNSPECIFIED, UNRECOGNIZED -> null;
+            default -> TaskPriority.valueOf(priority.name());
+        };
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Projects
+    // ---------------------------------------------------------------------------------------------
+
+    public TaskFlowProto.Project toProto(ProjectResponse project) {
+        TaskFlowProto.Project.Builder builder = TaskFlowProto.Project.newBuilder()
+                .setId(project.getId())
+                .setTaskCount(project.getTaskCount())
+                .setCompletedTaskCount(project.getCompletedTaskCount());
+        setIfPresent(project.getName(), builder::setName);
+        setIfPresent(project.getDescription(), builder::setDescription);
+        if (project.getStatus() != null) {
+            builder.setStatus(TaskFlowProto.ProjectStatus.valueOf(project.getStatus().name()));
+        }
+        setIfPresent(project.getOwnerId(), builder::setOwnerId);
+        setIfPresent(project.getOwnerName(), builder::setOwnerName);
+        setIfPresent(project.getCreatedAt(), createdAt -> builder.setCreatedAt(createdAt.toString()));
+        setIfPresent(project.getUpdatedAt(), updatedAt -> builder.setUpdatedAt(updatedAt.toString()));
+        return builder.build();
+    }
+
+    public TaskFlowProto.ProjectPage toProjectPage(PageResponse<ProjectResponse> page) {
+        TaskFlowProto.ProjectPage.Builder builder = TaskFlowProto.ProjectPage.newBuilder()
+                .setPage(toPageInfo(page));
+        page.getContent().forEach(project -> builder.addContent(toProto(project)));
+        return builder.build();
+    }
+
+    public CreateProjectRequest toDto(TaskFlowProto.CreateProjectRequest request) {
+        return CreateProjectRequest.builder()
+                .name(request.getName())
+                .description(request.hasDescription() ? request.getDescription() : null)
+                .status(toEntity(request.getStatus()))
+                .build();
+    }
+
+    public UpdateProjectRequest toDto(TaskFlowProto.UpdateProjectRequest request) {
+        return UpdateProjectRequest.builder()
+                .name(request.hasName() ? request.getName() : null)
+                .description(request.hasDescription() ? request.getDescription() : null)
+                .status(toEntity(request.getStatus()))
+                .build();
+    }
+
+    public ProjectStatus toEntity(TaskFlowProto.ProjectStatus status) {
+        return switch (status) {
+            case PROJECT_STATUS_UNSPECIFIED, UNRECOGNIZED -> null;
+            default -> ProjectStatus.valueOf(status.name());
+        };
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Users
+    // ---------------------------------------------------------------------------------------------
+
+    public TaskFlowProto.User toProto(UserResponse user) {
+        TaskFlowProto.User.Builder builder = TaskFlowProto.User.newBuilder()
+                .setId(user.getId())
+                .setEnabled(user.isEnabled());
+        setIfPresent(user.getEmail(), builder::setEmail);
+        setIfPresent(user.getFirstName(), builder::setFirstName);
+        setIfPresent(user.getLastName(), builder::setLastName);
+        setIfPresent(user.getFullName(), builder::setFullName);
+        if (user.getRole() != null) {
+            builder.setRole(TaskFlowProto.Role.valueOf(user.getRole().name()));
+        }
+        setIfPresent(user.getCreatedAt(), createdAt -> builder.setCreatedAt(createdAt.toString()));
+        setIfPresent(user.getUpdatedAt(), updatedAt -> builder.setUpdatedAt(updatedAt.toString()));
+        return builder.build();
+    }
+
+    public UpdateUserRequest toDto(TaskFlowProto.UpdateUserRequest request) {
+        return UpdateUserRequest.builder()
+                .firstName(request.hasFirstName() ? request.getFirstName() : null)
+                .lastName(request.hasLastName() ? request.getLastName() : null)
+                .build();
+    }
+
+    public ChangePasswordRequest toDto(TaskFlowProto.ChangePasswordRequest request) {
+        return ChangePasswordRequest.builder()
+                .currentPassword(request.getCurrentPassword())
+                .newPassword(request.getNewPassword())
+                .build();
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Paging
+    // ---------------------------------------------------------------------------------------------
+
+    /**
+     * Resolve a page request the way {@code @PageableDefault} does for REST, capped at the configured
+     * maximum page size.
+     * @param request page request, possibly empty
+     * @param defaultSize size when the request has none
+     * @param defaultSort sort when the request has none
+     * @return pageable
+     */
+    public Pageable toPageable(TaskFlowProto.PageRequest request, int defaultSize, Sort defaultSort) {
+        int page = Math.max(0, request.getPage());
+        int size = request.getSize() > 0 ? request.getSize() : defaultSize;
+        size = Math.min(size, grpcProperties.maxPageSize());
+        Sort sort = StringUtils.hasText(request.getSort()) ? parseSort(request.getSort()) : defaultSort;
+        return org.springframework.data.domain.PageRequest.of(page, size, sort);
+    }
+
+    private static Sort parseSort(String sort) {
+        String[] parts = sort.split(",", 2);
+        String property = parts[0].trim();
+        if (property.isEmpty()) {
+            return Sort.unsorted();
+        }
+        Sort.Direction direction = parts.length > 1
+                ? Sort.Direction.fromOptionalString(parts[1].trim()).orElse(Sort.Direction.ASC)
+                : Sort.Direction.ASC;
+        return Sort.by(direction, property);
+    }
+
+    private static TaskFlowProto.PageInfo toPageInfo(PageResponse<?> page) {
+        return TaskFlowProto.PageInfo.newBuilder()
+                .setPageNumber(page.getPageNumber())
+                .setPageSize(page.getPageSize())
+                .setTotalElements(page.getTotalElements())
+                .setTotalPages(page.getTotalPages())
+                .setFirst(page.isFirst())
+                .setLast(page.isLast())
+                .setEmpty(page.isEmpty())
+                .build();
+    }
+
+    // Generated setters reject null
+    private static <T> void setIfPresent(T value, Consumer<T> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.taskflow.grpc;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.google.protobuf.Empty;
+import com.taskflow.dto.common.PageResponse;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.grpc.proto.TaskFlowProto;
+import com.taskflow.grpc.proto.TaskServiceGrpc;
+import com.taskflow.service.TaskExportService;
+import com.taskflow.service.TaskService;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * gRPC counterpart of {@link com.taskflow.controller.TaskController}.
+ * <p>
+ * The streaming calls read tasks through the same forward-only cursor as the REST export and send each
+ * one only when the client can take it, so a slow client holds back the cursor instead of filling memory.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskGrpcService extends TaskServiceGrpc.TaskServiceImplBase {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+    private static final Sort DUE_FIRST = Sort.by(Sort.Direction.ASC, "dueDate");
+
+    private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final ProtoMapper protoMapper;
+    private final Validator validator;
+
+    @Override
+    public void createTask(TaskFlowProto.CreateTaskRequest request, StreamObserver<TaskFlowProto.Task> responseObserver) {
+        TaskResponse task = taskService.createTask(
+                GrpcCalls.validate(validator, protoMapper.toDto(request)), currentUserId());
+        GrpcCalls.reply(responseObserver, protoMapper.toProto(task));
+    }
+
+    @Override
+    public void getTask(TaskFlowProto.GetTaskRequest request, StreamObserver<TaskFlowProto.Task> responseObserver) {
+        GrpcCalls.reply(responseObserver, protoMapper.toProto(taskService.getTask(request.getId(), currentUserId())));
+    }
+
+    @Override
+    public void listTasks(TaskFlowProto.ListTasksRequest request,
+                          StreamObserver<TaskFlowProto.TaskPage> responseObserver) {
+        PageResponse<TaskResponse> page = taskService.getUserTasks(currentUserId(),
+                protoMapper.toPageable(request.getPage(), 10, NEWEST_FIRST));
+        GrpcCalls.reply(responseObserver, protoMapper.toTaskPage(page));
+    }
+
+    @Override
+    public void listProjectTasks(TaskFlowProto.ListProjectTasksRequest request,
+                                 StreamObserver<TaskFlowProto.TaskPage> responseObserver) {
+        PageResponse<TaskResponse> page = taskService.getProjectTasks(request.getProjectId(), currentUserId(),
+                protoMapper.toPageable(request.getPage(), 10, NEWEST_FIRST));
+        GrpcCalls.reply(responseObserver, protoMapper.toTaskPage(page));
+    }
+
+    @Override
+    public void searchTasks(TaskFlowProto.SearchTasksRequest request,
+                            StreamObserver<TaskFlowProto.TaskPage> responseObserver) {
+        PageResponse<TaskResponse> page = taskService.searchTasks(request.getProjectId(), request.getQuery(),
+                currentUserId(), protoMapper.toPageable(request.getPage(), 10, Sort.unsorted()));
+        GrpcCalls.reply(responseObserver, protoMapper.toTaskPage(page));
+    }
+
+    @Override
+    public void listAssignedTasks(TaskFlowProto.ListAssignedTasksRequest request,
+                                  StreamObserver<TaskFlowProto.TaskPage> responseObserver) {
+        PageResponse<TaskResponse> page = taskService.getAssignedTasks(currentUserId(),
+                protoMapper.toEntity(request.getStatus()), protoMapper.toEntity(request.getPriority()),
+                protoMapper.toPageable(request.getPage(), 10, DUE_FIRST));
+        GrpcCalls.reply(responseObserver, protoMapper.toTaskPage(page));
+    }
+
+    @Override
+    public void listOverdueTasks(TaskFlowProto.ListOverdueTasksRequest request,
+                                 StreamObserver<TaskFlowProto.TaskPage> responseObserver) {
+        PageResponse<TaskResponse> page = taskService.getOverdueTasks(currentUserId(),
+                protoMapper.toPageable(request.getPage(), 20, DUE_FIRST));
+        GrpcCalls.reply(responseObserver, protoMapper.toTaskPage(page));
+    }
+
+    @Override
+    public void updateTask(TaskFlowProto.UpdateTaskRequest request, StreamObserver<TaskFlowProto.Task> responseObserver) {
+        TaskResponse task = taskService.updateTask(request.getId(),
+                GrpcCalls.validate(validator, protoMapper.toDto(request)), currentUserId());
+        GrpcCalls.reply(responseObserver, protoMapper.toProto(task));
+    }
+
+    @Override
+    public void updateTaskStatus(TaskFlowProto.UpdateTaskStatusRequest request,
+                                 StreamObserver<TaskFlowProto.Task> responseObserver) {
+        TaskStatus status = protoMapper.toEntity(request.getStatus());
+        if (status == null) {
+            throw new BadRequestException("Status is required");
+        }
+        TaskResponse task = taskService.updateTaskStatus(request.getId(), status, currentUserId());
+        GrpcCalls.reply(responseObserver, protoMapper.toProto(task));
+    }
+
+    @Override
+    public void deleteTask(TaskFlowProto.DeleteTaskRequest request, StreamObserver<Empty> responseObserver) {
+        taskService.deleteTask(request.getId(), currentUserId());
+        GrpcCalls.reply(responseObserver, Empty.getDefaultInstance());
+    }
+
+    @Override
+    public void streamProjectTasks(TaskFlowProto.StreamProjectTasksRequest request,
+                                   StreamObserver<TaskFlowProto.Task> responseObserver) {
+        stream(request.getProjectId(), responseObserver);
+    }
+
+    @Override
+    public void exportTasks(TaskFlowProto.ExportTasksRequest request,
+                            StreamObserver<TaskFlowProto.Task> responseObserver) {
+        stream(request.hasProjectId() ? request.getProjectId() : null, responseObserver);
+    }
+
+    private void stream(Long projectId, StreamObserver<TaskFlowProto.Task> responseObserver) {
+        ServerCallStreamObserver<TaskFlowProto.Task> call =
+                (ServerCallStreamObserver<TaskFlowProto.Task>) responseObserver;
+        Long userId = currentUserId();
+
+        long sent = taskExportService.forEachTask(projectId, userId, task -> {
+            GrpcCalls.awaitReady(call);
+            call.onNext(protoMapper.toProto(task));
+        });
+        call.onCompleted();
+        log.debug("Streamed {} tasks for user: {}", sent, userId);
+    }
+
+    private static Long currentUserId() {
+        return GrpcAuthInterceptor.currentUser().getId();
+    }
+}
@@ -0,0 +1,57 @@
+package com.taskflow.grpc;
+
+import org.springframework.stereotype.Component;
+
+import com.google.protobuf.Empty;
+import com.taskflow.grpc.proto.TaskFlowProto;
+import com.taskflow.grpc.proto.UserServiceGrpc;
+import com.taskflow.service.UserService;
+
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * gRPC counterpart of {@link com.taskflow.controller.UserController}.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
+
+    private final UserService userService;
+    private final ProtoMapper protoMapper;
+    private final Validator validator;
+
+    @Override
+    public void getCurrentUser(Empty request, StreamObserver<TaskFlowProto.User> responseObserver) {
+        GrpcCalls.reply(responseObserver, protoMapper.toProto(userService.getUserById(currentUserId())));
+    }
+
+    @Override
+    public void getUser(TaskFlowProto.GetUserRequest request, StreamObserver<TaskFlowProto.User> responseObserver) {
+        GrpcCalls.reply(responseObserver, protoMapper.toProto(userService.getUserById(request.getId())));
+    }
+
+    @Override
+    public void updateCurrentUser(TaskFlowProto.UpdateUserRequest request,
+                                  StreamObserver<TaskFlowProto.User> responseObserver) {
+        GrpcCalls.reply(responseObserver, protoMapper.toProto(userService.updateUser(currentUserId(),
+                GrpcCalls.validate(validator, protoMapper.toDto(request)))));
+    }
+
+    @Override
+    public void changePassword(TaskFlowProto.ChangePasswordRequest request, StreamObserver<Empty> responseObserver) {
+        userService.changePassword(currentUserId(), GrpcCalls.validate(validator, protoMapper.toDto(request)));
+        GrpcCalls.reply(responseObserver, Empty.getDefaultInstance());
+    }
+
+    @Override
+    public void deleteCurrentUser(Empty request, StreamObserver<Empty> responseObserver) {
+        userService.deleteUser(currentUserId());
+        GrpcCalls.reply(responseObserver, Empty.getDefaultInstance());
+    }
+
+    private static Long currentUserId() {
+        return GrpcAuthInterceptor.currentUser().getId();
+    }
+}
@@ -0,0 +1,91 @@
+package com.taskflow.mapper;
+
+import com.taskflow.config.MultiGetProperties;
+import com.taskflow.dto.common.MultiGetResponse;
+import com.taskflow.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Utility mapper for assembling MultiGetResponse from the rows a fetch by ID set returned.
+ */
+@Component
+@RequiredArgsConstructor
+public class MultiGetMapper {
+
+    private final MultiGetProperties multiGetProperties;
+
+    /**
+     * Normalize requested IDs: drop duplicates and nulls, keep the first-seen order, enforce the maximum.
+     * @param ids IDs as requested
+     * @return distinct IDs in request order
+     */
+    public Set<Long> requestedIds(Collection<Long> ids) {
+        Set<Long> requested = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (requested.isEmpty()) {
+            throw new BadRequestException("At least one id is required");
+        }
+        if (requested.size() > multiGetProperties.maxIds()) {
+            throw new BadRequestException("At most " + multiGetProperties.maxIds() + " ids can be fetched at once");
+        }
+        return requested;
+    }
+
+    /**
+     * Order the fetched rows like the request and classify the IDs that were not served.
+     * @param requested distinct IDs in request order
+     * @param found rows that exist, in any order
+     * @param idOf ID of a row
+     * @param accessible whether the user may see a row; rows failing it are reported as forbidden
+     * @param <T> row type
+     * @return response with content in request order
+     */
+    public <T> MultiGetResponse<T> toMultiGetResponse(Set<Long> requested, List<T> found, Function<T, Long> idOf,
+                                                      Predicate<T> accessible) {
+        return toMultiGetResponse(requested, found, idOf, accessible, Function.identity());
+    }
+
+    /**
+     * Like {@link #toMultiGetResponse(Set, List, Function, Predicate)}, mapping only the rows served.
+     * @param toResponse conversion of an accessible row
+     * @param <E> row type
+     * @param <T> content type
+     */
+    public <E, T> MultiGetResponse<T> toMultiGetResponse(Set<Long> requested, List<E> found, Function<E, Long> idOf,
+                                                         Predicate<E> accessible, Function<E, T> toResponse) {
+        Map<Long, E> byId = found.stream().collect(Collectors.toMap(idOf, Function.identity(), (a, b) -> a));
+
+        List<T> content = new ArrayList<>(byId.size());
+        List<Long> missing = new ArrayList<>();
+        List<Long> forbidden = new ArrayList<>();
+        for (Long id : requested) {
+            E row = byId.get(id);
+            if (row == null) {
+                missing.add(id);
+            } else if (accessible.test(row)) {
+                content.add(toResponse.apply(row));
+            } else {
+                forbidden.add(id);
+            }
+        }
+
+        return MultiGetResponse.<T>builder()
+                .content(content)
+                .missing(missing)
+                .forbidden(forbidden)
+                .build();
+    }
+}
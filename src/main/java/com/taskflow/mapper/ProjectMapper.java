@@ -18,6 +18,8 @@ public interface ProjectMapper {
     @Mapping(target = "owner", ignore = true)
     @Mapping(target = "tasks", ignore = true)
     @Mapping(target = "status", defaultValue = "ACTIVE")
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     Project toEntity(CreateProjectRequest request);
 
     @Mapping(target = "ownerId", source = "owner.id")
@@ -30,5 +32,7 @@ public interface ProjectMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "owner", ignore = true)
     @Mapping(target = "tasks", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     void updateEntity(UpdateProjectRequest request, @MappingTarget Project project);
 }
@@ -0,0 +1,27 @@
+package com.taskflow.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.taskflow.dto.project.ProjectMemberResponse;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectMember;
+
+@Mapper(componentModel = "spring")
+public interface ProjectMemberMapper {
+
+    @Mapping(target = "userId", source = "user.id")
+    @Mapping(target = "name", source = "user.fullName")
+    @Mapping(target = "email", source = "user.email")
+    @Mapping(target = "owner", constant = "false")
+    @Mapping(target = "addedAt", source = "createdAt")
+    ProjectMemberResponse toResponse(ProjectMember member);
+
+    @Mapping(target = "userId", source = "owner.id")
+    @Mapping(target = "name", source = "owner.fullName")
+    @Mapping(target = "email", source = "owner.email")
+    @Mapping(target = "role", constant = "ADMIN")
+    @Mapping(target = "owner", constant = "true")
+    @Mapping(target = "addedAt", source = "createdAt")
+    ProjectMemberResponse toOwnerResponse(Project project);
+}
@@ -0,0 +1,15 @@
+package com.taskflow.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.taskflow.dto.task.TaskImportResponse;
+import com.taskflow.entity.TaskImport;
+
+@Mapper(componentModel = "spring")
+public interface TaskImportMapper {
+
+    @Mapping(target = "importId", source = "id")
+    @Mapping(target = "errors", ignore = true)
+    TaskImportResponse toResponse(TaskImport taskImport);
+}
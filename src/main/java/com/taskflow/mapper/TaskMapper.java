@@ -18,20 +18,27 @@ public interface TaskMapper {
     @Mapping(target = "project", ignore = true)
     @Mapping(target = "assignee", ignore = true)
     @Mapping(target = "actualHours", ignore = true)
+    @Mapping(target = "overdue", ignore = true)
+    @Mapping(target = "ownerId", ignore = true)
     @Mapping(target = "status", defaultValue = "TODO")
     @Mapping(target = "priority", defaultValue = "MEDIUM")
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     Task toEntity(CreateTaskRequest request);
 
     @Mapping(target = "projectId", source = "project.id")
     @Mapping(target = "projectName", source = "project.name")
     @Mapping(target = "assigneeId", source = "assignee.id")
     @Mapping(target = "assigneeName", source = "assignee.fullName")
-    @Mapping(target = "overdue", expression = "java(task.isOverdue())")
     TaskResponse toResponse(Task task);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "project", ignore = true)
     @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "overdue", ignore = true)
+    @Mapping(target = "ownerId", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     void updateEntity(UpdateTaskRequest request, @MappingTarget Task task);
 }
@@ -0,0 +1,19 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.ActivityLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for activity log history reads. Entries are written by the batch writer.
+ */
+@Repository
+public interface ActivityLogRepository extends JpaRepository<ActivityLogEntry, Long> {
+
+    List<ActivityLogEntry> findByTaskIdAndIdLessThanOrderByIdDesc(Long taskId, Long beforeId, Pageable pageable);
+
+    List<ActivityLogEntry> findByProjectIdAndIdLessThanOrderByIdDesc(Long projectId, Long beforeId, Pageable pageable);
+}
@@ -0,0 +1,29 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for transactional outbox rows.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Claims the oldest pending event of each aggregate, at most one per aggregate per batch. Rows
+    // locked by another relay are skipped, and their later siblings are excluded by the head-of-line
+    // check, so an aggregate is only ever in flight on one relay and its events are delivered in id order.
+    @Query(value = "SELECT o.* FROM outbox_events o " +
+                   "WHERE o.dead_lettered_at IS NULL AND o.next_attempt_at <= :now " +
+                   "AND NOT EXISTS (SELECT 1 FROM outbox_events e " +
+                   "WHERE e.aggregate_type = o.aggregate_type AND e.aggregate_id = o.aggregate_id " +
+                   "AND e.id < o.id AND e.dead_lettered_at IS NULL) " +
+                   "ORDER BY o.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> claimBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
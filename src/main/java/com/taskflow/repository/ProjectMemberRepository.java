@@ -0,0 +1,38 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.ProjectMember;
+import com.taskflow.entity.ProjectRole;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for project memberships.
+ */
+@Repository
+public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
+
+    Optional<ProjectMember> findByProjectIdAndUserId(Long projectId, Long userId);
+
+    @Query("SELECT m FROM ProjectMember m JOIN FETCH m.user WHERE m.project.id = :projectId ORDER BY m.id")
+    List<ProjectMember> findByProjectIdWithUser(@Param("projectId") Long projectId);
+
+    // Loads a user's access index from idx_project_members_user alone
+    @Query("SELECT m.project.id AS projectId, m.role AS role FROM ProjectMember m WHERE m.user.id = :userId")
+    List<Grant> findGrantsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT m.user.id FROM ProjectMember m WHERE m.project.id = :projectId")
+    List<Long> findUserIdsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * A user's role in one project.
+     */
+    interface Grant {
+        Long getProjectId();
+        ProjectRole getRole();
+    }
+}
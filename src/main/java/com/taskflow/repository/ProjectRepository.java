@@ -5,10 +5,12 @@ import com.taskflow.entity.ProjectStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,7 +18,7 @@ import java.util.Optional;
  * Repository for Project entity operations.
  */
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, SparseProjectRepository {
 
     Page<Project> findByOwnerId(Long ownerId, Pageable pageable);
 
@@ -36,4 +38,30 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     long countByOwnerId(@Param("ownerId") Long ownerId);
 
     boolean existsByIdAndOwnerId(Long id, Long ownerId);
+
+    // Owned projects, and shared ones through a semi-join on memberships: one row per project however
+    // many members it has
+    @Query("SELECT p FROM Project p WHERE p.owner.id = :userId OR p.id IN " +
+           "(SELECT m.project.id FROM ProjectMember m WHERE m.user.id = :userId)")
+    Page<Project> findAccessibleByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT p FROM Project p WHERE (p.owner.id = :userId OR p.id IN " +
+           "(SELECT m.project.id FROM ProjectMember m WHERE m.user.id = :userId)) AND " +
+           "(LOWER(p.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(p.description) LIKE LOWER(CONCAT('%', :search, '%')))")
+    Page<Project> searchAccessible(@Param("userId") Long userId,
+                                   @Param("search") String search,
+                                   Pageable pageable);
+
+    @Query("SELECT p FROM Project p JOIN FETCH p.owner WHERE p.id IN :ids")
+    List<Project> findByIdInWithOwner(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id FROM Project p WHERE p.owner.id = :ownerId")
+    List<Long> findIdsByOwnerId(@Param("ownerId") Long ownerId);
+
+    // Bypasses the cascade to tasks, which would delete again tasks already removed in bulk if the
+    // collection was loaded; clearing drops those stale entities with the project
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Project p WHERE p.id = :id")
+    int deleteInBulkById(@Param("id") Long id);
 }
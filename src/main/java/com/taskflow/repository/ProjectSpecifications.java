@@ -0,0 +1,47 @@
+package com.taskflow.repository;
+
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectMember;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Project filters for criteria queries, matching the JPQL of the {@link ProjectRepository} list queries.
+ */
+public final class ProjectSpecifications {
+
+    private ProjectSpecifications() {}
+
+    public static Specification<Project> hasId(Long id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    public static Specification<Project> ownedBy(Long ownerId) {
+        return (root, query, cb) -> cb.equal(root.get("owner").get("id"), ownerId);
+    }
+
+    // Owned or shared through a membership, as a semi-join like the JPQL list queries
+    public static Specification<Project> accessibleBy(Long userId) {
+        return (root, query, cb) -> {
+            Subquery<Long> shared = query.subquery(Long.class);
+            Root<ProjectMember> member = shared.from(ProjectMember.class);
+            shared.select(member.get("project").get("id"))
+                    .where(cb.equal(member.get("user").get("id"), userId));
+            return cb.or(cb.equal(root.get("owner").get("id"), userId), root.get("id").in(shared));
+        };
+    }
+
+    public static Specification<Project> matching(String search) {
+        return (root, query, cb) -> {
+            String pattern = "%" + search.toLowerCase(Locale.ROOT) + "%";
+            return cb.or(
+                    cb.like(cb.lower(root.get("name")), pattern),
+                    cb.like(cb.lower(root.get("description")), pattern));
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskflow.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskStatus;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Sparse fieldset queries for projects; see {@link SparseProjection}.
+ */
+public interface SparseProjectRepository {
+
+    /**
+     * Fields of {@link com.taskflow.dto.project.ProjectResponse} a client may request, and how each is selected.
+     * Task counts become correlated subqueries, instead of loading every task of the project.
+     */
+    SparseProjection<Project> FIELDS = SparseProjection.of(Project.class)
+            .attribute("id")
+            .attribute("name")
+            .attribute("description")
+            .attribute("status")
+            .field("ownerId", context -> context.root().get("owner").get("id"))
+            .field("ownerName", context -> {
+                var owner = context.join("owner", JoinType.INNER);
+                var cb = context.criteriaBuilder();
+                return cb.concat(cb.concat(owner.get("firstName"), " "), owner.get("lastName"));
+            })
+            .field("taskCount", context -> countTasks(context, null))
+            .field("completedTaskCount", context -> countTasks(context, TaskStatus.DONE))
+            .attribute("createdAt")
+            .attribute("updatedAt")
+            .build();
+
+    /**
+     * Select only the given fields of matching projects.
+     * @param where filter
+     * @param fields fields resolved through {@link #FIELDS}
+     * @param pageable page and sort
+     * @return page of rows keyed by field name
+     */
+    Page<Map<String, Object>> findSparse(Specification<Project> where, List<String> fields, Pageable pageable);
+
+    private static Expression<Long> countTasks(SparseProjection.Context<Project> context, TaskStatus status) {
+        var cb = context.criteriaBuilder();
+        Subquery<Long> count = context.query().subquery(Long.class);
+        Root<Task> task = count.from(Task.class);
+        count.select(cb.count(task));
+        if (status != null) {
+            count.where(cb.equal(task.get("project"), context.root()), cb.equal(task.get("status"), status));
+        } else {
+            count.where(cb.equal(task.get("project"), context.root()));
+        }
+        return count;
+    }
+}
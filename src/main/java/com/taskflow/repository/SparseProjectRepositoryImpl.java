@@ -0,0 +1,28 @@
+package com.taskflow.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.taskflow.entity.Project;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Implementation of the {@link SparseProjectRepository} fragment of {@link ProjectRepository}.
+ */
+class SparseProjectRepositoryImpl implements SparseProjectRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findSparse(Specification<Project> where, List<String> fields,
+                                                Pageable pageable) {
+        return FIELDS.find(entityManager, where, fields, pageable);
+    }
+}
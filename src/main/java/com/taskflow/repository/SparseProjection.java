@@ -0,0 +1,227 @@
+package com.taskflow.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StringUtils;
+
+import com.taskflow.exception.BadRequestException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Selects only the requested fields of an entity as a tuple query, for sparse fieldsets ({@code ?fields=}).
+ * <p>
+ * Each field is declared with the expression that reads it; associations are joined only when a requested
+ * field needs them, so a list of titles never touches the project or assignee tables. Rows come back as
+ * ordered maps keyed by field name, in allow-list order, and the ID is always included.
+ * @param <E> entity type
+ */
+public final class SparseProjection<E> {
+
+    static final String ID = "id";
+
+    private final Class<E> entityType;
+    private final Map<String, Function<Context<E>, Expression<?>>> fields;
+
+    private SparseProjection(Class<E> entityType, Map<String, Function<Context<E>, Expression<?>>> fields) {
+        this.entityType = entityType;
+        this.fields = fields;
+    }
+
+    public static <E> Builder<E> of(Class<E> entityType) {
+        return new Builder<>(entityType);
+    }
+
+    /**
+     * The fields a client may request, in output order.
+     */
+    public Set<String> fieldNames() {
+        return Collections.unmodifiableSet(fields.keySet());
+    }
+
+    /**
+     * Parse a comma-separated field list against the allow-list.
+     * @param fields requested fields, e.g. "title,status,dueDate"
+     * @return the requested fields plus the ID, in allow-list order
+     * @throws BadRequestException if the list is empty or names an unknown field
+     */
+    public List<String> resolve(String fields) {
+        Set<String> requested = new LinkedHashSet<>();
+        if (fields != null) {
+            for (String field : fields.split(",")) {
+                String name = field.trim();
+                if (!name.isEmpty()) {
+                    if (!this.fields.containsKey(name)) {
+                        throw new BadRequestException("Unknown field '" + name + "'; allowed fields are "
+                                + String.join(", ", this.fields.keySet()));
+                    }
+                    requested.add(name);
+                }
+            }
+        }
+        if (requested.isEmpty()) {
+            throw new BadRequestException("At least one field is required");
+        }
+        requested.add(ID);
+        return this.fields.keySet().stream().filter(requested::contains).toList();
+    }
+
+    /**
+     * Run the projection.
+     * @param entityManager entity manager
+     * @param where row filter
+     * @param fields resolved field names, see {@link #resolve(String)}
+     * @param pageable page and sort; sort properties are entity attributes, as for the full queries
+     * @return page of rows keyed by field name
+     */
+    public Page<Map<String, Object>> find(EntityManager entityManager, Specification<E> where, List<String> fields,
+                                          Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(entityType);
+        Context<E> context = new Context<>(query, root, cb);
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            selections.add(this.fields.get(field).apply(context).alias(field));
+        }
+        query.multiselect(selections);
+        applyWhere(query, where, root, cb);
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> rows = typedQuery.getResultList().stream()
+                .map(tuple -> toRow(tuple, fields))
+                .toList();
+
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(entityManager, where));
+    }
+
+    private long count(EntityManager entityManager, Specification<E> where) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<E> root = query.from(entityType);
+        query.select(cb.count(root));
+        applyWhere(query, where, root, cb);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static <E> void applyWhere(CriteriaQuery<?> query, Specification<E> where, Root<E> root,
+                                       CriteriaBuilder cb) {
+        Predicate predicate = where.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    private static Map<String, Object> toRow(Tuple tuple, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>(fields.size() * 2);
+        for (String field : fields) {
+            row.put(field, tuple.get(field));
+        }
+        return row;
+    }
+
+    /**
+     * The query root, with associations joined on first use.
+     */
+    public static final class Context<E> {
+
+        private final AbstractQuery<?> query;
+        private final Root<E> root;
+        private final CriteriaBuilder criteriaBuilder;
+        private final Map<String, Join<E, ?>> joins = new HashMap<>();
+
+        Context(AbstractQuery<?> query, Root<E> root, CriteriaBuilder criteriaBuilder) {
+            this.query = query;
+            this.root = root;
+            this.criteriaBuilder = criteriaBuilder;
+        }
+
+        /**
+         * The enclosing query, for correlated subqueries.
+         */
+        public AbstractQuery<?> query() {
+            return query;
+        }
+
+        public Root<E> root() {
+            return root;
+        }
+
+        public CriteriaBuilder criteriaBuilder() {
+            return criteriaBuilder;
+        }
+
+        /**
+         * Join an association once, however many requested fields read it.
+         */
+        public Join<E, ?> join(String attribute, JoinType type) {
+            return joins.computeIfAbsent(attribute, name -> root.join(name, type));
+        }
+    }
+
+    public static final class Builder<E> {
+
+        private final Class<E> entityType;
+        private final Map<String, Function<Context<E>, Expression<?>>> fields = new LinkedHashMap<>();
+
+        private Builder(Class<E> entityType) {
+            this.entityType = entityType;
+        }
+
+        /**
+         * Declare a field read from an attribute of the entity itself.
+         */
+        public Builder<E> attribute(String name) {
+            return field(name, context -> context.root().get(name));
+        }
+
+        /**
+         * Declare a field computed from the query root.
+         */
+        public Builder<E> field(String name, Function<Context<E>, Expression<?>> expression) {
+            if (!StringUtils.hasText(name) || fields.putIfAbsent(name, expression) != null) {
+                throw new IllegalArgumentException("Invalid or duplicate field: " + name);
+            }
+            return this;
+        }
+
+        public SparseProjection<E> build() {
+            if (!fields.containsKey(ID)) {
+                throw new IllegalStateException("A sparse projection must declare the '" + ID + "' field");
+            }
+            return new SparseProjection<>(entityType, Collections.unmodifiableMap(new LinkedHashMap<>(fields)));
+        }
+    }
+}
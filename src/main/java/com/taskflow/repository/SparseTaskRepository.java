@@ -0,0 +1,53 @@
+package com.taskflow.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.taskflow.entity.Task;
+
+import jakarta.persistence.criteria.JoinType;
+
+/**
+ * Sparse fieldset queries for tasks; see {@link SparseProjection}.
+ */
+public interface SparseTaskRepository {
+
+    /**
+     * Fields of {@link com.taskflow.dto.task.TaskResponse} a client may request, and how each is selected.
+     * Project and assignee IDs are read from the foreign keys; only their names need a join.
+     */
+    SparseProjection<Task> FIELDS = SparseProjection.of(Task.class)
+            .attribute("id")
+            .attribute("title")
+            .attribute("description")
+            .attribute("status")
+            .attribute("priority")
+            .attribute("dueDate")
+            .field("projectId", context -> context.root().get("project").get("id"))
+            .field("projectName", context -> context.join("project", JoinType.INNER).get("name"))
+            .field("assigneeId", context -> context.root().get("assignee").get("id"))
+            .field("assigneeName", context -> {
+                var assignee = context.join("assignee", JoinType.LEFT);
+                var cb = context.criteriaBuilder();
+                return cb.concat(cb.concat(assignee.get("firstName"), " "), assignee.get("lastName"));
+            })
+            .attribute("estimatedHours")
+            .attribute("actualHours")
+            .attribute("overdue")
+            .attribute("createdAt")
+            .attribute("updatedAt")
+            .build();
+
+    /**
+     * Select only the given fields of matching tasks.
+     * @param where filter
+     * @param fields fields resolved through {@link #FIELDS}
+     * @param pageable page and sort
+     * @return page of rows keyed by field name
+     */
+    Page<Map<String, Object>> findSparse(Specification<Task> where, List<String> fields, Pageable pageable);
+}
@@ -0,0 +1,27 @@
+package com.taskflow.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.taskflow.entity.Task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Implementation of the {@link SparseTaskRepository} fragment of {@link TaskRepository}.
+ */
+class SparseTaskRepositoryImpl implements SparseTaskRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findSparse(Specification<Task> where, List<String> fields, Pageable pageable) {
+        return FIELDS.find(entityManager, where, fields, pageable);
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.ImportStatus;
+import com.taskflow.entity.TaskImport;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository for bulk import job bookkeeping.
+ */
+@Repository
+public interface TaskImportRepository extends JpaRepository<TaskImport, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM TaskImport i WHERE i.id = :id")
+    Optional<TaskImport> findByIdForUpdate(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE TaskImport i SET i.committedRows = :committedRows, " +
+           "i.importedRows = i.importedRows + :imported, " +
+           "i.failedRows = i.failedRows + :failed, " +
+           "i.updatedAt = :now WHERE i.id = :id")
+    int recordProgress(@Param("id") Long id,
+                       @Param("committedRows") long committedRows,
+                       @Param("imported") long imported,
+                       @Param("failed") long failed,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE TaskImport i SET i.status = :status, i.updatedAt = :now WHERE i.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") ImportStatus status, @Param("now") LocalDateTime now);
+}
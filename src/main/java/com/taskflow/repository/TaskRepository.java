@@ -1,23 +1,31 @@
 package com.taskflow.repository;
 
+import com.taskflow.dto.task.TaskResponse;
 import com.taskflow.entity.Task;
 import com.taskflow.entity.TaskPriority;
 import com.taskflow.entity.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository for Task entity operations.
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, SparseTaskRepository {
 
     Page<Task> findByProjectId(Long projectId, Pageable pageable);
 
@@ -31,8 +39,23 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByProjectIdAndStatusIn(@Param("projectId") Long projectId, 
                                           @Param("statuses") List<TaskStatus> statuses);
 
-    @Query("SELECT t FROM Task t WHERE t.assignee.id = :assigneeId AND t.dueDate < :date AND t.status != 'DONE'")
-    List<Task> findOverdueTasks(@Param("assigneeId") Long assigneeId, @Param("date") LocalDate date);
+    // Predicate mirrors the partial index idx_tasks_assignee_open_due (status <> 'DONE').
+    @Query("SELECT t FROM Task t WHERE t.assignee.id = :assigneeId AND t.dueDate < :date AND t.status <> 'DONE'")
+    Page<Task> findOverdueTasks(@Param("assigneeId") Long assigneeId,
+                                @Param("date") LocalDate date,
+                                Pageable pageable);
+
+    @Query("SELECT t.id FROM Task t WHERE t.overdue = false AND t.dueDate < :date AND t.status <> 'DONE' ORDER BY t.id")
+    List<Long> findNewlyOverdueIds(@Param("date") LocalDate date, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.overdue = true, t.updatedAt = :now WHERE t.id IN :ids")
+    int markOverdue(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    // One statement for a project's tasks, where cascading from the project deletes them one by one
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.project.id = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
 
     @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND " +
            "(LOWER(t.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -55,8 +78,94 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId AND t.status = :status")
     long countByProjectIdAndStatus(@Param("projectId") Long projectId, @Param("status") TaskStatus status);
 
-    @Query("SELECT t FROM Task t WHERE t.project.owner.id = :ownerId")
-    Page<Task> findAllByProjectOwnerId(@Param("ownerId") Long ownerId, Pageable pageable);
+    // Tasks of owned projects through the denormalized owner column, of shared ones through a semi-join
+    // on memberships, so a task is never repeated per member
+    @Query("SELECT t FROM Task t WHERE t.ownerId = :userId OR t.project.id IN " +
+           "(SELECT m.project.id FROM ProjectMember m WHERE m.user.id = :userId)")
+    Page<Task> findAllAccessibleByUserId(@Param("userId") Long userId, Pageable pageable);
 
     boolean existsByIdAndProjectOwnerId(Long id, Long ownerId);
+
+    // Export queries project straight into TaskResponse so the persistence context stays empty
+    // while a forward-only cursor walks the result set.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.taskflow.dto.task.TaskResponse(t.id, t.title, t.description, t.status, t.priority, " +
+           "t.dueDate, p.id, p.name, a.id, " +
+           "CASE WHEN a.id IS NULL THEN NULL ELSE CONCAT(a.firstName, ' ', a.lastName) END, " +
+           "t.estimatedHours, t.actualHours, t.overdue, t.createdAt, t.updatedAt) " +
+           "FROM Task t JOIN t.project p LEFT JOIN t.assignee a " +
+           "WHERE p.id = :projectId ORDER BY t.id")
+    Stream<TaskResponse> streamForExportByProjectId(@Param("projectId") Long projectId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.taskflow.dto.task.TaskResponse(t.id, t.title, t.description, t.status, t.priority, " +
+           "t.dueDate, p.id, p.name, a.id, " +
+           "CASE WHEN a.id IS NULL THEN NULL ELSE CONCAT(a.firstName, ' ', a.lastName) END, " +
+           "t.estimatedHours, t.actualHours, t.overdue, t.createdAt, t.updatedAt) " +
+           "FROM Task t JOIN t.project p LEFT JOIN t.assignee a " +
+           "WHERE t.ownerId = :userId OR p.id IN " +
+           "(SELECT m.project.id FROM ProjectMember m WHERE m.user.id = :userId) ORDER BY t.id")
+    Stream<TaskResponse> streamForExportAccessibleBy(@Param("userId") Long userId);
+
+    // The oldest tasks of many projects at once, at most maxPerProject each, for batched association
+    // loading, projected like exports
+    @Query("SELECT new com.taskflow.dto.task.TaskResponse(t.id, t.title, t.description, t.status, t.priority, " +
+           "t.dueDate, p.id, p.name, a.id, " +
+           "CASE WHEN a.id IS NULL THEN NULL ELSE CONCAT(a.firstName, ' ', a.lastName) END, " +
+           "t.estimatedHours, t.actualHours, t.overdue, t.createdAt, t.updatedAt) " +
+           "FROM Task t JOIN t.project p LEFT JOIN t.assignee a " +
+           "WHERE t.id IN (SELECT r.id FROM (SELECT o.id AS id, " +
+           "ROW_NUMBER() OVER (PARTITION BY o.project.id ORDER BY o.id) AS position " +
+           "FROM Task o WHERE o.project.id IN :projectIds) r WHERE r.position <= :maxPerProject) " +
+           "ORDER BY t.id")
+    List<TaskResponse> findResponsesByProjectIdIn(@Param("projectIds") Collection<Long> projectIds,
+                                                  @Param("maxPerProject") int maxPerProject);
+
+    // Tasks by ID with project and assignee; access is checked against the caller's project index
+    @Query("SELECT new com.taskflow.dto.task.TaskResponse(t.id, t.title, t.description, t.status, t.priority, " +
+           "t.dueDate, p.id, p.name, a.id, " +
+           "CASE WHEN a.id IS NULL THEN NULL ELSE CONCAT(a.firstName, ' ', a.lastName) END, " +
+           "t.estimatedHours, t.actualHours, t.overdue, t.createdAt, t.updatedAt) " +
+           "FROM Task t JOIN t.project p LEFT JOIN t.assignee a " +
+           "WHERE t.id IN :ids")
+    List<TaskResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Keyset scan over idx_tasks_owner_updated (owner_id, updated_at, id), projected like exports
+    @Query("SELECT new com.taskflow.dto.task.TaskResponse(t.id, t.title, t.description, t.status, t.priority, " +
+           "t.dueDate, p.id, p.name, a.id, " +
+           "CASE WHEN a.id IS NULL THEN NULL ELSE CONCAT(a.firstName, ' ', a.lastName) END, " +
+           "t.estimatedHours, t.actualHours, t.overdue, t.createdAt, t.updatedAt) " +
+           "FROM Task t JOIN t.project p LEFT JOIN t.assignee a " +
+           "WHERE t.ownerId = :ownerId AND t.updatedAt < :until AND " +
+           "(t.updatedAt > :after OR (t.updatedAt = :after AND t.id > :afterId)) " +
+           "ORDER BY t.updatedAt, t.id")
+    List<TaskResponse> findChangedSince(@Param("ownerId") Long ownerId,
+                                        @Param("after") LocalDateTime after,
+                                        @Param("afterId") Long afterId,
+                                        @Param("until") LocalDateTime until,
+                                        Pageable pageable);
+
+    // Owned tasks over idx_tasks_owner_updated, shared ones over idx_tasks_project_updated (project_id, updated_at, id)
+    @Query("SELECT new com.taskflow.dto.task.TaskResponse(t.id, t.title, t.description, t.status, t.priority, " +
+           "t.dueDate, p.id, p.name, a.id, " +
+           "CASE WHEN a.id IS NULL THEN NULL ELSE CONCAT(a.firstName, ' ', a.lastName) END, " +
+           "t.estimatedHours, t.actualHours, t.overdue, t.createdAt, t.updatedAt) " +
+           "FROM Task t JOIN t.project p LEFT JOIN t.assignee a " +
+           "WHERE (t.ownerId = :ownerId OR t.project.id IN :projectIds) AND t.updatedAt < :until AND " +
+           "(t.updatedAt > :after OR (t.updatedAt = :after AND t.id > :afterId)) " +
+           "ORDER BY t.updatedAt, t.id")
+    List<TaskResponse> findChangedSinceIncluding(@Param("ownerId") Long ownerId,
+                                                 @Param("projectIds") Collection<Long> projectIds,
+                                                 @Param("after") LocalDateTime after,
+                                                 @Param("afterId") Long afterId,
+                                                 @Param("until") LocalDateTime until,
+                                                 Pageable pageable);
 }
@@ -0,0 +1,75 @@
+package com.taskflow.repository;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.taskflow.entity.ProjectMember;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Task filters for criteria queries, matching the JPQL of the {@link TaskRepository} list queries.
+ * Filters given a null value match every task.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {}
+
+    public static Specification<Task> hasId(Long id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    public static Specification<Task> inProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    // The denormalized owner column, so no join to projects is needed
+    public static Specification<Task> ownedBy(Long ownerId) {
+        return (root, query, cb) -> cb.equal(root.get("ownerId"), ownerId);
+    }
+
+    // Owned through the denormalized owner column, shared through a semi-join on memberships
+    public static Specification<Task> accessibleBy(Long userId) {
+        return (root, query, cb) -> {
+            Subquery<Long> shared = query.subquery(Long.class);
+            Root<ProjectMember> member = shared.from(ProjectMember.class);
+            shared.select(member.get("project").get("id"))
+                    .where(cb.equal(member.get("user").get("id"), userId));
+            return cb.or(cb.equal(root.get("ownerId"), userId), root.get("project").get("id").in(shared));
+        };
+    }
+
+    public static Specification<Task> assignedTo(Long assigneeId) {
+        return (root, query, cb) -> cb.equal(root.get("assignee").get("id"), assigneeId);
+    }
+
+    public static Specification<Task> withStatus(TaskStatus status) {
+        return (root, query, cb) -> status != null ? cb.equal(root.get("status"), status) : null;
+    }
+
+    public static Specification<Task> withPriority(TaskPriority priority) {
+        return (root, query, cb) -> priority != null ? cb.equal(root.get("priority"), priority) : null;
+    }
+
+    // Mirrors the partial index idx_tasks_assignee_open_due (status <> 'DONE')
+    public static Specification<Task> overdueOn(LocalDate date) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThan(root.get("dueDate"), date),
+                cb.notEqual(root.get("status"), TaskStatus.DONE));
+    }
+
+    public static Specification<Task> matching(String search) {
+        return (root, query, cb) -> {
+            String pattern = "%" + search.toLowerCase(Locale.ROOT) + "%";
+            return cb.or(
+                    cb.like(cb.lower(root.get("title")), pattern),
+                    cb.like(cb.lower(root.get("description")), pattern));
+        };
+    }
+}
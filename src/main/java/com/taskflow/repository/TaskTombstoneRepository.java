@@ -0,0 +1,52 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.TaskTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for deleted task records.
+ */
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    // Keyset scan over idx_task_tombstones_owner_deleted (owner_id, deleted_at, id)
+    @Query("SELECT d FROM TaskTombstone d WHERE d.ownerId = :ownerId AND d.deletedAt < :until AND " +
+           "(d.deletedAt > :after OR (d.deletedAt = :after AND d.id > :afterId)) " +
+           "ORDER BY d.deletedAt, d.id")
+    List<TaskTombstone> findDeletedSince(@Param("ownerId") Long ownerId,
+                                         @Param("after") LocalDateTime after,
+                                         @Param("afterId") Long afterId,
+                                         @Param("until") LocalDateTime until,
+                                         Pageable pageable);
+
+    // Owned tombstones over idx_task_tombstones_owner_deleted, shared ones over
+    // idx_task_tombstones_project_deleted (project_id, deleted_at, id)
+    @Query("SELECT d FROM TaskTombstone d WHERE (d.ownerId = :ownerId OR d.projectId IN :projectIds) AND " +
+           "d.deletedAt < :until AND (d.deletedAt > :after OR (d.deletedAt = :after AND d.id > :afterId)) " +
+           "ORDER BY d.deletedAt, d.id")
+    List<TaskTombstone> findDeletedSinceIncluding(@Param("ownerId") Long ownerId,
+                                                  @Param("projectIds") Collection<Long> projectIds,
+                                                  @Param("after") LocalDateTime after,
+                                                  @Param("afterId") Long afterId,
+                                                  @Param("until") LocalDateTime until,
+                                                  Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO task_tombstones (task_id, project_id, owner_id, deleted_at) " +
+                   "SELECT t.id, t.project_id, t.owner_id, :now FROM tasks t WHERE t.project_id = :projectId",
+           nativeQuery = true)
+    int recordProjectDeletion(@Param("projectId") Long projectId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstone d WHERE d.deletedAt < :cutoff")
+    int deleteDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -16,13 +16,30 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Service
-@RequiredArgsConstructor
 public class JwtService {
 
+    private static final String TIMER_NAME = "taskflow.jwt";
+
     private final JwtProperties jwtProperties;
+    private final Timer parseTimer;
+    private final Timer signTimer;
+    private volatile SecretKey signInKey;
+
+    public JwtService(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.jwtProperties = jwtProperties;
+        this.parseTimer = Timer.builder(TIMER_NAME)
+                .description("Time spent verifying and parsing JWTs")
+                .tag("operation", "parse")
+                .register(meterRegistry);
+        this.signTimer = Timer.builder(TIMER_NAME)
+                .description("Time spent signing JWTs")
+                .tag("operation", "sign")
+                .register(meterRegistry);
+    }
 
     // TODO: consider adding token blacklist for logout
 
@@ -35,6 +52,19 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Verify a token and return its claims, for callers that need several of them.
+     * @param token signed token
+     * @return verified claims
+     */
+    public Claims extractAllClaims(String token) {
+        return parseTimer.record(() -> Jwts.parser()
+                .verifyWith(getSignInKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload());
+    }
+
     public String generateToken(UserDetails userDetails) {
         return generateToken(new HashMap<>(), userDetails);
     }
@@ -52,38 +82,30 @@ public class JwtService {
     }
 
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
-        return Jwts.builder()
+        return signTimer.record(() -> Jwts.builder()
                 .claims(extraClaims)
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
                 .signWith(getSignInKey(), Jwts.SIG.HS256)
-                .compact();
+                .compact());
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(extractAllClaims(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && claims.getExpiration().after(new Date());
     }
 
     private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.secret());
-        return Keys.hmacShaKeyFor(keyBytes);
+        // Decoded on first use and reused; a racing duplicate decode is harmless
+        SecretKey key = signInKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.secret()));
+            signInKey = key;
+        }
+        return key;
     }
 }
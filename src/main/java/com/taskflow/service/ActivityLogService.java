@@ -0,0 +1,261 @@
+package com.taskflow.service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.config.ActivityLogProperties;
+import com.taskflow.dto.activity.ActivityResponse;
+import com.taskflow.dto.common.CursorPageResponse;
+import com.taskflow.entity.ActivityAction;
+import com.taskflow.entity.ActivityLogEntry;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectRole;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.exception.UnauthorizedException;
+import com.taskflow.repository.ActivityLogRepository;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records who changed what on tasks and projects, and serves the history.
+ * <p>
+ * Entries are captured as field-level diffs of entity snapshots taken around an update, and handed
+ * to the {@link ActivityLogWriter} once the writing transaction commits; the request never waits
+ * for the insert.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@SuppressWarnings("null")
+public class ActivityLogService {
+
+    private static final TypeReference<LinkedHashMap<String, ActivityResponse.FieldChange>> CHANGES_TYPE =
+            new TypeReference<>() { };
+
+    private final ActivityLogWriter activityLogWriter;
+    private final ActivityLogRepository activityLogRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectAccessIndex projectAccessIndex;
+    private final ObjectMapper objectMapper;
+    private final ActivityLogProperties activityLogProperties;
+
+    /**
+     * Capture the audited fields of a task, to diff against after an update.
+     * @param task task
+     * @return field values as strings, in a stable order
+     */
+    public static Map<String, String> snapshotOf(Task task) {
+        Map<String, String> snapshot = new LinkedHashMap<>();
+        snapshot.put("title", task.getTitle());
+        snapshot.put("description", task.getDescription());
+        snapshot.put("status", Objects.toString(task.getStatus(), null));
+        snapshot.put("priority", Objects.toString(task.getPriority(), null));
+        snapshot.put("dueDate", Objects.toString(task.getDueDate(), null));
+        snapshot.put("assigneeId", task.getAssignee() != null ? task.getAssignee().getId().toString() : null);
+        snapshot.put("estimatedHours", Objects.toString(task.getEstimatedHours(), null));
+        snapshot.put("actualHours", Objects.toString(task.getActualHours(), null));
+        return snapshot;
+    }
+
+    /**
+     * Capture the audited fields of a project, to diff against after an update.
+     * @param project project
+     * @return field values as strings, in a stable order
+     */
+    public static Map<String, String> snapshotOf(Project project) {
+        Map<String, String> snapshot = new LinkedHashMap<>();
+        snapshot.put("name", project.getName());
+        snapshot.put("description", project.getDescription());
+        snapshot.put("status", Objects.toString(project.getStatus(), null));
+        return snapshot;
+    }
+
+    public void recordTaskCreated(Task task, Long actorId) {
+        record(task.getProject().getId(), task.getId(), actorId, ActivityAction.TASK_CREATED,
+                diff(Map.of(), snapshotOf(task)));
+    }
+
+    public void recordTaskUpdated(Task task, Map<String, String> before, Long actorId) {
+        Map<String, ActivityResponse.FieldChange> changes = diff(before, snapshotOf(task));
+        if (!changes.isEmpty()) {
+            record(task.getProject().getId(), task.getId(), actorId, ActivityAction.TASK_UPDATED, changes);
+        }
+    }
+
+    public void recordTaskStatusChanged(Task task, TaskStatus previous, Long actorId) {
+        if (previous != task.getStatus()) {
+            record(task.getProject().getId(), task.getId(), actorId, ActivityAction.TASK_STATUS_CHANGED,
+                    Map.of("status", change(Objects.toString(previous, null), task.getStatus().name())));
+        }
+    }
+
+    public void recordTaskDeleted(Task task, Long actorId) {
+        record(task.getProject().getId(), task.getId(), actorId, ActivityAction.TASK_DELETED, null);
+    }
+
+    public void recordProjectUpdated(Project project, Map<String, String> before, Long actorId) {
+        Map<String, ActivityResponse.FieldChange> changes = diff(before, snapshotOf(project));
+        if (!changes.isEmpty()) {
+            record(project.getId(), null, actorId, ActivityAction.PROJECT_UPDATED, changes);
+        }
+    }
+
+    public void recordProjectDeleted(Project project, Long actorId) {
+        record(project.getId(), null, actorId, ActivityAction.PROJECT_DELETED, null);
+    }
+
+    /**
+     * Get the history of a task, newest first.
+     * @param taskId task ID
+     * @param userId requesting user ID
+     * @param before cursor from the previous page, or null for the newest entries
+     * @param limit page size
+     * @return page of activity entries
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ActivityResponse> getTaskActivity(Long taskId, Long userId, Long before, int limit) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+        if (!projectAccessIndex.has(userId, task.getProject().getId(), ProjectRole.VIEWER)) {
+            throw new UnauthorizedException("You don't have permission to access this task");
+        }
+
+        int pageSize = pageSize(limit);
+        List<ActivityLogEntry> entries = activityLogRepository.findByTaskIdAndIdLessThanOrderByIdDesc(
+                taskId, cursor(before), PageRequest.of(0, pageSize + 1));
+        return toPage(entries, pageSize);
+    }
+
+    /**
+     * Get the history of a project and its tasks, newest first.
+     * @param projectId project ID
+     * @param userId requesting user ID
+     * @param before cursor from the previous page, or null for the newest entries
+     * @param limit page size
+     * @return page of activity entries
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ActivityResponse> getProjectActivity(Long projectId, Long userId, Long before, int limit) {
+        if (!projectAccessIndex.has(userId, projectId, ProjectRole.VIEWER)) {
+            // Tell a missing project from someone else's
+            if (!projectRepository.existsById(projectId)) {
+                throw new ResourceNotFoundException("Project", "id", projectId);
+            }
+            throw new UnauthorizedException("You don't have permission to access this project");
+        }
+
+        int pageSize = pageSize(limit);
+        List<ActivityLogEntry> entries = activityLogRepository.findByProjectIdAndIdLessThanOrderByIdDesc(
+                projectId, cursor(before), PageRequest.of(0, pageSize + 1));
+        return toPage(entries, pageSize);
+    }
+
+    private void record(Long projectId, Long taskId, Long actorId, ActivityAction action,
+                        Map<String, ActivityResponse.FieldChange> changes) {
+        ActivityLogEntry entry = ActivityLogEntry.builder()
+                .projectId(projectId)
+                .taskId(taskId)
+                .actorId(actorId)
+                .action(action)
+                .changes(changes != null ? writeChanges(changes) : null)
+                .occurredAt(LocalDateTime.now())
+                .build();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    activityLogWriter.append(entry);
+                }
+            });
+        } else {
+            activityLogWriter.append(entry);
+        }
+    }
+
+    private static Map<String, ActivityResponse.FieldChange> diff(Map<String, String> before, Map<String, String> after) {
+        Map<String, ActivityResponse.FieldChange> changes = new LinkedHashMap<>();
+        after.forEach((field, value) -> {
+            String previous = before.get(field);
+            if (!Objects.equals(previous, value)) {
+                changes.put(field, change(previous, value));
+            }
+        });
+        return changes;
+    }
+
+    private static ActivityResponse.FieldChange change(String from, String to) {
+        return ActivityResponse.FieldChange.builder().from(from).to(to).build();
+    }
+
+    private String writeChanges(Map<String, ActivityResponse.FieldChange> changes) {
+        try {
+            return objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize activity changes", e);
+        }
+    }
+
+    private Map<String, ActivityResponse.FieldChange> readChanges(String changes) {
+        if (changes == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(changes, CHANGES_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable activity changes: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, activityLogProperties.maxPageSize()));
+    }
+
+    private static Long cursor(Long before) {
+        return before != null ? before : Long.MAX_VALUE;
+    }
+
+    private CursorPageResponse<ActivityResponse> toPage(List<ActivityLogEntry> entries, int pageSize) {
+        boolean hasMore = entries.size() > pageSize;
+        List<ActivityResponse> content = entries.stream()
+                .limit(pageSize)
+                .map(this::toResponse)
+                .toList();
+        return CursorPageResponse.<ActivityResponse>builder()
+                .content(content)
+                .nextCursor(hasMore ? content.get(content.size() - 1).getId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private ActivityResponse toResponse(ActivityLogEntry entry) {
+        return ActivityResponse.builder()
+                .id(entry.getId())
+                .projectId(entry.getProjectId())
+                .taskId(entry.getTaskId())
+                .actorId(entry.getActorId())
+                .action(entry.getAction())
+                .changes(readChanges(entry.getChanges()))
+                .occurredAt(entry.getOccurredAt())
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.taskflow.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.taskflow.config.ActivityLogProperties;
+import com.taskflow.entity.ActivityLogEntry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background writer for the activity log.
+ * <p>
+ * Request threads hand entries over through a lock-free ring buffer and never wait on the database.
+ * A single writer thread drains the buffer and inserts each batch with one multi-row INSERT. When
+ * the buffer is full, entries are dropped and counted in {@code taskflow.activity.dropped}.
+ */
+@Slf4j
+@Component
+@SuppressWarnings("null")
+public class ActivityLogWriter {
+
+    private static final int COLUMNS = 6;
+    private static final String INSERT_PREFIX =
+            "INSERT INTO activity_log (project_id, task_id, actor_id, action, changes, occurred_at) VALUES ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ActivityLogProperties activityLogProperties;
+    private final MpscRingBuffer<ActivityLogEntry> buffer;
+    private final String fullBatchSql;
+    private final Counter droppedEntries;
+    private final Counter writtenEntries;
+    private final Counter failedEntries;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    public ActivityLogWriter(JdbcTemplate jdbcTemplate,
+                             ActivityLogProperties activityLogProperties,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.activityLogProperties = activityLogProperties;
+        this.buffer = new MpscRingBuffer<>(activityLogProperties.bufferCapacity());
+        this.fullBatchSql = insertSql(activityLogProperties.batchSize());
+        this.droppedEntries = Counter.builder("taskflow.activity.dropped")
+                .description("Activity log entries dropped because the buffer was full")
+                .register(meterRegistry);
+        this.writtenEntries = Counter.builder("taskflow.activity.written")
+                .description("Activity log entries written")
+                .register(meterRegistry);
+        this.failedEntries = Counter.builder("taskflow.activity.failed")
+                .description("Activity log entries lost to failed inserts")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.activity.buffered", buffer, MpscRingBuffer::size)
+                .description("Activity log entries waiting to be written")
+                .register(meterRegistry);
+        this.writerThread = new CustomizableThreadFactory("activity-log-writer").newThread(this::run);
+        this.writerThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        writerThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * Queue an entry for writing. Never blocks; drops the entry when the buffer is full.
+     * @param entry entry to write
+     */
+    public void append(ActivityLogEntry entry) {
+        if (!buffer.offer(entry)) {
+            droppedEntries.increment();
+        }
+    }
+
+    private void run() {
+        int batchSize = activityLogProperties.batchSize();
+        long flushNanos = activityLogProperties.flushInterval().toNanos();
+        List<ActivityLogEntry> batch = new ArrayList<>(batchSize);
+
+        while (true) {
+            int drained = buffer.drainTo(batch, batchSize);
+            if (drained > 0) {
+                write(batch);
+                batch.clear();
+                if (drained == batchSize) {
+                    continue;
+                }
+            }
+            if (!running) {
+                if (buffer.size() == 0) {
+                    return;
+                }
+                continue;
+            }
+            // Partial batches wait one flush interval so they can fill up
+            LockSupport.parkNanos(this, flushNanos);
+        }
+    }
+
+    private void write(List<ActivityLogEntry> batch) {
+        String sql = batch.size() == activityLogProperties.batchSize() ? fullBatchSql : insertSql(batch.size());
+        Object[] parameters = new Object[batch.size() * COLUMNS];
+        int i = 0;
+        for (ActivityLogEntry entry : batch) {
+            parameters[i++] = entry.getProjectId();
+            parameters[i++] = entry.getTaskId();
+            parameters[i++] = entry.getActorId();
+            parameters[i++] = entry.getAction().name();
+            parameters[i++] = entry.getChanges();
+            parameters[i++] = entry.getOccurredAt();
+        }
+
+        try {
+            jdbcTemplate.update(sql, parameters);
+            writtenEntries.increment(batch.size());
+        } catch (RuntimeException e) {
+            failedEntries.increment(batch.size());
+            log.error("Failed to write {} activity log entries", batch.size(), e);
+        }
+    }
+
+    private static String insertSql(int rows) {
+        return INSERT_PREFIX + String.join(", ", Collections.nCopies(rows, "(?, ?, ?, ?, ?, ?)"));
+    }
+}
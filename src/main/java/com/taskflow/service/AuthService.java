@@ -16,11 +16,13 @@ import com.taskflow.exception.DuplicateResourceException;
 import com.taskflow.repository.UserRepository;
 import com.taskflow.security.JwtService;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Timed("taskflow.service")
 @RequiredArgsConstructor
 @SuppressWarnings("null")
 public class AuthService {
@@ -0,0 +1,63 @@
+package com.taskflow.service;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.entity.OutboxEvent;
+import com.taskflow.event.ProjectChangedEvent;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.repository.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes task and project domain events to the outbox inside the transaction that caused them,
+ * so an event exists exactly when its change is committed. Failing to write rolls the change back.
+ */
+@Component
+@RequiredArgsConstructor
+@SuppressWarnings("null")
+public class OutboxEventWriter {
+
+    static final String TASK_AGGREGATE = "task";
+    static final String PROJECT_AGGREGATE = "project";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        append(TASK_AGGREGATE, event.taskId(), event.type().name(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        append(PROJECT_AGGREGATE, event.projectId(), event.type().name(), event);
+    }
+
+    private void append(String aggregateType, Long aggregateId, String change, Object event) {
+        String eventType = aggregateType + "." + change.toLowerCase(Locale.ROOT);
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + eventType + " event", e);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(payload)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build());
+    }
+}
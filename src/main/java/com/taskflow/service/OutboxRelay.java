@@ -0,0 +1,153 @@
+package com.taskflow.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskflow.config.OutboxProperties;
+import com.taskflow.entity.OutboxEvent;
+import com.taskflow.event.OutboxMessage;
+import com.taskflow.event.OutboxSink;
+import com.taskflow.repository.OutboxEventRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the outbox into the registered sinks with at-least-once delivery.
+ * <p>
+ * Each relay thread claims batches with {@code FOR UPDATE SKIP LOCKED}, so any number of threads
+ * and nodes can run side by side. Only the oldest pending event of an aggregate is claimable, which
+ * keeps delivery ordered per aggregate; a failing event blocks its aggregate until it is retried
+ * successfully or dead-lettered.
+ */
+@Slf4j
+@Component
+@SuppressWarnings("null")
+@ConditionalOnProperty(prefix = "taskflow.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties outboxProperties;
+    private ScheduledExecutorService executor;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<OutboxSink> sinks,
+                       TransactionTemplate transactionTemplate,
+                       OutboxProperties outboxProperties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sinks = sinks;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxProperties = outboxProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        int threads = outboxProperties.relayThreads();
+        long pollMillis = outboxProperties.pollInterval().toMillis();
+        executor = Executors.newScheduledThreadPool(threads, new CustomizableThreadFactory("outbox-relay-"));
+        for (int i = 0; i < threads; i++) {
+            executor.scheduleWithFixedDelay(this::drain, 0, pollMillis, TimeUnit.MILLISECONDS);
+        }
+        log.info("Outbox relay started with {} threads delivering to {}", threads,
+                sinks.stream().map(OutboxSink::getName).toList());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Relay batches until the outbox has no more claimable events. A batch holds one event per aggregate,
+     * so a short batch does not mean the outbox is drained: delivering it makes the next events claimable.
+     */
+    void drain() {
+        try {
+            int claimed;
+            do {
+                claimed = relayBatch(LocalDateTime.now());
+            } while (claimed > 0 && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; the batch rolled back and will be claimed again
+            log.error("Outbox relay pass failed", e);
+        }
+    }
+
+    /**
+     * Claim and deliver one batch in a single transaction. Delivered events are deleted; failed ones
+     * are retried with exponential backoff and dead-lettered after the maximum number of attempts.
+     * @param now reference time for due events and backoff
+     * @return number of events claimed
+     */
+    public int relayBatch(LocalDateTime now) {
+        Integer claimed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.claimBatch(now, outboxProperties.batchSize());
+            List<OutboxEvent> delivered = new ArrayList<>(batch.size());
+            for (OutboxEvent event : batch) {
+                if (deliver(event)) {
+                    delivered.add(event);
+                } else {
+                    reschedule(event, now);
+                }
+            }
+            if (!delivered.isEmpty()) {
+                outboxEventRepository.deleteAllInBatch(delivered);
+            }
+            return batch.size();
+        });
+        return claimed != null ? claimed : 0;
+    }
+
+    private boolean deliver(OutboxEvent event) {
+        OutboxMessage message = new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getPayload(), event.getCreatedAt());
+        for (OutboxSink sink : sinks) {
+            try {
+                sink.deliver(message);
+            } catch (Exception e) {
+                String error = sink.getName() + ": " + e.getMessage();
+                event.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+                log.warn("Outbox event {} ({}) failed in sink {}: {}",
+                        event.getId(), event.getEventType(), sink.getName(), e.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void reschedule(OutboxEvent event, LocalDateTime now) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+
+        if (attempts >= outboxProperties.maxAttempts()) {
+            event.setDeadLetteredAt(now);
+            log.error("Outbox event {} ({}) dead-lettered after {} attempts",
+                    event.getId(), event.getEventType(), attempts);
+            return;
+        }
+
+        Duration backoff = outboxProperties.retryBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(outboxProperties.maxRetryBackoff()) > 0) {
+            backoff = outboxProperties.maxRetryBackoff();
+        }
+        event.setNextAttemptAt(now.plus(backoff));
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskflow.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskflow.config.OverdueProperties;
+import com.taskflow.repository.TaskRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Flags tasks whose due date has passed since the last run.
+ * Runs once per day and works in fixed-size batches, each in its own transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@SuppressWarnings("null")
+@ConditionalOnProperty(prefix = "taskflow.overdue", name = "sweep-enabled", havingValue = "true", matchIfMissing = true)
+public class OverdueTaskSweeper {
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OverdueProperties overdueProperties;
+
+    @Scheduled(cron = "${taskflow.overdue.sweep-cron}")
+    public void sweep() {
+        sweep(LocalDate.now());
+    }
+
+    /**
+     * Flag every open task due before the given date that is not flagged yet.
+     * Flagged rows drop out of the candidate query, so each batch reads the first page again.
+     * @param today reference date
+     * @return number of tasks flagged
+     */
+    public int sweep(LocalDate today) {
+        int batchSize = overdueProperties.sweepBatchSize();
+        int total = 0;
+        int candidates;
+
+        do {
+            candidates = transactionTemplate.execute(status -> flagBatch(today, batchSize));
+            total += candidates;
+        } while (candidates == batchSize);
+
+        log.info("Overdue sweep for {} flagged {} tasks", today, total);
+        return total;
+    }
+
+    private int flagBatch(LocalDate today, int batchSize) {
+        List<Long> ids = taskRepository.findNewlyOverdueIds(today, PageRequest.of(0, batchSize));
+        if (!ids.isEmpty()) {
+            taskRepository.markOverdue(ids, LocalDateTime.now());
+        }
+        return ids.size();
+    }
+}
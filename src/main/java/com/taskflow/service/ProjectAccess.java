@@ -0,0 +1,113 @@
+package com.taskflow.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import com.taskflow.entity.ProjectRole;
+
+/**
+ * The projects a user can reach, as one compressed bitmap of project IDs per role.
+ * <p>
+ * Immutable once built, so it is shared between threads without locking. A check is a bitmap lookup,
+ * in constant time and without a query, however many projects the user is in.
+ */
+public final class ProjectAccess {
+
+    private final Roaring64Bitmap viewable;
+    private final Roaring64Bitmap editable;
+    private final Roaring64Bitmap administrable;
+    private final Roaring64Bitmap shared;
+
+    private ProjectAccess(Roaring64Bitmap viewable, Roaring64Bitmap editable, Roaring64Bitmap administrable,
+                          Roaring64Bitmap shared) {
+        this.viewable = viewable;
+        this.editable = editable;
+        this.administrable = administrable;
+        this.shared = shared;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Whether the user holds at least the role in the project.
+     */
+    public boolean has(Long projectId, ProjectRole role) {
+        return projectId != null && bitmap(role).contains(projectId);
+    }
+
+    /**
+     * Whether the user holds at least the role in every one of the projects.
+     */
+    public boolean hasAll(Collection<Long> projectIds, ProjectRole role) {
+        return projectIds.stream().allMatch(projectId -> has(projectId, role));
+    }
+
+    /**
+     * Number of projects the user can view.
+     */
+    public long projectCount() {
+        return viewable.getLongCardinality();
+    }
+
+    /**
+     * IDs of the projects shared with the user through memberships, in ascending order. Owned
+     * projects are not included.
+     */
+    public List<Long> sharedProjectIds() {
+        List<Long> projectIds = new ArrayList<>((int) shared.getLongCardinality());
+        shared.forEach(projectIds::add);
+        return projectIds;
+    }
+
+    private Roaring64Bitmap bitmap(ProjectRole role) {
+        return switch (role) {
+            case VIEWER -> viewable;
+            case EDITOR -> editable;
+            case ADMIN -> administrable;
+        };
+    }
+
+    public static final class Builder {
+
+        private final Roaring64Bitmap viewable = new Roaring64Bitmap();
+        private final Roaring64Bitmap editable = new Roaring64Bitmap();
+        private final Roaring64Bitmap administrable = new Roaring64Bitmap();
+        private final Roaring64Bitmap shared = new Roaring64Bitmap();
+
+        private Builder() {
+        }
+
+        public Builder grant(long projectId, ProjectRole role) {
+            viewable.addLong(projectId);
+            if (role.includes(ProjectRole.EDITOR)) {
+                editable.addLong(projectId);
+            }
+            if (role.includes(ProjectRole.ADMIN)) {
+                administrable.addLong(projectId);
+            }
+            return this;
+        }
+
+        /**
+         * Grant a role held through a membership rather than ownership.
+         */
+        public Builder share(long projectId, ProjectRole role) {
+            shared.addLong(projectId);
+            return grant(projectId, role);
+        }
+
+        public ProjectAccess build() {
+            // Sequential IDs of one user's projects compress well into runs
+            viewable.runOptimize();
+            editable.runOptimize();
+            administrable.runOptimize();
+            shared.runOptimize();
+            return new ProjectAccess(viewable, editable, administrable, shared);
+        }
+    }
+}
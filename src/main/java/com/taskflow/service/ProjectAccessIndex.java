@@ -0,0 +1,169 @@
+package com.taskflow.service;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskflow.config.ProjectAccessProperties;
+import com.taskflow.entity.ProjectRole;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.exception.UnauthorizedException;
+import com.taskflow.repository.ProjectMemberRepository;
+import com.taskflow.repository.ProjectRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caches, per user, the {@link ProjectAccess} that answers authorization checks on projects and tasks.
+ * <p>
+ * An index is loaded with two indexed queries, owned project IDs and membership grants, and kept until
+ * the user's memberships change or the TTL expires. Changes invalidate the affected users at once, so
+ * the rest of the writing transaction sees them, and again when it completes, so neither its uncommitted
+ * state nor what other transactions read before the commit stays cached. A load that overlaps an
+ * invalidation, or runs in a transaction that invalidated and may see its own uncommitted changes, is
+ * served but not cached. The TTL bounds staleness across instances, since invalidation
+ * is local.
+ * <p>
+ * The cache is bounded approximately: once full, arbitrary entries are evicted to make room.
+ */
+@Slf4j
+@Service
+public class ProjectAccessIndex {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final int maxUsers;
+    private final long ttlNanos;
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public ProjectAccessIndex(ProjectRepository projectRepository, ProjectMemberRepository projectMemberRepository,
+                              ProjectAccessProperties properties, MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.maxUsers = properties.maxUsers();
+        this.ttlNanos = properties.ttl().toNanos();
+        this.hits = Counter.builder("taskflow.project.access")
+                .description("Authorization checks answered from a cached access index")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("taskflow.project.access")
+                .description("Authorization checks answered from a cached access index")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.project.access.size", entries, ConcurrentMap::size)
+                .description("Users with a cached access index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The projects a user can reach, loading them on a miss.
+     * @param userId user ID
+     * @return the user's access; empty for an unknown user
+     */
+    public ProjectAccess forUser(Long userId) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(userId);
+        if (entry != null && now - entry.loadedAt() < ttlNanos) {
+            hits.increment();
+            return entry.access();
+        }
+        misses.increment();
+
+        long generation = invalidations.get();
+        ProjectAccess access = load(userId);
+        if (invalidations.get() == generation && !TransactionSynchronizationManager.hasResource(this)) {
+            if (entries.size() >= maxUsers) {
+                makeRoom();
+            }
+            entries.put(userId, new Entry(access, now));
+        }
+        return access;
+    }
+
+    /**
+     * Whether a user holds at least a role in a project.
+     */
+    public boolean has(Long userId, Long projectId, ProjectRole role) {
+        return forUser(userId).has(projectId, role);
+    }
+
+    /**
+     * Require that a user holds at least a role in a project, without loading it. A missing project is
+     * reported as such, which costs a query only when access is denied.
+     */
+    public void validate(Long userId, Long projectId, ProjectRole role) {
+        if (!has(userId, projectId, role)) {
+            if (!projectRepository.existsById(projectId)) {
+                throw new ResourceNotFoundException("Project", "id", projectId);
+            }
+            throw new UnauthorizedException("You don't have permission to access this project");
+        }
+    }
+
+    /**
+     * Drop the cached access of users whose projects or memberships changed: at once, and again when
+     * the current transaction commits or rolls back.
+     * @param userIds affected users
+     */
+    public void invalidate(Collection<Long> userIds) {
+        evict(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Marks the transaction as holding changes, so its own loads are not cached
+            if (!TransactionSynchronizationManager.hasResource(this)) {
+                TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProjectAccessIndex.this);
+                    evict(userIds);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private ProjectAccess load(Long userId) {
+        ProjectAccess.Builder access = ProjectAccess.builder();
+        projectRepository.findIdsByOwnerId(userId).forEach(projectId -> access.grant(projectId, ProjectRole.ADMIN));
+        projectMemberRepository.findGrantsByUserId(userId)
+                .forEach(grant -> access.share(grant.getProjectId(), grant.getRole()));
+        ProjectAccess loaded = access.build();
+        log.debug("Loaded access index of user {}: {} projects", userId, loaded.projectCount());
+        return loaded;
+    }
+
+    // Bumped before removal, so a load that read the old grants cannot cache them afterwards
+    private void evict(Collection<Long> userIds) {
+        invalidations.incrementAndGet();
+        userIds.forEach(entries::remove);
+    }
+
+    // Drops about a tenth of the entries; cheaper than tracking recency on every check
+    private void makeRoom() {
+        int toEvict = Math.max(1, entries.size() / 10);
+        Iterator<Long> userIds = entries.keySet().iterator();
+        while (toEvict-- > 0 && userIds.hasNext()) {
+            userIds.next();
+            userIds.remove();
+        }
+    }
+
+    private record Entry(ProjectAccess access, long loadedAt) {
+    }
+}
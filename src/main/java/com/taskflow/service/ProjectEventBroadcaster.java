@@ -0,0 +1,427 @@
+package com.taskflow.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.config.EventStreamProperties;
+import com.taskflow.entity.ProjectRole;
+import com.taskflow.event.ProjectAccessRevokedEvent;
+import com.taskflow.event.ProjectChangeType;
+import com.taskflow.event.ProjectChangedEvent;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.exception.TooManyRequestsException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans committed task changes out to Server-Sent Events subscribers of a project.
+ * <p>
+ * When the project is deleted, subscribers get a single {@code project.deleted} event, standing for the
+ * deletion of all its tasks, and their streams end. A member whose access is removed or reduced gets
+ * {@code access.revoked} and their streams end: at once on this node, and on other nodes at the first
+ * heartbeat after their access index expires, which re-checks every subscriber.
+ * <p>
+ * Subscriptions are async requests, so an idle subscriber holds no thread. Each subscriber owns a
+ * bounded buffer drained by a small shared dispatcher pool; when a buffer overflows the subscriber
+ * is sent a {@code resync} event and disconnected, and is expected to reload the board before
+ * reconnecting. Recent events are kept per project so a client can resume from {@code Last-Event-ID}.
+ */
+@Slf4j
+@Service
+@SuppressWarnings("null")
+public class ProjectEventBroadcaster {
+
+    static final String RESYNC_EVENT = "resync";
+    static final String PROJECT_DELETED_EVENT = "project.deleted";
+    static final String ACCESS_REVOKED_EVENT = "access.revoked";
+
+    private static final StreamEvent HEARTBEAT = new StreamEvent(0, null, null, 0);
+
+    private final ProjectAccessIndex projectAccessIndex;
+    private final ObjectMapper objectMapper;
+    private final EventStreamProperties properties;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ConcurrentMap<Long, ProjectChannel> channels = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher;
+
+    public ProjectEventBroadcaster(ProjectAccessIndex projectAccessIndex,
+                                   ObjectMapper objectMapper,
+                                   EventStreamProperties properties) {
+        this.projectAccessIndex = projectAccessIndex;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.dispatcher = Executors.newFixedThreadPool(properties.dispatcherThreads(),
+                new CustomizableThreadFactory("project-events-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        channels.values().forEach(ProjectChannel::closeAll);
+        dispatcher.shutdown();
+    }
+
+    /**
+     * Open an event stream for a project.
+     * @param projectId project ID
+     * @param userId requesting user ID
+     * @param lastEventId last event the client received, or null for a fresh subscription
+     * @return emitter the caller returns from the request handler
+     */
+    public SseEmitter subscribe(Long projectId, Long userId, Long lastEventId) {
+        projectAccessIndex.validate(userId, projectId, ProjectRole.VIEWER);
+
+        if (subscriberCount.incrementAndGet() > properties.maxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new TooManyRequestsException("Too many open event streams, retry later");
+        }
+
+        SseEmitter emitter = newEmitter(properties.subscriptionTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, userId);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscriber.close());
+
+        ProjectChannel channel;
+        do {
+            channel = channels.computeIfAbsent(projectId, ProjectChannel::new);
+        } while (!channel.attach(subscriber, lastEventId));
+
+        log.debug("Subscribed to project {} events (resuming after {})", projectId, lastEventId);
+        return emitter;
+    }
+
+    /**
+     * Publish a task change to the project's subscribers once the writing transaction has committed.
+     * Projects without a recent subscriber are skipped; a client reconnecting later is told to resync.
+     * @param event task change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        ProjectChannel channel = channels.get(event.projectId());
+        if (channel == null) {
+            return;
+        }
+
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize change of task {}", event.taskId(), e);
+            return;
+        }
+
+        String name = "task." + event.type().name().toLowerCase(Locale.ROOT);
+        while (channel != null && !channel.publish(name, data)) {
+            channel = channels.get(event.projectId());
+        }
+    }
+
+    /**
+     * Tell the subscribers of a deleted project, then end their streams. Its tasks go without an event each.
+     * @param event project change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.type() != ProjectChangeType.DELETED) {
+            return;
+        }
+        ProjectChannel channel = channels.remove(event.projectId());
+        if (channel == null) {
+            return;
+        }
+
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize deletion of project {}", event.projectId(), e);
+            data = "{\"projectId\":" + event.projectId() + "}";
+        }
+        channel.retire(PROJECT_DELETED_EVENT, data);
+    }
+
+    /**
+     * End a member's streams of a project once the change that removed or reduced their access has committed.
+     * @param event access change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProjectAccessRevoked(ProjectAccessRevokedEvent event) {
+        ProjectChannel channel = channels.get(event.projectId());
+        if (channel != null) {
+            channel.revoke(subscriber -> subscriber.userId.equals(event.userId()));
+        }
+    }
+
+    /**
+     * Keep idle connections open through proxies, expire old replay history, and end the streams of
+     * subscribers who lost access to the project on another node.
+     */
+    @Scheduled(fixedDelayString = "${taskflow.events.heartbeat-interval}")
+    public void heartbeat() {
+        long cutoff = System.nanoTime() - properties.replayWindowTtl().toNanos();
+        channels.forEach((projectId, channel) -> {
+            if (channel.expire(cutoff)) {
+                channels.remove(projectId, channel);
+                return;
+            }
+            try {
+                channel.revoke(subscriber ->
+                        !projectAccessIndex.has(subscriber.userId, projectId, ProjectRole.VIEWER));
+            } catch (RuntimeException e) {
+                log.warn("Could not re-check access to project {}: {}", projectId, e.getMessage());
+            }
+            channel.subscribers.forEach(Subscriber::offerHeartbeat);
+        });
+    }
+
+    /**
+     * Number of open subscriptions on this node.
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    SseEmitter newEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    /**
+     * An event as it is buffered and replayed; the payload is serialized once for all subscribers.
+     */
+    private record StreamEvent(long id, String name, String data, long publishedAt) {
+
+        SseEmitter.SseEventBuilder toSse() {
+            if (this == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().name(name).data(data);
+            return id > 0 ? builder.id(Long.toString(id)) : builder;
+        }
+    }
+
+    private static StreamEvent resync(Long projectId) {
+        return new StreamEvent(0, RESYNC_EVENT, "{\"projectId\":" + projectId + "}", 0);
+    }
+
+    /**
+     * Subscribers and replay window of one project. Event ids are allocated under the channel lock,
+     * so every subscriber and the window see a project's events in id order.
+     */
+    private final class ProjectChannel {
+
+        private final Long projectId;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final Deque<StreamEvent> window = new ArrayDeque<>();
+        // Not a monitor: publishers may be virtual threads, which pin their carrier while waiting on one
+        private final ReentrantLock lock = new ReentrantLock();
+        private long evictedUpTo;
+        private boolean retired;
+
+        ProjectChannel(Long projectId) {
+            this.projectId = projectId;
+            // Nothing before this point was recorded for the project
+            this.evictedUpTo = sequence.get();
+        }
+
+        boolean attach(Subscriber subscriber, Long lastEventId) {
+            lock.lock();
+            try {
+                if (retired) {
+                    return false;
+                }
+                subscriber.channel = this;
+                subscribers.add(subscriber);
+
+                if (lastEventId == null) {
+                    subscriber.offerHeartbeat();
+                } else if (lastEventId < evictedUpTo || lastEventId > sequence.get()) {
+                    subscriber.offer(resync(projectId));
+                } else {
+                    subscriber.offerHeartbeat();
+                    window.stream()
+                            .filter(event -> event.id() > lastEventId)
+                            .forEach(subscriber::offer);
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean publish(String name, String data) {
+            lock.lock();
+            try {
+                if (retired) {
+                    return false;
+                }
+                StreamEvent event = new StreamEvent(sequence.incrementAndGet(), name, data, System.nanoTime());
+                window.addLast(event);
+                while (window.size() > properties.replayWindowSize()) {
+                    evictedUpTo = window.removeFirst().id();
+                }
+                subscribers.forEach(subscriber -> subscriber.offer(event));
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Send a last event to every subscriber and refuse further events and subscribers.
+         */
+        void retire(String name, String data) {
+            lock.lock();
+            try {
+                retired = true;
+                StreamEvent event = new StreamEvent(sequence.incrementAndGet(), name, data, System.nanoTime());
+                subscribers.forEach(subscriber -> subscriber.offer(event));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Send {@code access.revoked} to the matching subscribers and detach them from the channel.
+         */
+        void revoke(Predicate<Subscriber> revoked) {
+            StreamEvent event = new StreamEvent(0, ACCESS_REVOKED_EVENT, "{\"projectId\":" + projectId + "}", 0);
+            lock.lock();
+            try {
+                subscribers.removeIf(subscriber -> {
+                    if (!revoked.test(subscriber)) {
+                        return false;
+                    }
+                    subscriber.offer(event);
+                    return true;
+                });
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean expire(long cutoff) {
+            lock.lock();
+            try {
+                while (!window.isEmpty() && window.peekFirst().publishedAt() - cutoff < 0) {
+                    evictedUpTo = window.removeFirst().id();
+                }
+                retired = subscribers.isEmpty() && window.isEmpty();
+                return retired;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void closeAll() {
+            subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        }
+    }
+
+    /**
+     * One open stream. At most one drain task per subscriber is queued on the dispatcher.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Long userId;
+        private final BlockingQueue<StreamEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile ProjectChannel channel;
+        private volatile boolean overflowed;
+
+        Subscriber(SseEmitter emitter, Long userId) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.buffer = new ArrayBlockingQueue<>(properties.subscriberBufferSize());
+        }
+
+        void offer(StreamEvent event) {
+            if (closed.get() || overflowed) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                log.debug("Dropping slow subscriber of project {}", channel.projectId);
+                overflowed = true;
+                buffer.clear();
+                buffer.offer(resync(channel.projectId));
+            }
+            scheduleDrain();
+        }
+
+        void offerHeartbeat() {
+            if (buffer.isEmpty()) {
+                offer(HEARTBEAT);
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                StreamEvent event;
+                boolean last = false;
+                while (!closed.get() && !last && (event = buffer.poll()) != null) {
+                    emitter.send(event.toSse());
+                    last = PROJECT_DELETED_EVENT.equals(event.name()) || ACCESS_REVOKED_EVENT.equals(event.name());
+                }
+                if (overflowed || last) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the container completes the async request
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed.get() && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                buffer.clear();
+                if (channel != null) {
+                    channel.subscribers.remove(this);
+                }
+                subscriberCount.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.taskflow.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskflow.dto.project.ProjectMemberResponse;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectMember;
+import com.taskflow.entity.ProjectRole;
+import com.taskflow.entity.User;
+import com.taskflow.event.ProjectAccessRevokedEvent;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.mapper.ProjectMemberMapper;
+import com.taskflow.repository.ProjectMemberRepository;
+import com.taskflow.repository.UserRepository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Shares projects with other users. Every change invalidates the access index of the member concerned;
+ * removing a member or lowering their role also ends their open event streams of the project.
+ */
+@Slf4j
+@Service
+@Timed("taskflow.service")
+@RequiredArgsConstructor
+@SuppressWarnings("null")
+public class ProjectMemberService {
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final UserRepository userRepository;
+    private final ProjectService projectService;
+    private final ProjectAccessIndex projectAccessIndex;
+    private final ProjectMemberMapper projectMemberMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Get the members of a project, its owner first.
+     * @param projectId project ID
+     * @param userId requesting user ID
+     * @return owner and members
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectMemberResponse> getMembers(Long projectId, Long userId) {
+        Project project = projectService.findProjectById(projectId);
+        projectService.validateAccess(project, userId, ProjectRole.VIEWER);
+
+        List<ProjectMemberResponse> members = new ArrayList<>();
+        members.add(projectMemberMapper.toOwnerResponse(project));
+        projectMemberRepository.findByProjectIdWithUser(projectId).stream()
+                .map(projectMemberMapper::toResponse)
+                .forEach(members::add);
+        return members;
+    }
+
+    /**
+     * Add a member to a project, or change their role.
+     * @param projectId project ID
+     * @param memberId user to add
+     * @param role role to give
+     * @param userId requesting user ID; must be an admin of the project
+     * @return the membership
+     */
+    @Transactional
+    public ProjectMemberResponse setMember(Long projectId, Long memberId, ProjectRole role, Long userId) {
+        log.info("Setting role {} for user {} in project {}", role, memberId, projectId);
+
+        Project project = projectService.findProjectById(projectId);
+        projectService.validateAccess(project, userId, ProjectRole.ADMIN);
+        if (project.getOwner().getId().equals(memberId)) {
+            throw new BadRequestException("The project owner cannot be given a role");
+        }
+
+        ProjectMember member = projectMemberRepository.findByProjectIdAndUserId(projectId, memberId)
+                .orElseGet(() -> {
+                    User user = userRepository.findById(memberId)
+                            .orElseThrow(() -> new ResourceNotFoundException("User", "id", memberId));
+                    return ProjectMember.builder().project(project).user(user).build();
+                });
+        ProjectRole previousRole = member.getRole();
+        member.setRole(role);
+        projectMemberRepository.save(member);
+        projectAccessIndex.invalidate(List.of(memberId));
+        if (previousRole != null && !role.includes(previousRole)) {
+            eventPublisher.publishEvent(ProjectAccessRevokedEvent.of(projectId, memberId));
+        }
+
+        return projectMemberMapper.toResponse(member);
+    }
+
+    /**
+     * Remove a member from a project. Admins may remove anyone; members may leave.
+     * @param projectId project ID
+     * @param memberId user to remove
+     * @param userId requesting user ID
+     */
+    @Transactional
+    public void removeMember(Long projectId, Long memberId, Long userId) {
+        log.info("Removing user {} from project {}", memberId, projectId);
+
+        Project project = projectService.findProjectById(projectId);
+        if (!memberId.equals(userId)) {
+            projectService.validateAccess(project, userId, ProjectRole.ADMIN);
+        }
+
+        ProjectMember member = projectMemberRepository.findByProjectIdAndUserId(projectId, memberId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project member", "userId", memberId));
+        projectMemberRepository.delete(member);
+        projectAccessIndex.invalidate(List.of(memberId));
+        eventPublisher.publishEvent(ProjectAccessRevokedEvent.of(projectId, memberId));
+    }
+}
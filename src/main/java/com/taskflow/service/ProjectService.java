@@ -1,34 +1,61 @@
 package com.taskflow.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.taskflow.dto.common.MultiGetResponse;
 import com.taskflow.dto.common.PageResponse;
 import com.taskflow.dto.project.CreateProjectRequest;
 import com.taskflow.dto.project.ProjectResponse;
 import com.taskflow.dto.project.UpdateProjectRequest;
 import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectRole;
 import com.taskflow.entity.User;
+import com.taskflow.event.ProjectChangeType;
+import com.taskflow.event.ProjectChangedEvent;
 import com.taskflow.exception.ResourceNotFoundException;
 import com.taskflow.exception.UnauthorizedException;
+import com.taskflow.mapper.MultiGetMapper;
 import com.taskflow.mapper.PageMapper;
 import com.taskflow.mapper.ProjectMapper;
+import com.taskflow.repository.ProjectMemberRepository;
 import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.ProjectSpecifications;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TaskTombstoneRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Timed("taskflow.service")
 @RequiredArgsConstructor
 @SuppressWarnings("null")
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectAccessIndex projectAccessIndex;
+    private final TaskTombstoneRepository taskTombstoneRepository;
     private final ProjectMapper projectMapper;
     private final PageMapper pageMapper;
+    private final MultiGetMapper multiGetMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ActivityLogService activityLogService;
 
     @Transactional
     public ProjectResponse createProject(CreateProjectRequest request, User owner) {
@@ -38,9 +65,10 @@ public class ProjectService {
         project.setOwner(owner);
 
         projectRepository.save(project);
+        projectAccessIndex.invalidate(List.of(owner.getId()));
         log.info("Project created with id: {}", project.getId());
 
-        return projectMapper.toResponse(project);
+        return publishChange(ProjectChangeType.CREATED, project);
     }
 
     /**
@@ -52,19 +80,49 @@ public class ProjectService {
     @Transactional(readOnly = true)
     public ProjectResponse getProject(Long id, Long userId) {
         Project project = findProjectById(id);
-        validateOwnership(project, userId);
+        validateAccess(project, userId, ProjectRole.VIEWER);
         return projectMapper.toResponse(project);
     }
 
     /**
-     * Get all projects for a user.
+     * Get several projects at once, e.g. to resolve the projects of a page of tasks.
+     * Owners and task collections are fetched in batches, not per project.
+     * @param ids project IDs
+     * @param userId requesting user ID; must have access to every project
+     * @return the projects found, in no particular order
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectResponse> getProjects(Collection<Long> ids, Long userId) {
+        List<Project> projects = projectRepository.findAllById(ids);
+        projects.forEach(project -> validateAccess(project, userId, ProjectRole.VIEWER));
+        return projects.stream().map(projectMapper::toResponse).toList();
+    }
+
+    /**
+     * Get several projects by ID, checking access against the user's access index. Owners are joined;
+     * task collections are fetched in one batch, for the accessible projects only.
+     * @param ids project IDs
+     * @param userId requesting user ID
+     * @return projects in request order, with the IDs that are missing or not accessible
+     */
+    @Transactional(readOnly = true)
+    public MultiGetResponse<ProjectResponse> getProjectsByIds(Collection<Long> ids, Long userId) {
+        Set<Long> requested = multiGetMapper.requestedIds(ids);
+        ProjectAccess access = accessOf(userId);
+        List<Project> projects = projectRepository.findByIdInWithOwner(requested);
+        return multiGetMapper.toMultiGetResponse(requested, projects, Project::getId,
+                project -> access.has(project.getId(), ProjectRole.VIEWER), projectMapper::toResponse);
+    }
+
+    /**
+     * Get all projects for a user, owned or shared.
      * @param userId user ID
      * @param pageable pagination info
      * @return paginated projects
      */
     @Transactional(readOnly = true)
     public PageResponse<ProjectResponse> getUserProjects(Long userId, Pageable pageable) {
-        Page<Project> projects = projectRepository.findByOwnerId(userId, pageable);
+        Page<Project> projects = projectRepository.findAccessibleByUserId(userId, pageable);
         return pageMapper.toPageResponse(projects, projectMapper::toResponse);
     }
 
@@ -77,10 +135,59 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public PageResponse<ProjectResponse> searchProjects(Long userId, String search, Pageable pageable) {
-        Page<Project> projects = projectRepository.searchByOwner(userId, search, pageable);
+        Page<Project> projects = projectRepository.searchAccessible(userId, search, pageable);
         return pageMapper.toPageResponse(projects, projectMapper::toResponse);
     }
 
+    /**
+     * Get selected fields of a project.
+     * @param id project ID
+     * @param userId requesting user ID
+     * @param fields comma-separated field names, see {@link ProjectRepository#FIELDS}
+     * @return the selected fields and the ID
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getProject(Long id, Long userId, String fields) {
+        List<String> selected = ProjectRepository.FIELDS.resolve(fields);
+        return projectRepository.findSparse(ProjectSpecifications.hasId(id).and(ProjectSpecifications.accessibleBy(userId)),
+                        selected, Pageable.unpaged())
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> {
+                    // Tell a missing project from someone else's, as the full read does
+                    validateAccess(findProjectById(id), userId, ProjectRole.VIEWER);
+                    return new ResourceNotFoundException("Project", "id", id);
+                });
+    }
+
+    /**
+     * Get selected fields of all projects for a user.
+     * @param userId user ID
+     * @param fields comma-separated field names, see {@link ProjectRepository#FIELDS}
+     * @param pageable pagination info
+     * @return paginated rows of the selected fields
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> getUserProjects(Long userId, String fields, Pageable pageable) {
+        return findSparse(ProjectSpecifications.accessibleBy(userId), fields, pageable);
+    }
+
+    /**
+     * Search projects, returning selected fields.
+     * @param userId user ID
+     * @param search search term
+     * @param fields comma-separated field names, see {@link ProjectRepository#FIELDS}
+     * @param pageable pagination info
+     * @return paginated rows of the selected fields
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> searchProjects(Long userId, String search, String fields,
+                                                            Pageable pageable) {
+        Specification<Project> where = ProjectSpecifications.accessibleBy(userId)
+                .and(ProjectSpecifications.matching(search));
+        return findSparse(where, fields, pageable);
+    }
+
     /**
      * Update a project.
      * @param id project ID
@@ -93,17 +200,19 @@ public class ProjectService {
         log.info("Updating project with id: {}", id);
 
         Project project = findProjectById(id);
-        validateOwnership(project, userId);
+        validateAccess(project, userId, ProjectRole.ADMIN);
 
+        Map<String, String> before = ActivityLogService.snapshotOf(project);
         projectMapper.updateEntity(request, project);
         projectRepository.save(project);
+        activityLogService.recordProjectUpdated(project, before, userId);
 
         log.info("Project updated: {}", project.getName());
-        return projectMapper.toResponse(project);
+        return publishChange(ProjectChangeType.UPDATED, project);
     }
 
     /**
-     * Delete a project.
+     * Delete a project. Only its owner may.
      * @param id project ID
      * @param userId requesting user ID
      */
@@ -112,12 +221,36 @@ public class ProjectService {
         log.info("Deleting project with id: {}", id);
 
         Project project = findProjectById(id);
-        validateOwnership(project, userId);
+        if (!project.getOwner().getId().equals(userId)) {
+            throw new UnauthorizedException("Only the owner can delete this project");
+        }
 
-        projectRepository.delete(project);
+        List<Long> affected = new ArrayList<>(projectMemberRepository.findUserIdsByProjectId(project.getId()));
+        affected.add(userId);
+
+        // Tasks and the project go in one statement each; members are removed by the database cascade
+        taskTombstoneRepository.recordProjectDeletion(project.getId(), LocalDateTime.now());
+        taskRepository.deleteByProjectId(project.getId());
+        projectRepository.deleteInBulkById(project.getId());
+        activityLogService.recordProjectDeleted(project, userId);
+        projectAccessIndex.invalidate(affected);
+        eventPublisher.publishEvent(ProjectChangedEvent.of(
+                ProjectChangeType.DELETED, project.getId(), userId, null));
         log.info("Project deleted: {}", project.getName());
     }
 
+    private PageResponse<Map<String, Object>> findSparse(Specification<Project> where, String fields,
+                                                         Pageable pageable) {
+        List<String> selected = ProjectRepository.FIELDS.resolve(fields);
+        return pageMapper.toPageResponse(projectRepository.findSparse(where, selected, pageable), row -> row);
+    }
+
+    private ProjectResponse publishChange(ProjectChangeType type, Project project) {
+        ProjectResponse response = projectMapper.toResponse(project);
+        eventPublisher.publishEvent(ProjectChangedEvent.of(type, project.getId(), project.getOwner().getId(), response));
+        return response;
+    }
+
     /**
      * Find project by ID (internal use).
      */
@@ -127,10 +260,34 @@ public class ProjectService {
     }
 
     /**
-     * Validate that user owns the project.
+     * The projects a user can reach, from the cached access index.
      */
-    public void validateOwnership(Project project, Long userId) {
-        if (!project.getOwner().getId().equals(userId)) {
+    public ProjectAccess accessOf(Long userId) {
+        return projectAccessIndex.forUser(userId);
+    }
+
+    /**
+     * Validate that user holds at least a role in every one of the projects, without a query.
+     */
+    public void validateAccess(Set<Long> projectIds, Long userId, ProjectRole role) {
+        if (!accessOf(userId).hasAll(projectIds, role)) {
+            throw new UnauthorizedException("You don't have permission to access these projects");
+        }
+    }
+
+    /**
+     * Validate that user holds at least a role in the project, without loading it. A missing project
+     * is reported as such, which costs a query only when access is denied.
+     */
+    public void validateAccess(Long projectId, Long userId, ProjectRole role) {
+        projectAccessIndex.validate(userId, projectId, role);
+    }
+
+    /**
+     * Validate that user holds at least a role in the project.
+     */
+    public void validateAccess(Project project, Long userId, ProjectRole role) {
+        if (!accessOf(userId).has(project.getId(), role)) {
             throw new UnauthorizedException("You don't have permission to access this project");
         }
     }
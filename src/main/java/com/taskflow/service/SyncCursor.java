@@ -0,0 +1,64 @@
+package com.taskflow.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import com.taskflow.exception.BadRequestException;
+
+/**
+ * Position of a delta sync client in the task change and tombstone streams, each a
+ * (timestamp, id) keyset position, and a fingerprint of the projects shared with the client's
+ * user when it was issued. Handed to clients as an opaque URL-safe token.
+ */
+record SyncCursor(LocalDateTime changedAt, long taskId, LocalDateTime deletedAt, long tombstoneId, long sharedHash) {
+
+    private static final String VERSION = "2";
+    // Issued before shared projects were synced, so the client saw none
+    private static final String VERSION_OWNED_ONLY = "1";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    static final SyncCursor START = new SyncCursor(EPOCH, 0, EPOCH, 0, 0);
+
+    boolean isStart() {
+        return changedAt.equals(EPOCH) && taskId == 0 && deletedAt.equals(EPOCH) && tombstoneId == 0;
+    }
+
+    /**
+     * Fingerprint of a set of shared project IDs, given in ascending order; zero for none.
+     */
+    static long sharedHash(Collection<Long> projectIds) {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        for (Long projectId : projectIds) {
+            crc.update(buffer.clear().putLong(projectId).flip());
+        }
+        return crc.getValue();
+    }
+
+    String encode() {
+        String value = String.join("|", VERSION, changedAt.toString(), Long.toString(taskId),
+                deletedAt.toString(), Long.toString(tombstoneId), Long.toString(sharedHash));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SyncCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            boolean ownedOnly = parts.length == 5 && VERSION_OWNED_ONLY.equals(parts[0]);
+            if (!ownedOnly && (parts.length != 6 || !VERSION.equals(parts[0]))) {
+                throw new BadRequestException("Invalid sync cursor");
+            }
+            return new SyncCursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]),
+                    LocalDateTime.parse(parts[3]), Long.parseLong(parts[4]),
+                    ownedOnly ? sharedHash(List.of()) : Long.parseLong(parts[5]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid sync cursor");
+        }
+    }
+}
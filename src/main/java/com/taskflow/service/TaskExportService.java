@@ -0,0 +1,178 @@
+package com.taskflow.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.dto.task.TaskFileFormat;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.ProjectRole;
+import com.taskflow.repository.TaskRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams tasks to an output stream as NDJSON or CSV.
+ * Rows are read through a forward-only cursor and written as they arrive,
+ * so memory use does not depend on the number of exported tasks.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@SuppressWarnings("null")
+public class TaskExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] CSV_HEADER = {
+            "id", "title", "description", "status", "priority", "dueDate", "projectId", "projectName",
+            "assigneeId", "assigneeName", "estimatedHours", "actualHours", "overdue", "createdAt", "updatedAt"
+    };
+
+    private final TaskRepository taskRepository;
+    private final ProjectService projectService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Validate that the user may export the given project.
+     * Called on the request thread, before the response is committed.
+     * @param projectId project ID, or null to export all of the user's projects
+     * @param userId requesting user ID
+     */
+    @Transactional(readOnly = true)
+    public void validateExportAccess(Long projectId, Long userId) {
+        if (projectId != null) {
+            projectService.validateAccess(projectId, userId, ProjectRole.VIEWER);
+        }
+    }
+
+    /**
+     * Export tasks of a project, or of all projects the user can access.
+     * @param projectId project ID, or null to export all of the user's projects
+     * @param userId requesting user ID
+     * @param format output format
+     * @param gzip whether to gzip the output
+     * @param out target stream, left open
+     * @return number of exported tasks
+     */
+    @Transactional(readOnly = true)
+    public long export(Long projectId, Long userId, TaskFileFormat format, boolean gzip, OutputStream out)
+            throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        long rows;
+
+        try (Stream<TaskResponse> tasks = openStream(projectId, userId)) {
+            rows = switch (format) {
+                case NDJSON -> writeNdjson(tasks.iterator(), target);
+                case CSV -> writeCsv(tasks.iterator(), target);
+            };
+        }
+
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        target.flush();
+
+        log.info("Exported {} tasks as {} for user: {}", rows, format, userId);
+        return rows;
+    }
+
+    /**
+     * Hand every task of a project, or of all projects the user can access, to a consumer as it is read.
+     * The consumer runs inside the read transaction, so it can block to apply backpressure.
+     * @param projectId project ID, or null for all of the user's projects
+     * @param userId requesting user ID
+     * @param consumer receives each task
+     * @return number of tasks
+     */
+    @Transactional(readOnly = true)
+    public long forEachTask(Long projectId, Long userId, Consumer<TaskResponse> consumer) {
+        validateExportAccess(projectId, userId);
+
+        long rows = 0;
+        try (Stream<TaskResponse> tasks = openStream(projectId, userId)) {
+            Iterator<TaskResponse> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private Stream<TaskResponse> openStream(Long projectId, Long userId) {
+        return projectId != null
+                ? taskRepository.streamForExportByProjectId(projectId)
+                : taskRepository.streamForExportAccessibleBy(userId);
+    }
+
+    private long writeNdjson(Iterator<TaskResponse> tasks, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        long rows = 0;
+        while (tasks.hasNext()) {
+            writer.writeValue(generator, tasks.next());
+            generator.writeRaw('\n');
+            rows++;
+        }
+        generator.flush();
+        return rows;
+    }
+
+    private long writeCsv(Iterator<TaskResponse> tasks, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writeCsvRow(writer, (Object[]) CSV_HEADER);
+
+        long rows = 0;
+        while (tasks.hasNext()) {
+            TaskResponse task = tasks.next();
+            writeCsvRow(writer,
+                    task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority(),
+                    task.getDueDate(), task.getProjectId(), task.getProjectName(), task.getAssigneeId(),
+                    task.getAssigneeName(), task.getEstimatedHours(), task.getActualHours(), task.isOverdue(),
+                    task.getCreatedAt(), task.getUpdatedAt());
+            rows++;
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(String value) {
+        boolean needsQuoting = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuoting) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,192 @@
+package com.taskflow.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.taskflow.dto.task.CreateTaskRequest;
+import com.taskflow.dto.task.TaskFileFormat;
+
+/**
+ * Incremental reader for NDJSON and CSV import files.
+ * Holds at most one record in memory; malformed records are returned as errors instead of aborting the read.
+ * CSV files must start with a header row naming {@link CreateTaskRequest} properties.
+ */
+final class TaskImportReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_RECORD_LENGTH = 16 * 1024;
+
+    private final BufferedReader reader;
+    private final TaskFileFormat format;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader rowReader;
+
+    private List<String> header;
+    private long row;
+
+    TaskImportReader(InputStream in, TaskFileFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.rowReader = objectMapper.readerFor(CreateTaskRequest.class);
+    }
+
+    /**
+     * Read the next record.
+     * @return the record, or null at end of input
+     */
+    ImportRecord next() throws IOException {
+        return format == TaskFileFormat.CSV ? nextCsv() : nextNdjson();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ImportRecord nextNdjson() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        row++;
+        try {
+            return ImportRecord.valid(row, rowReader.readValue(line));
+        } catch (JsonProcessingException e) {
+            return ImportRecord.invalid(row, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private ImportRecord nextCsv() throws IOException {
+        if (header == null) {
+            List<String> names;
+            try {
+                names = readCsvFields();
+            } catch (CsvFormatException e) {
+                throw new IOException("Malformed CSV header: " + e.getMessage());
+            }
+            if (names == null) {
+                return null;
+            }
+            header = names.stream()
+                    .map(name -> name.replace("\uFEFF", "").trim())
+                    .toList();
+        }
+
+        List<String> fields;
+        try {
+            fields = readCsvFields();
+        } catch (CsvFormatException e) {
+            return ImportRecord.invalid(++row, e.getMessage());
+        }
+        if (fields == null) {
+            return null;
+        }
+
+        row++;
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < Math.min(header.size(), fields.size()); i++) {
+            if (!fields.get(i).isEmpty()) {
+                values.put(header.get(i), fields.get(i));
+            }
+        }
+        try {
+            return ImportRecord.valid(row, objectMapper.convertValue(values, CreateTaskRequest.class));
+        } catch (IllegalArgumentException e) {
+            return ImportRecord.invalid(row, "Invalid value: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read one CSV record, joining physical lines while inside a quoted field.
+     * @return the record fields, or null at end of input
+     */
+    private List<String> readCsvFields() throws IOException, CsvFormatException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isEmpty());
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+
+        while (true) {
+            length += line.length();
+            if (length > MAX_RECORD_LENGTH) {
+                throw new CsvFormatException("Record exceeds " + MAX_RECORD_LENGTH + " characters");
+            }
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                throw new CsvFormatException("Unterminated quoted field");
+            }
+            field.append('\n');
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * One source record; either a parsed request or the reason it could not be parsed.
+     */
+    record ImportRecord(long row, CreateTaskRequest request, String error) {
+
+        static ImportRecord valid(long row, CreateTaskRequest request) {
+            return new ImportRecord(row, request, null);
+        }
+
+        static ImportRecord invalid(long row, String error) {
+            return new ImportRecord(row, null, error);
+        }
+    }
+
+    private static final class CsvFormatException extends Exception {
+
+        CsvFormatException(String message) {
+            super(message);
+        }
+    }
+}
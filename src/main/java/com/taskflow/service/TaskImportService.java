@@ -0,0 +1,458 @@
+package com.taskflow.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.config.ImportProperties;
+import com.taskflow.dto.task.CreateTaskRequest;
+import com.taskflow.dto.task.TaskFileFormat;
+import com.taskflow.dto.task.TaskImportResponse;
+import com.taskflow.entity.ImportStatus;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectRole;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskImport;
+import com.taskflow.entity.User;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.exception.TooManyRequestsException;
+import com.taskflow.exception.UnauthorizedException;
+import com.taskflow.mapper.TaskImportMapper;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskImportRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.service.TaskImportReader.ImportRecord;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams task rows from an upload into the database.
+ * <p>
+ * The request thread parses and validates rows and hands fixed-size batches to a writer thread
+ * through a bounded queue; when the writer falls behind, the parser blocks and stops reading the
+ * upload. Each batch is inserted with one JDBC batch and records its progress in the same
+ * transaction, so an interrupted import can be resumed from the last committed row.
+ */
+@Slf4j
+@Service
+@SuppressWarnings("null")
+public class TaskImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO tasks (title, description, status, priority, due_date, " +
+            "estimated_hours, overdue, project_id, assignee_id, created_at, updated_at, owner_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final ImportBatch END_OF_INPUT = new ImportBatch(List.of(), 0, -1);
+
+    private final TaskImportRepository taskImportRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectAccessIndex projectAccessIndex;
+    private final UserRepository userRepository;
+    private final TaskMapper taskMapper;
+    private final TaskImportMapper taskImportMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ImportProperties importProperties;
+    private final Semaphore importSlots;
+    private final ExecutorService writerExecutor;
+
+    public TaskImportService(TaskImportRepository taskImportRepository,
+                             ProjectRepository projectRepository,
+                             ProjectAccessIndex projectAccessIndex,
+                             UserRepository userRepository,
+                             TaskMapper taskMapper,
+                             TaskImportMapper taskImportMapper,
+                             JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             ImportProperties importProperties) {
+        this.taskImportRepository = taskImportRepository;
+        this.projectRepository = projectRepository;
+        this.projectAccessIndex = projectAccessIndex;
+        this.userRepository = userRepository;
+        this.taskMapper = taskMapper;
+        this.taskImportMapper = taskImportMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.importProperties = importProperties;
+        this.importSlots = new Semaphore(importProperties.maxConcurrentImports());
+        this.writerExecutor = Executors.newCachedThreadPool(new CustomizableThreadFactory("task-import-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        writerExecutor.shutdown();
+    }
+
+    /**
+     * Import tasks from an NDJSON or CSV stream.
+     * @param importId import to resume, or null to start a new one
+     * @param format input format
+     * @param in upload stream
+     * @param user requesting user
+     * @return import result with the first per-row errors
+     */
+    public TaskImportResponse importTasks(Long importId, TaskFileFormat format, InputStream in, User user) {
+        if (!importSlots.tryAcquire()) {
+            throw new TooManyRequestsException("Too many imports in progress, retry later");
+        }
+        try {
+            return runImport(importId, format, in, user);
+        } finally {
+            importSlots.release();
+        }
+    }
+
+    /**
+     * Get the progress of an import.
+     * @param importId import ID
+     * @param userId requesting user ID
+     * @return import progress
+     */
+    @Transactional(readOnly = true)
+    public TaskImportResponse getImport(Long importId, Long userId) {
+        TaskImport taskImport = findImportById(importId);
+        validateImportAccess(taskImport, userId);
+
+        TaskImportResponse response = taskImportMapper.toResponse(taskImport);
+        response.setErrors(List.of());
+        return response;
+    }
+
+    private TaskImportResponse runImport(Long importId, TaskFileFormat format, InputStream in, User user) {
+        TaskImport taskImport = transactionTemplate.execute(status -> claimImport(importId, user));
+        Long jobId = taskImport.getId();
+        long skipRows = taskImport.getCommittedRows();
+        log.info("Starting import {} for user: {} (skipping {} committed rows)", jobId, user.getEmail(), skipRows);
+
+        RowValidator rowValidator = new RowValidator(projectAccessIndex.forUser(user.getId()));
+        BatchWriter writer = new BatchWriter(jobId);
+        Future<?> writerTask = writerExecutor.submit(writer);
+        ImportStatus outcome = ImportStatus.COMPLETED;
+
+        try (TaskImportReader reader = new TaskImportReader(in, format, objectMapper)) {
+            List<ImportRecord> records = new ArrayList<>(importProperties.batchSize());
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                if (record.row() <= skipRows) {
+                    continue;
+                }
+                records.add(record);
+                if (records.size() == importProperties.batchSize()) {
+                    writer.submit(rowValidator.validate(records));
+                    records = new ArrayList<>(importProperties.batchSize());
+                }
+            }
+            if (!records.isEmpty()) {
+                writer.submit(rowValidator.validate(records));
+            }
+        } catch (IOException e) {
+            log.warn("Import {} interrupted while reading input: {}", jobId, e.getMessage());
+            outcome = ImportStatus.INTERRUPTED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = ImportStatus.INTERRUPTED;
+        } catch (RuntimeException e) {
+            log.error("Import {} stopped: {}", jobId, e.getMessage());
+            outcome = ImportStatus.FAILED;
+        } finally {
+            writer.finish();
+        }
+
+        if (!awaitWriter(writer, writerTask, jobId)) {
+            outcome = ImportStatus.FAILED;
+        }
+
+        ImportStatus finalStatus = outcome;
+        transactionTemplate.executeWithoutResult(status ->
+                taskImportRepository.updateStatus(jobId, finalStatus, LocalDateTime.now()));
+
+        TaskImportResponse response = taskImportMapper.toResponse(findImportById(jobId));
+        response.setErrors(rowValidator.reportedErrors);
+        log.info("Import {} finished as {}: {} imported, {} failed",
+                jobId, finalStatus, response.getImportedRows(), response.getFailedRows());
+        return response;
+    }
+
+    private TaskImport claimImport(Long importId, User user) {
+        if (importId == null) {
+            return taskImportRepository.save(TaskImport.builder().user(user).build());
+        }
+
+        TaskImport taskImport = taskImportRepository.findByIdForUpdate(importId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import", "id", importId));
+        validateImportAccess(taskImport, user.getId());
+
+        if (taskImport.getStatus() == ImportStatus.COMPLETED) {
+            throw new BadRequestException("Import " + importId + " is already completed");
+        }
+        if (taskImport.getStatus() == ImportStatus.RUNNING && !isStale(taskImport)) {
+            throw new BadRequestException("Import " + importId + " is still running");
+        }
+
+        taskImport.setStatus(ImportStatus.RUNNING);
+        return taskImport;
+    }
+
+    private boolean isStale(TaskImport taskImport) {
+        LocalDateTime lastActivity = taskImport.getUpdatedAt() != null
+                ? taskImport.getUpdatedAt()
+                : taskImport.getCreatedAt();
+        return lastActivity.isBefore(LocalDateTime.now().minus(importProperties.staleAfter()));
+    }
+
+    private boolean awaitWriter(BatchWriter writer, Future<?> writerTask, Long jobId) {
+        try {
+            writerTask.get();
+            return writer.failure == null;
+        } catch (ExecutionException e) {
+            log.error("Import {} writer failed", jobId, e.getCause());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void writeBatch(Long importId, ImportBatch batch) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        List<Object[]> rows = batch.rows().stream()
+                .map(row -> toInsertParameters(row, today, now))
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            }
+            taskImportRepository.recordProgress(importId, batch.lastRow(), rows.size(), batch.failed(), now);
+        });
+    }
+
+    private Object[] toInsertParameters(ImportRow row, LocalDate today, LocalDateTime now) {
+        CreateTaskRequest request = row.request();
+        Task task = taskMapper.toEntity(request);
+        task.refreshOverdue(today);
+        return new Object[] {
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus().name(),
+                task.getPriority().name(),
+                task.getDueDate(),
+                task.getEstimatedHours(),
+                task.isOverdue(),
+                request.getProjectId(),
+                request.getAssigneeId(),
+                now,
+                now,
+                row.projectOwnerId()
+        };
+    }
+
+    private TaskImport findImportById(Long id) {
+        return taskImportRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Import", "id", id));
+    }
+
+    private void validateImportAccess(TaskImport taskImport, Long userId) {
+        if (!taskImport.getUser().getId().equals(userId)) {
+            throw new UnauthorizedException("You don't have permission to access this import");
+        }
+    }
+
+    /**
+     * A validated slice of the input: the rows to insert, the number of rejected rows,
+     * and the last source row it covers.
+     */
+    private record ImportBatch(List<ImportRow> rows, long failed, long lastRow) {
+    }
+
+    /**
+     * A valid row with the owner of its project, which every task stores for the delta sync index.
+     */
+    private record ImportRow(CreateTaskRequest request, Long projectOwnerId) {
+    }
+
+    /**
+     * Validates rows against the user's project access and pre-resolved project owners and assignees.
+     * Access is read once per import; owners and assignees are resolved per batch with one IN query each.
+     */
+    private final class RowValidator {
+
+        private final ProjectAccess access;
+        private final Map<Long, Long> projectOwners = new HashMap<>();
+        private final Set<Long> knownAssignees = new HashSet<>();
+        private final Set<Long> missingAssignees = new HashSet<>();
+        private final List<TaskImportResponse.RowError> reportedErrors = new ArrayList<>();
+
+        RowValidator(ProjectAccess access) {
+            this.access = access;
+        }
+
+        ImportBatch validate(List<ImportRecord> records) {
+            resolveProjectOwners(records);
+            resolveAssignees(records);
+
+            List<ImportRow> rows = new ArrayList<>(records.size());
+            long failed = 0;
+            for (ImportRecord record : records) {
+                String error = record.error() != null ? record.error() : validateRow(record.request());
+                if (error == null) {
+                    rows.add(new ImportRow(record.request(), projectOwners.get(record.request().getProjectId())));
+                } else {
+                    failed++;
+                    if (reportedErrors.size() < importProperties.maxReportedErrors()) {
+                        reportedErrors.add(TaskImportResponse.RowError.builder()
+                                .row(record.row())
+                                .message(error)
+                                .build());
+                    }
+                }
+            }
+            return new ImportBatch(rows, failed, records.get(records.size() - 1).row());
+        }
+
+        private void resolveProjectOwners(List<ImportRecord> records) {
+            Set<Long> unresolved = records.stream()
+                    .map(ImportRecord::request)
+                    .filter(Objects::nonNull)
+                    .map(CreateTaskRequest::getProjectId)
+                    .filter(id -> access.has(id, ProjectRole.EDITOR) && !projectOwners.containsKey(id))
+                    .collect(Collectors.toSet());
+            if (unresolved.isEmpty()) {
+                return;
+            }
+
+            for (Project project : projectRepository.findByIdInWithOwner(unresolved)) {
+                projectOwners.put(project.getId(), project.getOwner().getId());
+            }
+        }
+
+        private void resolveAssignees(List<ImportRecord> records) {
+            Set<Long> unresolved = records.stream()
+                    .map(ImportRecord::request)
+                    .filter(Objects::nonNull)
+                    .map(CreateTaskRequest::getAssigneeId)
+                    .filter(id -> id != null && !knownAssignees.contains(id) && !missingAssignees.contains(id))
+                    .collect(Collectors.toSet());
+            if (unresolved.isEmpty()) {
+                return;
+            }
+
+            List<Long> existing = userRepository.findExistingIds(unresolved);
+            knownAssignees.addAll(existing);
+            unresolved.removeAll(existing);
+            missingAssignees.addAll(unresolved);
+        }
+
+        private String validateRow(CreateTaskRequest request) {
+            Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                return violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+            }
+            if (!access.has(request.getProjectId(), ProjectRole.EDITOR)
+                    || !projectOwners.containsKey(request.getProjectId())) {
+                return "Project not found with id: '" + request.getProjectId() + "'";
+            }
+            if (request.getAssigneeId() != null && !knownAssignees.contains(request.getAssigneeId())) {
+                return "User not found with id: '" + request.getAssigneeId() + "'";
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Single writer per import, fed through a bounded queue of in-flight batches.
+     * Batches are committed in input order, which keeps the committed row count exact.
+     */
+    private final class BatchWriter implements Runnable {
+
+        private final Long importId;
+        private final BlockingQueue<ImportBatch> queue;
+        private volatile Throwable failure;
+
+        BatchWriter(Long importId) {
+            this.importId = importId;
+            this.queue = new ArrayBlockingQueue<>(importProperties.maxInFlightBatches());
+        }
+
+        void submit(ImportBatch batch) throws InterruptedException {
+            while (!queue.offer(batch, 1, TimeUnit.SECONDS)) {
+                checkHealthy();
+            }
+            checkHealthy();
+        }
+
+        void finish() {
+            try {
+                while (failure == null && !queue.offer(END_OF_INPUT, 1, TimeUnit.SECONDS)) {
+                    // writer is still draining
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    ImportBatch batch = queue.take();
+                    if (batch == END_OF_INPUT) {
+                        return;
+                    }
+                    writeBatch(importId, batch);
+                }
+            } catch (InterruptedException e) {
+                failure = e;
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                failure = e;
+                throw e;
+            }
+        }
+
+        private void checkHealthy() {
+            if (failure != null) {
+                throw new IllegalStateException("Import writer failed: " + failure.getMessage(), failure);
+            }
+        }
+    }
+}
@@ -1,34 +1,50 @@
 package com.taskflow.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.taskflow.dto.common.MultiGetResponse;
 import com.taskflow.dto.common.PageResponse;
 import com.taskflow.dto.task.CreateTaskRequest;
 import com.taskflow.dto.task.TaskResponse;
 import com.taskflow.dto.task.UpdateTaskRequest;
 import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectRole;
 import com.taskflow.entity.Task;
 import com.taskflow.entity.TaskPriority;
 import com.taskflow.entity.TaskStatus;
+import com.taskflow.entity.TaskTombstone;
 import com.taskflow.entity.User;
+import com.taskflow.event.TaskChangeType;
+import com.taskflow.event.TaskChangedEvent;
 import com.taskflow.exception.ResourceNotFoundException;
 import com.taskflow.exception.UnauthorizedException;
+import com.taskflow.mapper.MultiGetMapper;
 import com.taskflow.mapper.PageMapper;
 import com.taskflow.mapper.TaskMapper;
 import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TaskSpecifications;
+import com.taskflow.repository.TaskTombstoneRepository;
 import com.taskflow.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Timed("taskflow.service")
 @RequiredArgsConstructor
 @SuppressWarnings("null")
 public class TaskService {
@@ -36,17 +52,21 @@ public class TaskService {
     // TODO: add caching for frequently accessed tasks
 
     private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
     private final UserRepository userRepository;
     private final ProjectService projectService;
     private final TaskMapper taskMapper;
     private final PageMapper pageMapper;
+    private final MultiGetMapper multiGetMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ActivityLogService activityLogService;
 
     @Transactional
     public TaskResponse createTask(CreateTaskRequest request, Long userId) {
         log.info("Creating new task: {} in project: {}", request.getTitle(), request.getProjectId());
 
         Project project = projectService.findProjectById(request.getProjectId());
-        projectService.validateOwnership(project, userId);
+        projectService.validateAccess(project, userId, ProjectRole.EDITOR);
 
         Task task = taskMapper.toEntity(request);
         task.setProject(project);
@@ -57,10 +77,12 @@ public class TaskService {
             task.setAssignee(assignee);
         }
 
+        task.refreshOverdue(LocalDate.now());
         taskRepository.save(task);
+        activityLogService.recordTaskCreated(task, userId);
         log.info("Task created with id: {}", task.getId());
 
-        return taskMapper.toResponse(task);
+        return publishChange(TaskChangeType.CREATED, task);
     }
 
     /**
@@ -72,10 +94,24 @@ public class TaskService {
     @Transactional(readOnly = true)
     public TaskResponse getTask(Long id, Long userId) {
         Task task = findTaskById(id);
-        validateTaskAccess(task, userId);
+        validateTaskAccess(task, userId, ProjectRole.VIEWER);
         return taskMapper.toResponse(task);
     }
 
+    /**
+     * Get several tasks by ID with one query, checking access against the user's access index.
+     * @param ids task IDs
+     * @param userId requesting user ID
+     * @return tasks in request order, with the IDs that are missing or not accessible
+     */
+    @Transactional(readOnly = true)
+    public MultiGetResponse<TaskResponse> getTasks(Collection<Long> ids, Long userId) {
+        Set<Long> requested = multiGetMapper.requestedIds(ids);
+        ProjectAccess access = projectService.accessOf(userId);
+        return multiGetMapper.toMultiGetResponse(requested, taskRepository.findResponsesByIdIn(requested),
+                TaskResponse::getId, task -> access.has(task.getProjectId(), ProjectRole.VIEWER));
+    }
+
     /**
      * Get all tasks for a project.
      * @param projectId project ID
@@ -85,22 +121,37 @@ public class TaskService {
      */
     @Transactional(readOnly = true)
     public PageResponse<TaskResponse> getProjectTasks(Long projectId, Long userId, Pageable pageable) {
-        Project project = projectService.findProjectById(projectId);
-        projectService.validateOwnership(project, userId);
+        projectService.validateAccess(projectId, userId, ProjectRole.VIEWER);
 
         Page<Task> tasks = taskRepository.findByProjectId(projectId, pageable);
         return pageMapper.toPageResponse(tasks, taskMapper::toResponse);
     }
 
     /**
-     * Get all tasks for the current user.
+     * Get the oldest tasks of several projects in one query, e.g. to resolve the tasks of a page of projects.
+     * @param projectIds project IDs
+     * @param userId requesting user ID; must have access to every project
+     * @param maxPerProject most tasks to return per project
+     * @return tasks of all the projects, oldest first
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getTasksByProjectIds(Set<Long> projectIds, Long userId, int maxPerProject) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        projectService.validateAccess(projectIds, userId, ProjectRole.VIEWER);
+        return taskRepository.findResponsesByProjectIdIn(projectIds, maxPerProject);
+    }
+
+    /**
+     * Get all tasks of the projects the current user owns or is a member of.
      * @param userId user ID
      * @param pageable pagination info
      * @return paginated tasks
      */
     @Transactional(readOnly = true)
     public PageResponse<TaskResponse> getUserTasks(Long userId, Pageable pageable) {
-        Page<Task> tasks = taskRepository.findAllByProjectOwnerId(userId, pageable);
+        Page<Task> tasks = taskRepository.findAllAccessibleByUserId(userId, pageable);
         return pageMapper.toPageResponse(tasks, taskMapper::toResponse);
     }
 
@@ -120,16 +171,15 @@ public class TaskService {
     }
 
     /**
-     * Get overdue tasks for a user.
+     * Get overdue tasks assigned to a user.
      * @param userId user ID
-     * @return list of overdue tasks
+     * @param pageable pagination info
+     * @return paginated overdue tasks
      */
     @Transactional(readOnly = true)
-    public List<TaskResponse> getOverdueTasks(Long userId) {
-        List<Task> tasks = taskRepository.findOverdueTasks(userId, LocalDate.now());
-        return tasks.stream()
-                .map(taskMapper::toResponse)
-                .toList();
+    public PageResponse<TaskResponse> getOverdueTasks(Long userId, Pageable pageable) {
+        Page<Task> tasks = taskRepository.findOverdueTasks(userId, LocalDate.now(), pageable);
+        return pageMapper.toPageResponse(tasks, taskMapper::toResponse);
     }
 
     /**
@@ -143,13 +193,112 @@ public class TaskService {
     @Transactional(readOnly = true)
     public PageResponse<TaskResponse> searchTasks(Long projectId, String search, 
                                                    Long userId, Pageable pageable) {
-        Project project = projectService.findProjectById(projectId);
-        projectService.validateOwnership(project, userId);
+        projectService.validateAccess(projectId, userId, ProjectRole.VIEWER);
 
         Page<Task> tasks = taskRepository.searchByProject(projectId, search, pageable);
         return pageMapper.toPageResponse(tasks, taskMapper::toResponse);
     }
 
+    /**
+     * Get selected fields of a task.
+     * @param id task ID
+     * @param userId requesting user ID
+     * @param fields comma-separated field names, see {@link TaskRepository#FIELDS}
+     * @return the selected fields and the ID
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getTask(Long id, Long userId, String fields) {
+        List<String> selected = TaskRepository.FIELDS.resolve(fields);
+        return taskRepository.findSparse(TaskSpecifications.hasId(id).and(TaskSpecifications.accessibleBy(userId)),
+                        selected, Pageable.unpaged())
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> {
+                    // Tell a missing task from someone else's, as the full read does
+                    validateTaskAccess(findTaskById(id), userId, ProjectRole.VIEWER);
+                    return new ResourceNotFoundException("Task", "id", id);
+                });
+    }
+
+    /**
+     * Get selected fields of all tasks for a project.
+     * @param projectId project ID
+     * @param userId requesting user ID
+     * @param fields comma-separated field names, see {@link TaskRepository#FIELDS}
+     * @param pageable pagination info
+     * @return paginated rows of the selected fields
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> getProjectTasks(Long projectId, Long userId, String fields,
+                                                             Pageable pageable) {
+        projectService.validateAccess(projectId, userId, ProjectRole.VIEWER);
+
+        return findSparse(TaskSpecifications.inProject(projectId), fields, pageable);
+    }
+
+    /**
+     * Get selected fields of all tasks of the projects the current user owns or is a member of.
+     * @param userId user ID
+     * @param fields comma-separated field names, see {@link TaskRepository#FIELDS}
+     * @param pageable pagination info
+     * @return paginated rows of the selected fields
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> getUserTasks(Long userId, String fields, Pageable pageable) {
+        return findSparse(TaskSpecifications.accessibleBy(userId), fields, pageable);
+    }
+
+    /**
+     * Get selected fields of tasks assigned to a user with optional filters.
+     * @param userId user ID
+     * @param status optional status filter
+     * @param priority optional priority filter
+     * @param fields comma-separated field names, see {@link TaskRepository#FIELDS}
+     * @param pageable pagination info
+     * @return paginated rows of the selected fields
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> getAssignedTasks(Long userId, TaskStatus status, TaskPriority priority,
+                                                              String fields, Pageable pageable) {
+        Specification<Task> where = TaskSpecifications.assignedTo(userId)
+                .and(TaskSpecifications.withStatus(status))
+                .and(TaskSpecifications.withPriority(priority));
+        return findSparse(where, fields, pageable);
+    }
+
+    /**
+     * Get selected fields of overdue tasks assigned to a user.
+     * @param userId user ID
+     * @param fields comma-separated field names, see {@link TaskRepository#FIELDS}
+     * @param pageable pagination info
+     * @return paginated rows of the selected fields
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> getOverdueTasks(Long userId, String fields, Pageable pageable) {
+        Specification<Task> where = TaskSpecifications.assignedTo(userId)
+                .and(TaskSpecifications.overdueOn(LocalDate.now()));
+        return findSparse(where, fields, pageable);
+    }
+
+    /**
+     * Search tasks in a project, returning selected fields.
+     * @param projectId project ID
+     * @param search search term
+     * @param userId requesting user ID
+     * @param fields comma-separated field names, see {@link TaskRepository#FIELDS}
+     * @param pageable pagination info
+     * @return paginated rows of the selected fields
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> searchTasks(Long projectId, String search, Long userId,
+                                                         String fields, Pageable pageable) {
+        projectService.validateAccess(projectId, userId, ProjectRole.VIEWER);
+
+        Specification<Task> where = TaskSpecifications.inProject(projectId)
+                .and(TaskSpecifications.matching(search));
+        return findSparse(where, fields, pageable);
+    }
+
     /**
      * Update a task.
      * @param id task ID
@@ -162,8 +311,9 @@ public class TaskService {
         log.info("Updating task with id: {}", id);
 
         Task task = findTaskById(id);
-        validateTaskAccess(task, userId);
+        validateTaskAccess(task, userId, ProjectRole.EDITOR);
 
+        Map<String, String> before = ActivityLogService.snapshotOf(task);
         taskMapper.updateEntity(request, task);
 
         if (request.getAssigneeId() != null) {
@@ -172,10 +322,12 @@ public class TaskService {
             task.setAssignee(assignee);
         }
 
+        task.refreshOverdue(LocalDate.now());
         taskRepository.save(task);
+        activityLogService.recordTaskUpdated(task, before, userId);
         log.info("Task updated: {}", task.getTitle());
 
-        return taskMapper.toResponse(task);
+        return publishChange(TaskChangeType.UPDATED, task);
     }
 
     /**
@@ -190,12 +342,15 @@ public class TaskService {
         log.info("Updating task {} status to: {}", id, status);
 
         Task task = findTaskById(id);
-        validateTaskAccess(task, userId);
+        validateTaskAccess(task, userId, ProjectRole.EDITOR);
 
+        TaskStatus previous = task.getStatus();
         task.setStatus(status);
+        task.refreshOverdue(LocalDate.now());
         taskRepository.save(task);
+        activityLogService.recordTaskStatusChanged(task, previous, userId);
 
-        return taskMapper.toResponse(task);
+        return publishChange(TaskChangeType.STATUS_CHANGED, task);
     }
 
     /**
@@ -208,19 +363,39 @@ public class TaskService {
         log.info("Deleting task with id: {}", id);
 
         Task task = findTaskById(id);
-        validateTaskAccess(task, userId);
+        validateTaskAccess(task, userId, ProjectRole.EDITOR);
 
         taskRepository.delete(task);
+        activityLogService.recordTaskDeleted(task, userId);
+        taskTombstoneRepository.save(TaskTombstone.builder()
+                .taskId(task.getId())
+                .projectId(task.getProject().getId())
+                .ownerId(task.getProject().getOwner().getId())
+                .deletedAt(LocalDateTime.now())
+                .build());
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(task.getId(), task.getProject().getId()));
         log.info("Task deleted: {}", task.getTitle());
     }
 
+    private TaskResponse publishChange(TaskChangeType type, Task task) {
+        TaskResponse response = taskMapper.toResponse(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(type, response));
+        return response;
+    }
+
+    private PageResponse<Map<String, Object>> findSparse(Specification<Task> where, String fields,
+                                                         Pageable pageable) {
+        List<String> selected = TaskRepository.FIELDS.resolve(fields);
+        return pageMapper.toPageResponse(taskRepository.findSparse(where, selected, pageable), row -> row);
+    }
+
     private Task findTaskById(Long id) {
         return taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
     }
 
-    private void validateTaskAccess(Task task, Long userId) {
-        if (!task.getProject().getOwner().getId().equals(userId)) {
+    private void validateTaskAccess(Task task, Long userId, ProjectRole role) {
+        if (!projectService.accessOf(userId).has(task.getProject().getId(), role)) {
             throw new UnauthorizedException("You don't have permission to access this task");
         }
     }
@@ -0,0 +1,140 @@
+package com.taskflow.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskflow.config.SyncProperties;
+import com.taskflow.dto.task.TaskChangesResponse;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.TaskTombstone;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TaskTombstoneRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves task changes since a client cursor for offline-capable clients.
+ * <p>
+ * Changed tasks and tombstones are read as two keyset streams, over the owner's indexes and, for
+ * projects shared with the user, the projects' indexes, and merged in time order. Changes newer than
+ * the settle lag are held back, so a row whose transaction commits late cannot land behind a cursor
+ * that was already handed out.
+ * <p>
+ * A project shared with the user after a cursor was issued has tasks older than the cursor, and one
+ * no longer shared leaves no tombstones for the user. The cursor therefore carries a fingerprint of the
+ * shared projects, and a client whose shares changed is told to reset.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@SuppressWarnings("null")
+public class TaskSyncService {
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final ProjectAccessIndex projectAccessIndex;
+    private final SyncProperties syncProperties;
+
+    /**
+     * Get tasks changed or deleted since a cursor.
+     * @param userId requesting user ID
+     * @param since cursor from a previous call, or null for a full sync
+     * @param limit maximum number of changes to return
+     * @return changes and the cursor to continue from
+     */
+    @Transactional(readOnly = true)
+    public TaskChangesResponse getChanges(Long userId, String since, int limit) {
+        SyncCursor cursor = since == null || since.isBlank() ? SyncCursor.START : SyncCursor.decode(since);
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sharedProjectIds = projectAccessIndex.forUser(userId).sharedProjectIds();
+        long sharedHash = SyncCursor.sharedHash(sharedProjectIds);
+
+        // Tombstones older than the retention period are gone, so the client may have missed deletions;
+        // changed shares leave gaps that neither stream covers
+        if (!cursor.isStart() && (cursor.deletedAt().isBefore(now.minus(syncProperties.tombstoneRetention()))
+                || cursor.sharedHash() != sharedHash)) {
+            return TaskChangesResponse.builder()
+                    .changed(List.of())
+                    .deleted(List.of())
+                    .resetRequired(true)
+                    .build();
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, syncProperties.maxPageSize()));
+        LocalDateTime until = now.minus(syncProperties.settleLag());
+        PageRequest fetch = PageRequest.of(0, pageSize + 1);
+
+        List<TaskResponse> tasks;
+        List<TaskTombstone> tombstones;
+        if (sharedProjectIds.isEmpty()) {
+            tasks = taskRepository.findChangedSince(
+                    userId, cursor.changedAt(), cursor.taskId(), until, fetch);
+            tombstones = taskTombstoneRepository.findDeletedSince(
+                    userId, cursor.deletedAt(), cursor.tombstoneId(), until, fetch);
+        } else {
+            tasks = taskRepository.findChangedSinceIncluding(
+                    userId, sharedProjectIds, cursor.changedAt(), cursor.taskId(), until, fetch);
+            tombstones = taskTombstoneRepository.findDeletedSinceIncluding(
+                    userId, sharedProjectIds, cursor.deletedAt(), cursor.tombstoneId(), until, fetch);
+        }
+
+        int changedCount = 0;
+        int deletedCount = 0;
+        while (changedCount + deletedCount < pageSize
+                && (changedCount < tasks.size() || deletedCount < tombstones.size())) {
+            boolean nextIsChange = deletedCount == tombstones.size()
+                    || (changedCount < tasks.size() && !tasks.get(changedCount).getUpdatedAt()
+                            .isAfter(tombstones.get(deletedCount).getDeletedAt()));
+            if (nextIsChange) {
+                changedCount++;
+            } else {
+                deletedCount++;
+            }
+        }
+
+        List<TaskResponse> changed = tasks.subList(0, changedCount);
+        List<TaskTombstone> deleted = tombstones.subList(0, deletedCount);
+        // A stream that was read to the end is caught up to the settle point, not just its last row
+        boolean changesDrained = changedCount == tasks.size();
+        boolean deletionsDrained = deletedCount == tombstones.size();
+
+        SyncCursor next = new SyncCursor(
+                changesDrained ? until : changed.get(changedCount - 1).getUpdatedAt(),
+                changesDrained ? 0 : changed.get(changedCount - 1).getId(),
+                deletionsDrained ? until : deleted.get(deletedCount - 1).getDeletedAt(),
+                deletionsDrained ? 0 : deleted.get(deletedCount - 1).getId(),
+                sharedHash);
+
+        return TaskChangesResponse.builder()
+                .changed(List.copyOf(changed))
+                .deleted(deleted.stream().map(this::toDeletedTask).toList())
+                .cursor(next.encode())
+                .hasMore(!changesDrained || !deletionsDrained)
+                .build();
+    }
+
+    /**
+     * Drop tombstones past the retention period; clients holding older cursors are told to reset.
+     */
+    @Scheduled(cron = "${taskflow.sync.tombstone-purge-cron}")
+    @Transactional
+    public void purgeTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(syncProperties.tombstoneRetention());
+        int purged = taskTombstoneRepository.deleteDeletedBefore(cutoff);
+        log.info("Purged {} task tombstones older than {}", purged, cutoff);
+    }
+
+    private TaskChangesResponse.DeletedTask toDeletedTask(TaskTombstone tombstone) {
+        return TaskChangesResponse.DeletedTask.builder()
+                .taskId(tombstone.getTaskId())
+                .projectId(tombstone.getProjectId())
+                .deletedAt(tombstone.getDeletedAt())
+                .build();
+    }
+}
@@ -1,29 +1,38 @@
 package com.taskflow.service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.taskflow.dto.common.MultiGetResponse;
 import com.taskflow.dto.user.ChangePasswordRequest;
 import com.taskflow.dto.user.UpdateUserRequest;
 import com.taskflow.dto.user.UserResponse;
 import com.taskflow.entity.User;
 import com.taskflow.exception.BadRequestException;
 import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.mapper.MultiGetMapper;
 import com.taskflow.mapper.UserMapper;
 import com.taskflow.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Timed("taskflow.service")
 @RequiredArgsConstructor
 @SuppressWarnings("null")
 public class UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final MultiGetMapper multiGetMapper;
     private final PasswordEncoder passwordEncoder;
 
     @Transactional(readOnly = true)
@@ -32,6 +41,31 @@ public class UserService {
         return userMapper.toResponse(user);
     }
 
+    /**
+     * Get several users at once, e.g. to resolve the assignees of a page of tasks.
+     * @param ids user IDs
+     * @return the users found, in no particular order
+     */
+    @Transactional(readOnly = true)
+    public List<UserResponse> getUsers(Collection<Long> ids) {
+        return userRepository.findAllById(ids).stream()
+                .map(userMapper::toResponse)
+                .toList();
+    }
+
+    /**
+     * Get several users by ID with one query. Profiles are visible to every user, as with
+     * {@link #getUserById(Long)}, so no ID is reported as forbidden.
+     * @param ids user IDs
+     * @return users in request order, with the IDs that do not exist
+     */
+    @Transactional(readOnly = true)
+    public MultiGetResponse<UserResponse> getUsersByIds(Collection<Long> ids) {
+        Set<Long> requested = multiGetMapper.requestedIds(ids);
+        return multiGetMapper.toMultiGetResponse(requested, getUsers(requested), UserResponse::getId,
+                user -> true);
+    }
+
     /**
      * Get user by email.
      * @param email user email
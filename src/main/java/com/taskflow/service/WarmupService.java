@@ -0,0 +1,314 @@
+package com.taskflow.service;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.config.WarmupProperties;
+import com.taskflow.dto.task.CreateTaskRequest;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.dto.task.UpdateTaskRequest;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.entity.User;
+import com.taskflow.mapper.ProjectMapper;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.security.JwtService;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exercises the hot request paths before the instance reports ready, so the JIT has compiled them by
+ * the time real traffic arrives.
+ * <p>
+ * Runs as an application runner: Spring Boot publishes the ACCEPTING_TRAFFIC readiness state only once
+ * all runners have returned, so {@code /actuator/health/readiness} stays down until warm-up ends.
+ * Each pass signs and parses a token, maps and serializes synthetic entities, deserializes and validates
+ * a write request, and runs the hot queries in a read-only transaction for IDs no row uses. Nothing is
+ * written. A failure ends warm-up early but never fails startup.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "taskflow.warmup", name = "enabled", havingValue = "true")
+public class WarmupService implements ApplicationRunner {
+
+    // No row has a negative ID, so the queries run their full plan and return nothing
+    private static final long MISSING_ID = -1L;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private final WarmupProperties properties;
+    private final JwtService jwtService;
+    private final TaskMapper taskMapper;
+    private final ProjectMapper projectMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final DataSource dataSource;
+    private final Clock clock;
+
+    private final AtomicInteger iterationsCompleted = new AtomicInteger();
+    private final Map<String, Long> phaseMillis = new ConcurrentHashMap<>();
+    private volatile Status status = Status.PENDING;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile int poolConnections;
+    private volatile String failure;
+
+    public WarmupService(WarmupProperties properties, JwtService jwtService, TaskMapper taskMapper,
+                         ProjectMapper projectMapper, ObjectMapper objectMapper, Validator validator,
+                         UserRepository userRepository, ProjectRepository projectRepository,
+                         TaskRepository taskRepository, PlatformTransactionManager transactionManager,
+                         DataSource dataSource) {
+        this(properties, jwtService, taskMapper, projectMapper, objectMapper, validator, userRepository,
+                projectRepository, taskRepository, transactionManager, dataSource, Clock.systemUTC());
+    }
+
+    WarmupService(WarmupProperties properties, JwtService jwtService, TaskMapper taskMapper,
+                  ProjectMapper projectMapper, ObjectMapper objectMapper, Validator validator,
+                  UserRepository userRepository, ProjectRepository projectRepository,
+                  TaskRepository taskRepository, PlatformTransactionManager transactionManager,
+                  DataSource dataSource, Clock clock) {
+        this.properties = properties;
+        this.jwtService = jwtService;
+        this.taskMapper = taskMapper;
+        this.projectMapper = projectMapper;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.dataSource = dataSource;
+        this.clock = clock;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        startedAt = clock.instant();
+        status = Status.RUNNING;
+        log.info("Warming up: up to {} iterations or {}", properties.iterations(), properties.maxDuration());
+        try {
+            if (properties.fillPool()) {
+                timed("pool", this::fillConnectionPool);
+            }
+            timed("iterations", this::iterate);
+            status = Status.COMPLETED;
+        } catch (RuntimeException e) {
+            failure = e.getMessage();
+            status = Status.FAILED;
+            log.warn("Warm-up failed after {} iterations; accepting traffic anyway", iterationsCompleted.get(), e);
+        } finally {
+            finishedAt = clock.instant();
+        }
+        log.info("Warm-up {} in {} ms: {} iterations, {} pooled connections", status.name().toLowerCase(Locale.ROOT),
+                Duration.between(startedAt, finishedAt).toMillis(), iterationsCompleted.get(), poolConnections);
+    }
+
+    /**
+     * Current warm-up state, for the actuator endpoint.
+     */
+    public Progress getProgress() {
+        Instant start = startedAt;
+        Instant end = finishedAt != null ? finishedAt : clock.instant();
+        return new Progress(status, iterationsCompleted.get(), properties.iterations(), properties.maxDuration(),
+                start, finishedAt, start != null ? Duration.between(start, end).toMillis() : 0,
+                poolConnections, Map.copyOf(phaseMillis), failure);
+    }
+
+    private void iterate() {
+        Instant deadline = startedAt.plus(properties.maxDuration());
+        User user = syntheticUser();
+        Project project = syntheticProject(user);
+        Task task = syntheticTask(project, user);
+
+        while (iterationsCompleted.get() < properties.iterations() && clock.instant().isBefore(deadline)) {
+            exerciseAuthentication(user);
+            exerciseMapping(project, task);
+            exerciseQueries();
+            iterationsCompleted.incrementAndGet();
+        }
+    }
+
+    private void exerciseAuthentication(User user) {
+        String token = jwtService.generateToken(user);
+        jwtService.isTokenValid(jwtService.extractAllClaims(token), user);
+    }
+
+    private void exerciseMapping(Project project, Task task) {
+        try {
+            TaskResponse response = taskMapper.toResponse(task);
+            objectMapper.writeValueAsBytes(response);
+            objectMapper.writeValueAsBytes(projectMapper.toResponse(project));
+
+            CreateTaskRequest request = objectMapper.readValue(objectMapper.writeValueAsBytes(CreateTaskRequest.builder()
+                    .title(task.getTitle())
+                    .description(task.getDescription())
+                    .projectId(project.getId())
+                    .priority(TaskPriority.HIGH)
+                    .dueDate(task.getDueDate())
+                    .estimatedHours(3)
+                    .build()), CreateTaskRequest.class);
+            validator.validate(request);
+            Task created = taskMapper.toEntity(request);
+
+            UpdateTaskRequest update = UpdateTaskRequest.builder().status(TaskStatus.IN_PROGRESS).build();
+            validator.validate(update);
+            taskMapper.updateEntity(update, created);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize warm-up data", e);
+        }
+    }
+
+    private void exerciseQueries() {
+        readOnlyTransaction.executeWithoutResult(transaction -> {
+            userRepository.findByEmail("warmup@taskflow.invalid");
+            projectRepository.findById(MISSING_ID);
+            projectRepository.findIdsByOwnerId(MISSING_ID);
+            projectRepository.findAccessibleByUserId(MISSING_ID, FIRST_PAGE);
+            projectRepository.searchAccessible(MISSING_ID, "warmup", FIRST_PAGE);
+            taskRepository.findById(MISSING_ID);
+            taskRepository.findByProjectId(MISSING_ID, FIRST_PAGE);
+            taskRepository.findAllAccessibleByUserId(MISSING_ID, FIRST_PAGE);
+            taskRepository.findByAssigneeWithFilters(MISSING_ID, null, null, FIRST_PAGE);
+            taskRepository.findOverdueTasks(MISSING_ID, LocalDate.now(clock), FIRST_PAGE);
+            taskRepository.searchByProject(MISSING_ID, "warmup", FIRST_PAGE);
+            transaction.setRollbackOnly();
+        });
+    }
+
+    /**
+     * Check out every connection the pool may hold at once, so none is opened on the request path.
+     * Goes to Hikari directly: wrappers such as the bulkhead may admit fewer concurrent checkouts.
+     */
+    private void fillConnectionPool() {
+        HikariDataSource pool = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+        if (pool == null) {
+            log.debug("DataSource is not a Hikari pool; not pre-filling it");
+            return;
+        }
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < pool.getMaximumPoolSize(); i++) {
+                connections.add(pool.getConnection());
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to open pooled connection " + (connections.size() + 1), e);
+        } finally {
+            poolConnections = connections.size();
+            connections.forEach(WarmupService::closeQuietly);
+        }
+    }
+
+    private void timed(String phase, Runnable action) {
+        Instant start = clock.instant();
+        try {
+            action.run();
+        } finally {
+            phaseMillis.put(phase, Duration.between(start, clock.instant()).toMillis());
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to return warm-up connection: {}", e.getMessage());
+        }
+    }
+
+    private static User syntheticUser() {
+        return User.builder()
+                .id(MISSING_ID)
+                .email("warmup@taskflow.invalid")
+                .password("")
+                .firstName("Warm")
+                .lastName("Up")
+                .build();
+    }
+
+    private static Project syntheticProject(User owner) {
+        Project project = Project.builder()
+                .id(MISSING_ID)
+                .name("Warm-up project")
+                .description("Synthetic project used to exercise request paths at startup")
+                .owner(owner)
+                .build();
+        project.setCreatedAt(LocalDateTime.now());
+        project.setUpdatedAt(LocalDateTime.now());
+        return project;
+    }
+
+    private static Task syntheticTask(Project project, User assignee) {
+        Task task = Task.builder()
+                .id(MISSING_ID)
+                .title("Warm-up task")
+                .description("Synthetic task used to exercise request paths at startup")
+                .priority(TaskPriority.HIGH)
+                .dueDate(LocalDate.now().plusDays(7))
+                .project(project)
+                .ownerId(project.getOwner().getId())
+                .assignee(assignee)
+                .estimatedHours(5)
+                .build();
+        task.setCreatedAt(LocalDateTime.now());
+        task.setUpdatedAt(LocalDateTime.now());
+        project.getTasks().add(task);
+        return task;
+    }
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public record Progress(
+            Status status,
+            int iterationsCompleted,
+            int iterationsTarget,
+            Duration maxDuration,
+            Instant startedAt,
+            Instant finishedAt,
+            long elapsedMillis,
+            int poolConnections,
+            Map<String, Long> phaseMillis,
+            String failure) {
+    }
+}
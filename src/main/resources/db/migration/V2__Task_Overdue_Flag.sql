@@ -0,0 +1,13 @@
+-- V2__Task_Overdue_Flag.sql
+
+-- Persisted overdue flag, maintained on writes and by the daily overdue sweep
+ALTER TABLE tasks ADD COLUMN overdue BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE tasks SET overdue = TRUE
+WHERE due_date < CURRENT_DATE AND status <> 'DONE';
+
+-- Serves the paged overdue listing per assignee
+CREATE INDEX idx_tasks_assignee_open_due ON tasks(assignee_id, due_date) WHERE status <> 'DONE';
+
+-- Serves the sweeper; only holds open tasks that have not been flagged yet
+CREATE INDEX idx_tasks_sweep_due ON tasks(due_date) WHERE status <> 'DONE' AND overdue = FALSE;
@@ -0,0 +1,15 @@
+-- V3__Task_Imports.sql
+
+-- Bulk import jobs; committed_rows is the number of source rows handled by committed batches
+CREATE TABLE task_imports (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL DEFAULT 'RUNNING',
+    committed_rows BIGINT NOT NULL DEFAULT 0,
+    imported_rows BIGINT NOT NULL DEFAULT 0,
+    failed_rows BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+CREATE INDEX idx_task_imports_user_id ON task_imports(user_id);
@@ -0,0 +1,26 @@
+-- V4__Task_Delta_Sync.sql
+
+-- Owner denormalized onto tasks so change feeds are served by a single index range scan
+ALTER TABLE tasks ADD COLUMN owner_id BIGINT;
+
+UPDATE tasks t SET owner_id = p.owner_id FROM projects p WHERE p.id = t.project_id;
+
+ALTER TABLE tasks ALTER COLUMN owner_id SET NOT NULL;
+
+UPDATE tasks SET updated_at = created_at WHERE updated_at IS NULL;
+
+ALTER TABLE tasks ALTER COLUMN updated_at SET NOT NULL;
+
+CREATE INDEX idx_tasks_owner_updated ON tasks(owner_id, updated_at, id);
+
+-- Deleted tasks, kept for the retention period so clients can catch up on deletions
+CREATE TABLE task_tombstones (
+    id BIGSERIAL PRIMARY KEY,
+    task_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    owner_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_task_tombstones_owner_deleted ON task_tombstones(owner_id, deleted_at, id);
+CREATE INDEX idx_task_tombstones_deleted_at ON task_tombstones(deleted_at);
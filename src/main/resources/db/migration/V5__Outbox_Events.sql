@@ -0,0 +1,23 @@
+-- V5__Outbox_Events.sql
+
+-- Transactional outbox: domain events written with the change that caused them, drained by the relay.
+-- Delivered rows are deleted; rows that keep failing are parked with dead_lettered_at set.
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(1000),
+    dead_lettered_at TIMESTAMP
+);
+
+-- Relay scan in id order over pending rows
+CREATE INDEX idx_outbox_events_pending ON outbox_events(id) WHERE dead_lettered_at IS NULL;
+
+-- Head-of-line check per aggregate
+CREATE INDEX idx_outbox_events_aggregate ON outbox_events(aggregate_type, aggregate_id, id)
+    WHERE dead_lettered_at IS NULL;
@@ -0,0 +1,17 @@
+-- V6__Activity_Log.sql
+
+-- Append-only history of task and project changes; changes holds field-level diffs as JSON.
+-- No foreign keys, so history outlives the rows it describes.
+CREATE TABLE activity_log (
+    id BIGSERIAL PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    task_id BIGINT,
+    actor_id BIGINT NOT NULL,
+    action VARCHAR(30) NOT NULL,
+    changes TEXT,
+    occurred_at TIMESTAMP NOT NULL
+);
+
+-- Keyset history per task and per project, newest first
+CREATE INDEX idx_activity_log_task ON activity_log(task_id, id) WHERE task_id IS NOT NULL;
+CREATE INDEX idx_activity_log_project ON activity_log(project_id, id);
@@ -0,0 +1,16 @@
+-- V7__Project_Members.sql
+
+-- Users a project is shared with. The owner has no row: ownership implies every right.
+CREATE TABLE project_members (
+    id BIGSERIAL PRIMARY KEY,
+    project_id BIGINT NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    role VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_project_members_project_user UNIQUE (project_id, user_id)
+);
+
+-- Loading a user's access index and the membership semi-joins of list queries go by user;
+-- the unique constraint serves lookups by project
+CREATE INDEX idx_project_members_user ON project_members(user_id, project_id);
@@ -0,0 +1,8 @@
+-- V8__Shared_Delta_Sync.sql
+
+-- Delta sync reads the tasks and tombstones of projects shared with a user by project
+CREATE INDEX idx_tasks_project_updated ON tasks(project_id, updated_at, id);
+CREATE INDEX idx_task_tombstones_project_deleted ON task_tombstones(project_id, deleted_at, id);
+
+-- Lookups by project alone are served by the prefix of the new index
+DROP INDEX idx_tasks_project_id;
@@ -0,0 +1,53 @@
+package com.taskflow.reactive.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.taskflow.exception.BadRequestException;
+
+/**
+ * Unit tests for SqlOrderBy.
+ * Tests column mapping, the tie-breaker and rejection of unknown properties.
+ */
+@DisplayName("SqlOrderBy Tests")
+class SqlOrderByTest {
+
+    private static final Map<String, String> COLUMNS = Map.of(
+            "id", "t.id",
+            "dueDate", "t.due_date",
+            "createdAt", "t.created_at");
+
+    @Test
+    @DisplayName("Should map properties to columns and append the tie-breaker")
+    void shouldMapPropertiesAndAppendTieBreaker() {
+        Sort sort = Sort.by(Sort.Order.asc("dueDate"), Sort.Order.desc("createdAt"));
+
+        assertThat(SqlOrderBy.of(sort, COLUMNS, "t.id"))
+                .isEqualTo("ORDER BY t.due_date ASC, t.created_at DESC, t.id ASC");
+    }
+
+    @Test
+    @DisplayName("Should not repeat the tie-breaker when it is already sorted on")
+    void shouldNotRepeatTieBreaker() {
+        assertThat(SqlOrderBy.of(Sort.by(Sort.Order.desc("id")), COLUMNS, "t.id"))
+                .isEqualTo("ORDER BY t.id DESC");
+    }
+
+    @Test
+    @DisplayName("Should order by the tie-breaker alone when unsorted")
+    void shouldOrderByTieBreakerWhenUnsorted() {
+        assertThat(SqlOrderBy.of(Sort.unsorted(), COLUMNS, "t.id")).isEqualTo("ORDER BY t.id ASC");
+    }
+
+    @Test
+    @DisplayName("Should reject properties that are not sortable")
+    void shouldRejectUnknownProperty() {
+        assertThatThrownBy(() -> SqlOrderBy.of(Sort.by("title; DROP TABLE tasks"), COLUMNS, "t.id"))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,97 @@
+package com.taskflow.reactive.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.web.server.WebFilterChain;
+
+import com.taskflow.config.JwtProperties;
+import com.taskflow.reactive.repository.ReactiveUserRepository;
+import com.taskflow.security.JwtService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for ReactiveJwtAuthenticationFilter.
+ * Tests that valid tokens authenticate the exchange and anything else passes through unauthenticated.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveJwtAuthenticationFilter Tests")
+class ReactiveJwtAuthenticationFilterTest {
+
+    private static final String SECRET = "dGFza2Zsb3ctdW5pdC10ZXN0LXNpZ25pbmcta2V5LTAxMjM0NTY3ODk=";
+
+    @Mock
+    private ReactiveUserRepository userRepository;
+
+    private JwtService jwtService;
+    private ReactiveJwtAuthenticationFilter filter;
+    private final AtomicReference<Authentication> authenticated = new AtomicReference<>();
+    private final WebFilterChain chain = exchange -> ReactiveSecurityContextHolder.getContext()
+            .map(SecurityContext::getAuthentication)
+            .doOnNext(authenticated::set)
+            .then();
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(new JwtProperties(SECRET, 3600000, 86400000), new SimpleMeterRegistry());
+        filter = new ReactiveJwtAuthenticationFilter(jwtService, userRepository);
+    }
+
+    @Test
+    @DisplayName("Should authenticate the exchange for a valid token of an enabled user")
+    void shouldAuthenticateValidToken() {
+        ReadUser user = new ReadUser(1L, "john@example.com", "USER");
+        when(userRepository.findEnabledByEmail("john@example.com")).thenReturn(Mono.just(user));
+
+        StepVerifier.create(filter.filter(exchangeWithToken(token("john@example.com")), chain)).verifyComplete();
+
+        assertThat(authenticated.get().getPrincipal()).isEqualTo(user);
+        assertThat(authenticated.get().getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("Should leave the exchange unauthenticated when the user is unknown or disabled")
+    void shouldNotAuthenticateUnknownUser() {
+        when(userRepository.findEnabledByEmail("john@example.com")).thenReturn(Mono.empty());
+
+        StepVerifier.create(filter.filter(exchangeWithToken(token("john@example.com")), chain)).verifyComplete();
+
+        assertThat(authenticated.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should pass an invalid token through without a database lookup")
+    void shouldIgnoreInvalidToken() {
+        StepVerifier.create(filter.filter(exchangeWithToken("not-a-token"), chain)).verifyComplete();
+
+        assertThat(authenticated.get()).isNull();
+        verifyNoInteractions(userRepository);
+    }
+
+    private String token(String email) {
+        return jwtService.generateToken(User.withUsername(email).password("secret").build());
+    }
+
+    private static MockServerWebExchange exchangeWithToken(String token) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/tasks/assigned")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+}
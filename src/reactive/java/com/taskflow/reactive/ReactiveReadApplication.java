@@ -0,0 +1,40 @@
+package com.taskflow.reactive;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+
+import com.taskflow.config.JwtProperties;
+import com.taskflow.mapper.PageMapper;
+import com.taskflow.security.JwtService;
+
+/**
+ * Read-only node serving the hottest read endpoints on WebFlux and R2DBC.
+ * <p>
+ * Shares DTOs, token verification and the database schema with the main application, which owns writes
+ * and runs the Flyway migrations. Only the {@code com.taskflow.reactive} packages are scanned, so none of
+ * the servlet, JPA or background-job beans start here.
+ */
+@SpringBootApplication(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class
+})
+@ConfigurationPropertiesScan
+@EnableConfigurationProperties(JwtProperties.class)
+@Import({JwtService.class, PageMapper.class})
+public class ReactiveReadApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveReadApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles("reactive")
+                .run(args);
+    }
+}
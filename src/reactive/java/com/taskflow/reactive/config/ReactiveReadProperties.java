@@ -0,0 +1,23 @@
+package com.taskflow.reactive.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuration properties for the reactive read node.
+ * Maps to 'taskflow.reactive.*' properties in application-reactive.yml.
+ */
+@ConfigurationProperties(prefix = "taskflow.reactive")
+@Validated
+public record ReactiveReadProperties(
+
+    // Rows fetched per round trip when streaming; the cursor only advances as the client reads
+    @Positive
+    int streamFetchSize,
+
+    @Positive
+    int maxPageSize
+) {
+}
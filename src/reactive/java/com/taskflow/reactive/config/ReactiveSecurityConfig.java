@@ -0,0 +1,51 @@
+package com.taskflow.reactive.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+import com.taskflow.reactive.repository.ReactiveUserRepository;
+import com.taskflow.reactive.security.ReactiveJwtAuthenticationFilter;
+import com.taskflow.security.JwtService;
+
+/**
+ * Security configuration for the reactive read node.
+ * Stateless bearer-token authentication, with the same public actuator endpoints as the main application,
+ * served on the management port only.
+ */
+@Configuration
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    private static final String[] PUBLIC_ENDPOINTS = {
+            "/actuator/health",
+            "/actuator/info",
+            "/actuator/prometheus"
+    };
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         JwtService jwtService,
+                                                         ReactiveUserRepository userRepository) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                // Same status the servlet application returns for a missing or invalid token
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN)))
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers(PUBLIC_ENDPOINTS).permitAll()
+                        .anyExchange().authenticated())
+                .addFilterAt(new ReactiveJwtAuthenticationFilter(jwtService, userRepository),
+                        SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskflow.reactive.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.ReactiveSortHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * WebFlux configuration.
+ * Resolves {@code Pageable} and {@code Sort} parameters the same way as the servlet controllers.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebFluxConfig implements WebFluxConfigurer {
+
+    private final ReactiveReadProperties properties;
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        ReactiveSortHandlerMethodArgumentResolver sortResolver = new ReactiveSortHandlerMethodArgumentResolver();
+        ReactivePageableHandlerMethodArgumentResolver pageableResolver =
+                new ReactivePageableHandlerMethodArgumentResolver(sortResolver);
+        pageableResolver.setMaxPageSize(properties.maxPageSize());
+        configurer.addCustomResolver(sortResolver, pageableResolver);
+    }
+}
@@ -0,0 +1,45 @@
+package com.taskflow.reactive.controller;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskflow.dto.common.PageResponse;
+import com.taskflow.dto.project.ProjectResponse;
+import com.taskflow.reactive.security.ReadUser;
+import com.taskflow.reactive.service.ReactiveProjectReadService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Project reads on the reactive node; {@code application/x-ndjson} streams all of the user's projects.
+ */
+@RestController
+@RequestMapping("/api/v1/projects")
+@RequiredArgsConstructor
+public class ReactiveProjectController {
+
+    private final ReactiveProjectReadService projectReadService;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PageResponse<ProjectResponse>> getUserProjects(
+            @AuthenticationPrincipal ReadUser user,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return projectReadService.getUserProjects(user.id(), pageable);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProjectResponse> streamUserProjects(
+            @AuthenticationPrincipal ReadUser user,
+            @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC) Sort sort) {
+        return projectReadService.streamUserProjects(user.id(), sort);
+    }
+}
@@ -0,0 +1,70 @@
+package com.taskflow.reactive.controller;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskflow.dto.common.PageResponse;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.reactive.security.ReadUser;
+import com.taskflow.reactive.service.ReactiveTaskReadService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Task reads on the reactive node. Paged JSON matches the servlet API; requesting
+ * {@code application/x-ndjson} streams every matching task instead, paced by the client.
+ */
+@RestController
+@RequestMapping("/api/v1/tasks")
+@RequiredArgsConstructor
+public class ReactiveTaskController {
+
+    private final ReactiveTaskReadService taskReadService;
+
+    @GetMapping(value = "/assigned", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PageResponse<TaskResponse>> getAssignedTasks(
+            @AuthenticationPrincipal ReadUser user,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @PageableDefault(size = 10, sort = "dueDate", direction = Sort.Direction.ASC) Pageable pageable) {
+        return taskReadService.getAssignedTasks(user.id(), status, priority, pageable);
+    }
+
+    @GetMapping(value = "/assigned", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponse> streamAssignedTasks(
+            @AuthenticationPrincipal ReadUser user,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @SortDefault(sort = "dueDate", direction = Sort.Direction.ASC) Sort sort) {
+        return taskReadService.streamAssignedTasks(user.id(), status, priority, sort);
+    }
+
+    @GetMapping(value = "/project/{projectId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PageResponse<TaskResponse>> getProjectTasks(
+            @AuthenticationPrincipal ReadUser user,
+            @PathVariable Long projectId,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return taskReadService.getProjectTasks(projectId, user.id(), pageable);
+    }
+
+    @GetMapping(value = "/project/{projectId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponse> streamProjectTasks(
+            @AuthenticationPrincipal ReadUser user,
+            @PathVariable Long projectId,
+            @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC) Sort sort) {
+        return taskReadService.streamProjectTasks(projectId, user.id(), sort);
+    }
+}
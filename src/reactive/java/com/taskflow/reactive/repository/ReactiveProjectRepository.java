@@ -0,0 +1,99 @@
+package com.taskflow.reactive.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.taskflow.dto.project.ProjectResponse;
+import com.taskflow.entity.ProjectStatus;
+import com.taskflow.reactive.config.ReactiveReadProperties;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive project reads. Mirrors the read queries of {@link com.taskflow.repository.ProjectRepository};
+ * access is checked in SQL, as this node has no access index, and task counts are computed in SQL instead of by loading the task collection.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveProjectRepository {
+
+    // Owned projects, and shared ones through a semi-join on memberships
+    private static final String ACCESSIBLE = "(p.owner_id = :userId OR p.id IN "
+            + "(SELECT m.project_id FROM project_members m WHERE m.user_id = :userId))";
+
+    private static final String SELECT = "SELECT p.id, p.name, p.description, p.status, p.created_at, p.updated_at, "
+            + "o.id AS owner_id, o.first_name AS owner_first_name, o.last_name AS owner_last_name, "
+            + "(SELECT COUNT(*) FROM tasks t WHERE t.project_id = p.id) AS task_count, "
+            + "(SELECT COUNT(*) FROM tasks t WHERE t.project_id = p.id AND t.status = 'DONE') AS completed_task_count "
+            + "FROM projects p JOIN users o ON o.id = p.owner_id "
+            + "WHERE " + ACCESSIBLE + " ";
+
+    private static final Map<String, String> SORTABLE = Map.of(
+            "id", "p.id",
+            "name", "p.name",
+            "status", "p.status",
+            "createdAt", "p.created_at",
+            "updatedAt", "p.updated_at");
+
+    private final DatabaseClient databaseClient;
+    private final ReactiveReadProperties properties;
+
+    public Flux<ProjectResponse> findAccessibleByUserId(Long userId, Pageable pageable) {
+        return databaseClient.sql(SELECT + SqlOrderBy.of(pageable.getSort(), SORTABLE, "p.id")
+                        + " LIMIT :limit OFFSET :offset")
+                .bind("userId", userId)
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset())
+                .map(ReactiveProjectRepository::toResponse)
+                .all();
+    }
+
+    public Mono<Long> countAccessibleByUserId(Long userId) {
+        return databaseClient.sql("SELECT COUNT(*) AS total FROM projects p WHERE " + ACCESSIBLE)
+                .bind("userId", userId)
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    public Flux<ProjectResponse> streamAccessibleByUserId(Long userId, Sort sort) {
+        return databaseClient.sql(SELECT + SqlOrderBy.of(sort, SORTABLE, "p.id"))
+                .bind("userId", userId)
+                .filter((statement, next) -> next.execute(statement.fetchSize(properties.streamFetchSize())))
+                .map(ReactiveProjectRepository::toResponse)
+                .all();
+    }
+
+    /**
+     * @return whether the user owns or is a member of the project, or empty if the project does not exist
+     */
+    public Mono<Boolean> isAccessible(Long projectId, Long userId) {
+        return databaseClient.sql("SELECT " + ACCESSIBLE + " AS accessible FROM projects p WHERE p.id = :id")
+                .bind("id", projectId)
+                .bind("userId", userId)
+                .map(row -> row.get("accessible", Boolean.class))
+                .one();
+    }
+
+    private static ProjectResponse toResponse(Readable row) {
+        return ProjectResponse.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .status(ProjectStatus.valueOf(row.get("status", String.class)))
+                .ownerId(row.get("owner_id", Long.class))
+                .ownerName(row.get("owner_first_name", String.class) + " " + row.get("owner_last_name", String.class))
+                .taskCount(row.get("task_count", Long.class).intValue())
+                .completedTaskCount(row.get("completed_task_count", Long.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
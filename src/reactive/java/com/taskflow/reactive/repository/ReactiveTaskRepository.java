@@ -0,0 +1,154 @@
+package com.taskflow.reactive.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.reactive.config.ReactiveReadProperties;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive task reads. Mirrors the read queries of {@link com.taskflow.repository.TaskRepository},
+ * projecting rows straight into {@link TaskResponse}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveTaskRepository {
+
+    private static final String SELECT = "SELECT t.id, t.title, t.description, t.status, t.priority, t.due_date, "
+            + "t.estimated_hours, t.actual_hours, t.overdue, t.created_at, t.updated_at, "
+            + "p.id AS project_id, p.name AS project_name, "
+            + "a.id AS assignee_id, a.first_name AS assignee_first_name, a.last_name AS assignee_last_name "
+            + "FROM tasks t JOIN projects p ON p.id = t.project_id LEFT JOIN users a ON a.id = t.assignee_id ";
+
+    private static final Map<String, String> SORTABLE = Map.of(
+            "id", "t.id",
+            "title", "t.title",
+            "status", "t.status",
+            "priority", "t.priority",
+            "dueDate", "t.due_date",
+            "createdAt", "t.created_at",
+            "updatedAt", "t.updated_at");
+
+    private final DatabaseClient databaseClient;
+    private final ReactiveReadProperties properties;
+
+    /**
+     * Same filters as {@code TaskRepository.findByAssigneeWithFilters}; a null filter matches everything.
+     */
+    public Flux<TaskResponse> findByAssigneeWithFilters(Long assigneeId, TaskStatus status, TaskPriority priority,
+                                                        Pageable pageable) {
+        AssigneeFilter filter = new AssigneeFilter(assigneeId, status, priority);
+        return page(filter.where(), filter.params(), pageable);
+    }
+
+    public Mono<Long> countByAssigneeWithFilters(Long assigneeId, TaskStatus status, TaskPriority priority) {
+        AssigneeFilter filter = new AssigneeFilter(assigneeId, status, priority);
+        return count(filter.where(), filter.params());
+    }
+
+    public Flux<TaskResponse> streamByAssigneeWithFilters(Long assigneeId, TaskStatus status, TaskPriority priority,
+                                                          Sort sort) {
+        AssigneeFilter filter = new AssigneeFilter(assigneeId, status, priority);
+        return stream(filter.where(), filter.params(), sort);
+    }
+
+    public Flux<TaskResponse> findByProjectId(Long projectId, Pageable pageable) {
+        return page("WHERE t.project_id = :projectId", Map.of("projectId", projectId), pageable);
+    }
+
+    public Mono<Long> countByProjectId(Long projectId) {
+        return count("WHERE t.project_id = :projectId", Map.of("projectId", projectId));
+    }
+
+    public Flux<TaskResponse> streamByProjectId(Long projectId, Sort sort) {
+        return stream("WHERE t.project_id = :projectId", Map.of("projectId", projectId), sort);
+    }
+
+    private Flux<TaskResponse> page(String where, Map<String, Object> params, Pageable pageable) {
+        String sql = SELECT + where + " " + SqlOrderBy.of(pageable.getSort(), SORTABLE, "t.id")
+                + " LIMIT :limit OFFSET :offset";
+        return databaseClient.sql(sql)
+                .bindValues(params)
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset())
+                .map(ReactiveTaskRepository::toResponse)
+                .all();
+    }
+
+    private Flux<TaskResponse> stream(String where, Map<String, Object> params, Sort sort) {
+        return databaseClient.sql(SELECT + where + " " + SqlOrderBy.of(sort, SORTABLE, "t.id"))
+                .bindValues(params)
+                // Fetch in chunks as downstream demand arrives instead of buffering the whole result
+                .filter((statement, next) -> next.execute(statement.fetchSize(properties.streamFetchSize())))
+                .map(ReactiveTaskRepository::toResponse)
+                .all();
+    }
+
+    private Mono<Long> count(String where, Map<String, Object> params) {
+        return databaseClient.sql("SELECT COUNT(*) AS total FROM tasks t " + where)
+                .bindValues(params)
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    private static TaskResponse toResponse(Readable row) {
+        Long assigneeId = row.get("assignee_id", Long.class);
+        return TaskResponse.builder()
+                .id(row.get("id", Long.class))
+                .title(row.get("title", String.class))
+                .description(row.get("description", String.class))
+                .status(TaskStatus.valueOf(row.get("status", String.class)))
+                .priority(TaskPriority.valueOf(row.get("priority", String.class)))
+                .dueDate(row.get("due_date", LocalDate.class))
+                .projectId(row.get("project_id", Long.class))
+                .projectName(row.get("project_name", String.class))
+                .assigneeId(assigneeId)
+                .assigneeName(assigneeId != null
+                        ? row.get("assignee_first_name", String.class) + " " + row.get("assignee_last_name", String.class)
+                        : null)
+                .estimatedHours(row.get("estimated_hours", Integer.class))
+                .actualHours(row.get("actual_hours", Integer.class))
+                .overdue(Boolean.TRUE.equals(row.get("overdue", Boolean.class)))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+
+    /**
+     * Optional filters are left out of the SQL rather than bound as nulls, which PostgreSQL cannot type.
+     */
+    private record AssigneeFilter(Long assigneeId, TaskStatus status, TaskPriority priority) {
+
+        String where() {
+            return "WHERE t.assignee_id = :assigneeId"
+                    + (status != null ? " AND t.status = :status" : "")
+                    + (priority != null ? " AND t.priority = :priority" : "");
+        }
+
+        Map<String, Object> params() {
+            Map<String, Object> params = new LinkedHashMap<>();
+            params.put("assigneeId", assigneeId);
+            if (status != null) {
+                params.put("status", status.name());
+            }
+            if (priority != null) {
+                params.put("priority", priority.name());
+            }
+            return params;
+        }
+    }
+}
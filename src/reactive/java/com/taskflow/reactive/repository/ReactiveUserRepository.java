@@ -0,0 +1,29 @@
+package com.taskflow.reactive.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.taskflow.reactive.security.ReadUser;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive user lookups for request authentication.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<ReadUser> findEnabledByEmail(String email) {
+        return databaseClient.sql("SELECT id, email, role FROM users WHERE email = :email AND enabled = TRUE")
+                .bind("email", email)
+                .map((row, metadata) -> new ReadUser(
+                        row.get("id", Long.class),
+                        row.get("email", String.class),
+                        row.get("role", String.class)))
+                .one();
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskflow.reactive.repository;
+
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.springframework.data.domain.Sort;
+
+import com.taskflow.exception.BadRequestException;
+
+/**
+ * Translates a {@link Sort} into an ORDER BY clause over a fixed set of sortable columns.
+ * Property names are never copied into SQL; anything not in the map is rejected.
+ */
+final class SqlOrderBy {
+
+    private SqlOrderBy() {
+    }
+
+    /**
+     * @param sort requested order
+     * @param columns sortable properties and their column expressions
+     * @param tieBreaker unique column appended last, so pages do not overlap
+     * @return ORDER BY clause, including the keyword
+     */
+    static String of(Sort sort, Map<String, String> columns, String tieBreaker) {
+        StringJoiner clause = new StringJoiner(", ", "ORDER BY ", "");
+        boolean tieBroken = false;
+        for (Sort.Order order : sort) {
+            String column = columns.get(order.getProperty());
+            if (column == null) {
+                throw new BadRequestException("Cannot sort by '" + order.getProperty() + "'");
+            }
+            clause.add(column + (order.isAscending() ? " ASC" : " DESC"));
+            tieBroken |= column.equals(tieBreaker);
+        }
+        if (!tieBroken) {
+            clause.add(tieBreaker + " ASC");
+        }
+        return clause.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package com.taskflow.reactive.security;
+
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.taskflow.reactive.repository.ReactiveUserRepository;
+import com.taskflow.security.JwtService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link com.taskflow.security.JwtAuthenticationFilter}.
+ * <p>
+ * Token verification is CPU-only and stays on the event loop; the user lookup is a non-blocking R2DBC query.
+ * A missing or invalid token leaves the exchange unauthenticated and authorization rules decide.
+ * Not a bean, so WebFlux does not also register it outside the security chain.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+    private final ReactiveUserRepository userRepository;
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return chain.filter(exchange);
+        }
+
+        String userEmail;
+        try {
+            userEmail = jwtService.extractAllClaims(authHeader.substring(BEARER_PREFIX.length())).getSubject();
+        } catch (Exception e) {
+            log.error("Cannot set user authentication: {}", e.getMessage());
+            return chain.filter(exchange);
+        }
+        if (userEmail == null) {
+            return chain.filter(exchange);
+        }
+
+        return userRepository.findEnabledByEmail(userEmail)
+                .onErrorResume(e -> {
+                    log.error("Cannot set user authentication: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .map(ReactiveJwtAuthenticationFilter::authentication)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(authentication -> authentication
+                        .map(auth -> chain.filter(exchange)
+                                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth)))
+                        .orElseGet(() -> chain.filter(exchange)));
+    }
+
+    private static Authentication authentication(ReadUser user) {
+        return UsernamePasswordAuthenticationToken.authenticated(user, null, user.authorities());
+    }
+}
@@ -0,0 +1,16 @@
+package com.taskflow.reactive.security;
+
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Authenticated principal on the read node; only what the read endpoints need.
+ */
+public record ReadUser(Long id, String email, String role) {
+
+    public List<GrantedAuthority> authorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskflow.reactive.service;
+
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.taskflow.dto.common.PageResponse;
+import com.taskflow.dto.project.ProjectResponse;
+import com.taskflow.mapper.PageMapper;
+import com.taskflow.reactive.repository.ReactiveProjectRepository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of the project reads in {@link com.taskflow.service.ProjectService}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveProjectReadService {
+
+    private final ReactiveProjectRepository projectRepository;
+    private final PageMapper pageMapper;
+
+    public Mono<PageResponse<ProjectResponse>> getUserProjects(Long userId, Pageable pageable) {
+        return Mono.zip(
+                        projectRepository.findAccessibleByUserId(userId, pageable).collectList(),
+                        projectRepository.countAccessibleByUserId(userId))
+                .map(page -> pageMapper.toPageResponse(
+                        new PageImpl<>(page.getT1(), pageable, page.getT2()), Function.identity()));
+    }
+
+    public Flux<ProjectResponse> streamUserProjects(Long userId, Sort sort) {
+        return projectRepository.streamAccessibleByUserId(userId, sort);
+    }
+}
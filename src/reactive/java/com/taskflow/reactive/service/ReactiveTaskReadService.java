@@ -0,0 +1,69 @@
+package com.taskflow.reactive.service;
+
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.taskflow.dto.common.PageResponse;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.exception.UnauthorizedException;
+import com.taskflow.mapper.PageMapper;
+import com.taskflow.reactive.repository.ReactiveProjectRepository;
+import com.taskflow.reactive.repository.ReactiveTaskRepository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of the task reads in {@link com.taskflow.service.TaskService}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveTaskReadService {
+
+    private final ReactiveTaskRepository taskRepository;
+    private final ReactiveProjectRepository projectRepository;
+    private final PageMapper pageMapper;
+
+    public Mono<PageResponse<TaskResponse>> getAssignedTasks(Long userId, TaskStatus status, TaskPriority priority,
+                                                             Pageable pageable) {
+        return Mono.zip(
+                        taskRepository.findByAssigneeWithFilters(userId, status, priority, pageable).collectList(),
+                        taskRepository.countByAssigneeWithFilters(userId, status, priority))
+                .map(page -> pageMapper.toPageResponse(
+                        new PageImpl<>(page.getT1(), pageable, page.getT2()), Function.identity()));
+    }
+
+    public Flux<TaskResponse> streamAssignedTasks(Long userId, TaskStatus status, TaskPriority priority, Sort sort) {
+        return taskRepository.streamByAssigneeWithFilters(userId, status, priority, sort);
+    }
+
+    public Mono<PageResponse<TaskResponse>> getProjectTasks(Long projectId, Long userId, Pageable pageable) {
+        return validateAccess(projectId, userId)
+                .then(Mono.zip(
+                        taskRepository.findByProjectId(projectId, pageable).collectList(),
+                        taskRepository.countByProjectId(projectId)))
+                .map(page -> pageMapper.toPageResponse(
+                        new PageImpl<>(page.getT1(), pageable, page.getT2()), Function.identity()));
+    }
+
+    public Flux<TaskResponse> streamProjectTasks(Long projectId, Long userId, Sort sort) {
+        return validateAccess(projectId, userId)
+                .thenMany(Flux.defer(() -> taskRepository.streamByProjectId(projectId, sort)));
+    }
+
+    private Mono<Void> validateAccess(Long projectId, Long userId) {
+        return projectRepository.isAccessible(projectId, userId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Project", "id", projectId)))
+                .flatMap(accessible -> accessible
+                        ? Mono.<Void>empty()
+                        : Mono.error(new UnauthorizedException("You don't have permission to access this project")));
+    }
+}
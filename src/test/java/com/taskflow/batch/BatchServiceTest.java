@@ -0,0 +1,200 @@
+package com.taskflow.batch;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.config.BatchProperties;
+import com.taskflow.dto.batch.BatchRequest;
+import com.taskflow.dto.batch.BatchResponse;
+import com.taskflow.exception.BadRequestException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Unit tests for BatchService.
+ * Tests references between operations, failure handling and transactional rollback.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchService Tests")
+@SuppressWarnings("null")
+class BatchServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private BatchDispatcher batchDispatcher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    @Mock
+    private HttpServletRequest httpRequest;
+
+    @Mock
+    private HttpServletResponse httpResponse;
+
+    private BatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        batchService = new BatchService(batchDispatcher, transactionTemplate, new BatchProperties(20, 4));
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should substitute values from earlier results into path and body")
+    void shouldResolveReferences() throws Exception {
+        when(batchDispatcher.dispatch(eq("create"), eq("POST"), eq("/api/v1/tasks"), any(), any(), any(), any()))
+                .thenReturn(result("create", 201, "{\"id\":42,\"projectId\":7}"));
+        when(batchDispatcher.dispatch(isNull(), eq("PATCH"), eq("/api/v1/tasks/42/status?status=DONE"), any(), any(),
+                any(), any()))
+                .thenReturn(result(null, 200, "{\"id\":42}"));
+        when(batchDispatcher.dispatch(isNull(), eq("GET"), eq("/api/v1/projects/7"), any(), any(), any(), any()))
+                .thenReturn(result(null, 200, "{\"id\":7}"));
+
+        BatchResponse response = batchService.execute(BatchRequest.builder()
+                .operations(List.of(
+                        operation("create", "post", "/api/v1/tasks", "{\"title\":\"Setup CI\",\"projectId\":7}"),
+                        operation(null, "PATCH", "/api/v1/tasks/${create.id}/status?status=DONE", null),
+                        operation(null, "GET", "/api/v1/projects/${create.projectId}", null)))
+                .build(), httpRequest, httpResponse);
+
+        assertThat(response.getResults()).extracting(BatchResponse.Result::getStatus).containsExactly(201, 200, 200);
+        assertThat(response.isRolledBack()).isFalse();
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("Should keep a typed value when a body string is a single reference")
+    void shouldKeepReferencedValueType() throws Exception {
+        when(batchDispatcher.dispatch(eq("project"), any(), any(), any(), any(), any(), any()))
+                .thenReturn(result("project", 201, "{\"id\":7}"));
+        when(batchDispatcher.dispatch(isNull(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(result(null, 201, "{\"id\":1}"));
+
+        batchService.execute(BatchRequest.builder()
+                .operations(List.of(
+                        operation("project", "POST", "/api/v1/projects", "{\"name\":\"Apollo\"}"),
+                        operation(null, "POST", "/api/v1/tasks", "{\"title\":\"In ${project.id}\",\"projectId\":\"${project.id}\"}")))
+                .build(), httpRequest, httpResponse);
+
+        verify(batchDispatcher).dispatch(isNull(), eq("POST"), eq("/api/v1/tasks"), isNull(),
+                eq(objectMapper.readTree("{\"title\":\"In 7\",\"projectId\":7}")), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should report a failed dependency without dispatching the dependent operation")
+    void shouldNotDispatchDependentOfFailedOperation() throws Exception {
+        when(batchDispatcher.dispatch(eq("create"), any(), any(), any(), any(), any(), any()))
+                .thenReturn(result("create", 400, "{\"message\":\"Validation failed\"}"));
+        stubFailure();
+
+        BatchResponse response = batchService.execute(BatchRequest.builder()
+                .operations(List.of(
+                        operation("create", "POST", "/api/v1/tasks", "{}"),
+                        operation(null, "DELETE", "/api/v1/tasks/${create.id}", null)))
+                .build(), httpRequest, httpResponse);
+
+        assertThat(response.getResults()).extracting(BatchResponse.Result::getStatus).containsExactly(400, 424);
+        verify(batchDispatcher, times(1)).dispatch(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should roll back a transactional batch and skip the rest at the first failure")
+    @SuppressWarnings("unchecked")
+    void shouldRollBackTransactionalBatch() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(transactionStatus);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(batchDispatcher.dispatch(eq("first"), any(), any(), any(), any(), any(), any()))
+                .thenReturn(result("first", 201, "{\"id\":1}"));
+        when(batchDispatcher.dispatch(eq("second"), any(), any(), any(), any(), any(), any()))
+                .thenReturn(result("second", 404, "{\"message\":\"Task not found\"}"));
+        stubFailure();
+
+        BatchResponse response = batchService.execute(BatchRequest.builder()
+                .transactional(true)
+                .operations(List.of(
+                        operation("first", "POST", "/api/v1/tasks", "{}"),
+                        operation("second", "PUT", "/api/v1/tasks/99", "{}"),
+                        operation("third", "GET", "/api/v1/tasks/1", null)))
+                .build(), httpRequest, httpResponse);
+
+        assertThat(response.isRolledBack()).isTrue();
+        assertThat(response.getResults()).extracting(BatchResponse.Result::getStatus).containsExactly(201, 404, 424);
+        verify(transactionStatus).setRollbackOnly();
+        verify(batchDispatcher, never()).dispatch(eq("third"), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject references to operations that do not come earlier")
+    void shouldRejectForwardReference() throws Exception {
+        BatchRequest request = BatchRequest.builder()
+                .operations(List.of(
+                        operation(null, "GET", "/api/v1/tasks/${later.id}", null),
+                        operation("later", "POST", "/api/v1/tasks", "{}")))
+                .build();
+
+        assertThatThrownBy(() -> batchService.execute(request, httpRequest, httpResponse))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(batchDispatcher);
+    }
+
+    @Test
+    @DisplayName("Should reject nested batches")
+    void shouldRejectNestedBatch() throws Exception {
+        BatchRequest request = BatchRequest.builder()
+                .operations(List.of(operation(null, "POST", "/api/v1/batch", "{}")))
+                .build();
+
+        assertThatThrownBy(() -> batchService.execute(request, httpRequest, httpResponse))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private void stubFailure() {
+        when(batchDispatcher.failure(any(), any(), any(), any())).thenAnswer(invocation -> BatchResponse.Result.builder()
+                .id(invocation.getArgument(0))
+                .status(invocation.getArgument(1, HttpStatus.class).value())
+                .build());
+    }
+
+    private BatchRequest.Operation operation(String id, String method, String path, String body) throws Exception {
+        return BatchRequest.Operation.builder()
+                .id(id)
+                .method(method)
+                .path(path)
+                .body(body != null ? objectMapper.readTree(body) : null)
+                .build();
+    }
+
+    private BatchResponse.Result result(String id, int status, String body) throws Exception {
+        JsonNode node = objectMapper.readTree(body);
+        return BatchResponse.Result.builder().id(id).status(status).body(node).build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskflow.config;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for access to actuator endpoints.
+ * Tests that diagnostics are limited to admins while health probes stay open.
+ */
+@SpringBootTest(properties = "taskflow.query-diagnostics.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Actuator Security Tests")
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should keep diagnostics from regular users")
+    void shouldRejectRegularUsers() throws Exception {
+        mockMvc.perform(get("/actuator/hibernate").with(user("user@example.com").roles("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/actuator/hibernate").with(user("user@example.com").roles("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").with(user("user@example.com").roles("USER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should serve diagnostics to admins")
+    void shouldServeAdmins() throws Exception {
+        mockMvc.perform(get("/actuator/hibernate").with(user("admin@example.com").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.origins").isArray());
+    }
+
+    @Test
+    @DisplayName("Should leave health probes open")
+    void shouldServeProbesAnonymously() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk());
+    }
+}
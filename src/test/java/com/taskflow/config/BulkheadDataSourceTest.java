@@ -0,0 +1,75 @@
+package com.taskflow.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for BulkheadDataSource.
+ * Tests that connection permits are taken on checkout and returned exactly once on close.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkheadDataSource Tests")
+class BulkheadDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private BulkheadDataSource bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        bulkhead = new BulkheadDataSource(target, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Should time out while all permits are checked out")
+    void shouldTimeOutWhenExhausted() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        Connection first = bulkhead.getConnection();
+
+        assertThatThrownBy(bulkhead::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        assertThat(bulkhead.getConnection()).isNotNull();
+        verify(target, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should return the permit once when a connection is closed twice")
+    void shouldReleaseOnce() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        Connection checkedOut = bulkhead.getConnection();
+
+        checkedOut.close();
+        checkedOut.close();
+
+        assertThat(bulkhead.getAvailablePermits()).isEqualTo(1);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Should return the permit when the pool fails to provide a connection")
+    void shouldReleaseWhenPoolFails() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool down"));
+
+        assertThatThrownBy(bulkhead::getConnection).hasMessage("pool down");
+        assertThat(bulkhead.getAvailablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskflow.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import graphql.GraphQL;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.UnExecutableSchemaGenerator;
+
+/**
+ * Unit tests for GraphQlComplexityCalculator.
+ * Tests that list fields are scored by page size and the project task cap, against the application schema.
+ */
+@DisplayName("GraphQlComplexityCalculator Tests")
+class GraphQlComplexityCalculatorTest {
+
+    private GraphQLSchema schema;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        try (Reader reader = new InputStreamReader(
+                getClass().getResourceAsStream("/graphql/schema.graphqls"), StandardCharsets.UTF_8)) {
+            schema = UnExecutableSchemaGenerator.makeUnExecutableSchema(new SchemaParser().parse(reader));
+        }
+    }
+
+    @Test
+    @DisplayName("Should multiply page content by the requested size")
+    void shouldScorePageContentBySize() {
+        assertThat(complexity("{ tasks(size: 5) { content { title } } }")).isEqualTo(7);
+        assertThat(complexity("{ tasks(size: 50) { content { title status } } }")).isEqualTo(102);
+    }
+
+    @Test
+    @DisplayName("Should use the default size when none is given")
+    void shouldScoreDefaultSize() {
+        assertThat(complexity("{ tasks { content { title } } }")).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should cap the size at the maximum page size")
+    void shouldCapSizeAtMaxPageSize() {
+        assertThat(complexity("{ tasks(size: 100000) { content { title } } }")).isEqualTo(102);
+    }
+
+    @Test
+    @DisplayName("Should multiply project tasks by the cap on each project of a page")
+    void shouldScoreNestedProjectTasks() {
+        // tasks: 1 + 20 * 1; each project: name + tasks = 22; content: 1 + 5 * 22; projects: 1 + 111
+        assertThat(complexity("{ projects(size: 5) { content { name tasks { title } } } }")).isEqualTo(112);
+    }
+
+    @Test
+    @DisplayName("Should clamp fields over the limit so that wide queries do not overflow")
+    void shouldClampAtLimit() {
+        String query = "{ projects(size: 100) { content { tasks { project { tasks { project { tasks { title } } } } } } } }";
+
+        assertThat(complexity(query)).isEqualTo(1001);
+    }
+
+    private int complexity(String query) {
+        GraphQlProperties properties = new GraphQlProperties(8, 1000, 100, 20);
+        AtomicInteger complexity = new AtomicInteger();
+        // A limit of 0 reports every query's complexity; returning false lets it run
+        MaxQueryComplexityInstrumentation instrumentation = new MaxQueryComplexityInstrumentation(0,
+                new GraphQlComplexityCalculator(properties), info -> {
+                    complexity.set(info.getComplexity());
+                    return false;
+                });
+        GraphQL.newGraphQL(schema).instrumentation(instrumentation).build().execute(query);
+        return complexity.get();
+    }
+}
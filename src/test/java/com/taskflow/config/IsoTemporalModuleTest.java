@@ -0,0 +1,65 @@
+package com.taskflow.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Unit tests for IsoTemporalModule.
+ * Tests that dates are written exactly as the JSR-310 module writes them.
+ */
+@DisplayName("IsoTemporalModule Tests")
+class IsoTemporalModuleTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new IsoTemporalModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("Should match ISO_LOCAL_DATE_TIME for every fraction length")
+    void shouldMatchIsoDateTime() throws Exception {
+        List<LocalDateTime> values = List.of(
+                LocalDateTime.of(2026, 1, 5, 0, 0),
+                LocalDateTime.of(2026, 12, 31, 23, 59, 59),
+                LocalDateTime.of(2026, 3, 9, 7, 4, 2, 100_000_000),
+                LocalDateTime.of(2026, 3, 9, 7, 4, 2, 123_456_000),
+                LocalDateTime.of(2026, 3, 9, 7, 4, 2, 5_000),
+                LocalDateTime.of(999, 3, 9, 7, 4, 2, 1),
+                LocalDateTime.of(2026, 3, 9, 7, 4, 2, 999_999_999));
+
+        for (LocalDateTime value : values) {
+            assertThat(objectMapper.writeValueAsString(value))
+                    .isEqualTo('"' + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value) + '"');
+        }
+    }
+
+    @Test
+    @DisplayName("Should match ISO_LOCAL_DATE and fall back for years beyond four digits")
+    void shouldMatchIsoDate() throws Exception {
+        for (LocalDate value : List.of(LocalDate.of(2026, 2, 28), LocalDate.of(7, 10, 1), LocalDate.of(12026, 1, 1))) {
+            assertThat(objectMapper.writeValueAsString(value))
+                    .isEqualTo('"' + DateTimeFormatter.ISO_LOCAL_DATE.format(value) + '"');
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave timestamps to the JSR-310 serializers")
+    void shouldWriteTimestampsWhenEnabled() throws Exception {
+        String json = objectMapper.copy()
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValueAsString(LocalDate.of(2026, 2, 28));
+
+        assertThat(json).isEqualTo("[2026,2,28]");
+    }
+}
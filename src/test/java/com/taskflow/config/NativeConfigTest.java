@@ -0,0 +1,56 @@
+package com.taskflow.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+
+/**
+ * Unit tests for NativeConfig.
+ * Tests that the runtime hints cover JJWT, configuration records, JDBC proxies and migrations.
+ */
+@DisplayName("NativeConfig Tests")
+class NativeConfigTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeConfig.TaskFlowRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should register the JJWT implementation for reflective instantiation")
+    void shouldRegisterJjwtImplementation() {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtParserBuilder")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Deserializer"))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register configuration records for validation")
+    void shouldRegisterConfigurationRecords() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(JwtProperties.class)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register JDBC proxies and migration scripts")
+    void shouldRegisterProxiesAndMigrations() {
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, Connection.class))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__Initial_Schema.sql"))
+                .accepts(hints);
+    }
+}
@@ -0,0 +1,89 @@
+package com.taskflow.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.TaskStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for ResponseFragmentCache.
+ * Tests fragment reuse, invalidation on any field change, and the size bound.
+ */
+@DisplayName("ResponseFragmentCache Tests")
+class ResponseFragmentCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseFragmentCache cache;
+    private ObjectMapper cachingMapper;
+    private ObjectMapper plainMapper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ResponseFragmentCache(4, meterRegistry).register(TaskResponse.class, TaskResponse::getId);
+        plainMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        cachingMapper = plainMapper.copy().registerModule(cache.module());
+    }
+
+    @Test
+    @DisplayName("Should write the same JSON as the plain mapper, from the cache on a repeated read")
+    void shouldReuseFragmentForEqualValue() throws Exception {
+        List<TaskResponse> first = List.of(task(1L, "Write docs"), task(2L, "Ship it"));
+        List<TaskResponse> second = List.of(task(1L, "Write docs"), task(2L, "Ship it"));
+
+        String rendered = cachingMapper.writeValueAsString(first);
+        String reused = cachingMapper.writeValueAsString(second);
+
+        assertThat(rendered).isEqualTo(plainMapper.writeValueAsString(first));
+        assertThat(reused).isEqualTo(rendered);
+        assertThat(meterRegistry.get("taskflow.json.fragments").tag("result", "hit").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should render again when any field differs, even with the same updatedAt")
+    void shouldRenderChangedValue() throws Exception {
+        TaskResponse original = task(1L, "Write docs");
+        TaskResponse renamedProject = task(1L, "Write docs");
+        renamedProject.setProjectName("Renamed");
+
+        cachingMapper.writeValueAsString(original);
+        String json = cachingMapper.writeValueAsString(renamedProject);
+
+        assertThat(json).contains("\"projectName\":\"Renamed\"");
+    }
+
+    @Test
+    @DisplayName("Should stay within the configured number of entries")
+    void shouldBoundSize() throws Exception {
+        for (long id = 1; id <= 20; id++) {
+            cachingMapper.writeValueAsString(task(id, "Task " + id));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(4);
+    }
+
+    private static TaskResponse task(Long id, String title) {
+        return TaskResponse.builder()
+                .id(id)
+                .title(title)
+                .status(TaskStatus.TODO)
+                .projectId(10L)
+                .projectName("Platform")
+                .updatedAt(LocalDateTime.of(2026, 1, 15, 12, 0))
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskflow.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit tests for StartupConfig.
+ * Tests that beans in the configured packages, and only those, are made lazy.
+ */
+@DisplayName("StartupConfig Tests")
+class StartupConfigTest {
+
+    private DefaultListableBeanFactory beanFactory;
+
+    @BeforeEach
+    void setUp() {
+        beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("openApiResource",
+                new RootBeanDefinition("org.springdoc.webmvc.api.OpenApiWebMvcResource"));
+        beanFactory.registerBeanDefinition("springdocLookalike",
+                new RootBeanDefinition("org.springdocs.Lookalike"));
+        beanFactory.registerBeanDefinition("taskService",
+                new RootBeanDefinition("com.taskflow.service.TaskService"));
+    }
+
+    @Test
+    @DisplayName("Should defer beans declared in a lazy package")
+    void shouldDeferBeansInLazyPackages() {
+        postProcess(new MockEnvironment().withProperty("taskflow.startup.lazy-packages", "org.springdoc"));
+
+        assertThat(beanFactory.getBeanDefinition("openApiResource").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("springdocLookalike").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("taskService").isLazyInit()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should leave every bean eager when no packages are configured")
+    void shouldLeaveBeansEagerByDefault() {
+        postProcess(new MockEnvironment());
+
+        assertThat(beanFactory.getBeanDefinition("openApiResource").isLazyInit()).isFalse();
+    }
+
+    private void postProcess(MockEnvironment environment) {
+        StartupConfig.LazyPackagesPostProcessor postProcessor = new StartupConfig.LazyPackagesPostProcessor();
+        postProcessor.setEnvironment(environment);
+        postProcessor.postProcessBeanFactory(beanFactory);
+    }
+}
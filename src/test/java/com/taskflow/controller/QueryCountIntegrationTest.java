@@ -0,0 +1,487 @@
+package com.taskflow.controller;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.dto.project.ProjectMemberRequest;
+import com.taskflow.dto.project.UpdateProjectRequest;
+import com.taskflow.dto.task.TaskFileFormat;
+import com.taskflow.dto.task.UpdateTaskRequest;
+import com.taskflow.dto.user.UpdateUserRequest;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectMember;
+import com.taskflow.entity.ProjectRole;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.User;
+import com.taskflow.repository.ProjectMemberRepository;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.service.ProjectAccessIndex;
+import com.taskflow.service.TaskExportService;
+import com.taskflow.test.builder.TestDataFactory;
+import com.taskflow.test.sql.CountSqlStatements;
+import com.taskflow.test.sql.SqlStatementCounter;
+
+/**
+ * Integration tests for the number of statements issued per endpoint.
+ * Tests that paged reads stay constant in the page size and writes constant in the rows they touch,
+ * so lazy loads added to mappers and per-row cascades are caught.
+ * <p>
+ * Only statements on the request thread are counted. Exports stream on an async dispatch, so the
+ * streaming itself is counted by calling the service on the test thread. Not covered: batches, which
+ * dispatch to the endpoints covered here through a servlet MockMvc does not initialize; password
+ * changes, bounded by hashing rather than queries; and account deletion, left to database cascades.
+ * Writes use rows seeded for the one test that changes them, so tests do not depend on their order.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@CountSqlStatements
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Query Count Integration Tests")
+@SuppressWarnings("null")
+class QueryCountIntegrationTest {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int DELETED_PROJECT_TASKS = 50;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private ProjectAccessIndex projectAccessIndex;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User owner;
+    private User assignee;
+    private User viewer;
+    private User invitee;
+    private User leaver;
+    private Project largeProject;
+    private Project scratchProject;
+    private Project deletedProject;
+    private Task assignedTask;
+    private Task statusTask;
+    private Task updatedTask;
+    private Task deletedTask;
+
+    @BeforeAll
+    void seed() {
+        owner = userRepository.save(TestDataFactory.newUser("query-count-owner@example.com"));
+        assignee = userRepository.save(TestDataFactory.newUser("query-count-assignee@example.com"));
+
+        List<Project> projects = projectRepository.saveAll(TestDataFactory.newProjects(owner, 60));
+        List<Task> tasks = new ArrayList<>();
+        for (Project project : projects) {
+            tasks.addAll(TestDataFactory.newTasks(project, assignee, 5));
+        }
+        largeProject = projects.get(0);
+        tasks.addAll(TestDataFactory.newTasks(largeProject, assignee, 200));
+        taskRepository.saveAll(tasks);
+
+        assignedTask = tasks.stream().filter(task -> task.getAssignee() != null).findFirst().orElseThrow();
+
+        viewer = userRepository.save(TestDataFactory.newUser("query-count-viewer@example.com"));
+        invitee = userRepository.save(TestDataFactory.newUser("query-count-invitee@example.com"));
+        leaver = userRepository.save(TestDataFactory.newUser("query-count-leaver@example.com"));
+        projectMemberRepository.save(ProjectMember.builder().project(largeProject).user(viewer).role(ProjectRole.VIEWER).build());
+
+        // Rows changed by a single test each
+        scratchProject = projectRepository.save(TestDataFactory.newProjects(owner, 1).get(0));
+        List<Task> scratchTasks = taskRepository.saveAll(TestDataFactory.newTasks(scratchProject, null, 3));
+        statusTask = scratchTasks.get(0);
+        updatedTask = scratchTasks.get(1);
+        deletedTask = scratchTasks.get(2);
+        projectMemberRepository.save(ProjectMember.builder().project(scratchProject).user(leaver).role(ProjectRole.EDITOR).build());
+
+        deletedProject = projectRepository.save(TestDataFactory.newProjects(owner, 1).get(0));
+        taskRepository.saveAll(TestDataFactory.newTasks(deletedProject, assignee, DELETED_PROJECT_TASKS));
+    }
+
+    // Access checks are answered from the cached index, which writes invalidate; load it up front so
+    // counts cover the request alone
+    @BeforeEach
+    void loadAccess() {
+        for (User user : List.of(owner, assignee, viewer)) {
+            projectAccessIndex.forUser(user.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should read user profiles in constant queries")
+    void shouldReadUsersInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/users/me")
+                        .with(user(owner)))
+                .andExpect(status().isOk()))
+                .assertSelectsAtMost(1)
+                .assertNoWrites();
+
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/users/{id}", assignee.getId())
+                        .with(user(owner)))
+                .andExpect(status().isOk()))
+                .assertSelectsAtMost(1)
+                .assertNoWrites();
+
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/users")
+                        .param("ids", ids(owner.getId(), assignee.getId(), viewer.getId(), Long.MAX_VALUE))
+                        .with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3)))
+                .assertSelectsAtMost(1)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("Should update the user's profile with a single update")
+    void shouldUpdateProfileWithSingleUpdate() throws Throwable {
+        UpdateUserRequest request = UpdateUserRequest.builder().firstName("Jane").build();
+
+        SqlStatementCounter.count(() -> mockMvc.perform(put("/api/v1/users/me")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(user(invitee)))
+                .andExpect(status().isOk()))
+                .assertSelectsAtMost(1)
+                .assertUpdatesAtMost(1)
+                .assertInsertsAtMost(0);
+    }
+
+    @Test
+    @DisplayName("Should get several projects and tasks by ID in constant queries")
+    void shouldMultiGetInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/projects")
+                        .param("ids", ids(largeProject.getId(), scratchProject.getId(), Long.MAX_VALUE))
+                        .with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2)))
+                .assertSelectsAtMost(3)
+                .assertNoWrites();
+
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/tasks")
+                        .param("ids", ids(assignedTask.getId(), statusTask.getId(), updatedTask.getId(), Long.MAX_VALUE))
+                        .with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3)))
+                .assertSelectsAtMost(1)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("Should list a page of projects with task counts in constant queries")
+    void shouldListProjectsInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/projects")
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(PAGE_SIZE)))
+                .assertSelectsAtMost(4)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("Should search projects in constant queries")
+    void shouldSearchProjectsInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/projects/search")
+                        .param("q", "Project")
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .with(user(owner)))
+                .andExpect(status().isOk()))
+                .assertSelectsAtMost(4)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("Should get a single project in constant queries")
+    void shouldGetProjectInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/projects/{id}", largeProject.getId())
+                        .with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taskCount").value(205)))
+                .assertSelectsAtMost(3)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("Should list a page of the user's tasks in constant queries")
+    void shouldListUserTasksInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/tasks")
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(PAGE_SIZE)))
+                .assertSelectsAtMost(4)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("Should list a page of project tasks in constant queries")
+    void shouldListProjectTasksInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/tasks/project/{projectId}", largeProject.getId())
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(PAGE_SIZE)))
+                .assertSelectsAtMost(4)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("Should search project tasks in constant queries")
+    void shouldSearchProjectTasksInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/tasks/project/{projectId}/search", largeProject.getId())
+                        .param("q", "task")
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .with(user(owner)))
+                .andExpect(status().isOk()))
+                .assertSelectsAtMost(4)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("Should list assigned and overdue tasks across projects in constant queries")
+    void shouldListAssignedTasksInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/tasks/assigned")
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .with(user(assignee)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(PAGE_SIZE)))
+                .assertSelectsAtMost(4)
+                .assertNoWrites();
+
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/tasks/overdue")
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .with(user(assignee)))
+                .andExpect(status().isOk()))
+                .assertSelectsAtMost(4)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("Should get a single task in constant queries")
+    void shouldGetTaskInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/tasks/{id}", assignedTask.getId())
+                        .with(user(owner)))
+                .andExpect(status().isOk()))
+                .assertSelectsAtMost(3)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("Should read task changes and activity with projection queries")
+    void shouldReadChangesAndActivityInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/tasks/changes")
+                        .param("limit", "500")
+                        .with(user(owner)))
+                .andExpect(status().isOk()))
+                .assertSelectsAtMost(2)
+                .assertNoWrites();
+
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/tasks/{id}/activity", assignedTask.getId())
+                        .with(user(owner)))
+                .andExpect(status().isOk()))
+                .assertSelectsAtMost(3)
+                .assertNoWrites();
+
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/projects/{id}/activity", largeProject.getId())
+                        .with(user(owner)))
+                .andExpect(status().isOk()))
+                .assertSelectsAtMost(2)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("Should read a shared project's changes and members in constant queries")
+    void shouldReadSharedProjectInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/tasks/changes")
+                        .param("limit", "500")
+                        .with(user(viewer)))
+                .andExpect(status().isOk()))
+                .assertSelectsAtMost(2)
+                .assertNoWrites();
+
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/projects/{id}/members", largeProject.getId())
+                        .with(user(viewer)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2)))
+                .assertSelectsAtMost(3)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("Should subscribe to a project's events without queries")
+    void shouldSubscribeToEventsWithoutQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/projects/{id}/events", largeProject.getId())
+                        .with(user(viewer)))
+                .andExpect(request().asyncStarted()))
+                .assertSelectsAtMost(0)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("Should export a project's tasks in constant queries")
+    void shouldExportInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(get("/api/v1/tasks/export")
+                        .param("projectId", largeProject.getId().toString())
+                        .with(user(owner)))
+                .andExpect(request().asyncStarted()))
+                .assertSelectsAtMost(0)
+                .assertNoWrites();
+
+        // The body is streamed on another thread; stream it here to count the reads
+        SqlStatementCounter.count(() -> taskExportService.export(
+                        largeProject.getId(), owner.getId(), TaskFileFormat.NDJSON, false, OutputStream.nullOutputStream()))
+                .assertSelectsAtMost(1)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("Should change task status with a single update")
+    void shouldChangeStatusWithSingleUpdate() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(patch("/api/v1/tasks/{id}/status", statusTask.getId())
+                        .param("status", "DONE")
+                        .with(user(owner)))
+                .andExpect(status().isOk()))
+                .assertSelectsAtMost(2)
+                .assertUpdatesAtMost(1)
+                .assertInsertsAtMost(1);
+    }
+
+    @Test
+    @DisplayName("Should create, update and delete a task in constant queries")
+    void shouldWriteTasksInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                TestDataFactory.defaultCreateTaskRequest(scratchProject.getId()).assigneeId(assignee.getId()).build()))
+                        .with(user(owner)))
+                .andExpect(status().isCreated()))
+                .assertSelectsAtMost(3)
+                .assertInsertsAtMost(2)
+                .assertUpdatesAtMost(0);
+
+        UpdateTaskRequest update = UpdateTaskRequest.builder()
+                .title("Renamed")
+                .priority(TaskPriority.HIGH)
+                .assigneeId(assignee.getId())
+                .build();
+        SqlStatementCounter.count(() -> mockMvc.perform(put("/api/v1/tasks/{id}", updatedTask.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update))
+                        .with(user(owner)))
+                .andExpect(status().isOk()))
+                .assertSelectsAtMost(3)
+                .assertUpdatesAtMost(1)
+                .assertInsertsAtMost(1);
+
+        SqlStatementCounter.count(() -> mockMvc.perform(delete("/api/v1/tasks/{id}", deletedTask.getId())
+                        .with(user(owner)))
+                .andExpect(status().isNoContent()))
+                .assertSelectsAtMost(2)
+                .assertInsertsAtMost(2)
+                .assertDeletesAtMost(1)
+                .assertUpdatesAtMost(0);
+    }
+
+    @Test
+    @DisplayName("Should create a project in constant queries")
+    void shouldCreateProjectInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(post("/api/v1/projects")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(TestDataFactory.defaultCreateProjectRequest().build()))
+                        .with(user(owner)))
+                .andExpect(status().isCreated()))
+                .assertSelectsAtMost(1)
+                .assertInsertsAtMost(2)
+                .assertUpdatesAtMost(0);
+    }
+
+    @Test
+    @DisplayName("Should update a project in constant queries")
+    void shouldUpdateProjectInConstantQueries() throws Throwable {
+        UpdateProjectRequest update = UpdateProjectRequest.builder().description("Updated").build();
+
+        SqlStatementCounter.count(() -> mockMvc.perform(put("/api/v1/projects/{id}", scratchProject.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update))
+                        .with(user(owner)))
+                .andExpect(status().isOk()))
+                .assertSelectsAtMost(3)
+                .assertUpdatesAtMost(1)
+                .assertInsertsAtMost(1);
+    }
+
+    @Test
+    @DisplayName("Should delete a project and its tasks in constant queries")
+    void shouldDeleteProjectInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(delete("/api/v1/projects/{id}", deletedProject.getId())
+                        .with(user(owner)))
+                .andExpect(status().isNoContent()))
+                .assertSelectsAtMost(3)
+                .assertInsertsAtMost(2)
+                .assertDeletesAtMost(2)
+                .assertUpdatesAtMost(0);
+    }
+
+    @Test
+    @DisplayName("Should share and unshare a project in constant queries")
+    void shouldChangeMembersInConstantQueries() throws Throwable {
+        SqlStatementCounter.count(() -> mockMvc.perform(put("/api/v1/projects/{id}/members/{userId}",
+                                scratchProject.getId(), invitee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProjectMemberRequest(ProjectRole.VIEWER)))
+                        .with(user(owner)))
+                .andExpect(status().isOk()))
+                .assertSelectsAtMost(3)
+                .assertInsertsAtMost(1)
+                .assertUpdatesAtMost(0);
+
+        SqlStatementCounter.count(() -> mockMvc.perform(delete("/api/v1/projects/{id}/members/{userId}",
+                                scratchProject.getId(), leaver.getId())
+                        .with(user(owner)))
+                .andExpect(status().isNoContent()))
+                .assertSelectsAtMost(2)
+                .assertDeletesAtMost(1)
+                .assertInsertsAtMost(0);
+    }
+
+    private static String ids(Long... ids) {
+        return String.join(",", List.of(ids).stream().map(String::valueOf).toList());
+    }
+}
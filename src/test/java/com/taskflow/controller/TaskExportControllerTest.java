@@ -0,0 +1,129 @@
+package com.taskflow.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.User;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.security.JwtService;
+import com.taskflow.test.builder.TestDataFactory;
+
+/**
+ * Integration tests for the task export endpoint.
+ * Tests that the streamed body is written on the async dispatch, and that access is checked up front.
+ * Requests carry a real bearer token: the async dispatch must not need the authentication filter again.
+ */
+// The test profile's secret is not Base64, so tokens could not be signed with it
+@SpringBootTest(properties = "jwt.secret=dGFza2Zsb3ctZXhwb3J0LXRlc3Qtc2lnbmluZy1rZXktMDEyMzQ1Njc4OQ==")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Task Export Integration Tests")
+@SuppressWarnings("null")
+class TaskExportControllerTest {
+
+    private static final int TASK_COUNT = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private User owner;
+    private User stranger;
+    private Project project;
+
+    @BeforeAll
+    void seed() {
+        owner = userRepository.save(TestDataFactory.newUser("export-owner@example.com"));
+        stranger = userRepository.save(TestDataFactory.newUser("export-stranger@example.com"));
+        project = projectRepository.saveAll(TestDataFactory.newProjects(owner, 1)).get(0);
+        taskRepository.saveAll(TestDataFactory.newTasks(project, null, TASK_COUNT));
+    }
+
+    @Test
+    @DisplayName("Should stream a project's tasks as NDJSON")
+    void shouldExportNdjson() throws Exception {
+        String body = export("NDJSON", owner);
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(TASK_COUNT);
+        for (String line : lines) {
+            assertThat(objectMapper.readTree(line).path("projectId").asLong()).isEqualTo(project.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream a project's tasks as CSV with a header row")
+    void shouldExportCsv() throws Exception {
+        String body = export("CSV", owner);
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(TASK_COUNT + 1);
+        assertThat(lines.get(0)).startsWith("id,title,description,status");
+        assertThat(lines.subList(1, lines.size())).allSatisfy(line -> assertThat(line).contains(project.getName()));
+    }
+
+    @Test
+    @DisplayName("Should reject exporting someone else's project before streaming")
+    void shouldRejectOtherUsersProject() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/export")
+                        .param("projectId", project.getId().toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearer(stranger)))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isForbidden());
+    }
+
+    private String export(String format, User user) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/tasks/export")
+                        .param("projectId", project.getId().toString())
+                        .param("format", format)
+                        .header(HttpHeaders.AUTHORIZATION, bearer(user)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // The body is written on the async dispatch, which the token filter does not authenticate again
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"tasks." + format.toLowerCase() + "\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + jwtService.generateToken(user);
+    }
+}
@@ -0,0 +1,103 @@
+package com.taskflow.diagnostics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.taskflow.config.QueryDiagnosticsProperties;
+
+/**
+ * Unit tests for QueryDiagnostics.
+ * Tests origin attribution, sampling, the slow-query log and reset.
+ */
+@DisplayName("QueryDiagnostics Tests")
+class QueryDiagnosticsTest {
+
+    private static final String SELECT_TASKS = "select * from tasks where project_id=?";
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    @DisplayName("Should attribute statements and loads to the outermost service call")
+    void shouldAttributeToOutermostCall() {
+        QueryDiagnostics diagnostics = diagnostics(1.0, 100);
+
+        QueryDiagnostics.Origin outer = diagnostics.enter("ProjectService.getUserProjects");
+        QueryDiagnostics.Origin inner = diagnostics.enter("TaskService.getTask");
+        diagnostics.recordStatement(SELECT_TASKS, List.of("Long"), 1, FAST);
+        diagnostics.recordStatement(SELECT_TASKS, List.of("Long"), 1, FAST * 2);
+        diagnostics.recordCollectionFetch("com.taskflow.entity.Project.tasks");
+        diagnostics.exit(inner);
+        diagnostics.exit(outer);
+
+        assertThat(inner).isNull();
+        List<QueryDiagnostics.OriginSnapshot> origins = diagnostics.getOrigins();
+        assertThat(origins).hasSize(1);
+        QueryDiagnostics.OriginSnapshot origin = origins.get(0);
+        assertThat(origin.origin()).isEqualTo("ProjectService.getUserProjects");
+        assertThat(origin.statementCount()).isEqualTo(2);
+        assertThat(origin.maxMillis()).isEqualTo(4.0);
+        assertThat(origin.statements().get(0).meanMillis()).isEqualTo(3.0);
+        assertThat(origin.collectionFetches()).containsEntry("com.taskflow.entity.Project.tasks", 1L);
+    }
+
+    @Test
+    @DisplayName("Should log slow queries even when the call is not sampled")
+    void shouldLogSlowQueriesWithoutSampling() {
+        QueryDiagnostics diagnostics = diagnostics(0.0, 100);
+
+        QueryDiagnostics.Origin origin = diagnostics.enter("TaskService.searchTasks");
+        diagnostics.recordStatement(SELECT_TASKS, List.of("Long"), 1, FAST);
+        diagnostics.recordStatement(SELECT_TASKS, List.of("Long", "String"), 1, SLOW);
+        diagnostics.exit(origin);
+
+        assertThat(diagnostics.getOrigins()).isEmpty();
+        assertThat(diagnostics.getSlowQueries()).singleElement().satisfies(slow -> {
+            assertThat(slow.origin()).isEqualTo("TaskService.searchTasks");
+            assertThat(slow.parameterShapes()).containsExactly("Long", "String");
+            assertThat(slow.elapsedMillis()).isEqualTo(500.0);
+        });
+    }
+
+    @Test
+    @DisplayName("Should stop tracking new statements over the limit")
+    void shouldBoundTrackedStatements() {
+        QueryDiagnostics diagnostics = diagnostics(1.0, 2);
+
+        QueryDiagnostics.Origin origin = diagnostics.enter("TaskService.getTasksByIds");
+        diagnostics.recordStatement("select * from tasks where id in (?)", List.of(), 1, FAST);
+        diagnostics.recordStatement("select * from tasks where id in (?,?)", List.of(), 1, FAST);
+        diagnostics.recordStatement("select * from tasks where id in (?,?,?)", List.of(), 1, FAST);
+        diagnostics.exit(origin);
+
+        assertThat(diagnostics.getOrigins().get(0).statements()).hasSize(2);
+        assertThat(diagnostics.getUntrackedExecutions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should attribute statements outside a service call as unattributed")
+    void shouldRecordUnattributedStatements() {
+        QueryDiagnostics diagnostics = diagnostics(1.0, 100);
+
+        diagnostics.recordStatement(SELECT_TASKS, List.of("Long"), 1, SLOW);
+
+        assertThat(diagnostics.getOrigins()).extracting(QueryDiagnostics.OriginSnapshot::origin)
+                .containsExactly(QueryDiagnostics.UNATTRIBUTED);
+        assertThat(diagnostics.getSlowQueries()).hasSize(1);
+
+        diagnostics.reset();
+
+        assertThat(diagnostics.getOrigins()).isEmpty();
+        assertThat(diagnostics.getSlowQueries()).isEmpty();
+    }
+
+    private static QueryDiagnostics diagnostics(double sampleRate, int maxTrackedStatements) {
+        return new QueryDiagnostics(new QueryDiagnosticsProperties(true, sampleRate, Duration.ofMillis(250), 10,
+                maxTrackedStatements));
+    }
+}
@@ -0,0 +1,46 @@
+package com.taskflow.diagnostics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.core.metrics.jfr.FlightRecorderApplicationStartup;
+
+/**
+ * Unit tests for StartupTimelineReporter.
+ * Tests recorder selection and ranking of startup steps by self time.
+ */
+@DisplayName("StartupTimelineReporter Tests")
+class StartupTimelineReporterTest {
+
+    @Test
+    @DisplayName("Should rank a slow nested step above the step waiting on it")
+    void shouldRankBySelfTime() throws InterruptedException {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        StartupStep outer = startup.start("spring.beans.instantiate").tag("beanName", "taskService");
+        StartupStep inner = startup.start("spring.beans.instantiate").tag("beanName", "entityManagerFactory");
+        Thread.sleep(50);
+        inner.end();
+        outer.end();
+
+        List<String> report = StartupTimelineReporter.report(startup.getBufferedTimeline(), 1);
+
+        assertThat(report).hasSize(1);
+        assertThat(report.get(0)).endsWith("spring.beans.instantiate beanName=entityManagerFactory");
+    }
+
+    @Test
+    @DisplayName("Should select the recorder from the timeline mode")
+    void shouldSelectRecorder() {
+        assertThat(StartupTimelineReporter.applicationStartup((String) null)).isSameAs(ApplicationStartup.DEFAULT);
+        assertThat(StartupTimelineReporter.applicationStartup("buffer")).isInstanceOf(BufferingApplicationStartup.class);
+        assertThat(StartupTimelineReporter.applicationStartup("JFR")).isInstanceOf(FlightRecorderApplicationStartup.class);
+        assertThatThrownBy(() -> StartupTimelineReporter.applicationStartup("trace"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
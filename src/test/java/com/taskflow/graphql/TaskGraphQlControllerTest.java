@@ -0,0 +1,80 @@
+package com.taskflow.graphql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import com.taskflow.dto.project.ProjectResponse;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.User;
+import com.taskflow.exception.UnauthorizedException;
+import com.taskflow.service.TaskService;
+import com.taskflow.test.builder.TestDataFactory;
+
+/**
+ * Unit tests for TaskGraphQlController.
+ * Tests batch loading of project tasks.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskGraphQlController Tests")
+@SuppressWarnings("null")
+class TaskGraphQlControllerTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private GraphQlPaging paging;
+
+    @InjectMocks
+    private TaskGraphQlController taskGraphQlController;
+
+    private final User user = TestDataFactory.defaultUser().build();
+    private final UsernamePasswordAuthenticationToken principal =
+            new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+
+    @Test
+    @DisplayName("Should load the tasks of all projects with one call and group them by project")
+    void shouldBatchProjectTasks() {
+        ProjectResponse first = TestDataFactory.defaultProjectResponse().id(1L).build();
+        ProjectResponse second = TestDataFactory.defaultProjectResponse().id(2L).build();
+        ProjectResponse empty = TestDataFactory.defaultProjectResponse().id(3L).build();
+        TaskResponse a = TestDataFactory.defaultTaskResponse().id(10L).projectId(1L).build();
+        TaskResponse b = TestDataFactory.defaultTaskResponse().id(11L).projectId(2L).build();
+        TaskResponse c = TestDataFactory.defaultTaskResponse().id(12L).projectId(1L).build();
+        when(paging.maxProjectTasks()).thenReturn(20);
+        when(taskService.getTasksByProjectIds(Set.of(1L, 2L, 3L), user.getId(), 20)).thenReturn(List.of(a, b, c));
+
+        Map<ProjectResponse, List<TaskResponse>> tasks =
+                taskGraphQlController.tasks(List.of(first, second, empty), principal);
+
+        assertThat(tasks.get(first)).containsExactly(a, c);
+        assertThat(tasks.get(second)).containsExactly(b);
+        assertThat(tasks.get(empty)).isEmpty();
+        verify(taskService, times(1)).getTasksByProjectIds(anySet(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should fail the whole batch when the user cannot view every project")
+    void shouldRejectForeignProjects() {
+        ProjectResponse project = TestDataFactory.defaultProjectResponse().id(1L).build();
+        when(paging.maxProjectTasks()).thenReturn(20);
+        when(taskService.getTasksByProjectIds(Set.of(1L), user.getId(), 20))
+                .thenThrow(new UnauthorizedException("You don't have permission to access these projects"));
+
+        assertThatThrownBy(() -> taskGraphQlController.tasks(List.of(project), principal))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+}
@@ -0,0 +1,168 @@
+package com.taskflow.grpc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.taskflow.config.GrpcProperties;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.User;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.grpc.proto.TaskFlowProto;
+import com.taskflow.grpc.proto.TaskServiceGrpc;
+import com.taskflow.security.JwtService;
+import com.taskflow.service.TaskExportService;
+import com.taskflow.service.TaskService;
+import com.taskflow.test.builder.TestDataFactory;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.jsonwebtoken.Claims;
+import jakarta.validation.Validation;
+
+/**
+ * Unit tests for TaskGrpcService.
+ * Tests authentication, status mapping and streaming over an in-process gRPC server.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskGrpcService Tests")
+@SuppressWarnings("null")
+class TaskGrpcServiceTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private TaskExportService taskExportService;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private Claims claims;
+
+    private Server server;
+    private ManagedChannel channel;
+    private final User user = TestDataFactory.defaultUser().build();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        GrpcProperties properties = new GrpcProperties(true, 0, 100, Duration.ofSeconds(1));
+        ProtoMapper protoMapper = new ProtoMapper(properties);
+        TaskGrpcService taskGrpcService = new TaskGrpcService(taskService, taskExportService, protoMapper,
+                Validation.buildDefaultValidatorFactory().getValidator());
+        GrpcServer grpcServer = new GrpcServer(properties, List.of(taskGrpcService),
+                new GrpcAuthInterceptor(jwtService, userDetailsService), new GrpcExceptionInterceptor());
+
+        // Not a direct executor: a streaming handler blocks until the client asks for more
+        String name = InProcessServerBuilder.generateName();
+        server = grpcServer.configure(InProcessServerBuilder.forName(name)).build().start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should reject a call without a bearer token")
+    void shouldRejectCallWithoutToken() {
+        TaskServiceGrpc.TaskServiceBlockingStub stub = TaskServiceGrpc.newBlockingStub(channel);
+
+        assertThatThrownBy(() -> stub.getTask(TaskFlowProto.GetTaskRequest.newBuilder().setId(1L).build()))
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+                .isEqualTo(Status.Code.UNAUTHENTICATED);
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Should return a task for the authenticated user")
+    void shouldReturnTask() {
+        authenticate();
+        when(taskService.getTask(1L, user.getId())).thenReturn(TestDataFactory.defaultTaskResponse()
+                .assigneeId(2L)
+                .build());
+
+        TaskFlowProto.Task task = authenticatedStub().getTask(TaskFlowProto.GetTaskRequest.newBuilder().setId(1L).build());
+
+        assertThat(task.getId()).isEqualTo(1L);
+        assertThat(task.getTitle()).isEqualTo("Test Task");
+        assertThat(task.getStatus()).isEqualTo(TaskFlowProto.TaskStatus.TODO);
+        assertThat(task.getPriority()).isEqualTo(TaskFlowProto.TaskPriority.MEDIUM);
+        assertThat(task.getAssigneeId()).isEqualTo(2L);
+        assertThat(task.hasDueDate()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should map a missing task to NOT_FOUND")
+    void shouldMapNotFound() {
+        authenticate();
+        when(taskService.getTask(99L, user.getId())).thenThrow(new ResourceNotFoundException("Task", "id", 99L));
+
+        assertThatThrownBy(() -> authenticatedStub().getTask(TaskFlowProto.GetTaskRequest.newBuilder().setId(99L).build()))
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+                .isEqualTo(Status.Code.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Should stream every task of a project")
+    @SuppressWarnings("unchecked")
+    void shouldStreamProjectTasks() {
+        authenticate();
+        when(taskExportService.forEachTask(eq(1L), eq(user.getId()), any())).thenAnswer(invocation -> {
+            Consumer<TaskResponse> consumer = invocation.getArgument(2, Consumer.class);
+            for (long id = 1; id <= 50; id++) {
+                consumer.accept(TestDataFactory.defaultTaskResponse().id(id).build());
+            }
+            return 50L;
+        });
+
+        List<Long> ids = new ArrayList<>();
+        authenticatedStub()
+                .streamProjectTasks(TaskFlowProto.StreamProjectTasksRequest.newBuilder().setProjectId(1L).build())
+                .forEachRemaining(task -> ids.add(task.getId()));
+
+        assertThat(ids).hasSize(50).startsWith(1L, 2L, 3L).endsWith(50L);
+    }
+
+    private void authenticate() {
+        when(jwtService.extractAllClaims("token")).thenReturn(claims);
+        when(claims.getSubject()).thenReturn(user.getEmail());
+        when(userDetailsService.loadUserByUsername(user.getEmail())).thenReturn(user);
+        when(jwtService.isTokenValid(claims, user)).thenReturn(true);
+    }
+
+    private TaskServiceGrpc.TaskServiceBlockingStub authenticatedStub() {
+        Metadata headers = new Metadata();
+        headers.put(GrpcAuthInterceptor.AUTHORIZATION, "Bearer token");
+        return TaskServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+}
@@ -0,0 +1,147 @@
+package com.taskflow.load;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-operation latency histograms and error counts.
+ * <p>
+ * Latency is measured from the scheduled start of a request, not from when a client got to send it,
+ * so queueing delay under overload is included (no coordinated omission).
+ */
+final class LatencyReport {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<LoadOperation, Histogram> histograms = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+
+    LatencyReport() {
+        for (LoadOperation operation : LoadOperation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(LoadOperation operation, long latencyNanos, boolean success) {
+        histograms.get(operation).recordValue(Math.min(latencyNanos, TimeUnit.MINUTES.toNanos(1)));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    long count(LoadOperation operation) {
+        return histograms.get(operation).getTotalCount();
+    }
+
+    double errorRate(LoadOperation operation) {
+        long count = count(operation);
+        return count == 0 ? 0 : errors.get(operation).sum() / (double) count;
+    }
+
+    double p99Millis(LoadOperation operation) {
+        return percentileMillis(operation, 99.0);
+    }
+
+    double percentileMillis(LoadOperation operation, double percentile) {
+        return histograms.get(operation).getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    String format(double seconds) {
+        StringBuilder table = new StringBuilder(String.format("%-10s %8s %8s %8s %8s %8s %8s %8s %8s%n",
+                "operation", "count", "rps", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (LoadOperation operation : LoadOperation.values()) {
+            Histogram histogram = histograms.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            table.append(String.format("%-10s %8d %8.1f %8d %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                    operation.key(),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    errors.get(operation).sum(),
+                    percentileMillis(operation, 50.0),
+                    percentileMillis(operation, 90.0),
+                    percentileMillis(operation, 99.0),
+                    percentileMillis(operation, 99.9),
+                    histogram.getMaxValue() / NANOS_PER_MILLI));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Write p99 per operation in the baseline format, so a run can be promoted to the new baseline.
+     */
+    void writeP99(Path file) throws IOException {
+        Properties properties = new Properties();
+        for (LoadOperation operation : LoadOperation.values()) {
+            if (count(operation) > 0) {
+                properties.setProperty(operation.key() + ".p99-ms", String.format("%.2f", p99Millis(operation)));
+            }
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            properties.store(writer, "p99 latency per operation");
+        }
+    }
+
+    /**
+     * Compare against a stored baseline.
+     * @return one message per operation whose p99 exceeds baseline * tolerance
+     */
+    List<String> regressionsAgainst(Path baseline, double tolerance) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(baseline)) {
+            properties.load(reader);
+        }
+        List<String> regressions = new ArrayList<>();
+        for (LoadOperation operation : LoadOperation.values()) {
+            String stored = properties.getProperty(operation.key() + ".p99-ms");
+            if (stored == null || count(operation) == 0) {
+                continue;
+            }
+            double limit = Double.parseDouble(stored) * tolerance;
+            double measured = p99Millis(operation);
+            if (measured > limit) {
+                regressions.add(String.format("%s p99 %.2f ms exceeds baseline %s ms x %.2f",
+                        operation.key(), measured, stored, tolerance));
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Compare p99s with another run's results file, e.g. the same load in the other thread mode.
+     * @return one line per operation present in both runs
+     */
+    List<String> compareP99(Path otherResults, String otherLabel) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(otherResults)) {
+            properties.load(reader);
+        }
+        List<String> lines = new ArrayList<>();
+        for (LoadOperation operation : LoadOperation.values()) {
+            String other = properties.getProperty(operation.key() + ".p99-ms");
+            if (other == null || count(operation) == 0) {
+                continue;
+            }
+            double measured = p99Millis(operation);
+            lines.add(String.format("%-10s p99 %8.2f ms vs %8s ms %s (x%.2f)",
+                    operation.key(), measured, other, otherLabel, measured / Double.parseDouble(other)));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,125 @@
+package com.taskflow.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load driver: requests are started at a fixed arrival rate, independent of response times.
+ * <p>
+ * Each request runs on its own client thread. Virtual threads are used when the JVM provides them
+ * (Java 21+); on older JVMs an unbounded pool of platform threads stands in.
+ */
+final class LoadGenerator {
+
+    // Random targets so most patches are real updates rather than no-ops
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "IN_REVIEW", "DONE"};
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final LoadProfile profile;
+    private final List<LoadSession> sessions;
+
+    LoadGenerator(HttpClient httpClient, URI baseUri, LoadProfile profile, List<LoadSession> sessions) {
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.profile = profile;
+        this.sessions = sessions;
+    }
+
+    LatencyReport run() throws InterruptedException {
+        LatencyReport report = new LatencyReport();
+        ExecutorService clients = clientExecutor();
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / profile.ratePerSecond();
+        long start = System.nanoTime();
+        long recordFrom = start + profile.warmup().toNanos();
+        long end = recordFrom + profile.duration().toNanos();
+
+        for (long scheduled = start; scheduled < end; scheduled += intervalNanos) {
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long intended = scheduled;
+            boolean recorded = intended >= recordFrom;
+            LoadOperation operation = profile.pick();
+            LoadSession session = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+            clients.execute(() -> {
+                boolean success = execute(operation, session);
+                if (recorded) {
+                    report.record(operation, System.nanoTime() - intended, success);
+                }
+            });
+        }
+
+        clients.shutdown();
+        if (!clients.awaitTermination(1, TimeUnit.MINUTES)) {
+            clients.shutdownNow();
+        }
+        return report;
+    }
+
+    private boolean execute(LoadOperation operation, LoadSession session) {
+        try {
+            HttpResponse<Void> response = httpClient.send(request(operation, session),
+                    HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() / 100 == 2;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+
+    private HttpRequest request(LoadOperation operation, LoadSession session) {
+        return switch (operation) {
+            case LOGIN -> json("/api/v1/auth/login", null,
+                    "{\"email\":\"" + session.email() + "\",\"password\":\"" + session.password() + "\"}");
+            case LIST_ASSIGNED -> get("/api/v1/tasks/assigned?size=20", session);
+            case SEARCH -> get("/api/v1/tasks/project/" + session.projectId() + "/search?q=task&size=20", session);
+            case CREATE -> json("/api/v1/tasks", session,
+                    "{\"title\":\"Load task\",\"projectId\":" + session.projectId() + ",\"priority\":\"MEDIUM\"}");
+            case STATUS_PATCH -> builder("/api/v1/tasks/" + session.randomTaskId() + "/status?status="
+                    + STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)], session)
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                    .build();
+        };
+    }
+
+    private HttpRequest get(String path, LoadSession session) {
+        return builder(path, session).GET().build();
+    }
+
+    private HttpRequest json(String path, LoadSession session, String body) {
+        return builder(path, session)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder builder(String path, LoadSession session) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(Duration.ofSeconds(30));
+        if (session != null) {
+            builder.header("Authorization", "Bearer " + session.accessToken());
+        }
+        return builder;
+    }
+
+    private static ExecutorService clientExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
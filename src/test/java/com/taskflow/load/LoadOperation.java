@@ -0,0 +1,32 @@
+package com.taskflow.load;
+
+/**
+ * Request types in a load mix, keyed by the name used in the 'load.mix' property.
+ */
+enum LoadOperation {
+
+    LOGIN("login"),
+    LIST_ASSIGNED("assigned"),
+    SEARCH("search"),
+    CREATE("create"),
+    STATUS_PATCH("status");
+
+    private final String key;
+
+    LoadOperation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static LoadOperation fromKey(String key) {
+        for (LoadOperation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load operation: " + key);
+    }
+}
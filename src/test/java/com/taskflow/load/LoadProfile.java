@@ -0,0 +1,103 @@
+package com.taskflow.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Load test settings, read from system properties so runs can be tuned from the Maven command line.
+ *
+ * @param ratePerSecond open-model arrival rate; requests start on schedule whether or not earlier ones finished
+ * @param warmup period run but not recorded
+ * @param duration recorded period
+ * @param users number of seeded users sharing the load
+ * @param mix relative weight of each operation
+ * @param baseline stored p99 baseline, compared against when present
+ * @param tolerance allowed p99 growth over the baseline, e.g. 1.25 for 25%
+ * @param maxErrorRate fraction of failed requests tolerated per operation
+ * @param virtualThreads whether the server under test handles requests on virtual threads
+ */
+record LoadProfile(
+        int ratePerSecond,
+        Duration warmup,
+        Duration duration,
+        int users,
+        Map<LoadOperation, Integer> mix,
+        Path baseline,
+        double tolerance,
+        double maxErrorRate,
+        boolean virtualThreads) {
+
+    static LoadProfile fromSystemProperties() {
+        boolean virtualThreads = virtualThreadsRequested();
+        return new LoadProfile(
+                Integer.getInteger("load.rate", 200),
+                Duration.parse("PT" + System.getProperty("load.warmup", "10s")),
+                Duration.parse("PT" + System.getProperty("load.duration", "30s")),
+                Integer.getInteger("load.users", 50),
+                parseMix(System.getProperty("load.mix", "login=5,assigned=40,search=25,create=15,status=15")),
+                Path.of(System.getProperty("load.baseline", virtualThreads
+                        ? "src/test/resources/load/baseline-virtual.properties"
+                        : "src/test/resources/load/baseline.properties")),
+                Double.parseDouble(System.getProperty("load.tolerance", "1.25")),
+                Double.parseDouble(System.getProperty("load.max-error-rate", "0.01")),
+                virtualThreads);
+    }
+
+    /**
+     * Server thread mode from load.threads: "platform" (default) or "virtual".
+     */
+    static boolean virtualThreadsRequested() {
+        String threads = System.getProperty("load.threads", "platform");
+        return switch (threads) {
+            case "platform" -> false;
+            case "virtual" -> true;
+            default -> throw new IllegalArgumentException("load.threads must be platform or virtual: " + threads);
+        };
+    }
+
+    LoadProfile withVirtualThreads(boolean virtualThreads) {
+        return new LoadProfile(ratePerSecond, warmup, duration, users, mix, baseline, tolerance, maxErrorRate,
+                virtualThreads);
+    }
+
+    String threadMode() {
+        return virtualThreads ? "virtual" : "platform";
+    }
+
+    /**
+     * Where this run's p99s are written; each thread mode has its own file so two runs can be compared.
+     */
+    Path results() {
+        return Path.of(virtualThreads ? "target/load-results-virtual.properties" : "target/load-results.properties");
+    }
+
+    static Map<LoadOperation, Integer> parseMix(String mix) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(LoadOperation.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Load mix has no operations: " + mix);
+        }
+        return weights;
+    }
+
+    LoadOperation pick() {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<LoadOperation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+}
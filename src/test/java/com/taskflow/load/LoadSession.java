@@ -0,0 +1,14 @@
+package com.taskflow.load;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A seeded user with a valid access token and the data it may operate on.
+ */
+record LoadSession(String email, String password, String accessToken, Long projectId, List<Long> taskIds) {
+
+    Long randomTaskId() {
+        return taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size()));
+    }
+}
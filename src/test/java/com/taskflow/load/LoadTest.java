@@ -0,0 +1,169 @@
+package com.taskflow.load;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.api.Assumptions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.dto.auth.AuthResponse;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.User;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.test.builder.TestDataFactory;
+
+/**
+ * End-to-end load test against the application on a random port.
+ * Tests throughput and tail latency of a request mix, and fails on p99 regressions against a stored baseline.
+ * <p>
+ * Excluded from the default build; run with {@code mvn test -Pload}. Settings are system properties:
+ * load.rate, load.warmup, load.duration, load.users, load.mix, load.baseline, load.tolerance,
+ * load.max-error-rate, load.database=postgres to run against PostgreSQL in a container instead of H2, and
+ * load.threads=virtual to serve requests on virtual threads behind the connection bulkhead (Java 21+).
+ * Each run writes its p99s to target/load-results.properties (load-results-virtual.properties for virtual
+ * threads); copy that file over the baseline to accept them. A run prints its p99s against the other
+ * thread mode's results when they exist.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret=dGFza2Zsb3ctbG9hZC10ZXN0LXNpZ25pbmcta2V5LTAxMjM0NTY3ODk=",
+        "logging.level.com.taskflow=WARN"
+})
+@ActiveProfiles("test")
+@DisplayName("Load Tests")
+@SuppressWarnings("null")
+class LoadTest {
+
+    private static final String PASSWORD = "password123";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void threads(DynamicPropertyRegistry registry) {
+        boolean virtualThreads = LoadProfile.virtualThreadsRequested();
+        registry.add("spring.threads.virtual.enabled", () -> virtualThreads);
+        registry.add("taskflow.db-bulkhead.enabled", () -> virtualThreads);
+    }
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        if (!"postgres".equals(System.getProperty("load.database"))) {
+            return;
+        }
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Test
+    @DisplayName("Should sustain the configured request mix within the p99 baseline")
+    void shouldSustainRequestMix() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        assumeThat(!profile.virtualThreads() || Runtime.version().feature() >= 21)
+                .as("virtual threads need Java 21+")
+                .isTrue();
+        URI baseUri = URI.create("http://localhost:" + port);
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        List<LoadSession> sessions = seed(httpClient, baseUri, profile.users());
+
+        LatencyReport report = new LoadGenerator(httpClient, baseUri, profile, sessions).run();
+
+        System.out.printf("%nLoad test: %d req/s for %s (after %s warm-up), %d users, %s threads%n%s%n",
+                profile.ratePerSecond(), profile.duration(), profile.warmup(), profile.users(),
+                profile.threadMode(), report.format(profile.duration().toMillis() / 1000.0));
+        report.writeP99(profile.results());
+        LoadProfile otherMode = profile.withVirtualThreads(!profile.virtualThreads());
+        if (Files.exists(otherMode.results())) {
+            report.compareP99(otherMode.results(), otherMode.threadMode()).forEach(System.out::println);
+        }
+
+        for (LoadOperation operation : profile.mix().keySet()) {
+            assertThat(report.errorRate(operation))
+                    .as("error rate of %s", operation.key())
+                    .isLessThanOrEqualTo(profile.maxErrorRate());
+        }
+        if (Files.exists(profile.baseline())) {
+            assertThat(report.regressionsAgainst(profile.baseline(), profile.tolerance())).isEmpty();
+        } else {
+            System.out.printf("No baseline at %s; p99s written to %s%n", profile.baseline(), profile.results());
+        }
+    }
+
+    /**
+     * Create users with projects and assigned tasks, and log each of them in once.
+     */
+    private List<LoadSession> seed(HttpClient httpClient, URI baseUri, int users) throws Exception {
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        List<LoadSession> sessions = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            User user = TestDataFactory.newUser("load-" + i + "@example.com");
+            user.setPassword(encodedPassword);
+            userRepository.save(user);
+
+            List<Project> projects = projectRepository.saveAll(TestDataFactory.newProjects(user, 3));
+            List<Task> tasks = new ArrayList<>();
+            for (Project project : projects) {
+                tasks.addAll(TestDataFactory.newTasks(project, user, 50));
+            }
+            taskRepository.saveAll(tasks);
+
+            sessions.add(new LoadSession(user.getEmail(), PASSWORD, login(httpClient, baseUri, user.getEmail()),
+                    projects.get(0).getId(), tasks.stream().map(Task::getId).toList()));
+        }
+        return sessions;
+    }
+
+    private String login(HttpClient httpClient, URI baseUri, String email) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as("login of %s", email).isEqualTo(200);
+        return objectMapper.readValue(response.body(), AuthResponse.class).getAccessToken();
+    }
+}
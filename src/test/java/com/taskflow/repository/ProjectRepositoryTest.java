@@ -3,6 +3,7 @@ package com.taskflow.repository;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +18,11 @@ import org.springframework.test.context.ActiveProfiles;
 
 import com.taskflow.config.JpaConfig;
 import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectMember;
+import com.taskflow.entity.ProjectRole;
 import com.taskflow.entity.ProjectStatus;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskStatus;
 import com.taskflow.entity.User;
 
 /**
@@ -159,4 +164,61 @@ class ProjectRepositoryTest {
         assertThat(exists).isTrue();
         assertThat(notExists).isFalse();
     }
+
+    @Test
+    @DisplayName("Should select requested fields and task counts of a project")
+    void shouldSelectSparseProjectFields() {
+        Project project = Project.builder().name("Counted").owner(owner).build();
+        entityManager.persist(project);
+        entityManager.persist(Task.builder().title("Open").project(project).build());
+        entityManager.persist(Task.builder().title("Closed").status(TaskStatus.DONE).project(project).build());
+        entityManager.flush();
+
+        Page<Map<String, Object>> page = projectRepository.findSparse(ProjectSpecifications.ownedBy(owner.getId()),
+                ProjectRepository.FIELDS.resolve("name,taskCount,completedTaskCount"), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).singleElement().satisfies(row -> assertThat(row)
+                .containsOnlyKeys("id", "name", "taskCount", "completedTaskCount")
+                .containsEntry("name", "Counted")
+                .containsEntry("taskCount", 2L)
+                .containsEntry("completedTaskCount", 1L));
+    }
+
+    @Test
+    @DisplayName("Should list owned and shared projects once each")
+    void shouldFindAccessibleProjects() {
+        User other = User.builder()
+                .email("other@example.com")
+                .password("password")
+                .firstName("Jane")
+                .lastName("Roe")
+                .enabled(true)
+                .build();
+        User third = User.builder()
+                .email("third@example.com")
+                .password("password")
+                .firstName("Joe")
+                .lastName("Bloggs")
+                .enabled(true)
+                .build();
+        entityManager.persist(other);
+        entityManager.persist(third);
+        Project owned = entityManager.persist(Project.builder().name("Owned").owner(owner).build());
+        Project shared = entityManager.persist(Project.builder().name("Shared").owner(other).build());
+        entityManager.persist(Project.builder().name("Private").owner(other).build());
+        entityManager.persist(ProjectMember.builder().project(shared).user(owner).role(ProjectRole.VIEWER).build());
+        entityManager.persist(ProjectMember.builder().project(shared).user(third).role(ProjectRole.EDITOR).build());
+        entityManager.flush();
+
+        Page<Project> accessible = projectRepository.findAccessibleByUserId(owner.getId(), PageRequest.of(0, 10));
+        Page<Map<String, Object>> sparse = projectRepository.findSparse(
+                ProjectSpecifications.accessibleBy(owner.getId()), ProjectRepository.FIELDS.resolve("name"),
+                PageRequest.of(0, 10));
+
+        assertThat(accessible.getContent()).extracting(Project::getId)
+                .containsExactlyInAnyOrder(owned.getId(), shared.getId());
+        assertThat(sparse.getTotalElements()).isEqualTo(2);
+        assertThat(projectRepository.searchAccessible(owner.getId(), "shar", PageRequest.of(0, 10)).getContent())
+                .extracting(Project::getName).containsExactly("Shared");
+    }
 }
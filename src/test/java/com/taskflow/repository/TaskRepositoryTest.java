@@ -0,0 +1,219 @@
+package com.taskflow.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.taskflow.config.JpaConfig;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.entity.User;
+import com.taskflow.exception.BadRequestException;
+
+/**
+ * Integration tests for TaskRepository.
+ * Tests overdue listing, sweep, delta sync, sparse fieldset and batched project task queries.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+@DisplayName("TaskRepository Tests")
+class TaskRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User assignee;
+    private Project project;
+    private final LocalDate today = LocalDate.of(2026, 1, 15);
+
+    @BeforeEach
+    void setUp() {
+        assignee = User.builder()
+                .email("assignee@example.com")
+                .password("password")
+                .firstName("Jane")
+                .lastName("Doe")
+                .enabled(true)
+                .build();
+        entityManager.persist(assignee);
+
+        project = Project.builder()
+                .name("Project")
+                .owner(assignee)
+                .build();
+        entityManager.persist(project);
+    }
+
+    @Test
+    @DisplayName("Should page overdue tasks of an assignee")
+    void shouldPageOverdueTasks() {
+        persistTask("Overdue 1", today.minusDays(3), TaskStatus.TODO);
+        persistTask("Overdue 2", today.minusDays(1), TaskStatus.IN_PROGRESS);
+        persistTask("Done", today.minusDays(2), TaskStatus.DONE);
+        persistTask("Upcoming", today.plusDays(1), TaskStatus.TODO);
+        entityManager.flush();
+
+        Page<Task> page = taskRepository.findOverdueTasks(assignee.getId(), today, PageRequest.of(0, 1));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should find and flag newly overdue tasks")
+    void shouldFlagNewlyOverdueTasks() {
+        Task overdue = persistTask("Overdue", today.minusDays(1), TaskStatus.TODO);
+        persistTask("Done", today.minusDays(1), TaskStatus.DONE);
+        persistTask("Upcoming", today.plusDays(1), TaskStatus.TODO);
+        entityManager.flush();
+
+        List<Long> ids = taskRepository.findNewlyOverdueIds(today, PageRequest.of(0, 10));
+        assertThat(ids).containsExactly(overdue.getId());
+
+        int updated = taskRepository.markOverdue(ids, LocalDateTime.now());
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(entityManager.find(Task.class, overdue.getId()).isOverdue()).isTrue();
+        assertThat(taskRepository.findNewlyOverdueIds(today, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should walk changed tasks of an owner by keyset")
+    void shouldWalkChangedTasksByKeyset() {
+        Task first = persistTask("First", today, TaskStatus.TODO);
+        Task second = persistTask("Second", today, TaskStatus.TODO);
+        Task third = persistTask("Third", today, TaskStatus.TODO);
+        entityManager.flush();
+        LocalDateTime until = LocalDateTime.now().plusMinutes(1);
+
+        List<TaskResponse> page = taskRepository.findChangedSince(assignee.getId(),
+                LocalDateTime.of(1970, 1, 1, 0, 0), 0L, until, PageRequest.of(0, 2));
+        assertThat(page).extracting(TaskResponse::getId).containsExactly(first.getId(), second.getId());
+
+        TaskResponse last = page.get(1);
+        List<TaskResponse> next = taskRepository.findChangedSince(assignee.getId(),
+                last.getUpdatedAt(), last.getId(), until, PageRequest.of(0, 2));
+        assertThat(next).extracting(TaskResponse::getId).containsExactly(third.getId());
+        assertThat(next.get(0).getProjectName()).isEqualTo("Project");
+    }
+
+    @Test
+    @DisplayName("Should include changed tasks of projects shared with the user")
+    void shouldIncludeChangedTasksOfSharedProjects() {
+        User other = User.builder()
+                .email("other@example.com")
+                .password("password")
+                .firstName("John")
+                .lastName("Roe")
+                .enabled(true)
+                .build();
+        entityManager.persist(other);
+        Project shared = entityManager.persist(Project.builder().name("Shared").owner(other).build());
+        Project unshared = entityManager.persist(Project.builder().name("Unshared").owner(other).build());
+        Task owned = persistTask("Owned", today, TaskStatus.TODO);
+        Task inShared = entityManager.persist(Task.builder().title("In shared").status(TaskStatus.TODO).project(shared).build());
+        entityManager.persist(Task.builder().title("In unshared").status(TaskStatus.TODO).project(unshared).build());
+        entityManager.flush();
+
+        List<TaskResponse> changed = taskRepository.findChangedSinceIncluding(assignee.getId(), List.of(shared.getId()),
+                LocalDateTime.of(1970, 1, 1, 0, 0), 0L, LocalDateTime.now().plusMinutes(1), PageRequest.of(0, 10));
+
+        assertThat(changed).extracting(TaskResponse::getId).containsExactly(owned.getId(), inShared.getId());
+    }
+
+    @Test
+    @DisplayName("Should select only the requested fields of matching tasks")
+    void shouldSelectRequestedFields() {
+        Task later = persistTask("Later", today.minusDays(1), TaskStatus.TODO);
+        Task earlier = persistTask("Earlier", today.minusDays(3), TaskStatus.IN_PROGRESS);
+        persistTask("Done", today.minusDays(2), TaskStatus.DONE);
+        entityManager.flush();
+
+        Page<Map<String, Object>> page = taskRepository.findSparse(
+                TaskSpecifications.assignedTo(assignee.getId()).and(TaskSpecifications.overdueOn(today)),
+                TaskRepository.FIELDS.resolve("assigneeName, title"),
+                PageRequest.of(0, 10, Sort.by("dueDate")));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).allSatisfy(row ->
+                assertThat(row).containsOnlyKeys("id", "title", "assigneeName"));
+        assertThat(page.getContent()).extracting(row -> row.get("id")).containsExactly(earlier.getId(), later.getId());
+        assertThat(page.getContent().get(0)).containsEntry("title", "Earlier").containsEntry("assigneeName", "Jane Doe");
+    }
+
+    @Test
+    @DisplayName("Should reject fields outside the allow-list")
+    void shouldRejectUnknownFields() {
+        assertThatThrownBy(() -> TaskRepository.FIELDS.resolve("title,ownerId"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("ownerId");
+        assertThatThrownBy(() -> TaskRepository.FIELDS.resolve(" , "))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should fetch tasks by ID with project and assignee names")
+    void shouldFetchTasksById() {
+        Task first = persistTask("First", today, TaskStatus.TODO);
+        Task second = persistTask("Second", today, TaskStatus.TODO);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> ids = List.of(first.getId(), second.getId(), Long.MAX_VALUE);
+        List<TaskResponse> found = taskRepository.findResponsesByIdIn(ids);
+
+        assertThat(found).extracting(TaskResponse::getId).containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(found).extracting(TaskResponse::getProjectId).containsOnly(project.getId());
+        assertThat(found).extracting(TaskResponse::getProjectName).containsOnly("Project");
+        assertThat(found).extracting(TaskResponse::getAssigneeName).containsOnly("Jane Doe");
+    }
+
+    @Test
+    @DisplayName("Should fetch the oldest tasks of each project up to the cap")
+    void shouldCapTasksPerProject() {
+        Project other = entityManager.persist(Project.builder().name("Other").owner(assignee).build());
+        Task first = persistTask("First", today, TaskStatus.TODO);
+        Task second = persistTask("Second", today, TaskStatus.TODO);
+        persistTask("Third", today, TaskStatus.TODO);
+        Task otherTask = entityManager.persist(Task.builder().title("Other").project(other).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TaskResponse> found = taskRepository.findResponsesByProjectIdIn(List.of(project.getId(), other.getId()), 2);
+
+        assertThat(found).extracting(TaskResponse::getId)
+                .containsExactly(first.getId(), second.getId(), otherTask.getId());
+    }
+
+    private Task persistTask(String title, LocalDate dueDate, TaskStatus status) {
+        Task task = Task.builder()
+                .title(title)
+                .dueDate(dueDate)
+                .status(status)
+                .project(project)
+                .assignee(assignee)
+                .build();
+        return entityManager.persist(task);
+    }
+}
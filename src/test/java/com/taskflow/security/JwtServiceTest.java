@@ -0,0 +1,68 @@
+package com.taskflow.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.taskflow.config.JwtProperties;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for JwtService.
+ * Tests token round-trips and the signing/parsing timers.
+ */
+@DisplayName("JwtService Tests")
+class JwtServiceTest {
+
+    private static final String SECRET = "dGFza2Zsb3ctdW5pdC10ZXN0LXNpZ25pbmcta2V5LTAxMjM0NTY3ODk=";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtService jwtService;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(new JwtProperties(SECRET, 3600000, 86400000), meterRegistry);
+        userDetails = User.withUsername("john@example.com").password("secret").build();
+    }
+
+    @Test
+    @DisplayName("Should validate a token it generated")
+    void shouldValidateGeneratedToken() {
+        String token = jwtService.generateToken(userDetails);
+
+        assertThat(jwtService.extractUsername(token)).isEqualTo("john@example.com");
+        assertThat(jwtService.isTokenValid(token, userDetails)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should time signing and parsing separately")
+    void shouldRecordSignAndParseTimers() {
+        String token = jwtService.generateToken(userDetails);
+        jwtService.extractUsername(token);
+        jwtService.extractUsername(token);
+
+        assertThat(meterRegistry.get("taskflow.jwt").tag("operation", "sign").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("taskflow.jwt").tag("operation", "parse").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should validate already parsed claims without parsing again")
+    void shouldValidateParsedClaims() {
+        String token = jwtService.generateToken(userDetails);
+        UserDetails otherUser = User.withUsername("jane@example.com").password("secret").build();
+
+        Claims claims = jwtService.extractAllClaims(token);
+
+        assertThat(jwtService.isTokenValid(claims, userDetails)).isTrue();
+        assertThat(jwtService.isTokenValid(claims, otherUser)).isFalse();
+        assertThat(meterRegistry.get("taskflow.jwt").tag("operation", "parse").timer().count()).isEqualTo(1);
+    }
+}
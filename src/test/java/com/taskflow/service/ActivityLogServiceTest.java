@@ -0,0 +1,150 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.config.ActivityLogProperties;
+import com.taskflow.dto.activity.ActivityResponse;
+import com.taskflow.dto.common.CursorPageResponse;
+import com.taskflow.entity.ActivityAction;
+import com.taskflow.entity.ActivityLogEntry;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectRole;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.entity.User;
+import com.taskflow.exception.UnauthorizedException;
+import com.taskflow.repository.ActivityLogRepository;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+
+/**
+ * Unit tests for ActivityLogService.
+ * Tests field-level diff capture and keyset history paging.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityLogService Tests")
+@SuppressWarnings("null")
+class ActivityLogServiceTest {
+
+    @Mock
+    private ActivityLogWriter activityLogWriter;
+
+    @Mock
+    private ActivityLogRepository activityLogRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectAccessIndex projectAccessIndex;
+
+    private ActivityLogService activityLogService;
+    private User owner;
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        activityLogService = new ActivityLogService(activityLogWriter, activityLogRepository, taskRepository,
+                projectRepository, projectAccessIndex, new ObjectMapper(), new ActivityLogProperties(1024, 100, Duration.ofMillis(200), 50));
+
+        owner = User.builder().id(1L).email("owner@example.com").build();
+        project = Project.builder().id(1L).name("Project").owner(owner).build();
+        task = Task.builder()
+                .id(7L)
+                .title("Old title")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .project(project)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should record only the fields an update changed")
+    void shouldRecordChangedFields() throws Exception {
+        Map<String, String> before = ActivityLogService.snapshotOf(task);
+        task.setTitle("New title");
+        task.setDueDate(LocalDate.of(2026, 2, 1));
+
+        activityLogService.recordTaskUpdated(task, before, 1L);
+
+        ArgumentCaptor<ActivityLogEntry> entry = ArgumentCaptor.forClass(ActivityLogEntry.class);
+        verify(activityLogWriter).append(entry.capture());
+        assertThat(entry.getValue().getAction()).isEqualTo(ActivityAction.TASK_UPDATED);
+        assertThat(entry.getValue().getTaskId()).isEqualTo(7L);
+        assertThat(new ObjectMapper().readTree(entry.getValue().getChanges()))
+                .hasToString("{\"title\":{\"from\":\"Old title\",\"to\":\"New title\"}," +
+                        "\"dueDate\":{\"from\":null,\"to\":\"2026-02-01\"}}");
+    }
+
+    @Test
+    @DisplayName("Should skip updates that change nothing")
+    void shouldSkipNoOpUpdates() {
+        Map<String, String> before = ActivityLogService.snapshotOf(task);
+
+        activityLogService.recordTaskUpdated(task, before, 1L);
+
+        verifyNoInteractions(activityLogWriter);
+    }
+
+    @Test
+    @DisplayName("Should page task history by keyset")
+    void shouldPageTaskHistory() {
+        when(taskRepository.findById(7L)).thenReturn(Optional.of(task));
+        when(projectAccessIndex.has(1L, 1L, ProjectRole.VIEWER)).thenReturn(true);
+        when(activityLogRepository.findByTaskIdAndIdLessThanOrderByIdDesc(7L, 30L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(entry(29L), entry(28L), entry(27L)));
+
+        CursorPageResponse<ActivityResponse> page = activityLogService.getTaskActivity(7L, 1L, 30L, 2);
+
+        assertThat(page.getContent()).extracting(ActivityResponse::getId).containsExactly(29L, 28L);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(28L);
+        assertThat(page.getContent().get(0).getChanges()).containsKey("status");
+    }
+
+    @Test
+    @DisplayName("Should reject history requests from non-owners")
+    void shouldRejectNonOwner() {
+        when(taskRepository.findById(7L)).thenReturn(Optional.of(task));
+
+        assertThatThrownBy(() -> activityLogService.getTaskActivity(7L, 2L, null, 10))
+                .isInstanceOf(UnauthorizedException.class);
+        verify(activityLogRepository, never()).findByTaskIdAndIdLessThanOrderByIdDesc(any(), any(), any());
+    }
+
+    private ActivityLogEntry entry(Long id) {
+        return ActivityLogEntry.builder()
+                .id(id)
+                .projectId(1L)
+                .taskId(7L)
+                .actorId(1L)
+                .action(ActivityAction.TASK_STATUS_CHANGED)
+                .changes("{\"status\":{\"from\":\"TODO\",\"to\":\"DONE\"}}")
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
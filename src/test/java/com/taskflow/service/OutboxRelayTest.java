@@ -0,0 +1,139 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskflow.config.OutboxProperties;
+import com.taskflow.entity.OutboxEvent;
+import com.taskflow.event.InMemoryEventBus;
+import com.taskflow.event.OutboxMessage;
+import com.taskflow.repository.OutboxEventRepository;
+
+/**
+ * Unit tests for OutboxRelay.
+ * Tests delivery, draining, retry backoff and dead-lettering of outbox events.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Tests")
+@SuppressWarnings("null")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private InMemoryEventBus eventBus;
+    private OutboxRelay outboxRelay;
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 15, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        eventBus = new InMemoryEventBus();
+        outboxRelay = new OutboxRelay(outboxEventRepository, List.of(eventBus), transactionTemplate,
+                new OutboxProperties(true, 1, 10, Duration.ofSeconds(1), 3,
+                        Duration.ofSeconds(5), Duration.ofMinutes(1), false, null));
+
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Should deliver claimed events and delete them")
+    void shouldDeliverAndDeleteEvents() {
+        OutboxEvent first = event(1L, 0);
+        OutboxEvent second = event(2L, 0);
+        when(outboxEventRepository.claimBatch(now, 10)).thenReturn(List.of(first, second));
+        List<OutboxMessage> received = new ArrayList<>();
+        eventBus.subscribe("task.", received::add);
+
+        int claimed = outboxRelay.relayBatch(now);
+
+        assertThat(claimed).isEqualTo(2);
+        assertThat(received).extracting(OutboxMessage::id).containsExactly(1L, 2L);
+        verify(outboxEventRepository).deleteAllInBatch(List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("Should keep draining after a short batch until nothing is claimed")
+    void shouldDrainAggregateBacklog() {
+        // One event per aggregate is claimable at a time, so a backlog of one aggregate comes in short batches
+        when(outboxEventRepository.claimBatch(any(), eq(10)))
+                .thenReturn(List.of(event(1L, 0), event(2L, 0)))
+                .thenReturn(List.of(event(3L, 0)))
+                .thenReturn(List.of());
+        List<OutboxMessage> received = new ArrayList<>();
+        eventBus.subscribe("task.", received::add);
+
+        outboxRelay.drain();
+
+        assertThat(received).extracting(OutboxMessage::id).containsExactly(1L, 2L, 3L);
+        verify(outboxEventRepository, times(3)).claimBatch(any(), eq(10));
+    }
+
+    @Test
+    @DisplayName("Should reschedule a failed event with backoff")
+    void shouldRescheduleFailedEvent() {
+        OutboxEvent failing = event(1L, 1);
+        OutboxEvent healthy = event(2L, 0);
+        when(outboxEventRepository.claimBatch(now, 10)).thenReturn(List.of(failing, healthy));
+        eventBus.subscribe("", message -> {
+            if (message.id() == 1L) {
+                throw new IllegalStateException("listener down");
+            }
+        });
+
+        outboxRelay.relayBatch(now);
+
+        assertThat(failing.getAttempts()).isEqualTo(2);
+        assertThat(failing.getNextAttemptAt()).isEqualTo(now.plusSeconds(10));
+        assertThat(failing.getLastError()).contains("listener down");
+        assertThat(failing.getDeadLetteredAt()).isNull();
+        verify(outboxEventRepository).deleteAllInBatch(List.of(healthy));
+    }
+
+    @Test
+    @DisplayName("Should dead-letter an event after the maximum number of attempts")
+    void shouldDeadLetterAfterMaxAttempts() {
+        OutboxEvent failing = event(1L, 2);
+        when(outboxEventRepository.claimBatch(now, 10)).thenReturn(List.of(failing));
+        eventBus.subscribe("", message -> {
+            throw new IllegalStateException("listener down");
+        });
+
+        outboxRelay.relayBatch(now);
+
+        assertThat(failing.getAttempts()).isEqualTo(3);
+        assertThat(failing.getDeadLetteredAt()).isEqualTo(now);
+        verify(outboxEventRepository, never()).deleteAllInBatch(any());
+    }
+
+    private OutboxEvent event(Long id, int attempts) {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType("task")
+                .aggregateId(id)
+                .eventType("task.updated")
+                .payload("{}")
+                .createdAt(now.minusMinutes(1))
+                .nextAttemptAt(now.minusMinutes(1))
+                .attempts(attempts)
+                .build();
+    }
+}
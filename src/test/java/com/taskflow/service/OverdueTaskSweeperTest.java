@@ -0,0 +1,75 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskflow.config.OverdueProperties;
+import com.taskflow.repository.TaskRepository;
+
+/**
+ * Unit tests for OverdueTaskSweeper.
+ * Tests batching of the daily overdue sweep.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OverdueTaskSweeper Tests")
+@SuppressWarnings({"null", "unchecked"})
+class OverdueTaskSweeperTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OverdueTaskSweeper sweeper;
+
+    private final LocalDate today = LocalDate.of(2026, 1, 15);
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new OverdueTaskSweeper(taskRepository, transactionTemplate,
+                new OverdueProperties(true, "0 5 0 * * *", 2));
+
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Should flag tasks in batches until a short batch")
+    void shouldFlagTasksInBatches() {
+        when(taskRepository.findNewlyOverdueIds(eq(today), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+
+        int flagged = sweeper.sweep(today);
+
+        assertThat(flagged).isEqualTo(3);
+        verify(taskRepository).markOverdue(eq(List.of(1L, 2L)), any());
+        verify(taskRepository).markOverdue(eq(List.of(3L)), any());
+    }
+
+    @Test
+    @DisplayName("Should not update anything when no task became overdue")
+    void shouldNotUpdateWhenNothingIsOverdue() {
+        when(taskRepository.findNewlyOverdueIds(eq(today), any(Pageable.class))).thenReturn(List.of());
+
+        int flagged = sweeper.sweep(today);
+
+        assertThat(flagged).isZero();
+        verify(taskRepository, never()).markOverdue(any(), any());
+    }
+}
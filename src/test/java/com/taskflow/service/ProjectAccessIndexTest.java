@@ -0,0 +1,122 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskflow.config.ProjectAccessProperties;
+import com.taskflow.entity.ProjectRole;
+import com.taskflow.repository.ProjectMemberRepository;
+import com.taskflow.repository.ProjectRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for ProjectAccessIndex.
+ * Tests role resolution from ownership and memberships, caching, and invalidation.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectAccessIndex Tests")
+@SuppressWarnings("null")
+class ProjectAccessIndexTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    private ProjectAccessIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProjectAccessIndex(projectRepository, projectMemberRepository,
+                new ProjectAccessProperties(100, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+        when(projectRepository.findIdsByOwnerId(1L)).thenReturn(List.of(1L));
+        when(projectMemberRepository.findGrantsByUserId(1L))
+                .thenReturn(List.of(grant(2L, ProjectRole.VIEWER), grant(3L, ProjectRole.EDITOR)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(index);
+    }
+
+    @Test
+    @DisplayName("Should give owners every role and members their role and the ones below it")
+    void shouldResolveRoles() {
+        ProjectAccess access = index.forUser(1L);
+
+        assertThat(access.has(1L, ProjectRole.ADMIN)).isTrue();
+        assertThat(access.has(2L, ProjectRole.VIEWER)).isTrue();
+        assertThat(access.has(2L, ProjectRole.EDITOR)).isFalse();
+        assertThat(access.has(3L, ProjectRole.EDITOR)).isTrue();
+        assertThat(access.has(3L, ProjectRole.ADMIN)).isFalse();
+        assertThat(access.has(4L, ProjectRole.VIEWER)).isFalse();
+        assertThat(access.hasAll(List.of(1L, 2L, 3L), ProjectRole.VIEWER)).isTrue();
+        assertThat(access.projectCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should answer repeated checks from the cache until invalidated")
+    void shouldCacheUntilInvalidated() {
+        index.forUser(1L);
+        index.forUser(1L);
+        verify(projectMemberRepository, times(1)).findGrantsByUserId(1L);
+
+        index.invalidate(List.of(1L));
+        index.forUser(1L);
+
+        verify(projectMemberRepository, times(2)).findGrantsByUserId(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache loads of a transaction that changed access, and invalidate again on completion")
+    void shouldNotCacheInsideChangingTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.invalidate(List.of(1L));
+
+        index.forUser(1L);
+        index.forUser(1L);
+        assertThat(index.size()).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        index.forUser(1L);
+        index.forUser(1L);
+        verify(projectMemberRepository, times(3)).findGrantsByUserId(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static ProjectMemberRepository.Grant grant(Long projectId, ProjectRole role) {
+        return new ProjectMemberRepository.Grant() {
+            @Override
+            public Long getProjectId() {
+                return projectId;
+            }
+
+            @Override
+            public ProjectRole getRole() {
+                return role;
+            }
+        };
+    }
+}
@@ -0,0 +1,325 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskflow.config.EventStreamProperties;
+import com.taskflow.config.ProjectAccessProperties;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.ProjectRole;
+import com.taskflow.event.ProjectAccessRevokedEvent;
+import com.taskflow.event.ProjectChangeType;
+import com.taskflow.event.ProjectChangedEvent;
+import com.taskflow.event.TaskChangeType;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.exception.TooManyRequestsException;
+import com.taskflow.exception.UnauthorizedException;
+import com.taskflow.repository.ProjectMemberRepository;
+import com.taskflow.repository.ProjectRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for ProjectEventBroadcaster.
+ * Tests access checks, fan-out, Last-Event-ID replay, slow subscriber handling, project deletion and
+ * revoked access.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectEventBroadcaster Tests")
+@SuppressWarnings("null")
+class ProjectEventBroadcasterTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    private ProjectAccessIndex projectAccessIndex;
+    private ProjectEventBroadcaster broadcaster;
+    private CountDownLatch sendGate;
+
+    @BeforeEach
+    void setUp() {
+        sendGate = new CountDownLatch(0);
+        projectAccessIndex = new ProjectAccessIndex(projectRepository, projectMemberRepository,
+                new ProjectAccessProperties(100, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+        // User 1 owns project 1
+        lenient().when(projectRepository.findIdsByOwnerId(1L)).thenReturn(List.of(1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should let a viewer member subscribe")
+    void shouldLetViewerSubscribe() {
+        broadcaster = broadcaster(10, 16, 100);
+        when(projectMemberRepository.findGrantsByUserId(2L)).thenReturn(List.of(grant(1L, ProjectRole.VIEWER)));
+
+        assertThat(broadcaster.subscribe(1L, 2L, null)).isInstanceOf(RecordingEmitter.class);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+        verify(projectRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a subscription from a non-member, and report a missing project as such")
+    void shouldRejectNonMember() {
+        broadcaster = broadcaster(10, 16, 100);
+        when(projectRepository.existsById(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> broadcaster.subscribe(1L, 3L, null))
+                .isInstanceOf(UnauthorizedException.class);
+        assertThatThrownBy(() -> broadcaster.subscribe(99L, 3L, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should deliver committed changes to project subscribers")
+    void shouldDeliverChangesToSubscribers() throws Exception {
+        broadcaster = broadcaster(10, 16, 100);
+        RecordingEmitter emitter = subscribe(null);
+
+        broadcaster.onTaskChanged(created(5L));
+
+        await(() -> emitter.events.size() == 1);
+        assertThat(emitter.events.get(0))
+                .contains("event:task.created")
+                .contains("id:1")
+                .contains("\"taskId\":5");
+    }
+
+    @Test
+    @DisplayName("Should replay events after Last-Event-ID")
+    void shouldReplayEventsAfterLastEventId() throws Exception {
+        broadcaster = broadcaster(10, 16, 100);
+        RecordingEmitter first = subscribe(null);
+        broadcaster.onTaskChanged(created(1L));
+        broadcaster.onTaskChanged(created(2L));
+        broadcaster.onTaskChanged(created(3L));
+        await(() -> first.events.size() == 3);
+
+        RecordingEmitter resumed = subscribe(1L);
+
+        await(() -> resumed.events.size() == 2);
+        assertThat(resumed.events.get(0)).contains("id:2");
+        assertThat(resumed.events.get(1)).contains("id:3");
+    }
+
+    @Test
+    @DisplayName("Should ask for resync when Last-Event-ID is outside the replay window")
+    void shouldResyncWhenReplayWindowIsExceeded() throws Exception {
+        broadcaster = broadcaster(10, 16, 2);
+        subscribe(null);
+        broadcaster.onTaskChanged(created(1L));
+        broadcaster.onTaskChanged(created(2L));
+        broadcaster.onTaskChanged(created(3L));
+
+        RecordingEmitter resumed = subscribe(0L);
+
+        await(() -> resumed.events.size() == 1);
+        assertThat(resumed.events.get(0)).contains("event:" + ProjectEventBroadcaster.RESYNC_EVENT);
+    }
+
+    @Test
+    @DisplayName("Should drop a slow subscriber after sending resync")
+    void shouldDropSlowSubscriber() throws Exception {
+        broadcaster = broadcaster(10, 2, 100);
+        sendGate = new CountDownLatch(1);
+        RecordingEmitter emitter = subscribe(null);
+
+        broadcaster.onTaskChanged(created(1L));
+        broadcaster.onTaskChanged(created(2L));
+        broadcaster.onTaskChanged(created(3L));
+        sendGate.countDown();
+
+        await(() -> emitter.completed);
+        assertThat(emitter.events).hasSize(1);
+        assertThat(emitter.events.get(0)).contains("event:" + ProjectEventBroadcaster.RESYNC_EVENT);
+    }
+
+    @Test
+    @DisplayName("Should send project.deleted for a deleted project and end its streams")
+    void shouldEndStreamsOfDeletedProject() throws Exception {
+        broadcaster = broadcaster(10, 16, 100);
+        RecordingEmitter emitter = subscribe(null);
+        broadcaster.onTaskChanged(created(1L));
+
+        broadcaster.onProjectChanged(ProjectChangedEvent.of(ProjectChangeType.DELETED, 1L, 1L, null));
+        broadcaster.onTaskChanged(created(2L));
+
+        await(() -> emitter.completed);
+        assertThat(emitter.events).hasSize(2);
+        assertThat(emitter.events.get(1))
+                .contains("event:" + ProjectEventBroadcaster.PROJECT_DELETED_EVENT)
+                .contains("\"projectId\":1");
+    }
+
+    @Test
+    @DisplayName("Should ignore project changes other than deletion")
+    void shouldIgnoreOtherProjectChanges() throws Exception {
+        broadcaster = broadcaster(10, 16, 100);
+        RecordingEmitter emitter = subscribe(null);
+
+        broadcaster.onProjectChanged(ProjectChangedEvent.of(ProjectChangeType.UPDATED, 1L, 1L, null));
+        broadcaster.onTaskChanged(created(1L));
+
+        await(() -> emitter.events.size() == 1);
+        assertThat(emitter.events.get(0)).contains("event:task.created");
+        assertThat(emitter.completed).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should end the streams of a member whose access was revoked, and only theirs")
+    void shouldEndStreamsOfRevokedMember() throws Exception {
+        broadcaster = broadcaster(10, 16, 100);
+        when(projectMemberRepository.findGrantsByUserId(2L)).thenReturn(List.of(grant(1L, ProjectRole.VIEWER)));
+        RecordingEmitter member = (RecordingEmitter) broadcaster.subscribe(1L, 2L, null);
+        RecordingEmitter owner = subscribe(null);
+
+        broadcaster.onProjectAccessRevoked(ProjectAccessRevokedEvent.of(1L, 2L));
+        broadcaster.onTaskChanged(created(1L));
+
+        await(() -> member.completed && owner.events.size() == 1);
+        assertThat(member.events).singleElement()
+                .asString().contains("event:" + ProjectEventBroadcaster.ACCESS_REVOKED_EVENT);
+        assertThat(owner.events.get(0)).contains("event:task.created");
+        assertThat(owner.completed).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should end streams at heartbeat once the access index no longer grants access")
+    void shouldEndStreamsOfMemberRemovedElsewhere() throws Exception {
+        broadcaster = broadcaster(10, 16, 100);
+        when(projectMemberRepository.findGrantsByUserId(2L))
+                .thenReturn(List.of(grant(1L, ProjectRole.VIEWER)))
+                .thenReturn(List.of());
+        RecordingEmitter member = (RecordingEmitter) broadcaster.subscribe(1L, 2L, null);
+        RecordingEmitter owner = subscribe(null);
+
+        // Stands for the TTL expiring after another node removed the member
+        projectAccessIndex.invalidate(List.of(2L));
+        broadcaster.heartbeat();
+
+        await(() -> member.completed);
+        assertThat(member.events).singleElement()
+                .asString().contains("event:" + ProjectEventBroadcaster.ACCESS_REVOKED_EVENT);
+        assertThat(owner.completed).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject subscriptions over the node limit")
+    void shouldRejectSubscriptionsOverLimit() {
+        broadcaster = broadcaster(1, 16, 100);
+        subscribe(null);
+
+        assertThatThrownBy(() -> subscribe(null))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+    }
+
+    private ProjectEventBroadcaster broadcaster(int maxSubscribers, int bufferSize, int windowSize) {
+        EventStreamProperties properties = new EventStreamProperties(maxSubscribers, bufferSize, 1, windowSize,
+                Duration.ofMinutes(5), Duration.ofSeconds(25), Duration.ofMinutes(1));
+        return new ProjectEventBroadcaster(projectAccessIndex, new ObjectMapper().registerModule(new JavaTimeModule()),
+                properties) {
+            @Override
+            SseEmitter newEmitter(long timeout) {
+                return new RecordingEmitter(sendGate);
+            }
+        };
+    }
+
+    private RecordingEmitter subscribe(Long lastEventId) {
+        return (RecordingEmitter) broadcaster.subscribe(1L, 1L, lastEventId);
+    }
+
+    private TaskChangedEvent created(Long taskId) {
+        return TaskChangedEvent.of(TaskChangeType.CREATED,
+                TaskResponse.builder().id(taskId).projectId(1L).title("Task " + taskId).build());
+    }
+
+    private static ProjectMemberRepository.Grant grant(Long projectId, ProjectRole role) {
+        return new ProjectMemberRepository.Grant() {
+            @Override
+            public Long getProjectId() {
+                return projectId;
+            }
+
+            @Override
+            public ProjectRole getRole() {
+                return role;
+            }
+        };
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met in time");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Records sent events instead of writing to a response; heartbeats are ignored.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch gate;
+        private volatile boolean completed;
+
+        RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            String text = builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining());
+            if (!text.startsWith(":")) {
+                events.add(text);
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectMember;
+import com.taskflow.entity.ProjectRole;
+import com.taskflow.entity.User;
+import com.taskflow.repository.ProjectMemberRepository;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.test.builder.TestDataFactory;
+
+/**
+ * Integration tests for ProjectService.
+ * Tests project deletion inside a transaction that already loaded the project's tasks, as a
+ * transactional batch does.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ProjectService Integration Tests")
+@SuppressWarnings("null")
+class ProjectServiceIntegrationTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Should delete a project whose tasks were loaded earlier in the transaction")
+    void shouldDeleteProjectAfterLoadingItsTasks() {
+        User owner = userRepository.save(TestDataFactory.newUser("delete-owner@example.com"));
+        User member = userRepository.save(TestDataFactory.newUser("delete-member@example.com"));
+        Project project = projectRepository.save(TestDataFactory.newProjects(owner, 1).get(0));
+        taskRepository.saveAll(TestDataFactory.newTasks(project, owner, 3));
+        projectMemberRepository.save(ProjectMember.builder().project(project).user(member).role(ProjectRole.VIEWER).build());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Mapping the response counts the tasks, which loads the collection
+            assertThat(projectService.getProject(project.getId(), owner.getId()).getTaskCount()).isEqualTo(3);
+            projectService.deleteProject(project.getId(), owner.getId());
+        });
+
+        assertThat(projectRepository.existsById(project.getId())).isFalse();
+        assertThat(taskRepository.countByProjectId(project.getId())).isZero();
+        assertThat(projectMemberRepository.findUserIdsByProjectId(project.getId())).isEmpty();
+    }
+}
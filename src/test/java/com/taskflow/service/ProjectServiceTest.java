@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -26,13 +27,20 @@ import com.taskflow.dto.project.CreateProjectRequest;
 import com.taskflow.dto.project.ProjectResponse;
 import com.taskflow.dto.project.UpdateProjectRequest;
 import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectRole;
 import com.taskflow.entity.ProjectStatus;
 import com.taskflow.entity.User;
+import com.taskflow.event.ProjectChangeType;
+import com.taskflow.event.ProjectChangedEvent;
+import com.taskflow.event.TaskChangedEvent;
 import com.taskflow.exception.ResourceNotFoundException;
 import com.taskflow.exception.UnauthorizedException;
 import com.taskflow.mapper.PageMapper;
 import com.taskflow.mapper.ProjectMapper;
+import com.taskflow.repository.ProjectMemberRepository;
 import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TaskTombstoneRepository;
 
 /**
  * Unit tests for ProjectService.
@@ -46,17 +54,36 @@ class ProjectServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Mock
+    private ProjectAccessIndex projectAccessIndex;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
     @Mock
     private ProjectMapper projectMapper;
 
     @Mock
     private PageMapper pageMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ActivityLogService activityLogService;
+
     @InjectMocks
     private ProjectService projectService;
 
     private User owner;
     private Project project;
+    private ProjectAccess ownerAccess;
     private CreateProjectRequest createRequest;
     private ProjectResponse projectResponse;
 
@@ -77,6 +104,8 @@ class ProjectServiceTest {
                 .owner(owner)
                 .build();
 
+        ownerAccess = ProjectAccess.builder().grant(1L, ProjectRole.ADMIN).build();
+
         createRequest = CreateProjectRequest.builder()
                 .name("Test Project")
                 .description("Test Description")
@@ -110,6 +139,7 @@ class ProjectServiceTest {
             assertThat(response.getOwnerId()).isEqualTo(1L);
             
             verify(projectRepository).save(any(Project.class));
+            verify(projectAccessIndex).invalidate(List.of(owner.getId()));
         }
     }
 
@@ -121,6 +151,7 @@ class ProjectServiceTest {
         @DisplayName("Should get project by ID")
         void shouldGetProjectById() {
             when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+            when(projectAccessIndex.forUser(owner.getId())).thenReturn(ownerAccess);
             when(projectMapper.toResponse(project)).thenReturn(projectResponse);
 
             ProjectResponse response = projectService.getProject(1L, owner.getId());
@@ -129,6 +160,16 @@ class ProjectServiceTest {
             assertThat(response.getId()).isEqualTo(1L);
         }
 
+        @Test
+        @DisplayName("Should get a project shared with the user")
+        void shouldGetSharedProject() {
+            when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+            when(projectAccessIndex.forUser(2L)).thenReturn(ProjectAccess.builder().grant(1L, ProjectRole.VIEWER).build());
+            when(projectMapper.toResponse(project)).thenReturn(projectResponse);
+
+            assertThat(projectService.getProject(1L, 2L)).isEqualTo(projectResponse);
+        }
+
         @Test
         @DisplayName("Should throw exception when project not found")
         void shouldThrowExceptionWhenProjectNotFound() {
@@ -142,6 +183,7 @@ class ProjectServiceTest {
         @DisplayName("Should throw exception when user is not owner")
         void shouldThrowExceptionWhenUserIsNotOwner() {
             when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+            when(projectAccessIndex.forUser(999L)).thenReturn(ProjectAccess.builder().build());
 
             assertThatThrownBy(() -> projectService.getProject(1L, 999L))
                     .isInstanceOf(UnauthorizedException.class);
@@ -166,7 +208,7 @@ class ProjectServiceTest {
                     .totalPages(1)
                     .build();
 
-            when(projectRepository.findByOwnerId(owner.getId(), pageable)).thenReturn(page);
+            when(projectRepository.findAccessibleByUserId(owner.getId(), pageable)).thenReturn(page);
             when(pageMapper.toPageResponse(eq(page), any(Function.class))).thenReturn(expectedResponse);
 
             // Act
@@ -191,6 +233,7 @@ class ProjectServiceTest {
                     .build();
 
             when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+            when(projectAccessIndex.forUser(owner.getId())).thenReturn(ownerAccess);
             when(projectRepository.save(any(Project.class))).thenReturn(project);
             when(projectMapper.toResponse(project)).thenReturn(projectResponse);
 
@@ -200,6 +243,17 @@ class ProjectServiceTest {
             verify(projectMapper).updateEntity(updateRequest, project);
             verify(projectRepository).save(project);
         }
+
+        @Test
+        @DisplayName("Should reject updates from project editors")
+        void shouldRejectUpdateFromEditor() {
+            when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+            when(projectAccessIndex.forUser(2L)).thenReturn(ProjectAccess.builder().grant(1L, ProjectRole.EDITOR).build());
+
+            assertThatThrownBy(() -> projectService.updateProject(1L, new UpdateProjectRequest(), 2L))
+                    .isInstanceOf(UnauthorizedException.class);
+            verify(projectRepository, never()).save(any());
+        }
     }
 
     @Nested
@@ -210,10 +264,29 @@ class ProjectServiceTest {
         @DisplayName("Should delete project successfully")
         void shouldDeleteProjectSuccessfully() {
             when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+            when(projectMemberRepository.findUserIdsByProjectId(1L)).thenReturn(List.of(2L));
 
             projectService.deleteProject(1L, owner.getId());
 
-            verify(projectRepository).delete(project);
+            verify(taskTombstoneRepository).recordProjectDeletion(eq(1L), any());
+            verify(taskRepository).deleteByProjectId(1L);
+            verify(projectRepository).deleteInBulkById(1L);
+            verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ProjectChangedEvent changed
+                    && changed.type() == ProjectChangeType.DELETED
+                    && changed.projectId().equals(1L)));
+            // The project event stands for its tasks; consumers must not wait for one per task
+            verify(eventPublisher, never()).publishEvent(argThat((Object event) -> event instanceof TaskChangedEvent));
+            verify(projectAccessIndex).invalidate(List.of(2L, owner.getId()));
+        }
+
+        @Test
+        @DisplayName("Should let only the owner delete a project")
+        void shouldRejectDeleteFromAdminMember() {
+            when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+
+            assertThatThrownBy(() -> projectService.deleteProject(1L, 2L))
+                    .isInstanceOf(UnauthorizedException.class);
+            verify(projectRepository, never()).deleteInBulkById(any());
         }
     }
 }
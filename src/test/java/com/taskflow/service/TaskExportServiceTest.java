@@ -0,0 +1,106 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskflow.dto.task.TaskFileFormat;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.repository.TaskRepository;
+
+/**
+ * Unit tests for TaskExportService.
+ * Tests NDJSON and CSV rendering of streamed tasks.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskExportService Tests")
+@SuppressWarnings("null")
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectService projectService;
+
+    private TaskExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new TaskExportService(taskRepository, projectService, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON document per line")
+    void shouldWriteNdjson() throws Exception {
+        when(taskRepository.streamForExportByProjectId(1L))
+                .thenReturn(Stream.of(task(1L, "First"), task(2L, "Second")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.export(1L, 1L, TaskFileFormat.NDJSON, false, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,").contains("\"title\":\"First\"");
+        assertThat(lines[1]).startsWith("{\"id\":2,");
+    }
+
+    @Test
+    @DisplayName("Should quote CSV values containing separators")
+    void shouldEscapeCsvValues() throws Exception {
+        when(taskRepository.streamForExportAccessibleBy(1L))
+                .thenReturn(Stream.of(task(1L, "Fix \"login\", then deploy")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(null, 1L, TaskFileFormat.CSV, false, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines[0]).startsWith("id,title,description,status");
+        assertThat(lines[1]).startsWith("1,\"Fix \"\"login\"\", then deploy\",,TODO,MEDIUM");
+    }
+
+    @Test
+    @DisplayName("Should gzip the output when requested")
+    void shouldGzipOutput() throws Exception {
+        when(taskRepository.streamForExportByProjectId(1L)).thenReturn(Stream.of(task(1L, "First")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(1L, 1L, TaskFileFormat.NDJSON, true, out);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("\"title\":\"First\"");
+        }
+    }
+
+    private TaskResponse task(Long id, String title) {
+        return TaskResponse.builder()
+                .id(id)
+                .title(title)
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .projectId(1L)
+                .projectName("Test Project")
+                .build();
+    }
+}
@@ -0,0 +1,215 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskflow.config.ImportProperties;
+import com.taskflow.dto.task.TaskFileFormat;
+import com.taskflow.dto.task.TaskImportResponse;
+import com.taskflow.entity.ImportStatus;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectRole;
+import com.taskflow.entity.TaskImport;
+import com.taskflow.entity.User;
+import com.taskflow.mapper.TaskImportMapper;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskImportRepository;
+import com.taskflow.repository.UserRepository;
+
+import jakarta.validation.Validation;
+
+/**
+ * Unit tests for TaskImportService.
+ * Tests batching, row validation and resume of streaming imports.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskImportService Tests")
+@SuppressWarnings({"null", "unchecked"})
+class TaskImportServiceTest {
+
+    @Mock
+    private TaskImportRepository taskImportRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectAccessIndex projectAccessIndex;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TaskImportService importService;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        importService = new TaskImportService(
+                taskImportRepository,
+                projectRepository,
+                projectAccessIndex,
+                userRepository,
+                Mappers.getMapper(TaskMapper.class),
+                Mappers.getMapper(TaskImportMapper.class),
+                jdbcTemplate,
+                transactionTemplate,
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ImportProperties(2, 1, 1, 10, Duration.ofMinutes(10)));
+
+        owner = User.builder().id(1L).email("owner@example.com").build();
+
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        // Owns project 1, edits project 3 (owned by user 5) and views project 4
+        User otherOwner = User.builder().id(5L).email("other@example.com").build();
+        Map<Long, Project> projects = Map.of(
+                1L, Project.builder().id(1L).owner(owner).build(),
+                3L, Project.builder().id(3L).owner(otherOwner).build(),
+                4L, Project.builder().id(4L).owner(otherOwner).build());
+        when(projectAccessIndex.forUser(1L)).thenReturn(ProjectAccess.builder()
+                .grant(1L, ProjectRole.ADMIN)
+                .share(3L, ProjectRole.EDITOR)
+                .share(4L, ProjectRole.VIEWER)
+                .build());
+        lenient().when(projectRepository.findByIdInWithOwner(any())).thenAnswer(invocation ->
+                invocation.<Collection<Long>>getArgument(0).stream().map(projects::get).toList());
+        when(taskImportRepository.findById(10L)).thenReturn(Optional.of(
+                TaskImport.builder().id(10L).user(owner).status(ImportStatus.COMPLETED).build()));
+    }
+
+    @Test
+    @DisplayName("Should insert valid rows in batches and report invalid ones")
+    void shouldImportNdjsonInBatches() {
+        when(taskImportRepository.save(any(TaskImport.class))).thenAnswer(invocation -> {
+            TaskImport taskImport = invocation.getArgument(0);
+            taskImport.setId(10L);
+            return taskImport;
+        });
+        when(userRepository.findExistingIds(any())).thenReturn(List.of(7L));
+
+        TaskImportResponse response = importService.importTasks(null, TaskFileFormat.NDJSON, input(
+                "{\"title\":\"A\",\"projectId\":1}",
+                "{\"title\":\"B\",\"projectId\":2}",
+                "not json",
+                "{\"title\":\"C\",\"projectId\":1,\"assigneeId\":7}",
+                "{\"title\":\"D\",\"projectId\":1,\"assigneeId\":8}"), owner);
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        verify(taskImportRepository).recordProgress(eq(10L), eq(2L), eq(1L), eq(1L), any());
+        verify(taskImportRepository).recordProgress(eq(10L), eq(4L), eq(1L), eq(1L), any());
+        verify(taskImportRepository).recordProgress(eq(10L), eq(5L), eq(0L), eq(1L), any());
+        verify(taskImportRepository).updateStatus(eq(10L), eq(ImportStatus.COMPLETED), any());
+        assertThat(response.getErrors())
+                .extracting(TaskImportResponse.RowError::getRow)
+                .containsExactly(2L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("Should skip committed rows when resuming an import")
+    void shouldSkipCommittedRowsWhenResuming() {
+        when(taskImportRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(TaskImport.builder()
+                .id(10L)
+                .user(owner)
+                .status(ImportStatus.INTERRUPTED)
+                .committedRows(2)
+                .build()));
+
+        importService.importTasks(10L, TaskFileFormat.NDJSON, input(
+                "{\"title\":\"A\",\"projectId\":1}",
+                "{\"title\":\"B\",\"projectId\":1}",
+                "{\"title\":\"C\",\"projectId\":1}"), owner);
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        verify(taskImportRepository).recordProgress(eq(10L), eq(3L), eq(1L), eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("Should parse quoted multi-line CSV fields")
+    void shouldParseQuotedCsvFields() {
+        when(taskImportRepository.save(any(TaskImport.class))).thenAnswer(invocation -> {
+            TaskImport taskImport = invocation.getArgument(0);
+            taskImport.setId(10L);
+            return taskImport;
+        });
+
+        importService.importTasks(null, TaskFileFormat.CSV, input(
+                "title,description,projectId,priority",
+                "Deploy,\"Step one,",
+                "then \"\"two\"\"\",1,HIGH"), owner);
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        Object[] row = rows.getValue().get(0);
+        assertThat(row[0]).isEqualTo("Deploy");
+        assertThat(row[1]).isEqualTo("Step one,\nthen \"two\"");
+        assertThat(row[3]).isEqualTo("HIGH");
+    }
+
+    @Test
+    @DisplayName("Should import into shared projects the user edits under the project owner's id")
+    void shouldImportIntoEditableSharedProjects() {
+        when(taskImportRepository.save(any(TaskImport.class))).thenAnswer(invocation -> {
+            TaskImport taskImport = invocation.getArgument(0);
+            taskImport.setId(10L);
+            return taskImport;
+        });
+
+        TaskImportResponse response = importService.importTasks(null, TaskFileFormat.NDJSON, input(
+                "{\"title\":\"A\",\"projectId\":3}",
+                "{\"title\":\"B\",\"projectId\":4}"), owner);
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).singleElement().satisfies(row -> {
+            assertThat(row[7]).isEqualTo(3L);
+            assertThat(row[11]).isEqualTo(5L);
+        });
+        verify(projectRepository).findByIdInWithOwner(Set.of(3L));
+        assertThat(response.getErrors())
+                .extracting(TaskImportResponse.RowError::getRow)
+                .containsExactly(2L);
+    }
+
+    private InputStream input(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,19 +15,30 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.taskflow.config.MultiGetProperties;
+import com.taskflow.dto.common.MultiGetResponse;
 import com.taskflow.dto.task.CreateTaskRequest;
 import com.taskflow.dto.task.TaskResponse;
 import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectRole;
 import com.taskflow.entity.Task;
 import com.taskflow.entity.TaskPriority;
 import com.taskflow.entity.TaskStatus;
 import com.taskflow.entity.User;
+import com.taskflow.event.TaskChangeType;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.exception.BadRequestException;
 import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.exception.UnauthorizedException;
+import com.taskflow.mapper.MultiGetMapper;
 import com.taskflow.mapper.PageMapper;
 import com.taskflow.mapper.TaskMapper;
 import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TaskTombstoneRepository;
 import com.taskflow.repository.UserRepository;
 
 /**
@@ -41,6 +53,9 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
     @Mock
     private UserRepository userRepository;
 
@@ -53,12 +68,22 @@ class TaskServiceTest {
     @Mock
     private PageMapper pageMapper;
 
+    @Spy
+    private MultiGetMapper multiGetMapper = new MultiGetMapper(new MultiGetProperties(3));
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ActivityLogService activityLogService;
+
     @InjectMocks
     private TaskService taskService;
 
     private User owner;
     private Project project;
     private Task task;
+    private ProjectAccess ownerAccess;
     private CreateTaskRequest createRequest;
     private TaskResponse taskResponse;
 
@@ -86,6 +111,8 @@ class TaskServiceTest {
                 .project(project)
                 .build();
 
+        ownerAccess = ProjectAccess.builder().grant(1L, ProjectRole.ADMIN).build();
+
         createRequest = CreateTaskRequest.builder()
                 .title("Test Task")
                 .description("Test Description")
@@ -113,7 +140,7 @@ class TaskServiceTest {
         @DisplayName("Should create task successfully")
         void shouldCreateTaskSuccessfully() {
             when(projectService.findProjectById(1L)).thenReturn(project);
-            doNothing().when(projectService).validateOwnership(project, owner.getId());
+            doNothing().when(projectService).validateAccess(project, owner.getId(), ProjectRole.EDITOR);
             when(taskMapper.toEntity(createRequest)).thenReturn(task);
             when(taskRepository.save(any(Task.class))).thenReturn(task);
             when(taskMapper.toResponse(task)).thenReturn(taskResponse);
@@ -134,7 +161,7 @@ class TaskServiceTest {
             createRequest.setAssigneeId(2L);
 
             when(projectService.findProjectById(1L)).thenReturn(project);
-            doNothing().when(projectService).validateOwnership(project, owner.getId());
+            doNothing().when(projectService).validateAccess(project, owner.getId(), ProjectRole.EDITOR);
             when(taskMapper.toEntity(createRequest)).thenReturn(task);
             when(userRepository.findById(2L)).thenReturn(Optional.of(assignee));
             when(taskRepository.save(any(Task.class))).thenReturn(task);
@@ -155,6 +182,7 @@ class TaskServiceTest {
         @DisplayName("Should get task by ID")
         void shouldGetTaskById() {
             when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+            when(projectService.accessOf(owner.getId())).thenReturn(ownerAccess);
             when(taskMapper.toResponse(task)).thenReturn(taskResponse);
 
             TaskResponse response = taskService.getTask(1L, owner.getId());
@@ -171,6 +199,43 @@ class TaskServiceTest {
             assertThatThrownBy(() -> taskService.getTask(1L, owner.getId()))
                     .isInstanceOf(ResourceNotFoundException.class);
         }
+
+        @Test
+        @DisplayName("Should get tasks by IDs in request order and classify the rest")
+        void shouldGetTasksByIds() {
+            TaskResponse first = TaskResponse.builder().id(3L).projectId(1L).build();
+            TaskResponse second = TaskResponse.builder().id(1L).projectId(1L).build();
+            TaskResponse foreign = TaskResponse.builder().id(2L).projectId(9L).build();
+            when(projectService.accessOf(owner.getId())).thenReturn(ownerAccess);
+            when(taskRepository.findResponsesByIdIn(anyCollection())).thenReturn(List.of(first, foreign, second));
+
+            MultiGetResponse<TaskResponse> response = taskService.getTasks(List.of(1L, 2L, 1L, 3L), owner.getId());
+
+            assertThat(response.getContent()).containsExactly(second, first);
+            assertThat(response.getForbidden()).containsExactly(2L);
+            assertThat(response.getMissing()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should report IDs that were not found as missing")
+        void shouldReportMissingIds() {
+            when(projectService.accessOf(owner.getId())).thenReturn(ownerAccess);
+            when(taskRepository.findResponsesByIdIn(anyCollection())).thenReturn(List.of(taskResponse));
+
+            MultiGetResponse<TaskResponse> response = taskService.getTasks(List.of(1L, 5L), owner.getId());
+
+            assertThat(response.getContent()).containsExactly(taskResponse);
+            assertThat(response.getMissing()).containsExactly(5L);
+            assertThat(response.getForbidden()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject more IDs than the configured maximum")
+        void shouldRejectTooManyIds() {
+            assertThatThrownBy(() -> taskService.getTasks(List.of(1L, 2L, 3L, 4L), owner.getId()))
+                    .isInstanceOf(BadRequestException.class);
+            verifyNoInteractions(taskRepository);
+        }
     }
 
     @Nested
@@ -181,6 +246,7 @@ class TaskServiceTest {
         @DisplayName("Should update task status successfully")
         void shouldUpdateTaskStatusSuccessfully() {
             when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+            when(projectService.accessOf(owner.getId())).thenReturn(ownerAccess);
             when(taskRepository.save(any(Task.class))).thenReturn(task);
             when(taskMapper.toResponse(task)).thenReturn(taskResponse);
 
@@ -188,6 +254,37 @@ class TaskServiceTest {
 
             assertThat(response).isNotNull();
             verify(taskRepository).save(task);
+            verify(activityLogService).recordTaskStatusChanged(task, TaskStatus.TODO, owner.getId());
+            verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof TaskChangedEvent changed
+                    && changed.type() == TaskChangeType.STATUS_CHANGED
+                    && changed.task() == taskResponse));
+        }
+
+        @Test
+        @DisplayName("Should clear overdue flag when task is completed")
+        void shouldClearOverdueFlagWhenTaskIsCompleted() {
+            task.setDueDate(LocalDate.now().minusDays(2));
+            task.setOverdue(true);
+
+            when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+            when(projectService.accessOf(owner.getId())).thenReturn(ownerAccess);
+            when(taskRepository.save(any(Task.class))).thenReturn(task);
+            when(taskMapper.toResponse(task)).thenReturn(taskResponse);
+
+            taskService.updateTaskStatus(1L, TaskStatus.DONE, owner.getId());
+
+            assertThat(task.isOverdue()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should reject status changes from project viewers")
+        void shouldRejectStatusChangeFromViewer() {
+            when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+            when(projectService.accessOf(2L)).thenReturn(ProjectAccess.builder().grant(1L, ProjectRole.VIEWER).build());
+
+            assertThatThrownBy(() -> taskService.updateTaskStatus(1L, TaskStatus.DONE, 2L))
+                    .isInstanceOf(UnauthorizedException.class);
+            verify(taskRepository, never()).save(any());
         }
     }
 
@@ -199,10 +296,18 @@ class TaskServiceTest {
         @DisplayName("Should delete task successfully")
         void shouldDeleteTaskSuccessfully() {
             when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+            when(projectService.accessOf(owner.getId())).thenReturn(ownerAccess);
 
             taskService.deleteTask(1L, owner.getId());
 
             verify(taskRepository).delete(task);
+            verify(taskTombstoneRepository).save(argThat(tombstone -> tombstone.getTaskId().equals(1L)
+                    && tombstone.getProjectId().equals(1L)
+                    && tombstone.getOwnerId().equals(owner.getId())));
+            verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof TaskChangedEvent changed
+                    && changed.type() == TaskChangeType.DELETED
+                    && changed.taskId().equals(1L)
+                    && changed.projectId().equals(1L)));
         }
     }
 }
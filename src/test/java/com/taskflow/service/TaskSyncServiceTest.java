@@ -0,0 +1,174 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.taskflow.config.SyncProperties;
+import com.taskflow.dto.task.TaskChangesResponse;
+import com.taskflow.dto.task.TaskResponse;
+import com.taskflow.entity.ProjectRole;
+import com.taskflow.entity.TaskTombstone;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TaskTombstoneRepository;
+
+/**
+ * Unit tests for TaskSyncService.
+ * Tests merging of change streams, shared projects and cursor handling.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskSyncService Tests")
+@SuppressWarnings("null")
+class TaskSyncServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Mock
+    private ProjectAccessIndex projectAccessIndex;
+
+    private TaskSyncService taskSyncService;
+    private final LocalDateTime base = LocalDateTime.now().minusHours(1);
+
+    @BeforeEach
+    void setUp() {
+        taskSyncService = new TaskSyncService(taskRepository, taskTombstoneRepository, projectAccessIndex,
+                new SyncProperties(100, Duration.ofSeconds(5), Duration.ofDays(90), "0 30 0 * * *"));
+        // User 1 owns projects and has none shared
+        lenient().when(projectAccessIndex.forUser(1L))
+                .thenReturn(ProjectAccess.builder().grant(1L, ProjectRole.ADMIN).build());
+    }
+
+    @Test
+    @DisplayName("Should merge changes and deletions in time order up to the limit")
+    void shouldMergeChangesAndDeletions() {
+        when(taskRepository.findChangedSince(eq(1L), any(), anyLong(), any(), any()))
+                .thenReturn(List.of(task(1L, 1), task(2L, 3), task(3L, 5)));
+        when(taskTombstoneRepository.findDeletedSince(eq(1L), any(), anyLong(), any(), any()))
+                .thenReturn(List.of(tombstone(10L, 2)));
+
+        TaskChangesResponse response = taskSyncService.getChanges(1L, null, 3);
+
+        assertThat(response.getChanged()).extracting(TaskResponse::getId).containsExactly(1L, 2L);
+        assertThat(response.getDeleted()).extracting(TaskChangesResponse.DeletedTask::getTaskId).containsExactly(100L);
+        assertThat(response.isHasMore()).isTrue();
+
+        SyncCursor cursor = SyncCursor.decode(response.getCursor());
+        assertThat(cursor.changedAt()).isEqualTo(base.plusSeconds(3));
+        assertThat(cursor.taskId()).isEqualTo(2L);
+        assertThat(cursor.tombstoneId()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should resume both streams from the cursor")
+    void shouldResumeFromCursor() {
+        SyncCursor since = new SyncCursor(base.plusSeconds(3), 2L, base.plusSeconds(2), 10L, 0);
+        when(taskRepository.findChangedSince(eq(1L), eq(base.plusSeconds(3)), eq(2L), any(), any()))
+                .thenReturn(List.of(task(3L, 5)));
+        when(taskTombstoneRepository.findDeletedSince(eq(1L), eq(base.plusSeconds(2)), eq(10L), any(), any()))
+                .thenReturn(List.of());
+
+        TaskChangesResponse response = taskSyncService.getChanges(1L, since.encode(), 100);
+
+        assertThat(response.getChanged()).extracting(TaskResponse::getId).containsExactly(3L);
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.isResetRequired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should require a reset when the cursor is older than tombstone retention")
+    void shouldRequireResetForExpiredCursor() {
+        LocalDateTime old = LocalDateTime.now().minusDays(120);
+        SyncCursor since = new SyncCursor(old, 5L, old, 5L, 0);
+
+        TaskChangesResponse response = taskSyncService.getChanges(1L, since.encode(), 100);
+
+        assertThat(response.isResetRequired()).isTrue();
+        assertThat(response.getCursor()).isNull();
+        verifyNoInteractions(taskRepository, taskTombstoneRepository);
+    }
+
+    @Test
+    @DisplayName("Should read the projects shared with the user along with owned ones")
+    void shouldIncludeSharedProjects() {
+        when(projectAccessIndex.forUser(2L)).thenReturn(ProjectAccess.builder()
+                .grant(3L, ProjectRole.ADMIN)
+                .share(7L, ProjectRole.VIEWER)
+                .share(5L, ProjectRole.EDITOR)
+                .build());
+        when(taskRepository.findChangedSinceIncluding(eq(2L), eq(List.of(5L, 7L)), any(), anyLong(), any(), any()))
+                .thenReturn(List.of(task(1L, 1)));
+        when(taskTombstoneRepository.findDeletedSinceIncluding(eq(2L), eq(List.of(5L, 7L)), any(), anyLong(), any(), any()))
+                .thenReturn(List.of());
+
+        TaskChangesResponse response = taskSyncService.getChanges(2L, null, 100);
+
+        assertThat(response.getChanged()).extracting(TaskResponse::getId).containsExactly(1L);
+        assertThat(SyncCursor.decode(response.getCursor()).sharedHash()).isEqualTo(SyncCursor.sharedHash(List.of(5L, 7L)));
+        verify(taskRepository, never()).findChangedSince(any(), any(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should require a reset when projects were shared with the user since the cursor")
+    void shouldRequireResetWhenSharesChanged() {
+        when(projectAccessIndex.forUser(2L)).thenReturn(ProjectAccess.builder().share(5L, ProjectRole.VIEWER).build());
+        SyncCursor since = new SyncCursor(base, 1L, base, 1L, SyncCursor.sharedHash(List.of()));
+
+        TaskChangesResponse response = taskSyncService.getChanges(2L, since.encode(), 100);
+
+        assertThat(response.isResetRequired()).isTrue();
+        verifyNoInteractions(taskRepository, taskTombstoneRepository);
+    }
+
+    @Test
+    @DisplayName("Should resume a cursor issued before shared projects were synced")
+    void shouldResumeOwnedOnlyCursor() {
+        String legacy = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                String.join("|", "1", base.toString(), "2", base.toString(), "10").getBytes(StandardCharsets.UTF_8));
+        when(taskRepository.findChangedSince(eq(1L), eq(base), eq(2L), any(), any())).thenReturn(List.of());
+        when(taskTombstoneRepository.findDeletedSince(eq(1L), eq(base), eq(10L), any(), any())).thenReturn(List.of());
+
+        TaskChangesResponse response = taskSyncService.getChanges(1L, legacy, 100);
+
+        assertThat(response.isResetRequired()).isFalse();
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> taskSyncService.getChanges(1L, "not-a-cursor", 100))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private TaskResponse task(Long id, int second) {
+        return TaskResponse.builder().id(id).projectId(1L).updatedAt(base.plusSeconds(second)).build();
+    }
+
+    private TaskTombstone tombstone(Long id, int second) {
+        return TaskTombstone.builder()
+                .id(id)
+                .taskId(id * 10)
+                .projectId(1L)
+                .ownerId(1L)
+                .deletedAt(base.plusSeconds(second))
+                .build();
+    }
+}
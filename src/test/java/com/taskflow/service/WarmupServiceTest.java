@@ -0,0 +1,155 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.config.WarmupProperties;
+import com.taskflow.mapper.ProjectMapper;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.security.JwtService;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.validation.Validator;
+
+/**
+ * Unit tests for WarmupService.
+ * Tests the iteration and time limits, pool filling, and that a failure never escapes startup.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WarmupService Tests")
+@SuppressWarnings("null")
+class WarmupServiceTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private HikariDataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("Should stop after the configured iterations and fill the pool without writing")
+    void shouldRunConfiguredIterations() throws Exception {
+        when(dataSource.getMaximumPoolSize()).thenReturn(3);
+        when(dataSource.getConnection()).thenReturn(connection);
+        WarmupService warmup = warmup(new WarmupProperties(true, 5, Duration.ofMinutes(1), true), fixedClock());
+
+        warmup.run(null);
+
+        WarmupService.Progress progress = warmup.getProgress();
+        assertThat(progress.status()).isEqualTo(WarmupService.Status.COMPLETED);
+        assertThat(progress.iterationsCompleted()).isEqualTo(5);
+        assertThat(progress.poolConnections()).isEqualTo(3);
+        assertThat(progress.phaseMillis()).containsKeys("pool", "iterations");
+        verify(connection, times(3)).close();
+        verify(jwtService, times(5)).generateToken(any());
+        verify(taskRepository, times(5)).findByProjectId(eq(-1L), any());
+        verify(taskRepository, never()).save(any());
+        // The template hands a rollback-only status to commit, which the real manager rolls back
+        verify(transactionManager, times(5)).commit(argThat(TransactionStatus::isRollbackOnly));
+    }
+
+    @Test
+    @DisplayName("Should stop at the maximum duration")
+    void shouldStopAtMaxDuration() {
+        WarmupService warmup = warmup(new WarmupProperties(true, 1_000_000, Duration.ofSeconds(10), false),
+                steppingClock(Duration.ofSeconds(1)));
+
+        warmup.run(null);
+
+        WarmupService.Progress progress = warmup.getProgress();
+        assertThat(progress.status()).isEqualTo(WarmupService.Status.COMPLETED);
+        assertThat(progress.iterationsCompleted()).isBetween(1, 9);
+    }
+
+    @Test
+    @DisplayName("Should report a failure instead of failing startup")
+    void shouldReportFailure() {
+        when(taskRepository.findByProjectId(eq(-1L), any())).thenThrow(new IllegalStateException("database down"));
+        WarmupService warmup = warmup(new WarmupProperties(true, 5, Duration.ofMinutes(1), false), fixedClock());
+
+        assertThatCode(() -> warmup.run(null)).doesNotThrowAnyException();
+
+        WarmupService.Progress progress = warmup.getProgress();
+        assertThat(progress.status()).isEqualTo(WarmupService.Status.FAILED);
+        assertThat(progress.failure()).isEqualTo("database down");
+        assertThat(progress.iterationsCompleted()).isZero();
+    }
+
+    private WarmupService warmup(WarmupProperties properties, Clock clock) {
+        return new WarmupService(properties, jwtService, Mappers.getMapper(TaskMapper.class),
+                Mappers.getMapper(ProjectMapper.class), new ObjectMapper().findAndRegisterModules(), validator,
+                userRepository, projectRepository, taskRepository, transactionManager, dataSource, clock);
+    }
+
+    private static Clock fixedClock() {
+        return Clock.fixed(Instant.parse("2026-01-15T12:00:00Z"), ZoneOffset.UTC);
+    }
+
+    private static Clock steppingClock(Duration step) {
+        return new Clock() {
+            private Instant now = Instant.parse("2026-01-15T12:00:00Z");
+
+            @Override
+            public Instant instant() {
+                now = now.plus(step);
+                return now;
+            }
+
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+        };
+    }
+}
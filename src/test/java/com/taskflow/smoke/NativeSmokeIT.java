@@ -0,0 +1,191 @@
+package com.taskflow.smoke;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Smoke tests against the native executable.
+ * Tests startup, authentication and the main read/write paths end to end, against PostgreSQL in a container.
+ * <p>
+ * Run by failsafe in the native profile after the image is built: {@code mvn -Pnative verify}.
+ * The binary is taken from the native.binary system property.
+ */
+@DisplayName("Native Image Smoke Tests")
+class NativeSmokeIT {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+    private static final String JWT_SECRET = "dGFza2Zsb3ctbmF0aXZlLXNtb2tlLXNpZ25pbmcta2V5LTAxMjM0NTY3ODk=";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private static PostgreSQLContainer<?> postgres;
+    private static Process application;
+    private static URI baseUri;
+    private static URI managementUri;
+
+    @BeforeAll
+    static void startApplication() throws Exception {
+        Path binary = Path.of(System.getProperty("native.binary", "target/taskflow-api"));
+        assertThat(binary).as("native executable; build it with mvn -Pnative package").isExecutable();
+
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+
+        int port = freePort();
+        baseUri = URI.create("http://localhost:" + port);
+        int managementPort = freePort();
+        managementUri = URI.create("http://localhost:" + managementPort);
+        Path log = Files.createTempFile("taskflow-native", ".log");
+
+        long started = System.nanoTime();
+        application = new ProcessBuilder(List.of(
+                binary.toAbsolutePath().toString(),
+                "--server.port=" + port,
+                "--management.server.port=" + managementPort,
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--jwt.secret=" + JWT_SECRET,
+                "--logging.level.com.taskflow=INFO"))
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        awaitHealthy(log);
+        long startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        System.out.printf("Native image healthy after %d ms, RSS %s%n", startupMillis, residentSetSize());
+    }
+
+    @AfterAll
+    static void stopApplication() {
+        if (application != null) {
+            application.destroy();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should register, create a project and task, and read them back")
+    void shouldServeMainPaths() throws Exception {
+        HttpResponse<String> registered = send(post("/api/v1/auth/register", null,
+                "{\"firstName\":\"Native\",\"lastName\":\"Smoke\",\"email\":\"smoke@example.com\",\"password\":\"password123\"}"));
+        assertThat(registered.statusCode()).isIn(200, 201);
+        String token = objectMapper.readTree(registered.body()).path("accessToken").asText();
+        assertThat(token).isNotBlank();
+
+        HttpResponse<String> project = send(post("/api/v1/projects", token, "{\"name\":\"Smoke project\"}"));
+        assertThat(project.statusCode()).isEqualTo(201);
+        long projectId = objectMapper.readTree(project.body()).path("id").asLong();
+
+        HttpResponse<String> task = send(post("/api/v1/tasks", token,
+                "{\"title\":\"Smoke task\",\"projectId\":" + projectId + ",\"dueDate\":\"2030-01-01\"}"));
+        assertThat(task.statusCode()).isEqualTo(201);
+
+        HttpResponse<String> tasks = send(get("/api/v1/tasks/project/" + projectId, token));
+        assertThat(tasks.statusCode()).isEqualTo(200);
+        JsonNode content = objectMapper.readTree(tasks.body()).path("content");
+        assertThat(content).hasSize(1);
+        assertThat(content.get(0).path("title").asText()).isEqualTo("Smoke task");
+    }
+
+    @Test
+    @DisplayName("Should reject requests without a token")
+    void shouldRejectAnonymousRequests() throws Exception {
+        assertThat(send(get("/api/v1/projects", null)).statusCode()).isEqualTo(403);
+    }
+
+    @Test
+    @DisplayName("Should serve metrics on the management port only, and API docs")
+    void shouldServeMetricsAndDocs() throws Exception {
+        assertThat(send(get(managementUri, "/actuator/prometheus", null)).statusCode()).isEqualTo(200);
+        assertThat(send(get("/actuator/prometheus", null)).statusCode()).isNotEqualTo(200);
+        assertThat(send(get("/v3/api-docs", null)).statusCode()).isEqualTo(200);
+    }
+
+    private static void awaitHealthy(Path log) throws Exception {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!application.isAlive()) {
+                fail("Native image exited with %d:%n%s", application.exitValue(), Files.readString(log));
+            }
+            try {
+                if (send(get(managementUri, "/actuator/health", null)).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(10);
+        }
+        fail("Native image not healthy after %s:%n%s", STARTUP_TIMEOUT, Files.readString(log));
+    }
+
+    private static String residentSetSize() throws IOException {
+        Path status = Path.of("/proc/" + application.pid() + "/status");
+        if (!Files.exists(status)) {
+            return "unknown";
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.substring("VmRSS:".length()).trim())
+                .findFirst()
+                .orElse("unknown");
+    }
+
+    private static HttpRequest get(String path, String token) {
+        return get(baseUri, path, token);
+    }
+
+    private static HttpRequest get(URI base, String path, String token) {
+        return request(base, path, token).GET().build();
+    }
+
+    private static HttpRequest post(String path, String token, String json) {
+        return request(baseUri, path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static HttpRequest.Builder request(URI base, String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(base.resolve(path)).timeout(Duration.ofSeconds(10));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.taskflow.test.builder;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.taskflow.dto.auth.AuthResponse;
 import com.taskflow.dto.auth.LoginRequest;
@@ -126,6 +128,44 @@ public final class TestDataFactory {
                 .overdue(false);
     }
 
+    // ============== Dataset Builders ==============
+    // Unsaved entities for integration tests that persist realistic volumes.
+
+    public static User newUser(String email) {
+        return defaultUser().id(null).email(email).build();
+    }
+
+    public static List<Project> newProjects(User owner, int count) {
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            projects.add(defaultProject(owner).id(null).name("Project " + i).build());
+        }
+        return projects;
+    }
+
+    /**
+     * Tasks with a mix of statuses and priorities; every other task is assigned and every fifth is overdue.
+     */
+    public static List<Task> newTasks(Project project, User assignee, int count) {
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        LocalDate today = LocalDate.now();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Task task = defaultTask(project)
+                    .id(null)
+                    .title(project.getName() + " task " + i)
+                    .status(statuses[i % statuses.length])
+                    .priority(priorities[i % priorities.length])
+                    .assignee(i % 2 == 0 ? assignee : null)
+                    .dueDate(i % 5 == 0 ? today.minusDays(i) : today.plusDays(i))
+                    .build();
+            task.refreshOverdue(today);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
     // ============== Auth Builders ==============
 
     public static RegisterRequest.RegisterRequestBuilder defaultRegisterRequest() {
@@ -0,0 +1,73 @@
+package com.taskflow.test.dataset;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes rows with multi-row INSERT statements, committing after each one.
+ */
+final class BatchInsertTableWriter implements TableWriter {
+
+    private final Connection connection;
+    private final String table;
+    private final List<String> columns;
+    private final int rowsPerStatement;
+    private final List<Object[]> pending;
+    private PreparedStatement fullStatement;
+
+    BatchInsertTableWriter(Connection connection, String table, List<String> columns, int rowsPerStatement) {
+        this.connection = connection;
+        this.table = table;
+        this.columns = columns;
+        this.rowsPerStatement = rowsPerStatement;
+        this.pending = new ArrayList<>(rowsPerStatement);
+    }
+
+    @Override
+    public void row(Object... values) throws SQLException {
+        pending.add(values);
+        if (pending.size() == rowsPerStatement) {
+            if (fullStatement == null) {
+                fullStatement = connection.prepareStatement(insertSql(rowsPerStatement));
+            }
+            execute(fullStatement);
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (!pending.isEmpty()) {
+                try (PreparedStatement remainder = connection.prepareStatement(insertSql(pending.size()))) {
+                    execute(remainder);
+                }
+            }
+        } finally {
+            if (fullStatement != null) {
+                fullStatement.close();
+            }
+        }
+    }
+
+    private void execute(PreparedStatement statement) throws SQLException {
+        int index = 1;
+        for (Object[] row : pending) {
+            for (Object value : row) {
+                statement.setObject(index++, value);
+            }
+        }
+        statement.executeUpdate();
+        connection.commit();
+        pending.clear();
+    }
+
+    private String insertSql(int rows) {
+        String tuple = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, tuple));
+    }
+}
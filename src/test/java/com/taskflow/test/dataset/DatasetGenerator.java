@@ -0,0 +1,218 @@
+package com.taskflow.test.dataset;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import javax.sql.DataSource;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.taskflow.entity.ProjectStatus;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads a production-shaped dataset of users, projects and tasks straight into the database.
+ * <p>
+ * Projects per owner and tasks per project follow power laws, assignees are skewed towards a few busy
+ * users, and statuses, priorities and due dates follow fixed mixes. Every value is derived from the
+ * seed and the row's position, so users, projects and tasks are written in three passes without holding
+ * anything in memory, and the same spec always yields the same data.
+ * <p>
+ * Rows are appended after the current maximum IDs, and identity sequences are moved past them afterwards.
+ * All users share the password {@link #PASSWORD}.
+ */
+@Slf4j
+public final class DatasetGenerator {
+
+    public static final String PASSWORD = "password123";
+
+    // Independent random streams, so each pass can re-derive what an earlier pass generated
+    private static final int PROJECT_COUNT_STREAM = 1;
+    private static final int USER_STREAM = 2;
+    private static final int PROJECT_STREAM = 3;
+    private static final int TASK_COUNT_STREAM = 4;
+    private static final int TASK_STREAM = 5;
+
+    private static final List<String> USER_COLUMNS = List.of(
+            "id", "email", "password", "first_name", "last_name", "role", "enabled", "created_at", "updated_at");
+    private static final List<String> PROJECT_COLUMNS = List.of(
+            "id", "name", "description", "status", "owner_id", "created_at", "updated_at");
+    private static final List<String> TASK_COLUMNS = List.of(
+            "id", "title", "description", "status", "priority", "due_date", "estimated_hours", "actual_hours",
+            "overdue", "project_id", "owner_id", "assignee_id", "created_at", "updated_at");
+
+    private static final TaskStatus[] TASK_STATUSES = TaskStatus.values();
+    private static final int[] TASK_STATUS_WEIGHTS = {30, 20, 10, 40};
+    private static final TaskPriority[] TASK_PRIORITIES = TaskPriority.values();
+    private static final int[] TASK_PRIORITY_WEIGHTS = {25, 45, 22, 8};
+    private static final ProjectStatus[] PROJECT_STATUSES = ProjectStatus.values();
+    private static final int[] PROJECT_STATUS_WEIGHTS = {75, 15, 10};
+
+    private final DatasetSpec spec;
+
+    public DatasetGenerator(DatasetSpec spec) {
+        this.spec = spec;
+    }
+
+    /**
+     * Generate the dataset into an existing, migrated schema.
+     * @param dataSource target database
+     * @return what was written
+     */
+    public DatasetSummary generate(DataSource dataSource) throws SQLException {
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                long firstUserId = maxId(connection, "users") + 1;
+                long firstProjectId = maxId(connection, "projects") + 1;
+                long firstTaskId = maxId(connection, "tasks") + 1;
+
+                writeUsers(connection, firstUserId);
+                long projects = writeProjects(connection, firstUserId, firstProjectId);
+                long tasks = writeTasks(connection, firstUserId, firstProjectId, firstTaskId);
+
+                restartIdentity(connection, "users", firstUserId + spec.users());
+                restartIdentity(connection, "projects", firstProjectId + projects);
+                restartIdentity(connection, "tasks", firstTaskId + tasks);
+                analyze(connection);
+
+                DatasetSummary summary = new DatasetSummary(spec.users(), projects, tasks,
+                        firstUserId, firstProjectId, firstTaskId, Duration.ofNanos(System.nanoTime() - started));
+                log.info("Generated {}", summary);
+                return summary;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * Number of projects owned by the user at the given position.
+     */
+    int projectCount(int userIndex) {
+        SplittableRandom random = Distributions.stream(spec.seed(), PROJECT_COUNT_STREAM, userIndex);
+        if (random.nextDouble() >= spec.ownerRatio()) {
+            return 0;
+        }
+        return Distributions.powerLaw(random, 1, spec.maxProjectsPerUser(), spec.projectAlpha());
+    }
+
+    private void writeUsers(Connection connection, long firstUserId) throws SQLException {
+        String password = new BCryptPasswordEncoder().encode(PASSWORD);
+        LocalDateTime now = spec.today().atStartOfDay();
+        try (TableWriter users = TableWriter.open(connection, "users", USER_COLUMNS, spec.batchSize())) {
+            for (int i = 0; i < spec.users(); i++) {
+                long id = firstUserId + i;
+                LocalDateTime createdAt = now.minusMinutes(
+                        Distributions.stream(spec.seed(), USER_STREAM, i).nextLong(Duration.ofDays(730).toMinutes()));
+                users.row(id, "dataset-user-" + id + "@example.com", password, "User", "Number " + id,
+                        "USER", true, createdAt, createdAt);
+            }
+        }
+    }
+
+    private long writeProjects(Connection connection, long firstUserId, long firstProjectId) throws SQLException {
+        long projectId = firstProjectId;
+        LocalDateTime now = spec.today().atStartOfDay();
+        try (TableWriter projects = TableWriter.open(connection, "projects", PROJECT_COLUMNS, spec.batchSize())) {
+            for (int i = 0; i < spec.users(); i++) {
+                int count = projectCount(i);
+                for (int k = 0; k < count; k++, projectId++) {
+                    SplittableRandom random = Distributions.stream(spec.seed(), PROJECT_STREAM, projectId - firstProjectId);
+                    LocalDateTime createdAt = now.minusMinutes(random.nextLong(Duration.ofDays(365).toMinutes()));
+                    projects.row(projectId, "Project " + projectId, "Generated project " + (k + 1) + " of user " + i,
+                            Distributions.weighted(random, PROJECT_STATUSES, PROJECT_STATUS_WEIGHTS).name(),
+                            firstUserId + i, createdAt, createdAt);
+                }
+            }
+        }
+        return projectId - firstProjectId;
+    }
+
+    private long writeTasks(Connection connection, long firstUserId, long firstProjectId, long firstTaskId)
+            throws SQLException {
+        long projectId = firstProjectId;
+        long taskId = firstTaskId;
+        LocalDate today = spec.today();
+        try (TableWriter tasks = TableWriter.open(connection, "tasks", TASK_COLUMNS, spec.batchSize())) {
+            for (int i = 0; i < spec.users(); i++) {
+                long ownerId = firstUserId + i;
+                int count = projectCount(i);
+                for (int k = 0; k < count; k++, projectId++) {
+                    int taskCount = Distributions.powerLaw(
+                            Distributions.stream(spec.seed(), TASK_COUNT_STREAM, projectId - firstProjectId),
+                            spec.minTasksPerProject(), spec.maxTasksPerProject(), spec.taskAlpha());
+                    SplittableRandom random = Distributions.stream(spec.seed(), TASK_STREAM, projectId - firstProjectId);
+                    for (int t = 0; t < taskCount; t++, taskId++) {
+                        writeTask(tasks, random, taskId, projectId, ownerId, firstUserId, today);
+                    }
+                }
+            }
+        }
+        return taskId - firstTaskId;
+    }
+
+    private void writeTask(TableWriter tasks, SplittableRandom random, long taskId, long projectId, long ownerId,
+                           long firstUserId, LocalDate today) throws SQLException {
+        TaskStatus status = Distributions.weighted(random, TASK_STATUSES, TASK_STATUS_WEIGHTS);
+        TaskPriority priority = Distributions.weighted(random, TASK_PRIORITIES, TASK_PRIORITY_WEIGHTS);
+        LocalDateTime createdAt = today.atStartOfDay().minusMinutes(random.nextLong(Duration.ofDays(365).toMinutes()));
+        LocalDateTime updatedAt = createdAt.plusMinutes(random.nextLong(Duration.ofDays(30).toMinutes()));
+        // Most tasks are due within two months of creation; a fifth have no due date
+        LocalDate dueDate = random.nextInt(5) == 0 ? null : createdAt.toLocalDate().plusDays(random.nextInt(1, 60));
+        boolean overdue = dueDate != null && dueDate.isBefore(today) && status != TaskStatus.DONE;
+        Integer estimatedHours = random.nextInt(4) == 0 ? null : random.nextInt(1, 40);
+        Integer actualHours = status == TaskStatus.DONE && estimatedHours != null
+                ? Math.max(1, (int) Math.round(estimatedHours * (0.5 + random.nextDouble()))) : null;
+        // Assignee popularity follows a power law over user positions, so a few users carry most of the work
+        Long assigneeId = random.nextDouble() < spec.unassignedRatio() ? null
+                : firstUserId + Distributions.powerLaw(random, 1, spec.users(), spec.assigneeAlpha()) - 1;
+
+        tasks.row(taskId, "Task " + taskId, "Generated task for project " + projectId, status.name(), priority.name(),
+                dueDate, estimatedHours, actualHours, overdue, projectId, ownerId, assigneeId, createdAt, updatedAt);
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void restartIdentity(Connection connection, String table, long next) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (isPostgres(connection)) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), " + next + ", false)");
+            } else {
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+            }
+        }
+        connection.commit();
+    }
+
+    private static void analyze(Connection connection) throws SQLException {
+        if (isPostgres(connection)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE users, projects, tasks");
+            }
+            connection.commit();
+        }
+    }
+
+    private static boolean isPostgres(Connection connection) throws SQLException {
+        return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+}
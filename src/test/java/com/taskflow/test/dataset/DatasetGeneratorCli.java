@@ -0,0 +1,69 @@
+package com.taskflow.test.dataset;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Command-line entry point for the dataset generator.
+ * <p>
+ * The schema must already exist; starting the application against the database once applies the Flyway
+ * migrations.
+ * Example:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.taskflow.test.dataset.DatasetGeneratorCli \
+ *     -Dexec.args="--url=jdbc:postgresql://localhost:5432/taskflow --username=taskflow --password=taskflow \
+ *                  --users=1000000 --seed=42"
+ * </pre>
+ */
+public final class DatasetGeneratorCli {
+
+    private DatasetGeneratorCli() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String url = require(options, "url");
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url,
+                options.getOrDefault("username", ""), options.getOrDefault("password", ""));
+
+        DatasetSpec defaults = DatasetSpec.ofUsers(Integer.parseInt(options.getOrDefault("users", "10000")),
+                Long.parseLong(options.getOrDefault("seed", "42")));
+        DatasetSpec spec = new DatasetSpec(defaults.seed(), defaults.users(), defaults.ownerRatio(),
+                Integer.parseInt(options.getOrDefault("max-projects", String.valueOf(defaults.maxProjectsPerUser()))),
+                defaults.projectAlpha(), defaults.minTasksPerProject(),
+                Integer.parseInt(options.getOrDefault("max-tasks", String.valueOf(defaults.maxTasksPerProject()))),
+                defaults.taskAlpha(), defaults.assigneeAlpha(), defaults.unassignedRatio(), defaults.today(),
+                Integer.parseInt(options.getOrDefault("batch-size", String.valueOf(defaults.batchSize()))));
+
+        DatasetSummary summary = new DatasetGenerator(spec).generate(dataSource);
+        System.out.printf("Generated %,d users, %,d projects and %,d tasks in %s%n",
+                summary.users(), summary.projects(), summary.tasks(), summary.elapsed());
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    private static String require(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing --" + name);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,106 @@
+package com.taskflow.test.dataset;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskflow.config.JpaConfig;
+import com.taskflow.entity.User;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.test.builder.TestDataFactory;
+
+/**
+ * Integration tests for DatasetGenerator.
+ * Tests that generated data is complete, consistent and reproducible.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("DatasetGenerator Tests")
+class DatasetGeneratorTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM projects");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("Should write the rows it reports, with consistent overdue flags and owners")
+    void shouldWriteConsistentDataset() throws Exception {
+        DatasetSummary summary = new DatasetGenerator(spec(42)).generate(dataSource);
+
+        assertThat(count("SELECT COUNT(*) FROM users")).isEqualTo(summary.users());
+        assertThat(count("SELECT COUNT(*) FROM projects")).isEqualTo(summary.projects());
+        assertThat(count("SELECT COUNT(*) FROM tasks")).isEqualTo(summary.tasks());
+        assertThat(summary.projects()).isGreaterThan(0);
+        assertThat(summary.tasks()).isGreaterThan(summary.projects());
+
+        assertThat(count("SELECT COUNT(*) FROM tasks WHERE overdue = TRUE " +
+                "AND (due_date IS NULL OR due_date >= CURRENT_DATE OR status = 'DONE')")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM tasks t JOIN projects p ON p.id = t.project_id " +
+                "WHERE t.owner_id <> p.owner_id")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should produce the same shape for the same seed and a different one for another seed")
+    void shouldBeReproducible() {
+        DatasetGenerator first = new DatasetGenerator(spec(42));
+        DatasetGenerator second = new DatasetGenerator(spec(42));
+        DatasetGenerator other = new DatasetGenerator(spec(43));
+
+        int[] firstCounts = new int[300];
+        int[] secondCounts = new int[300];
+        int[] otherCounts = new int[300];
+        for (int i = 0; i < 300; i++) {
+            firstCounts[i] = first.projectCount(i);
+            secondCounts[i] = second.projectCount(i);
+            otherCounts[i] = other.projectCount(i);
+        }
+
+        assertThat(secondCounts).isEqualTo(firstCounts);
+        assertThat(otherCounts).isNotEqualTo(firstCounts);
+    }
+
+    @Test
+    @DisplayName("Should move identity sequences past the generated rows")
+    void shouldRestartIdentities() throws Exception {
+        DatasetSummary summary = new DatasetGenerator(spec(7)).generate(dataSource);
+
+        User saved = userRepository.save(TestDataFactory.newUser("after-dataset@example.com"));
+
+        assertThat(saved.getId()).isEqualTo(summary.firstUserId() + summary.users());
+    }
+
+    private static DatasetSpec spec(long seed) {
+        return new DatasetSpec(seed, 300, 0.65, 20, 1.5, 3, 200, 1.1, 1.2, 0.3, LocalDate.now(), 100);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,42 @@
+package com.taskflow.test.dataset;
+
+import java.time.LocalDate;
+
+/**
+ * Shape of a generated dataset. The same spec and seed always produce the same rows.
+ *
+ * @param seed random seed
+ * @param users number of users
+ * @param ownerRatio fraction of users that own projects; the rest only get tasks assigned
+ * @param maxProjectsPerUser upper bound of the projects-per-owner power law
+ * @param projectAlpha power-law exponent for projects per owner; lower means a heavier tail
+ * @param minTasksPerProject lower bound of the tasks-per-project power law
+ * @param maxTasksPerProject upper bound of the tasks-per-project power law
+ * @param taskAlpha power-law exponent for tasks per project
+ * @param assigneeAlpha power-law exponent for assignee popularity
+ * @param unassignedRatio fraction of tasks without an assignee
+ * @param today reference date for due dates and the overdue flag
+ * @param batchSize rows per multi-row INSERT when COPY is not available
+ */
+public record DatasetSpec(
+        long seed,
+        int users,
+        double ownerRatio,
+        int maxProjectsPerUser,
+        double projectAlpha,
+        int minTasksPerProject,
+        int maxTasksPerProject,
+        double taskAlpha,
+        double assigneeAlpha,
+        double unassignedRatio,
+        LocalDate today,
+        int batchSize) {
+
+    /**
+     * Production-like defaults: about 2 projects per user and 15 tasks per project on average,
+     * with a few owners and projects orders of magnitude larger.
+     */
+    public static DatasetSpec ofUsers(int users, long seed) {
+        return new DatasetSpec(seed, users, 0.65, 200, 1.5, 3, 2000, 1.1, 1.2, 0.3, LocalDate.now(), 500);
+    }
+}
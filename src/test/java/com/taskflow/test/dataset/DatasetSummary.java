@@ -0,0 +1,16 @@
+package com.taskflow.test.dataset;
+
+import java.time.Duration;
+
+/**
+ * Row counts and ID ranges of a generated dataset.
+ */
+public record DatasetSummary(
+        long users,
+        long projects,
+        long tasks,
+        long firstUserId,
+        long firstProjectId,
+        long firstTaskId,
+        Duration elapsed) {
+}
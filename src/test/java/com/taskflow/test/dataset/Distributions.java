@@ -0,0 +1,53 @@
+package com.taskflow.test.dataset;
+
+import java.util.SplittableRandom;
+
+/**
+ * Sampling helpers for the dataset generator.
+ */
+final class Distributions {
+
+    private Distributions() {}
+
+    /**
+     * Sample a bounded Pareto (power-law) distribution on [min, max] by inverting its CDF.
+     */
+    static int powerLaw(SplittableRandom random, int min, int max, double alpha) {
+        if (min >= max) {
+            return min;
+        }
+        double low = Math.pow(min, alpha);
+        double high = Math.pow(max + 1.0, alpha);
+        double u = random.nextDouble();
+        double x = Math.pow(-(u * high - u * low - high) / (high * low), -1.0 / alpha);
+        return (int) Math.min(max, Math.floor(x));
+    }
+
+    static <E> E weighted(SplittableRandom random, E[] values, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    /**
+     * An independent, reproducible random stream for one entity, so phases can re-derive the same values.
+     */
+    static SplittableRandom stream(long seed, int kind, long index) {
+        return new SplittableRandom(mix(seed ^ mix(kind * 0x9E3779B97F4A7C15L + index)));
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
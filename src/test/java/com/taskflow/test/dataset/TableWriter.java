@@ -0,0 +1,29 @@
+package com.taskflow.test.dataset;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+
+/**
+ * Sink for generated rows of one table. Closing it flushes and commits.
+ */
+interface TableWriter extends AutoCloseable {
+
+    void row(Object... values) throws SQLException;
+
+    @Override
+    void close() throws SQLException;
+
+    /**
+     * COPY on PostgreSQL, multi-row INSERT batches elsewhere.
+     */
+    static TableWriter open(Connection connection, String table, List<String> columns, int batchSize)
+            throws SQLException {
+        if (connection.isWrapperFor(PGConnection.class)) {
+            return new CopyTableWriter(connection, table, columns);
+        }
+        return new BatchInsertTableWriter(connection, table, columns, batchSize);
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskflow.test.sql;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Statements issued by an action, by type, with assertions that list the SQL on failure.
+ */
+public record SqlCount(int selects, int inserts, int updates, int deletes, List<String> statements) {
+
+    static SqlCount of(List<String> statements) {
+        int selects = 0;
+        int inserts = 0;
+        int updates = 0;
+        int deletes = 0;
+        for (String sql : statements) {
+            String normalized = sql.stripLeading().toLowerCase(Locale.ROOT);
+            if (normalized.startsWith("select") || normalized.startsWith("with")) {
+                selects++;
+            } else if (normalized.startsWith("insert")) {
+                inserts++;
+            } else if (normalized.startsWith("update")) {
+                updates++;
+            } else if (normalized.startsWith("delete")) {
+                deletes++;
+            }
+        }
+        return new SqlCount(selects, inserts, updates, deletes, List.copyOf(statements));
+    }
+
+    public SqlCount assertSelectsAtMost(int max) {
+        assertThat(selects).as("selects issued:%n%s", describe()).isLessThanOrEqualTo(max);
+        return this;
+    }
+
+    public SqlCount assertInsertsAtMost(int max) {
+        assertThat(inserts).as("inserts issued:%n%s", describe()).isLessThanOrEqualTo(max);
+        return this;
+    }
+
+    public SqlCount assertUpdatesAtMost(int max) {
+        assertThat(updates).as("updates issued:%n%s", describe()).isLessThanOrEqualTo(max);
+        return this;
+    }
+
+    public SqlCount assertDeletesAtMost(int max) {
+        assertThat(deletes).as("deletes issued:%n%s", describe()).isLessThanOrEqualTo(max);
+        return this;
+    }
+
+    public SqlCount assertNoWrites() {
+        assertThat(inserts + updates + deletes).as("writes issued:%n%s", describe()).isZero();
+        return this;
+    }
+
+    private String describe() {
+        return String.join(System.lineSeparator(), statements);
+    }
+}
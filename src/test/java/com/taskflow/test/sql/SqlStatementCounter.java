@@ -0,0 +1,43 @@
+package com.taskflow.test.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.function.Executable;
+
+/**
+ * Hibernate statement inspector that records the SQL issued on the current thread while counting.
+ * <p>
+ * Enable it with {@link CountSqlStatements} and wrap the code under test in {@link #count(Executable)}.
+ * Only Hibernate-issued SQL is seen; JdbcTemplate writes (bulk import, activity log) are not counted.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDING = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = RECORDING.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Run an action and count the statements it issues.
+     * @param action code under test, e.g. a MockMvc request
+     * @return statement counts by type
+     */
+    public static SqlCount count(Executable action) throws Throwable {
+        List<String> statements = new ArrayList<>();
+        RECORDING.set(statements);
+        try {
+            action.execute();
+        } finally {
+            RECORDING.remove();
+        }
+        return SqlCount.of(statements);
+    }
+}